@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.common.cache;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.EvictionPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link EvictionPolicy#LRU} and {@link EvictionPolicy#TINY_LFU} implementations of {@link Cache} under a
+ * skewed, mixed read/write load. Keys are drawn from a Zipf-like distribution over twice as many keys as the cache can
+ * hold, so that some of the reads miss and load their value, which in turn evicts entries.
+ * <p>
+ * The thread count is varied on the command line, for example:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'CacheBenchmark -t 1'
+ * ./gradlew -p benchmarks run --args 'CacheBenchmark -t 64'
+ * </pre>
+ * The {@code readWrite} group runs a fixed mix of readers and writers.
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CacheBenchmark {
+
+    private static final int NUMBER_OF_KEYS_MASK = (1 << 20) - 1;
+
+    @Param({ "lru", "tiny_lfu" })
+    String evictionPolicy;
+
+    @Param({ "65536" })
+    int maximumNumberOfEntries;
+
+    /**
+     * The percentage of operations that are plain puts, the others are computeIfAbsent lookups
+     */
+    @Param({ "0", "10", "50" })
+    int writePercentage;
+
+    Cache<Integer, Integer> cache;
+
+    private int[] keys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = CacheBuilder.<Integer, Integer>builder()
+            .setMaximumWeight(maximumNumberOfEntries)
+            .setEvictionPolicy(EvictionPolicy.fromString(evictionPolicy))
+            .build();
+        keys = new int[NUMBER_OF_KEYS_MASK + 1];
+        SplittableRandom random = new SplittableRandom(42);
+        final int numberOfDistinctKeys = 2 * maximumNumberOfEntries;
+        for (int i = 0; i < keys.length; i++) {
+            // inverse transform sampling of a power law, skewed towards small keys
+            keys[i] = (int) (numberOfDistinctKeys * Math.pow(random.nextDouble(), 3));
+        }
+        for (int i = 0; i < maximumNumberOfEntries; i++) {
+            cache.put(keys[i], keys[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int index = (int) (Thread.currentThread().getId() * 0x9e3779b9);
+        SplittableRandom random = new SplittableRandom(Thread.currentThread().getId());
+
+        int nextKey(int[] keys) {
+            return keys[index++ & NUMBER_OF_KEYS_MASK];
+        }
+    }
+
+    @Benchmark
+    public void mixed(ThreadState state, Blackhole blackhole) throws ExecutionException {
+        int key = state.nextKey(keys);
+        if (state.random.nextInt(100) < writePercentage) {
+            cache.put(key, key);
+        } else {
+            blackhole.consume(cache.computeIfAbsent(key, k -> k));
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(6)
+    public Integer read(ThreadState state) {
+        return cache.get(state.nextKey(keys));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public void write(ThreadState state) {
+        int key = state.nextKey(keys);
+        cache.put(key, key);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.codec;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene95.Lucene95Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.codec.customcodecs.ZstdCodec;
+import org.opensearch.index.codec.customcodecs.ZstdNoDictCodec;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stored fields codecs that can be selected with {@code index.codec} on documents with a large JSON
+ * {@code _source}: the time to index and force merge the documents together with the resulting index size, and the time
+ * to fetch the source of a single random document, which is what the fetch phase does for every hit.
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'StoredFieldsCodecBenchmark'
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class StoredFieldsCodecBenchmark {
+
+    private static final String[] LEVELS = { "INFO", "WARN", "ERROR", "DEBUG" };
+    private static final String[] SERVICES = { "checkout", "payments", "inventory", "search", "auth", "shipping" };
+
+    @Param({ "default", "best_compression", "zstd", "zstd_no_dict" })
+    String codec;
+
+    @Param({ "3" })
+    int compressionLevel;
+
+    @Param({ "50000" })
+    int numDocs;
+
+    private BytesRef[] sources;
+    private Directory fetchDirectory;
+    private DirectoryReader fetchReader;
+    private StoredFields storedFields;
+    private Random random;
+
+    /**
+     * Reports the size of the force merged index next to the indexing time
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IndexSize {
+        public long indexSizeInBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        random = new Random(42);
+        sources = new BytesRef[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            sources[i] = new BytesRef(randomSource(random, i));
+        }
+        fetchDirectory = new ByteBuffersDirectory();
+        index(fetchDirectory);
+        fetchReader = DirectoryReader.open(fetchDirectory);
+        storedFields = fetchReader.storedFields();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        fetchReader.close();
+        fetchDirectory.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void indexAndMerge(IndexSize indexSize) throws IOException {
+        try (Directory directory = new ByteBuffersDirectory()) {
+            index(directory);
+            long size = 0;
+            for (String file : directory.listAll()) {
+                size += directory.fileLength(file);
+            }
+            indexSize.indexSizeInBytes = size;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BytesRef fetch() throws IOException {
+        return storedFields.document(random.nextInt(numDocs)).getBinaryValue("_source");
+    }
+
+    private void index(Directory directory) throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig().setCodec(codec());
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            Document document = new Document();
+            for (BytesRef source : sources) {
+                document.clear();
+                document.add(new StoredField("_source", source));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+    }
+
+    private Codec codec() {
+        switch (codec) {
+            case "default":
+                return new Lucene95Codec();
+            case "best_compression":
+                return new Lucene95Codec(Lucene95Codec.Mode.BEST_COMPRESSION);
+            case "zstd":
+                return new ZstdCodec(compressionLevel);
+            case "zstd_no_dict":
+                return new ZstdNoDictCodec(compressionLevel);
+            default:
+                throw new IllegalArgumentException("unknown codec [" + codec + "]");
+        }
+    }
+
+    private static String randomSource(Random random, int id) {
+        StringBuilder builder = new StringBuilder(2048);
+        builder.append("{\"@timestamp\":\"2023-10-")
+            .append(10 + random.nextInt(20))
+            .append("T")
+            .append(10 + random.nextInt(14))
+            .append(":")
+            .append(10 + random.nextInt(50))
+            .append(":00.000Z\",\"id\":")
+            .append(id)
+            .append(",\"level\":\"")
+            .append(LEVELS[random.nextInt(LEVELS.length)])
+            .append("\",\"service\":\"")
+            .append(SERVICES[random.nextInt(SERVICES.length)])
+            .append("\",\"host\":{\"name\":\"host-")
+            .append(random.nextInt(100))
+            .append("\",\"ip\":\"10.0.")
+            .append(random.nextInt(256))
+            .append(".")
+            .append(random.nextInt(256))
+            .append("\"},\"attributes\":{");
+        final int numAttributes = 10 + random.nextInt(30);
+        for (int i = 0; i < numAttributes; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("\"attribute_").append(i).append("\":\"").append(Long.toHexString(random.nextLong())).append('"');
+        }
+        builder.append("},\"message\":\"request completed for user ")
+            .append(random.nextInt(10000))
+            .append(" in ")
+            .append(random.nextInt(5000))
+            .append(" ms\"}");
+        return builder.toString();
+    }
+}
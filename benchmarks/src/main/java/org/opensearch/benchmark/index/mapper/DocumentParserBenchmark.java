@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing documents into Lucene fields against a large, fixed mapping, such as the templates of the Elastic Common
+ * Schema. The mapping declares {@code numberOfObjects} objects with {@code fieldsPerObject} fields each and every document
+ * sets a random subset of them. With {@code dotted_names} the documents name their fields by their full path, for example
+ * {@code {"object_1.field_2": ...}}, which the parser resolves by splitting the names, while the mapped fields of documents
+ * that use {@code objects} are resolved by the parse plan that is compiled with the mapping.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class DocumentParserBenchmark {
+
+    private static final int NUMBER_OF_DOCUMENTS = 1000;
+
+    @Param({ "10", "100" })
+    int numberOfObjects;
+
+    @Param({ "20" })
+    int fieldsPerObject;
+
+    @Param({ "50" })
+    int fieldsPerDocument;
+
+    @Param({ "objects", "dotted_names" })
+    String documentStyle;
+
+    private DocumentMapper documentMapper;
+    private BytesReference[] documents;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .put(MapperService.INDEX_MAPPING_TOTAL_FIELDS_LIMIT_SETTING.getKey(), 100_000)
+            .build();
+        IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("index").settings(settings).build(), Settings.EMPTY);
+        IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            Collections.singletonMap("default", new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer())),
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        );
+        MapperService mapperService = new MapperService(
+            indexSettings,
+            indexAnalyzers,
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> null,
+            () -> false,
+            null
+        );
+        documentMapper = mapperService.merge(
+            MapperService.SINGLE_MAPPING_NAME,
+            new CompressedXContent(BytesReference.bytes(mapping())),
+            MapperService.MergeReason.MAPPING_UPDATE
+        );
+
+        Random random = new Random(42);
+        documents = new BytesReference[NUMBER_OF_DOCUMENTS];
+        for (int i = 0; i < documents.length; i++) {
+            documents[i] = BytesReference.bytes(document(random));
+        }
+    }
+
+    private XContentBuilder mapping() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject(MapperService.SINGLE_MAPPING_NAME);
+        builder.field("dynamic", "strict").startObject("properties");
+        for (int o = 0; o < numberOfObjects; o++) {
+            builder.startObject("object_" + o).startObject("properties");
+            for (int f = 0; f < fieldsPerObject; f++) {
+                builder.startObject("field_" + f).field("type", f % 2 == 0 ? "keyword" : "long").endObject();
+            }
+            builder.endObject().endObject();
+        }
+        return builder.endObject().endObject().endObject();
+    }
+
+    private XContentBuilder document(Random random) throws IOException {
+        List<Integer> objects = new ArrayList<>();
+        for (int o = 0; o < numberOfObjects; o++) {
+            objects.add(o);
+        }
+        // every object and field is set at most once per document
+        Collections.shuffle(objects, random);
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        int fieldsLeft = fieldsPerDocument;
+        for (int i = 0; i < objects.size() && fieldsLeft > 0; i++) {
+            int object = objects.get(i);
+            int fields = Math.min(fieldsLeft, 1 + random.nextInt(fieldsPerObject));
+            if ("objects".equals(documentStyle)) {
+                builder.startObject("object_" + object);
+            }
+            int first = random.nextInt(fieldsPerObject - fields + 1);
+            for (int f = first; f < first + fields; f++) {
+                String name = "objects".equals(documentStyle) ? "field_" + f : "object_" + object + ".field_" + f;
+                if (f % 2 == 0) {
+                    builder.field(name, "value_" + random.nextInt(100));
+                } else {
+                    builder.field(name, random.nextLong());
+                }
+            }
+            if ("objects".equals(documentStyle)) {
+                builder.endObject();
+            }
+            fieldsLeft -= fields;
+        }
+        return builder.endObject();
+    }
+
+    @Benchmark
+    public Object parse() {
+        BytesReference document = documents[next];
+        next = (next + 1) % documents.length;
+        return documentMapper.parse(new SourceToParse("index", "id", document, XContentType.JSON));
+    }
+}
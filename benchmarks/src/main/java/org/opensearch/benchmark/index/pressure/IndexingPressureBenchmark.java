@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.pressure;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexingPressureService;
+import org.opensearch.index.ShardIndexingPressureSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of admitting and releasing coordinating and primary operations through
+ * {@link IndexingPressureService} when many write threads account for their requests at the same time, with and without
+ * shard indexing pressure. Each operation accounts for a random shard out of {@code numberOfShards}.
+ * <p>
+ * The contention on the node level counters depends on the thread count, which is varied on the command line from 1 to
+ * 128 threads, for example:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'IndexingPressureBenchmark -t 128'
+ * </pre>
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(16)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class IndexingPressureBenchmark {
+
+    @Param({ "false", "true" })
+    boolean shardIndexingPressure;
+
+    @Param({ "1", "32" })
+    int numberOfShards;
+
+    @Param({ "1024" })
+    long operationBytes;
+
+    private IndexingPressureService indexingPressureService;
+    private ShardId[] shardIds;
+
+    @Setup
+    public void setup() {
+        Settings settings = Settings.builder()
+            .put(ShardIndexingPressureSettings.SHARD_INDEXING_PRESSURE_ENABLED.getKey(), shardIndexingPressure)
+            .build();
+        ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        indexingPressureService = new IndexingPressureService(settings, new ClusterService(settings, clusterSettings, null));
+        shardIds = new ShardId[numberOfShards];
+        for (int i = 0; i < numberOfShards; i++) {
+            shardIds[i] = new ShardId("index", "_na_", i);
+        }
+    }
+
+    @Benchmark
+    public void coordinating() {
+        ShardId shardId = shardIds[ThreadLocalRandom.current().nextInt(shardIds.length)];
+        try (Releasable releasable = indexingPressureService.markCoordinatingOperationStarted(shardId, () -> operationBytes, false)) {
+            // released right away, the benchmark only measures the accounting
+        }
+    }
+
+    @Benchmark
+    public void primary() {
+        ShardId shardId = shardIds[ThreadLocalRandom.current().nextInt(shardIds.length)];
+        try (Releasable releasable = indexingPressureService.markPrimaryOperationStarted(shardId, operationBytes, false)) {
+            // released right away, the benchmark only measures the accounting
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogGroupCommitScheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures the throughput of acknowledged writes with {@code request} durability, that is writes that wait for the
+ * translog of their shard to be synced, when the translog syncs are processed per shard on the write threads and when
+ * they are group committed for all shards of the node by {@link TranslogGroupCommitScheduler}. Each write appends to
+ * the file of a random shard and waits for it to be fsynced.
+ * <p>
+ * The benchmark fsyncs files in the temporary directory, so the results depend on the underlying storage. The thread
+ * count is varied on the command line, for example:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'TranslogGroupCommitBenchmark -t 64'
+ * </pre>
+ */
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(16)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class TranslogGroupCommitBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(TranslogGroupCommitBenchmark.class);
+
+    @Param({ "false", "true" })
+    boolean groupCommit;
+
+    @Param({ "1", "8", "32" })
+    int numberOfShards;
+
+    @Param({ "1ms", "5ms" })
+    String window;
+
+    @Param({ "512" })
+    int operationSize;
+
+    private Path directory;
+    private ThreadPool threadPool;
+    private FileChannel[] channels;
+    private AsyncIOProcessor<Translog.Location>[] processors;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws IOException {
+        Settings settings = Settings.builder()
+            .put("node.name", "benchmark")
+            .put(TranslogGroupCommitScheduler.ENABLED_SETTING.getKey(), groupCommit)
+            .put(TranslogGroupCommitScheduler.WINDOW_SETTING.getKey(), window)
+            .build();
+        threadPool = new ThreadPool(settings);
+        TranslogGroupCommitScheduler scheduler = new TranslogGroupCommitScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+        directory = Files.createTempDirectory("translog-group-commit");
+        channels = new FileChannel[numberOfShards];
+        processors = new AsyncIOProcessor[numberOfShards];
+        for (int i = 0; i < numberOfShards; i++) {
+            FileChannel channel = FileChannel.open(
+                directory.resolve("translog-" + i + ".tlog"),
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+            );
+            channels[i] = channel;
+            CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writer = candidates -> channel.force(false);
+            if (scheduler.isEnabled()) {
+                processors[i] = scheduler.newSyncProcessor(logger, threadPool.getThreadContext(), writer);
+            } else {
+                processors[i] = new AsyncIOProcessor<>(logger, 1024, threadPool.getThreadContext()) {
+                    @Override
+                    protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
+                        writer.accept(candidates);
+                    }
+                };
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        IOUtils.close(channels);
+        IOUtils.rm(directory);
+    }
+
+    @Benchmark
+    public void acknowledgedWrite() throws Exception {
+        int shard = ThreadLocalRandom.current().nextInt(numberOfShards);
+        FileChannel channel = channels[shard];
+        channel.write(ByteBuffer.allocate(operationSize));
+        CompletableFuture<Void> synced = new CompletableFuture<>();
+        processors[shard].put(new Translog.Location(1, 0, operationSize), e -> {
+            if (e == null) {
+                synced.complete(null);
+            } else {
+                synced.completeExceptionally(e);
+            }
+        });
+        synced.get();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.ingest;
+
+import org.opensearch.grok.Grok;
+import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.grok.MultiPatternGrok;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the events per second that a grok processor with several patterns can match, with all patterns combined
+ * into a single regex and with the patterns compiled one by one by {@link MultiPatternGrok}. Every event matches one of
+ * the patterns; the patterns declared last match most of the events, as is common for pipelines that grew over time.
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'GrokBenchmark'
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class GrokBenchmark {
+
+    private static final String SYSLOG_HEADER = "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} ";
+    private static final List<String> SYSLOG_PATTERNS = Arrays.asList(
+        SYSLOG_HEADER + "sshd\\[%{POSINT:pid:int}\\]: Failed password for %{USERNAME:user} from %{IP:src_ip} port %{INT:src_port:int} ssh2",
+        SYSLOG_HEADER + "sshd\\[%{POSINT:pid:int}\\]: Accepted publickey for %{USERNAME:user} from %{IP:src_ip} port %{INT:src_port:int}",
+        SYSLOG_HEADER + "sudo: +%{USERNAME:user} : TTY=%{DATA:tty} ; PWD=%{DATA:pwd} ; USER=%{USERNAME:target} ; COMMAND=%{GREEDYDATA:cmd}",
+        SYSLOG_HEADER + "kernel: \\[%{NUMBER:uptime:float}\\] %{GREEDYDATA:message}",
+        SYSLOG_HEADER + "CRON\\[%{POSINT:pid:int}\\]: \\(%{USERNAME:user}\\) CMD \\(%{GREEDYDATA:command}\\)",
+        SYSLOG_HEADER + "systemd\\[%{POSINT:pid:int}\\]: %{GREEDYDATA:message}"
+    );
+    private static final String[] SYSLOG_EVENTS = {
+        "Oct 11 22:14:15 web-01 sshd[4242]: Failed password for root from 203.0.113.7 port 52144 ssh2",
+        "Oct 11 22:14:16 web-02 sshd[4251]: Accepted publickey for deploy from 10.1.2.3 port 40022",
+        "Oct 11 22:14:17 db-01 sudo:   admin : TTY=pts/0 ; PWD=/home/admin ; USER=root ; COMMAND=/usr/bin/systemctl restart nginx",
+        "Oct 11 22:14:18 db-02 kernel: [123456.789] eth0: link up, 1000 Mbps, full duplex",
+        "Oct 11 22:14:19 app-01 CRON[5120]: (www-data) CMD (php /var/www/cron.php)",
+        "Oct 11 22:14:20 app-02 systemd[1]: Started Session 4711 of user deploy." };
+
+    private static final String ASA_HEADER = "%{CISCOTIMESTAMP:timestamp} %{SYSLOGHOST:host} : %ASA-%{INT:level:int}-";
+    private static final List<String> FIREWALL_PATTERNS = Arrays.asList(
+        ASA_HEADER + "106001: %{CISCOFW106001}",
+        ASA_HEADER + "106023: %{CISCOFW106023}",
+        ASA_HEADER + "302013: %{CISCOFW302013_302014_302015_302016}",
+        ASA_HEADER + "302014: %{CISCOFW302013_302014_302015_302016}"
+    );
+    private static final String[] FIREWALL_EVENTS = {
+        "Oct 11 2023 22:14:15 fw-01 : %ASA-2-106001: Inbound TCP connection denied from 198.51.100.2/4444 to 10.0.0.5/22 "
+            + "flags SYN  on interface outside",
+        "Oct 11 2023 22:14:16 fw-01 : %ASA-4-106023: Deny tcp src outside:203.0.113.9/51234 dst inside:10.0.0.8/443 "
+            + "by access-group \"outside_access_in\" [0x0, 0x0]",
+        "Oct 11 2023 22:14:17 fw-02 : %ASA-6-302013: Built inbound TCP connection 184467 for outside:198.51.100.7/52101 "
+            + "(198.51.100.7/52101) to inside:10.0.0.9/443 (203.0.113.1/443)",
+        "Oct 11 2023 22:14:18 fw-02 : %ASA-6-302014: Teardown TCP connection 184467 for outside:198.51.100.7/52101 "
+            + "to inside:10.0.0.9/443 duration 0:00:30 bytes 10240 TCP FINs" };
+
+    private static final String WINDOWS_HEADER = "%{TIMESTAMP_ISO8601:timestamp} %{HOSTNAME:host} Microsoft-Windows-Security-Auditing: ";
+    private static final List<String> WINDOWS_PATTERNS = Arrays.asList(
+        WINDOWS_HEADER + "EventID=4624 An account was successfully logged on\\. Account Name: %{DATA:user} Account Domain: "
+            + "%{DATA:domain} Logon Type: %{INT:logon_type:int} Source Network Address: %{IPORHOST:src}",
+        WINDOWS_HEADER + "EventID=4625 An account failed to log on\\. Account Name: %{DATA:user} Account Domain: %{DATA:domain} "
+            + "Failure Reason: %{DATA:reason} Source Network Address: %{IPORHOST:src}",
+        WINDOWS_HEADER + "EventID=4634 An account was logged off\\. Account Name: %{DATA:user} Logon Type: %{INT:logon_type:int}",
+        WINDOWS_HEADER + "EventID=4672 Special privileges assigned to new logon\\. Account Name: %{DATA:user} "
+            + "Privileges: %{GREEDYDATA:privileges}",
+        WINDOWS_HEADER + "EventID=4688 A new process has been created\\. Account Name: %{DATA:user} "
+            + "New Process Name: %{DATA:process} Process Command Line: %{GREEDYDATA:command_line}"
+    );
+    private static final String[] WINDOWS_EVENTS = {
+        "2023-10-11T22:14:15.123Z DC01 Microsoft-Windows-Security-Auditing: EventID=4624 An account was successfully logged on. "
+            + "Account Name: alice Account Domain: CORP Logon Type: 3 Source Network Address: 10.2.3.4",
+        "2023-10-11T22:14:16.123Z DC01 Microsoft-Windows-Security-Auditing: EventID=4625 An account failed to log on. "
+            + "Account Name: bob Account Domain: CORP Failure Reason: Unknown user name or bad password. "
+            + "Source Network Address: 10.2.3.5",
+        "2023-10-11T22:14:17.123Z WS042 Microsoft-Windows-Security-Auditing: EventID=4634 An account was logged off. "
+            + "Account Name: alice Logon Type: 3",
+        "2023-10-11T22:14:18.123Z DC02 Microsoft-Windows-Security-Auditing: EventID=4672 Special privileges assigned to new logon. "
+            + "Account Name: svc-backup Privileges: SeBackupPrivilege SeRestorePrivilege",
+        "2023-10-11T22:14:19.123Z WS042 Microsoft-Windows-Security-Auditing: EventID=4688 A new process has been created. "
+            + "Account Name: alice New Process Name: C:\\Windows\\System32\\cmd.exe Process Command Line: cmd.exe /c whoami" };
+
+    @Param({ "syslog", "firewall", "windows" })
+    String events;
+
+    @Param({ "combined", "adaptive" })
+    String matchStrategy;
+
+    private MultiPatternGrok multiPatternGrok;
+    private Grok grok;
+    private String[] lines;
+    private int next;
+
+    @Setup
+    public void setup() {
+        final List<String> patterns;
+        final String[] samples;
+        switch (events) {
+            case "syslog":
+                patterns = SYSLOG_PATTERNS;
+                samples = SYSLOG_EVENTS;
+                break;
+            case "firewall":
+                patterns = FIREWALL_PATTERNS;
+                samples = FIREWALL_EVENTS;
+                break;
+            case "windows":
+                patterns = WINDOWS_PATTERNS;
+                samples = WINDOWS_EVENTS;
+                break;
+            default:
+                throw new IllegalArgumentException("unknown events [" + events + "]");
+        }
+        switch (matchStrategy) {
+            case "combined":
+                String combined = patterns.stream().map(p -> "(?:" + p + ")").collect(Collectors.joining("|"));
+                grok = new Grok(Grok.BUILTIN_PATTERNS, combined, MatcherWatchdog.noop(), message -> {});
+                break;
+            case "adaptive":
+                multiPatternGrok = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, MatcherWatchdog.noop(), message -> {});
+                break;
+            default:
+                throw new IllegalArgumentException("unknown match strategy [" + matchStrategy + "]");
+        }
+
+        // the share of events of each sample grows with its position, so the last patterns are the hot ones
+        Random random = new Random(42);
+        lines = new String[4096];
+        int total = samples.length * (samples.length + 1) / 2;
+        for (int i = 0; i < lines.length; i++) {
+            int pick = random.nextInt(total);
+            int sample = 0;
+            while (pick >= sample + 1) {
+                pick -= sample + 1;
+                sample++;
+            }
+            lines[i] = samples[sample];
+        }
+    }
+
+    @Benchmark
+    public void match(Blackhole blackhole) {
+        String line = lines[next++ & (lines.length - 1)];
+        if (multiPatternGrok != null) {
+            if (multiPatternGrok.captures(line, (name, value) -> blackhole.consume(value)) < 0) {
+                throw new AssertionError("no pattern matched [" + line + "]");
+            }
+        } else {
+            Object captures = grok.captures(line);
+            if (captures == null) {
+                throw new AssertionError("no pattern matched [" + line + "]");
+            }
+            blackhole.consume(captures);
+        }
+    }
+}
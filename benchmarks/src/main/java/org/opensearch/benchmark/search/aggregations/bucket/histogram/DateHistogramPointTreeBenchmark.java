@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.aggregations.bucket.histogram;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.Rounding;
+import org.opensearch.search.aggregations.bucket.PointTreeBucketCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per bucket document counts of a date histogram computed by reading the doc values of every matching
+ * document with the counts computed by walking the points index with {@link PointTreeBucketCounter}, on a force merged
+ * index of timestamps that are spread over thirty days.
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'DateHistogramPointTreeBenchmark'
+ * </pre>
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class DateHistogramPointTreeBenchmark {
+
+    private static final String FIELD = "@timestamp";
+    private static final long START = 1_600_000_000_000L;
+    private static final long DAYS = 30;
+
+    @Param({ "1000000", "10000000" })
+    int numDocs;
+
+    @Param({ "hour", "day" })
+    String interval;
+
+    /**
+     * The fraction of the time range that the range query selects
+     */
+    @Param({ "1.0", "0.25" })
+    double queryFraction;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private Rounding.Prepared rounding;
+    private long bucketSize;
+    private long queryMin;
+    private long queryMax;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final long end = START + TimeUnit.DAYS.toMillis(DAYS);
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            SplittableRandom random = new SplittableRandom(42);
+            Document document = new Document();
+            for (int i = 0; i < numDocs; i++) {
+                final long timestamp = random.nextLong(START, end);
+                document.clear();
+                document.add(new LongPoint(FIELD, timestamp));
+                document.add(new SortedNumericDocValuesField(FIELD, timestamp));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        final Rounding.DateTimeUnit unit = "hour".equals(interval) ? Rounding.DateTimeUnit.HOUR_OF_DAY : Rounding.DateTimeUnit.DAY_OF_MONTH;
+        rounding = Rounding.builder(unit).build().prepare(START, end);
+        bucketSize = "hour".equals(interval) ? TimeUnit.HOURS.toMillis(1) : TimeUnit.DAYS.toMillis(1);
+        queryMin = START;
+        queryMax = START + (long) ((end - START) * queryFraction);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public long[] docValues() throws IOException {
+        final long[] counts = newCounts();
+        for (LeafReaderContext ctx : reader.leaves()) {
+            final SortedNumericDocValues values = ctx.reader().getSortedNumericDocValues(FIELD);
+            for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+                final long value = values.nextValue();
+                if (value >= queryMin && value <= queryMax) {
+                    counts[bucket(rounding.round(value))]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public long[] pointTree() throws IOException {
+        final long[] counts = newCounts();
+        final PointTreeBucketCounter counter = PointTreeBucketCounter.forRange(FIELD, queryMin, queryMax);
+        for (LeafReaderContext ctx : reader.leaves()) {
+            counter.countByRounding(ctx, rounding::round, (rounded, docCount) -> counts[bucket(rounded)] += docCount);
+        }
+        return counts;
+    }
+
+    private long[] newCounts() {
+        return new long[(int) (TimeUnit.DAYS.toMillis(DAYS + 1) / bucketSize)];
+    }
+
+    private int bucket(long rounded) {
+        return (int) ((rounded - rounding.round(START)) / bucketSize);
+    }
+}
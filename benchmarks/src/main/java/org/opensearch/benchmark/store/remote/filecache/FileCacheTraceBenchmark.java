@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.store.remote.filecache;
+
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.index.store.remote.filecache.CachedIndexInput;
+import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a trace of block accesses against a {@link FileCache} with each {@link EvictionPolicy}, loading the blocks that
+ * miss into the cache. The {@code hits} and {@code misses} counters report the hit ratio of the policy for the trace.
+ * <p>
+ * A recorded trace is read from the file set with {@code -p traceFile=<path>}, which lists the name of the accessed block
+ * file on each line, for instance as extracted from the access logs of a node. Without a trace file, a synthetic trace is
+ * replayed in which a hot set of blocks that fits into the cache is accessed repeatedly and interleaved with scans of
+ * blocks that are accessed only once, as done by searches over large ranges of cold indices.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Threads(1)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class FileCacheTraceBenchmark {
+    private static final CachedIndexInput INDEX_INPUT = new FixedSizeStubIndexInput();
+
+    @Benchmark
+    public void replay(TraceParameters parameters, HitRatio hitRatio) {
+        final Path key = parameters.trace[parameters.next];
+        parameters.next = (parameters.next + 1) % parameters.trace.length;
+        final FileCache fileCache = parameters.fileCache;
+        if (fileCache.get(key) == null) {
+            fileCache.put(key, INDEX_INPUT);
+            hitRatio.misses++;
+        } else {
+            hitRatio.hits++;
+        }
+        fileCache.decRef(key);
+    }
+
+    @State(Scope.Benchmark)
+    public static class TraceParameters {
+        @Param({ "lru", "slru", "tinylfu" })
+        String evictionPolicy;
+
+        @Param({ "4096" })
+        int maximumNumberOfEntries;
+
+        @Param({ "" })
+        String traceFile;
+
+        FileCache fileCache;
+        Path[] trace;
+        int next;
+
+        @Setup
+        public void setup() throws IOException {
+            fileCache = FileCacheFactory.createConcurrentFileCache(
+                (long) maximumNumberOfEntries * INDEX_INPUT.length(),
+                1,
+                EvictionPolicy.fromString(evictionPolicy),
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST)
+            );
+            trace = traceFile.isEmpty() ? syntheticTrace(maximumNumberOfEntries) : recordedTrace(Paths.get(traceFile));
+            next = 0;
+        }
+
+        private static Path[] recordedTrace(Path traceFile) throws IOException {
+            final List<Path> trace = new ArrayList<>();
+            for (String line : Files.readAllLines(traceFile, StandardCharsets.UTF_8)) {
+                if (line.isBlank() == false) {
+                    trace.add(Paths.get(line.trim()));
+                }
+            }
+            if (trace.isEmpty()) {
+                throw new IllegalArgumentException("trace file [" + traceFile + "] is empty");
+            }
+            return trace.toArray(new Path[0]);
+        }
+
+        private static Path[] syntheticTrace(int maximumNumberOfEntries) {
+            final Random random = new Random(42);
+            final int hotSetSize = maximumNumberOfEntries / 2;
+            final int scanLength = maximumNumberOfEntries * 2;
+            final List<Path> trace = new ArrayList<>();
+            int scanned = 0;
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < maximumNumberOfEntries * 4; i++) {
+                    // skewed towards the first blocks of the hot set
+                    final double skew = random.nextDouble();
+                    trace.add(Paths.get("hot_" + (int) (skew * skew * hotSetSize)));
+                }
+                for (int i = 0; i < scanLength; i++) {
+                    trace.add(Paths.get("scan_" + scanned++));
+                }
+            }
+            return trace.toArray(new Path[0]);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HitRatio {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    /**
+     * Stubbed out IndexInput that does nothing but report a fixed size
+     */
+    private static class FixedSizeStubIndexInput implements CachedIndexInput {
+        @Override
+        public IndexInput getIndexInput() {
+            return null;
+        }
+
+        @Override
+        public long length() {
+            return 1024 * 1024 * 8; // 8MiB
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+
+        @Override
+        public void close() throws Exception {
+
+        }
+    }
+}
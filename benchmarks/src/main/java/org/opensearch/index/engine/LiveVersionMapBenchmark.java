@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the map based and the compact storage of {@link LiveVersionMap} while indexing updates: each operation looks
+ * up the version of an id and puts its new version, and the map is refreshed once {@code idsPerRefresh} operations were
+ * applied. The {@code peakRamBytesUsed} counter reports the largest RAM usage of the map before a refresh; run with
+ * {@code -prof gc} to compare the allocations per operation as well.
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class LiveVersionMapBenchmark {
+
+    @Param({ "false", "true" })
+    boolean compact;
+
+    /**
+     * How the ids are generated: {@code time_based} like auto-generated ids, or {@code random}.
+     */
+    @Param({ "time_based", "random" })
+    String idType;
+
+    @Param({ "100000", "1000000" })
+    int idsPerRefresh;
+
+    /**
+     * The number of distinct ids, updates pick one of them at random
+     */
+    @Param({ "1000000" })
+    int numberOfIds;
+
+    private BytesRef[] ids;
+    private LiveVersionMap map;
+    private Random random;
+    private long seqNo;
+    private int opsSinceRefresh;
+
+    /**
+     * Counters reported alongside the throughput
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long peakRamBytesUsed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakRamBytesUsed = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new Random(42);
+        ids = new BytesRef[numberOfIds];
+        for (int i = 0; i < numberOfIds; i++) {
+            final String id = "time_based".equals(idType) ? UUIDs.base64UUID() : UUIDs.randomBase64UUID(random);
+            ids[i] = Uid.encodeId(id);
+        }
+        map = new LiveVersionMap(compact);
+        map.enforceSafeAccess();
+    }
+
+    @Benchmark
+    public void update(Blackhole bh, Footprint footprint) throws IOException {
+        final BytesRef uid = ids[random.nextInt(ids.length)];
+        try (Releasable ignored = map.acquireLock(uid)) {
+            final VersionValue current = map.getUnderLock(uid);
+            bh.consume(current);
+            final long version = current == null ? 1 : current.version + 1;
+            final Translog.Location location = new Translog.Location(1, seqNo * 64, 64);
+            map.putIndexUnderLock(uid, new IndexVersionValue(location, version, seqNo++, 1));
+        }
+        if (++opsSinceRefresh == idsPerRefresh) {
+            footprint.peakRamBytesUsed = Math.max(footprint.peakRamBytesUsed, map.ramBytesUsed());
+            map.beforeRefresh();
+            map.afterRefresh(true);
+            opsSinceRefresh = 0;
+        }
+    }
+}
@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Stack;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.jcodings.specific.UTF8Encoding;
@@ -325,6 +326,39 @@ public final class Grok {
      * @throws RuntimeException if there was a timeout
      */
     public boolean match(byte[] utf8Bytes, int offset, int length, GrokCaptureExtracter extracter) {
+        Region region = search(utf8Bytes, offset, length);
+        if (region == null) {
+            return false;
+        }
+        extracter.extract(utf8Bytes, offset, region);
+        return true;
+    }
+
+    /**
+     * Matches and passes each named capture to {@code sink} as soon as the text matched, without collecting the
+     * captures into an intermediate map first.
+     * @param utf8Bytes array containing the text to match against encoded in utf-8
+     * @param offset offset {@code utf8Bytes} of the start of the text
+     * @param length length of the text to match
+     * @param sink receives the name and the coerced value of every capture that is part of the match
+     * @return true if there was a match, false otherwise
+     * @throws RuntimeException if there was a timeout
+     */
+    public boolean captures(byte[] utf8Bytes, int offset, int length, BiConsumer<String, Object> sink) {
+        Region region = search(utf8Bytes, offset, length);
+        if (region == null) {
+            return false;
+        }
+        for (GrokCaptureConfig config : captureConfig) {
+            Object value = config.extract(utf8Bytes, offset, region);
+            if (value != null) {
+                sink.accept(config.name(), value);
+            }
+        }
+        return true;
+    }
+
+    private Region search(byte[] utf8Bytes, int offset, int length) {
         Matcher matcher = compiledExpression.matcher(utf8Bytes, offset, offset + length);
         int result;
         try {
@@ -339,10 +373,9 @@ public final class Grok {
             );
         }
         if (result == Matcher.FAILED) {
-            return false;
+            return null;
         }
-        extracter.extract(utf8Bytes, offset, matcher.getEagerRegion());
-        return true;
+        return matcher.getEagerRegion();
     }
 
     /**
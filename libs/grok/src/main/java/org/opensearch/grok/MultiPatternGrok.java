@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Matches text against a list of grok patterns that are compiled one by one, instead of combining them into a single
+ * alternation. Before a pattern is attempted, the literal text that any match of the pattern has to contain is looked
+ * up in the text, so most patterns that cannot match are skipped without running the regex at all. The patterns are
+ * attempted by how often they matched recently, so the patterns that match most of the events are tried first.
+ * <p>
+ * Because of the adaptive order, text that matches several patterns may be captured by any of them, so the patterns
+ * should not overlap. Captures are passed on one by one as soon as a pattern matched.
+ */
+public final class MultiPatternGrok {
+
+    /**
+     * Literals shorter than this are so common that looking them up costs more than it saves.
+     */
+    static final int MIN_LITERAL_LENGTH = 2;
+
+    /**
+     * Number of matches between two updates of the order in which the patterns are attempted.
+     */
+    static final int REORDER_INTERVAL = 1024;
+
+    /**
+     * The escaped letters that stand for a single character type or an anchor.
+     */
+    private static final String CHARACTER_TYPES_AND_ANCHORS = "dDwWsShHbBAzZG";
+
+    private final Grok[] groks;
+    private final String[][] requiredLiterals;
+    private final LongAdder[] hits;
+    private final AtomicInteger matchesUntilReorder = new AtomicInteger(REORDER_INTERVAL);
+    private volatile int[] order;
+
+    public MultiPatternGrok(
+        Map<String, String> patternBank,
+        List<String> patterns,
+        MatcherWatchdog matcherWatchdog,
+        Consumer<String> logCallBack
+    ) {
+        if (patterns.isEmpty()) {
+            throw new IllegalArgumentException("at least one pattern is required");
+        }
+        int size = patterns.size();
+        this.groks = new Grok[size];
+        this.requiredLiterals = new String[size][];
+        this.hits = new LongAdder[size];
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) {
+            groks[i] = new Grok(patternBank, patterns.get(i), matcherWatchdog, logCallBack);
+            requiredLiterals[i] = requiredLiterals(patterns.get(i)).toArray(new String[0]);
+            hits[i] = new LongAdder();
+            order[i] = i;
+        }
+    }
+
+    /**
+     * Matches the text against the patterns and passes the named captures of the first pattern that matches to
+     * {@code sink}.
+     *
+     * @return the index of the pattern that matched in the list of patterns, or {@code -1} if no pattern matched
+     * @throws RuntimeException if there was a timeout
+     */
+    public int captures(String text, BiConsumer<String, Object> sink) {
+        byte[] utf8Bytes = null;
+        for (int pattern : order) {
+            if (containsAll(text, requiredLiterals[pattern]) == false) {
+                continue;
+            }
+            if (utf8Bytes == null) {
+                utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+            }
+            if (groks[pattern].captures(utf8Bytes, 0, utf8Bytes.length, sink)) {
+                onMatch(pattern);
+                return pattern;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean containsAll(String text, String[] literals) {
+        for (String literal : literals) {
+            if (text.contains(literal) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void onMatch(int pattern) {
+        hits[pattern].increment();
+        if (matchesUntilReorder.decrementAndGet() == 0) {
+            reorder();
+            matchesUntilReorder.set(REORDER_INTERVAL);
+        }
+    }
+
+    /**
+     * Sorts the patterns by their number of hits and halves the hits afterwards, so that the order follows changes in
+     * the mix of events. Only the thread that exhausted the interval gets here, concurrent matches only add hits.
+     */
+    private void reorder() {
+        long[] counts = new long[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            counts[i] = hits[i].sumThenReset();
+            hits[i].add(counts[i] / 2);
+        }
+        Integer[] newOrder = new Integer[hits.length];
+        for (int i = 0; i < newOrder.length; i++) {
+            newOrder[i] = i;
+        }
+        // stable, so patterns with equal hits stay in the order they were declared in
+        Arrays.sort(newOrder, Comparator.comparingLong((Integer pattern) -> counts[pattern]).reversed());
+        order = Arrays.stream(newOrder).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * The order in which the patterns are currently attempted.
+     */
+    int[] order() {
+        return order.clone();
+    }
+
+    /**
+     * The literals that have to be contained in text for the pattern with the given index to match.
+     */
+    List<String> requiredLiterals(int pattern) {
+        return unmodifiableList(Arrays.asList(requiredLiterals[pattern]));
+    }
+
+    /**
+     * Extracts the literal text that any match of a grok pattern has to contain. Only the top level of the pattern is
+     * looked at: references to other patterns, groups and character classes end a literal, as does everything that
+     * makes the preceding character optional. Patterns with a top level alternation, inline options or escapes that span
+     * several characters are not analyzed at all, so that the result is always safe to use as a filter.
+     */
+    static List<String> requiredLiterals(String grokPattern) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int length = grokPattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = grokPattern.charAt(i);
+            switch (c) {
+                case '\\':
+                    if (i + 1 == length) {
+                        return emptyList();
+                    }
+                    char escaped = grokPattern.charAt(i + 1);
+                    if (CHARACTER_TYPES_AND_ANCHORS.indexOf(escaped) >= 0) {
+                        flush(current, literals);
+                    } else if (Character.isLetterOrDigit(escaped)) {
+                        // code points, properties, back references, quoting and the like span more than one character
+                        return emptyList();
+                    } else {
+                        current.append(escaped);
+                    }
+                    i += 2;
+                    break;
+                case '%':
+                    if (i + 1 < length && grokPattern.charAt(i + 1) == '{') {
+                        flush(current, literals);
+                        i = grokPattern.indexOf('}', i);
+                        if (i < 0) {
+                            return emptyList();
+                        }
+                    } else {
+                        current.append(c);
+                    }
+                    i++;
+                    break;
+                case '(':
+                    if (i + 1 < length && grokPattern.charAt(i + 1) == '?') {
+                        return emptyList();
+                    }
+                    flush(current, literals);
+                    i = skipGroup(grokPattern, i);
+                    if (i < 0) {
+                        return emptyList();
+                    }
+                    break;
+                case '[':
+                    flush(current, literals);
+                    i = skipCharacterClass(grokPattern, i);
+                    if (i < 0) {
+                        return emptyList();
+                    }
+                    break;
+                case '|':
+                    return emptyList();
+                case '?':
+                case '*':
+                    // the preceding character is optional
+                    dropLast(current);
+                    flush(current, literals);
+                    i++;
+                    break;
+                case '{':
+                    dropLast(current);
+                    flush(current, literals);
+                    i = grokPattern.indexOf('}', i);
+                    if (i < 0) {
+                        return emptyList();
+                    }
+                    i++;
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    flush(current, literals);
+                    i++;
+                    break;
+                default:
+                    current.append(c);
+                    i++;
+                    break;
+            }
+        }
+        flush(current, literals);
+        return literals;
+    }
+
+    /**
+     * Returns the position after the group that starts at {@code start}, or {@code -1} if the group is not closed.
+     */
+    private static int skipGroup(String pattern, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                i = skipCharacterClass(pattern, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position after the character class that starts at {@code start}, or {@code -1} if the class is not closed.
+     */
+    private static int skipCharacterClass(String pattern, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                // a closing bracket right at the start of a class is part of the class
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '^') {
+                    i++;
+                }
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == ']') {
+                    i++;
+                }
+            } else if (c == ']' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static void dropLast(StringBuilder current) {
+        if (current.length() > 0) {
+            current.setLength(current.length() - 1);
+        }
+    }
+
+    private static void flush(StringBuilder current, List<String> literals) {
+        if (current.length() >= MIN_LITERAL_LENGTH) {
+            literals.add(current.toString());
+        }
+        current.setLength(0);
+    }
+}
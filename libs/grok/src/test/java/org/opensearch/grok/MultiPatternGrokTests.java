@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class MultiPatternGrokTests extends OpenSearchTestCase {
+
+    public void testRequiredLiterals() {
+        assertThat(
+            MultiPatternGrok.requiredLiterals("%{SYSLOGTIMESTAMP:ts} %{HOSTNAME:host} sshd\\[%{POSINT:pid}\\]: Failed"),
+            contains(" sshd[", "]: Failed")
+        );
+        assertThat(MultiPatternGrok.requiredLiterals("action=%{WORD:action} src=%{IP:src}"), contains("action=", " src="));
+        // optional characters and repetitions end a literal
+        assertThat(MultiPatternGrok.requiredLiterals("colou?r %{WORD}"), contains("colo", "r "));
+        assertThat(MultiPatternGrok.requiredLiterals("ab*c"), empty());
+        assertThat(MultiPatternGrok.requiredLiterals("abc{2}def"), contains("ab", "def"));
+        assertThat(MultiPatternGrok.requiredLiterals("ab+cd"), contains("ab", "cd"));
+        // groups, classes and character types end a literal without contributing to one
+        assertThat(MultiPatternGrok.requiredLiterals("user(name|id)?=[a-z(]+\\d done"), contains("user", " done"));
+        // nothing is required with a top level alternation, inline options or multi character escapes
+        assertThat(MultiPatternGrok.requiredLiterals("foo|bar"), empty());
+        assertThat(MultiPatternGrok.requiredLiterals("(?i)foo"), empty());
+        assertThat(MultiPatternGrok.requiredLiterals("foo\\x41bar"), empty());
+        assertThat(MultiPatternGrok.requiredLiterals("\\Qfoo\\E"), empty());
+    }
+
+    public void testCapturesFirstMatchingPattern() {
+        MultiPatternGrok grok = new MultiPatternGrok(
+            Grok.BUILTIN_PATTERNS,
+            Arrays.asList("login %{WORD:user} from %{IP:ip}", "logout %{WORD:user} after %{NUMBER:seconds:int}s", "%{GREEDYDATA:message}"),
+            MatcherWatchdog.noop(),
+            logger::warn
+        );
+
+        Map<String, Object> captures = new HashMap<>();
+        assertThat(grok.captures("logout alice after 42s", captures::put), equalTo(1));
+        assertThat(captures, equalTo(Map.of("user", "alice", "seconds", 42)));
+
+        captures.clear();
+        assertThat(grok.captures("login bob from 10.0.0.1", captures::put), equalTo(0));
+        assertThat(captures, equalTo(Map.of("user", "bob", "ip", "10.0.0.1")));
+
+        captures.clear();
+        assertThat(grok.captures("something else", captures::put), equalTo(2));
+        assertThat(captures, equalTo(Map.of("message", "something else")));
+    }
+
+    public void testNoMatch() {
+        MultiPatternGrok grok = new MultiPatternGrok(
+            Grok.BUILTIN_PATTERNS,
+            Arrays.asList("login %{WORD:user}", "logout %{WORD:user}"),
+            MatcherWatchdog.noop(),
+            logger::warn
+        );
+        assertThat(grok.captures("nothing to see", (name, value) -> fail("unexpected capture [" + name + "]")), equalTo(-1));
+        // the literals match but the pattern does not
+        assertThat(grok.captures("login !!!", (name, value) -> fail("unexpected capture [" + name + "]")), equalTo(-1));
+    }
+
+    public void testPatternsAreReorderedByHits() {
+        List<String> patterns = Arrays.asList("first %{WORD:a}", "second %{WORD:b}", "third %{WORD:c}");
+        MultiPatternGrok grok = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, MatcherWatchdog.noop(), logger::warn);
+        assertArrayEquals(new int[] { 0, 1, 2 }, grok.order());
+
+        for (int i = 0; i < MultiPatternGrok.REORDER_INTERVAL; i++) {
+            String text = i % 4 == 0 ? "second value" : "third value";
+            assertThat(grok.captures(text, (name, value) -> {}), equalTo(i % 4 == 0 ? 1 : 2));
+        }
+        assertArrayEquals(new int[] { 2, 1, 0 }, grok.order());
+        // the captures do not depend on the order
+        Map<String, Object> captures = new HashMap<>();
+        assertThat(grok.captures("first value", captures::put), equalTo(0));
+        assertThat(captures, equalTo(Collections.singletonMap("a", "value")));
+    }
+
+    public void testEmptyPatterns() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new MultiPatternGrok(Grok.BUILTIN_PATTERNS, Collections.emptyList(), MatcherWatchdog.noop(), logger::warn)
+        );
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.grok.MultiPatternGrok;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
@@ -50,12 +51,15 @@ import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException
 public final class GrokProcessor extends AbstractProcessor {
 
     public static final String TYPE = "grok";
+    static final String COMBINED_MATCH_STRATEGY = "combined";
+    static final String ADAPTIVE_MATCH_STRATEGY = "adaptive";
     private static final String PATTERN_MATCH_KEY = "_ingest._grok_match_index";
     private static final Logger logger = LogManager.getLogger(GrokProcessor.class);
 
     private final String matchField;
     private final List<String> matchPatterns;
     private final Grok grok;
+    private final MultiPatternGrok multiPatternGrok;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
 
@@ -68,16 +72,41 @@ public final class GrokProcessor extends AbstractProcessor {
         boolean traceMatch,
         boolean ignoreMissing,
         MatcherWatchdog matcherWatchdog
+    ) {
+        this(tag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing, false, matcherWatchdog);
+    }
+
+    GrokProcessor(
+        String tag,
+        String description,
+        Map<String, String> patternBank,
+        List<String> matchPatterns,
+        String matchField,
+        boolean traceMatch,
+        boolean ignoreMissing,
+        boolean adaptiveMatch,
+        MatcherWatchdog matcherWatchdog
     ) {
         super(tag, description);
         this.matchField = matchField;
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
-        // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
-        // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
-        new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        if (adaptiveMatch && matchPatterns.size() > 1) {
+            // with several patterns, each pattern is compiled on its own so that patterns that can't match are skipped
+            this.grok = null;
+            this.multiPatternGrok = new MultiPatternGrok(patternBank, matchPatterns, matcherWatchdog, logger::debug);
+            // Joni warnings are only emitted on an attempt to match, so each pattern is attempted once to log them at warn level
+            for (String matchPattern : matchPatterns) {
+                new Grok(patternBank, matchPattern, matcherWatchdog, logger::warn).match("___nomatch___");
+            }
+        } else {
+            this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
+            this.multiPatternGrok = null;
+            // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
+            // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
+            new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        }
     }
 
     @Override
@@ -90,6 +119,20 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
+        if (multiPatternGrok != null) {
+            // all captures are converted before the first one is written, so that a failed conversion leaves the document as is
+            Map<String, Object> captures = new HashMap<>();
+            int matchedPattern = multiPatternGrok.captures(fieldValue, captures::put);
+            if (matchedPattern < 0) {
+                throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
+            }
+            captures.forEach(ingestDocument::setFieldValue);
+            if (traceMatch) {
+                ingestDocument.setFieldValue(PATTERN_MATCH_KEY, Integer.toString(matchedPattern));
+            }
+            return ingestDocument;
+        }
+
         Map<String, Object> matches = grok.captures(fieldValue);
         if (matches == null) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
@@ -118,6 +161,10 @@ public final class GrokProcessor extends AbstractProcessor {
         return grok;
     }
 
+    MultiPatternGrok getMultiPatternGrok() {
+        return multiPatternGrok;
+    }
+
     boolean isIgnoreMissing() {
         return ignoreMissing;
     }
@@ -176,6 +223,21 @@ public final class GrokProcessor extends AbstractProcessor {
             List<String> matchPatterns = ConfigurationUtils.readList(TYPE, processorTag, config, "patterns");
             boolean traceMatch = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "trace_match", false);
             boolean ignoreMissing = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "ignore_missing", false);
+            String matchStrategy = ConfigurationUtils.readStringProperty(
+                TYPE,
+                processorTag,
+                config,
+                "match_strategy",
+                COMBINED_MATCH_STRATEGY
+            );
+            if (COMBINED_MATCH_STRATEGY.equals(matchStrategy) == false && ADAPTIVE_MATCH_STRATEGY.equals(matchStrategy) == false) {
+                throw newConfigurationException(
+                    TYPE,
+                    processorTag,
+                    "match_strategy",
+                    "must be one of [" + COMBINED_MATCH_STRATEGY + ", " + ADAPTIVE_MATCH_STRATEGY + "] but was [" + matchStrategy + "]"
+                );
+            }
 
             if (matchPatterns.isEmpty()) {
                 throw newConfigurationException(TYPE, processorTag, "patterns", "List of patterns must not be empty");
@@ -195,6 +257,7 @@ public final class GrokProcessor extends AbstractProcessor {
                     matchField,
                     traceMatch,
                     ignoreMissing,
+                    ADAPTIVE_MATCH_STRATEGY.equals(matchStrategy),
                     matcherWatchdog
                 );
             } catch (Exception e) {
@@ -36,6 +36,7 @@ import org.opensearch.OpenSearchParseException;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +44,7 @@ import java.util.Map;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 public class GrokProcessorFactoryTests extends OpenSearchTestCase {
 
@@ -75,6 +77,35 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         assertThat(processor.isIgnoreMissing(), is(true));
     }
 
+    public void testBuildWithAdaptiveMatchStrategy() throws Exception {
+        GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
+
+        Map<String, Object> config = new HashMap<>();
+        config.put("field", "_field");
+        config.put("patterns", Arrays.asList("foo (?<foo>\\w+)", "bar (?<bar>\\w+)"));
+        config.put("match_strategy", "adaptive");
+        GrokProcessor processor = factory.create(null, randomAlphaOfLength(10), null, config);
+        assertThat(processor.getGrok(), nullValue());
+        assertThat(processor.getMultiPatternGrok(), notNullValue());
+
+        config = new HashMap<>();
+        config.put("field", "_field");
+        config.put("patterns", Arrays.asList("foo (?<foo>\\w+)", "bar (?<bar>\\w+)"));
+        processor = factory.create(null, randomAlphaOfLength(10), null, config);
+        assertThat(processor.getGrok(), notNullValue());
+        assertThat(processor.getMultiPatternGrok(), nullValue());
+    }
+
+    public void testBuildWithInvalidMatchStrategy() throws Exception {
+        GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
+        Map<String, Object> config = new HashMap<>();
+        config.put("field", "_field");
+        config.put("patterns", Collections.singletonList("(?<foo>\\w+)"));
+        config.put("match_strategy", "fastest");
+        OpenSearchParseException e = expectThrows(OpenSearchParseException.class, () -> factory.create(null, null, null, config));
+        assertThat(e.getMessage(), equalTo("[match_strategy] must be one of [combined, adaptive] but was [fastest]"));
+    }
+
     public void testBuildMissingField() throws Exception {
         GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
         Map<String, Object> config = new HashMap<>();
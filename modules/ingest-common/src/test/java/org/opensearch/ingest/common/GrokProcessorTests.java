@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest.common;
 
+import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.RandomDocumentPicks;
@@ -44,6 +45,7 @@ import java.util.Map;
 
 import static org.opensearch.ingest.IngestDocumentMatcher.assertIngestDocument;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
 
 public class GrokProcessorTests extends OpenSearchTestCase {
 
@@ -272,6 +274,77 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertThat(doc.hasField("three"), equalTo(false));
     }
 
+    public void testMultiplePatternsWithAdaptiveMatch() throws Exception {
+        Map<String, String> patternBank = new HashMap<>(Grok.BUILTIN_PATTERNS);
+        boolean traceMatch = randomBoolean();
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        GrokProcessor processor = new GrokProcessor(
+            randomAlphaOfLength(10),
+            null,
+            patternBank,
+            Arrays.asList(
+                "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid:int}\\]: Failed password for %{USERNAME:user}",
+                "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} kernel: %{GREEDYDATA:message}"
+            ),
+            fieldName,
+            traceMatch,
+            false,
+            true,
+            MatcherWatchdog.noop()
+        );
+        assertThat(processor.getMultiPatternGrok(), notNullValue());
+
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "Oct 11 22:14:15 server1 kernel: eth0 link up");
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("host", String.class), equalTo("server1"));
+        assertThat(doc.getFieldValue("message", String.class), equalTo("eth0 link up"));
+        assertThat(doc.hasField("pid"), equalTo(false));
+        if (traceMatch) {
+            assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("1"));
+        }
+
+        doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "Oct 11 22:14:15 server2 sshd[4242]: Failed password for root");
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("host", String.class), equalTo("server2"));
+        assertThat(doc.getFieldValue("pid", Integer.class), equalTo(4242));
+        assertThat(doc.getFieldValue("user", String.class), equalTo("root"));
+        if (traceMatch) {
+            assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("0"));
+        }
+
+        IngestDocument noMatch = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        noMatch.setFieldValue(fieldName, "Oct 11 22:14:15 server2 cron[1]: started");
+        Exception e = expectThrows(Exception.class, () -> processor.execute(noMatch));
+        assertThat(
+            e.getMessage(),
+            equalTo("Provided Grok expressions do not match field value: [Oct 11 22:14:15 server2 cron[1]: started]")
+        );
+    }
+
+    public void testAdaptiveMatchLeavesDocumentUnchangedOnFailedConversion() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        GrokProcessor processor = new GrokProcessor(
+            randomAlphaOfLength(10),
+            null,
+            Grok.BUILTIN_PATTERNS,
+            Arrays.asList("user %{WORD:user} took %{WORD:took:int} ms", "host %{WORD:host}"),
+            fieldName,
+            false,
+            false,
+            true,
+            MatcherWatchdog.noop()
+        );
+        assertThat(processor.getMultiPatternGrok(), notNullValue());
+
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "user root took many ms");
+        IngestDocument original = new IngestDocument(doc);
+        expectThrows(NumberFormatException.class, () -> processor.execute(doc));
+        assertIngestDocument(original, doc);
+    }
+
     public void testSetMetadata() throws Exception {
         String fieldName = RandomDocumentPicks.randomFieldName(random());
         IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.http.HttpContentStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import io.netty.channel.Channel;
+
+/**
+ * Passes the content chunks of a request that {@link Netty4HttpStreamingHandler} received on to the listener. All chunks
+ * are passed on on the event loop of the channel; the chunks that arrive before a listener subscribed are buffered, and
+ * reading from the channel is paused until it did. Pausing and resuming is done on the event loop as well, so that the
+ * order of the calls is kept no matter which threads they came from.
+ */
+class Netty4HttpContentStream implements HttpContentStream {
+
+    private final Channel channel;
+    private final List<BytesReference> bufferedChunks = new ArrayList<>();
+    private boolean lastBuffered;
+    private Exception bufferedFailure;
+    private Listener listener;
+    private boolean paused;
+
+    Netty4HttpContentStream(Channel channel) {
+        this.channel = channel;
+    }
+
+    void onChunk(BytesReference chunk, boolean last) {
+        assert channel.eventLoop().inEventLoop();
+        if (listener == null) {
+            bufferedChunks.add(chunk);
+            lastBuffered = last;
+            updateAutoRead();
+        } else {
+            listener.onChunk(chunk, last);
+        }
+    }
+
+    void onFailure(Exception e) {
+        assert channel.eventLoop().inEventLoop();
+        if (listener == null) {
+            bufferedFailure = e;
+        } else {
+            listener.onFailure(e);
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        Objects.requireNonNull(listener);
+        channel.eventLoop().execute(() -> {
+            if (this.listener != null) {
+                throw new IllegalStateException("the content stream has a listener already");
+            }
+            this.listener = listener;
+            for (int i = 0; i < bufferedChunks.size(); i++) {
+                listener.onChunk(bufferedChunks.get(i), lastBuffered && i == bufferedChunks.size() - 1);
+            }
+            bufferedChunks.clear();
+            if (bufferedFailure != null) {
+                listener.onFailure(bufferedFailure);
+                bufferedFailure = null;
+            }
+            updateAutoRead();
+        });
+    }
+
+    @Override
+    public void pause() {
+        channel.eventLoop().execute(() -> {
+            paused = true;
+            updateAutoRead();
+        });
+    }
+
+    @Override
+    public void resume() {
+        channel.eventLoop().execute(() -> {
+            paused = false;
+            updateAutoRead();
+        });
+    }
+
+    private void updateAutoRead() {
+        channel.config().setAutoRead(paused == false && listener != null);
+    }
+}
@@ -34,6 +34,7 @@ package org.opensearch.http.netty4;
 
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.http.HttpContentStream;
 import org.opensearch.http.HttpRequest;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.transport.netty4.Netty4Utils;
@@ -67,6 +68,7 @@ public class Netty4HttpRequest implements HttpRequest {
     private final AtomicBoolean released;
     private final Exception inboundException;
     private final boolean pooled;
+    private final HttpContentStream contentStream;
 
     Netty4HttpRequest(FullHttpRequest request) {
         this(
@@ -78,6 +80,18 @@ public class Netty4HttpRequest implements HttpRequest {
         );
     }
 
+    Netty4HttpRequest(FullHttpRequest request, HttpContentStream contentStream) {
+        this(
+            request,
+            new HttpHeadersMap(request.headers()),
+            new AtomicBoolean(false),
+            true,
+            Netty4Utils.toBytesReference(request.content()),
+            null,
+            contentStream
+        );
+    }
+
     Netty4HttpRequest(FullHttpRequest request, Exception inboundException) {
         this(
             request,
@@ -85,7 +99,8 @@ public class Netty4HttpRequest implements HttpRequest {
             new AtomicBoolean(false),
             true,
             Netty4Utils.toBytesReference(request.content()),
-            inboundException
+            inboundException,
+            null
         );
     }
 
@@ -96,7 +111,7 @@ public class Netty4HttpRequest implements HttpRequest {
         boolean pooled,
         BytesReference content
     ) {
-        this(request, headers, released, pooled, content, null);
+        this(request, headers, released, pooled, content, null, null);
     }
 
     private Netty4HttpRequest(
@@ -105,7 +120,8 @@ public class Netty4HttpRequest implements HttpRequest {
         AtomicBoolean released,
         boolean pooled,
         BytesReference content,
-        Exception inboundException
+        Exception inboundException,
+        HttpContentStream contentStream
     ) {
         this.request = request;
         this.headers = headers;
@@ -113,6 +129,7 @@ public class Netty4HttpRequest implements HttpRequest {
         this.pooled = pooled;
         this.released = released;
         this.inboundException = inboundException;
+        this.contentStream = contentStream;
     }
 
     @Override
@@ -160,6 +177,11 @@ public class Netty4HttpRequest implements HttpRequest {
         return content;
     }
 
+    @Override
+    public HttpContentStream contentStream() {
+        return contentStream;
+    }
+
     @Override
     public void release() {
         if (pooled && released.compareAndSet(false, true)) {
@@ -187,7 +209,9 @@ public class Netty4HttpRequest implements HttpRequest {
                 headers,
                 new AtomicBoolean(false),
                 false,
-                Netty4Utils.toBytesReference(copiedContent)
+                Netty4Utils.toBytesReference(copiedContent),
+                null,
+                contentStream
             );
         } finally {
             release();
@@ -238,7 +262,15 @@ public class Netty4HttpRequest implements HttpRequest {
             headersWithoutContentTypeHeader,
             trailingHeaders
         );
-        return new Netty4HttpRequest(requestWithoutHeader, new HttpHeadersMap(requestWithoutHeader.headers()), released, pooled, content);
+        return new Netty4HttpRequest(
+            requestWithoutHeader,
+            new HttpHeadersMap(requestWithoutHeader.headers()),
+            released,
+            pooled,
+            content,
+            null,
+            contentStream
+        );
     }
 
     @Override
@@ -56,6 +56,8 @@ class Netty4HttpRequestCreator extends MessageToMessageDecoder<FullHttpRequest>
                 nonError = (Exception) cause;
             }
             out.add(new Netty4HttpRequest(msg.retain(), nonError));
+        } else if (msg instanceof Netty4HttpStreamingHandler.StreamedHttpRequest) {
+            out.add(new Netty4HttpRequest(msg.retain(), ((Netty4HttpStreamingHandler.StreamedHttpRequest) msg).contentStream()));
         } else {
             out.add(new Netty4HttpRequest(msg.retain()));
         }
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.core.common.bytes.BytesArray;
+
+import java.nio.channels.ClosedChannelException;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.QueryStringDecoder;
+
+/**
+ * Streams the content of bulk requests instead of aggregating it. A bulk request is sent down the pipeline as soon as its
+ * headers were decoded, as a {@link StreamedHttpRequest} with empty content, and the content chunks that follow are
+ * passed to its {@link Netty4HttpContentStream}. The chunks are copied to the heap, so that the pooled buffers are
+ * released right away and the parsed requests can hold on to the bytes for as long as they need them.
+ * <p>
+ * A response that is sent before the content of its request was received completely closes the connection, since the
+ * rest of the content is not going to be read.
+ */
+class Netty4HttpStreamingHandler extends ChannelDuplexHandler {
+
+    private static final String BULK_ENDPOINT = "/_bulk";
+
+    private Netty4HttpContentStream stream;
+    private boolean discardContent;
+    private boolean closeAfterResponse;
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if ((stream != null || discardContent) && msg instanceof HttpContent) {
+            onContent((HttpContent) msg);
+        } else if (msg instanceof HttpRequest && shouldStream((HttpRequest) msg)) {
+            HttpRequest request = (HttpRequest) msg;
+            if (HttpUtil.is100ContinueExpected(request)) {
+                ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER));
+                request.headers().remove(HttpHeaderNames.EXPECT);
+            }
+            stream = new Netty4HttpContentStream(ctx.channel());
+            ctx.fireChannelRead(new StreamedHttpRequest(request, stream));
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    private void onContent(HttpContent content) {
+        try {
+            final boolean last = content instanceof LastHttpContent;
+            final Netty4HttpContentStream current = stream;
+            if (last) {
+                stream = null;
+                discardContent = false;
+            }
+            if (current == null) {
+                return;
+            }
+            if (content.decoderResult().isFailure()) {
+                stream = null;
+                discardContent = last == false;
+                Throwable cause = content.decoderResult().cause();
+                if (cause instanceof Error) {
+                    ExceptionsHelper.maybeDieOnAnotherThread(cause);
+                    current.onFailure(new Exception(cause));
+                } else {
+                    current.onFailure((Exception) cause);
+                }
+            } else {
+                current.onChunk(new BytesArray(ByteBufUtil.getBytes(content.content())), last);
+            }
+        } finally {
+            content.release();
+        }
+    }
+
+    private static boolean shouldStream(HttpRequest request) {
+        if (request instanceof FullHttpRequest || request.decoderResult().isFailure()) {
+            return false;
+        }
+        if (request.method() != HttpMethod.POST && request.method() != HttpMethod.PUT) {
+            return false;
+        }
+        return new QueryStringDecoder(request.uri()).rawPath().endsWith(BULK_ENDPOINT);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (msg instanceof HttpResponse && stream != null) {
+            // the content of the request is not read any further, so the connection cannot be reused
+            HttpUtil.setKeepAlive((HttpResponse) msg, false);
+            stream = null;
+            discardContent = true;
+            closeAfterResponse = true;
+        }
+        if (closeAfterResponse && msg instanceof LastHttpContent) {
+            closeAfterResponse = false;
+            ctx.write(msg, promise.unvoid()).addListener(ChannelFutureListener.CLOSE);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (stream != null) {
+            Netty4HttpContentStream current = stream;
+            stream = null;
+            current.onFailure(new ClosedChannelException());
+        }
+        super.channelInactive(ctx);
+    }
+
+    /**
+     * A request whose content is passed on through a {@link Netty4HttpContentStream} rather than with the request.
+     */
+    static class StreamedHttpRequest extends DefaultFullHttpRequest {
+
+        private final Netty4HttpContentStream contentStream;
+
+        StreamedHttpRequest(HttpRequest request, Netty4HttpContentStream contentStream) {
+            super(
+                request.protocolVersion(),
+                request.method(),
+                request.uri(),
+                Unpooled.EMPTY_BUFFER,
+                request.headers(),
+                EmptyHttpHeaders.INSTANCE
+            );
+            this.contentStream = contentStream;
+        }
+
+        Netty4HttpContentStream contentStream() {
+            return contentStream;
+        }
+    }
+}
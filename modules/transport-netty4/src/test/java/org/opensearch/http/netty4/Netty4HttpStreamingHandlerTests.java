@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.http.HttpContentStream;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+
+public class Netty4HttpStreamingHandlerTests extends OpenSearchTestCase {
+
+    private final List<String> chunks = new ArrayList<>();
+    private boolean lastReceived;
+
+    private final HttpContentStream.Listener listener = new HttpContentStream.Listener() {
+        @Override
+        public void onChunk(BytesReference chunk, boolean last) {
+            assertFalse(lastReceived);
+            chunks.add(chunk.utf8ToString());
+            lastReceived = last;
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            throw new AssertionError(e);
+        }
+    };
+
+    private static HttpRequest bulkRequest() {
+        HttpRequest request = new DefaultHttpRequest(HTTP_1_1, HttpMethod.POST, "/index/_bulk?refresh=true");
+        HttpUtil.setTransferEncodingChunked(request, true);
+        return request;
+    }
+
+    private static Netty4HttpStreamingHandler.StreamedHttpRequest readStreamedRequest(EmbeddedChannel channel) {
+        Object inbound = channel.readInbound();
+        assertThat(inbound, instanceOf(Netty4HttpStreamingHandler.StreamedHttpRequest.class));
+        Netty4HttpStreamingHandler.StreamedHttpRequest request = (Netty4HttpStreamingHandler.StreamedHttpRequest) inbound;
+        assertEquals(0, request.content().readableBytes());
+        return request;
+    }
+
+    public void testBulkContentIsStreamed() {
+        EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpStreamingHandler());
+        channel.writeInbound(bulkRequest());
+        Netty4HttpStreamingHandler.StreamedHttpRequest request = readStreamedRequest(channel);
+        request.contentStream().subscribe(listener);
+        channel.runPendingTasks();
+
+        channel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("abc", StandardCharsets.UTF_8)));
+        channel.writeInbound(new DefaultLastHttpContent(Unpooled.copiedBuffer("def", StandardCharsets.UTF_8)));
+        assertEquals(List.of("abc", "def"), chunks);
+        assertTrue(lastReceived);
+        // the content is not passed on down the pipeline
+        assertNull(channel.readInbound());
+        assertTrue(channel.config().isAutoRead());
+        channel.finishAndReleaseAll();
+    }
+
+    public void testChunksAreBufferedUntilSubscribed() {
+        EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpStreamingHandler());
+        channel.writeInbound(bulkRequest());
+        Netty4HttpStreamingHandler.StreamedHttpRequest request = readStreamedRequest(channel);
+        channel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("abc", StandardCharsets.UTF_8)));
+        assertFalse(channel.config().isAutoRead());
+
+        request.contentStream().subscribe(listener);
+        channel.runPendingTasks();
+        assertEquals(List.of("abc"), chunks);
+        assertTrue(channel.config().isAutoRead());
+
+        request.contentStream().pause();
+        channel.runPendingTasks();
+        assertFalse(channel.config().isAutoRead());
+        request.contentStream().resume();
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+        channel.finishAndReleaseAll();
+    }
+
+    public void testOtherRequestsAreNotStreamed() {
+        EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpStreamingHandler());
+        HttpRequest search = new DefaultHttpRequest(HTTP_1_1, HttpMethod.POST, "/index/_search");
+        channel.writeInbound(search);
+        assertSame(search, channel.readInbound());
+        HttpRequest get = new DefaultHttpRequest(HTTP_1_1, HttpMethod.GET, "/_bulk");
+        channel.writeInbound(get);
+        assertSame(get, channel.readInbound());
+        channel.finishAndReleaseAll();
+    }
+
+    public void testResponseBeforeContentClosesConnection() {
+        EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpStreamingHandler());
+        channel.writeInbound(bulkRequest());
+        readStreamedRequest(channel);
+        channel.writeOutbound(new DefaultFullHttpResponse(HTTP_1_1, HttpResponseStatus.BAD_REQUEST));
+        HttpResponse response = channel.readOutbound();
+        assertFalse(HttpUtil.isKeepAlive(response));
+        assertFalse(channel.isOpen());
+        channel.finishAndReleaseAll();
+    }
+}
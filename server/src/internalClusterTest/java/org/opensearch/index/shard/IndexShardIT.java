@@ -689,6 +689,8 @@ public class IndexShardIT extends OpenSearchSingleNodeTestCase {
             null,
             null,
             () -> IndexSettings.DEFAULT_REMOTE_TRANSLOG_BUFFER_INTERVAL,
+            null,
+            null,
             nodeId,
             null
         );
@@ -50,6 +50,7 @@ import org.opensearch.http.HttpStats;
 import org.opensearch.index.stats.IndexingPressureStats;
 import org.opensearch.index.stats.ShardIndexingPressureStats;
 import org.opensearch.index.store.remote.filecache.FileCacheStats;
+import org.opensearch.index.translog.TranslogGroupCommitStats;
 import org.opensearch.indices.NodeIndicesStats;
 import org.opensearch.ingest.IngestStats;
 import org.opensearch.monitor.fs.FsInfo;
@@ -143,6 +144,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
     @Nullable
     private SearchPipelineStats searchPipelineStats;
 
+    @Nullable
+    private TranslogGroupCommitStats translogGroupCommitStats;
+
     public NodeStats(StreamInput in) throws IOException {
         super(in);
         timestamp = in.readVLong();
@@ -211,6 +215,11 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         } else {
             searchPipelineStats = null;
         }
+        if (in.getVersion().onOrAfter(Version.V_2_11_1)) {
+            translogGroupCommitStats = in.readOptionalWriteable(TranslogGroupCommitStats::new);
+        } else {
+            translogGroupCommitStats = null;
+        }
     }
 
     public NodeStats(
@@ -237,7 +246,8 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         @Nullable WeightedRoutingStats weightedRoutingStats,
         @Nullable FileCacheStats fileCacheStats,
         @Nullable TaskCancellationStats taskCancellationStats,
-        @Nullable SearchPipelineStats searchPipelineStats
+        @Nullable SearchPipelineStats searchPipelineStats,
+        @Nullable TranslogGroupCommitStats translogGroupCommitStats
     ) {
         super(node);
         this.timestamp = timestamp;
@@ -263,6 +273,7 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         this.fileCacheStats = fileCacheStats;
         this.taskCancellationStats = taskCancellationStats;
         this.searchPipelineStats = searchPipelineStats;
+        this.translogGroupCommitStats = translogGroupCommitStats;
     }
 
     public long getTimestamp() {
@@ -400,6 +411,11 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         return searchPipelineStats;
     }
 
+    @Nullable
+    public TranslogGroupCommitStats getTranslogGroupCommitStats() {
+        return translogGroupCommitStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -449,6 +465,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_9_0)) {
             out.writeOptionalWriteable(searchPipelineStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_2_11_1)) {
+            out.writeOptionalWriteable(translogGroupCommitStats);
+        }
     }
 
     @Override
@@ -539,6 +558,9 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (getSearchPipelineStats() != null) {
             getSearchPipelineStats().toXContent(builder, params);
         }
+        if (getTranslogGroupCommitStats() != null) {
+            getTranslogGroupCommitStats().toXContent(builder, params);
+        }
 
         return builder;
     }
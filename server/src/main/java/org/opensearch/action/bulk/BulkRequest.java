@@ -34,6 +34,7 @@ package org.opensearch.action.bulk;
 
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.CompositeIndicesRequest;
@@ -94,6 +95,7 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
     private String globalRouting;
     private String globalIndex;
     private Boolean globalRequireAlias;
+    private int batchSize = 1;
 
     private long sizeInBytes = 0;
 
@@ -105,6 +107,9 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         requests.addAll(in.readList(i -> DocWriteRequest.readDocumentRequest(null, i)));
         refreshPolicy = RefreshPolicy.readFrom(in);
         timeout = in.readTimeValue();
+        if (in.getVersion().onOrAfter(Version.V_2_11_1)) {
+            batchSize = in.readVInt();
+        }
     }
 
     public BulkRequest(@Nullable String globalIndex) {
@@ -393,6 +398,19 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         return globalPipeline;
     }
 
+    /**
+     * The number of documents that go through an ingest pipeline together. Defaults to {@code 1}, which executes the
+     * pipeline document by document.
+     */
+    public BulkRequest batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
     public String routing() {
         return globalRouting;
     }
@@ -424,6 +442,9 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         if (requests.isEmpty()) {
             validationException = addValidationError("no requests added", validationException);
         }
+        if (batchSize < 1) {
+            validationException = addValidationError("batch size must be greater than 0", validationException);
+        }
         for (DocWriteRequest<?> request : requests) {
             // We first check if refresh has been set
             if (((WriteRequest<?>) request).getRefreshPolicy() != RefreshPolicy.NONE) {
@@ -451,6 +472,9 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         out.writeCollection(requests, DocWriteRequest::writeDocumentRequest);
         refreshPolicy.writeTo(out);
         out.writeTimeValue(timeout);
+        if (out.getVersion().onOrAfter(Version.V_2_11_1)) {
+            out.writeVInt(batchSize);
+        }
     }
 
     @Override
@@ -83,13 +83,13 @@ public final class BulkRequestParser {
 
     private static final Set<String> VALID_ACTIONS = Set.of("create", "delete", "index", "update");
 
-    private static int findNextMarker(byte marker, int from, BytesReference data) {
+    private static int findNextMarker(byte marker, int from, BytesReference data, boolean lastData) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
             assert res >= 0;
             return res;
         }
-        if (from != data.length()) {
+        if (lastData && from != data.length()) {
             throw new IllegalArgumentException("The bulk request must be terminated by a newline [\\n]");
         }
         return res;
@@ -132,135 +132,217 @@ public final class BulkRequestParser {
         Consumer<UpdateRequest> updateRequestConsumer,
         Consumer<DeleteRequest> deleteRequestConsumer
     ) throws IOException {
-        XContent xContent = mediaType.xContent();
-        int line = 0;
-        int from = 0;
-        byte marker = xContent.streamSeparator();
+        incrementalParser(
+            defaultIndex,
+            defaultRouting,
+            defaultFetchSourceContext,
+            defaultPipeline,
+            defaultRequireAlias,
+            allowExplicitIndex,
+            mediaType,
+            indexRequestConsumer,
+            updateRequestConsumer,
+            deleteRequestConsumer
+        ).parse(data, true);
+    }
+
+    /**
+     * Creates a parser for bulk content that is received in several chunks, so that the requests of the chunks that were
+     * received so far can be passed on before the rest of the content arrived. The defaults and consumers are the same as
+     * for {@link #parse}.
+     */
+    public IncrementalParser incrementalParser(
+        @Nullable String defaultIndex,
+        @Nullable String defaultRouting,
+        @Nullable FetchSourceContext defaultFetchSourceContext,
+        @Nullable String defaultPipeline,
+        @Nullable Boolean defaultRequireAlias,
+        boolean allowExplicitIndex,
+        MediaType mediaType,
+        Consumer<IndexRequest> indexRequestConsumer,
+        Consumer<UpdateRequest> updateRequestConsumer,
+        Consumer<DeleteRequest> deleteRequestConsumer
+    ) {
+        return new IncrementalParser(
+            defaultIndex,
+            defaultRouting,
+            defaultFetchSourceContext,
+            defaultPipeline,
+            defaultRequireAlias,
+            allowExplicitIndex,
+            mediaType,
+            indexRequestConsumer,
+            updateRequestConsumer,
+            deleteRequestConsumer
+        );
+    }
+
+    /**
+     * Parses bulk content chunk by chunk. The line numbers in error messages and the deduplication of strings carry over
+     * from one chunk to the next.
+     *
+     * @opensearch.internal
+     */
+    public static final class IncrementalParser {
+        private final String defaultIndex;
+        private final String defaultRouting;
+        private final FetchSourceContext defaultFetchSourceContext;
+        private final String defaultPipeline;
+        private final Boolean defaultRequireAlias;
+        private final boolean allowExplicitIndex;
+        private final MediaType mediaType;
+        private final Consumer<IndexRequest> indexRequestConsumer;
+        private final Consumer<UpdateRequest> updateRequestConsumer;
+        private final Consumer<DeleteRequest> deleteRequestConsumer;
         // Bulk requests can contain a lot of repeated strings for the index, pipeline and routing parameters. This map is used to
         // deduplicate duplicate strings parsed for these parameters. While it does not prevent instantiating the duplicate strings, it
-        // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
-        final Map<String, String> stringDeduplicator = new HashMap<>();
-        while (true) {
-            int nextMarker = findNextMarker(marker, from, data);
-            if (nextMarker == -1) {
-                break;
-            }
-            line++;
+        // reduces their lifetime to the lifetime of this parser instead of the lifetime of the full bulk request.
+        private final Map<String, String> stringDeduplicator = new HashMap<>();
+        private int line = 0;
 
-            // now parse the action
-            try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
-                // move pointers
-                from = nextMarker + 1;
+        private IncrementalParser(
+            @Nullable String defaultIndex,
+            @Nullable String defaultRouting,
+            @Nullable FetchSourceContext defaultFetchSourceContext,
+            @Nullable String defaultPipeline,
+            @Nullable Boolean defaultRequireAlias,
+            boolean allowExplicitIndex,
+            MediaType mediaType,
+            Consumer<IndexRequest> indexRequestConsumer,
+            Consumer<UpdateRequest> updateRequestConsumer,
+            Consumer<DeleteRequest> deleteRequestConsumer
+        ) {
+            this.defaultIndex = defaultIndex;
+            this.defaultRouting = defaultRouting;
+            this.defaultFetchSourceContext = defaultFetchSourceContext;
+            this.defaultPipeline = defaultPipeline;
+            this.defaultRequireAlias = defaultRequireAlias;
+            this.allowExplicitIndex = allowExplicitIndex;
+            this.mediaType = mediaType;
+            this.indexRequestConsumer = indexRequestConsumer;
+            this.updateRequestConsumer = updateRequestConsumer;
+            this.deleteRequestConsumer = deleteRequestConsumer;
+        }
 
-                // Move to START_OBJECT
-                XContentParser.Token token = parser.nextToken();
-                if (token == null) {
-                    continue;
-                }
-                if (token != XContentParser.Token.START_OBJECT) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected "
-                            + XContentParser.Token.START_OBJECT
-                            + " but found ["
-                            + token
-                            + "]"
-                    );
-                }
-                // Move to FIELD_NAME, that's the action
-                token = parser.nextToken();
-                if (token != XContentParser.Token.FIELD_NAME) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected "
-                            + XContentParser.Token.FIELD_NAME
-                            + " but found ["
-                            + token
-                            + "]"
-                    );
-                }
-                String action = parser.currentName();
-                if (action == null || VALID_ACTIONS.contains(action) == false) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected one of [create, delete, index, update] but found ["
-                            + action
-                            + "]"
-                    );
+        /**
+         * Parses the complete actions at the start of {@code data} and returns the number of bytes that were consumed. Unless
+         * {@code lastData} is set, an action whose last line is not terminated yet is left for the next call, which has to be
+         * passed the bytes that were not consumed followed by the next chunk.
+         */
+        public int parse(BytesReference data, boolean lastData) throws IOException {
+            XContent xContent = mediaType.xContent();
+            int from = 0;
+            byte marker = xContent.streamSeparator();
+            while (true) {
+                int nextMarker = findNextMarker(marker, from, data, lastData);
+                if (nextMarker == -1) {
+                    break;
                 }
+                final int actionFrom = from;
+                final int actionLine = line;
+                line++;
+
+                // now parse the action
+                try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
+                    // move pointers
+                    from = nextMarker + 1;
+
+                    // Move to START_OBJECT
+                    XContentParser.Token token = parser.nextToken();
+                    if (token == null) {
+                        continue;
+                    }
+                    if (token != XContentParser.Token.START_OBJECT) {
+                        throw new IllegalArgumentException(
+                            "Malformed action/metadata line ["
+                                + line
+                                + "], expected "
+                                + XContentParser.Token.START_OBJECT
+                                + " but found ["
+                                + token
+                                + "]"
+                        );
+                    }
+                    // Move to FIELD_NAME, that's the action
+                    token = parser.nextToken();
+                    if (token != XContentParser.Token.FIELD_NAME) {
+                        throw new IllegalArgumentException(
+                            "Malformed action/metadata line ["
+                                + line
+                                + "], expected "
+                                + XContentParser.Token.FIELD_NAME
+                                + " but found ["
+                                + token
+                                + "]"
+                        );
+                    }
+                    String action = parser.currentName();
+                    if (action == null || VALID_ACTIONS.contains(action) == false) {
+                        throw new IllegalArgumentException(
+                            "Malformed action/metadata line ["
+                                + line
+                                + "], expected one of [create, delete, index, update] but found ["
+                                + action
+                                + "]"
+                        );
+                    }
 
-                String index = defaultIndex;
-                String id = null;
-                String routing = defaultRouting;
-                FetchSourceContext fetchSourceContext = defaultFetchSourceContext;
-                String opType = null;
-                long version = Versions.MATCH_ANY;
-                VersionType versionType = VersionType.INTERNAL;
-                long ifSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
-                long ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
-                int retryOnConflict = 0;
-                String pipeline = defaultPipeline;
-                boolean requireAlias = defaultRequireAlias != null && defaultRequireAlias;
+                    String index = defaultIndex;
+                    String id = null;
+                    String routing = defaultRouting;
+                    FetchSourceContext fetchSourceContext = defaultFetchSourceContext;
+                    String opType = null;
+                    long version = Versions.MATCH_ANY;
+                    VersionType versionType = VersionType.INTERNAL;
+                    long ifSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
+                    long ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
+                    int retryOnConflict = 0;
+                    String pipeline = defaultPipeline;
+                    boolean requireAlias = defaultRequireAlias != null && defaultRequireAlias;
 
-                // at this stage, next token can either be END_OBJECT (and use default index with auto generated id)
-                // or START_OBJECT which will have another set of parameters
-                token = parser.nextToken();
+                    // at this stage, next token can either be END_OBJECT (and use default index with auto generated id)
+                    // or START_OBJECT which will have another set of parameters
+                    token = parser.nextToken();
 
-                if (token == XContentParser.Token.START_OBJECT) {
-                    String currentFieldName = null;
-                    while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
-                        if (token == XContentParser.Token.FIELD_NAME) {
-                            currentFieldName = parser.currentName();
-                        } else if (token.isValue()) {
-                            if (INDEX.match(currentFieldName, parser.getDeprecationHandler())) {
-                                if (allowExplicitIndex == false) {
-                                    throw new IllegalArgumentException("explicit index in bulk is not allowed");
+                    if (token == XContentParser.Token.START_OBJECT) {
+                        String currentFieldName = null;
+                        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                            if (token == XContentParser.Token.FIELD_NAME) {
+                                currentFieldName = parser.currentName();
+                            } else if (token.isValue()) {
+                                if (INDEX.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    if (allowExplicitIndex == false) {
+                                        throw new IllegalArgumentException("explicit index in bulk is not allowed");
+                                    }
+                                    index = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                                } else if (ID.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    id = parser.text();
+                                } else if (ROUTING.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    routing = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                                } else if (OP_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    opType = parser.text();
+                                } else if (VERSION.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    version = parser.longValue();
+                                } else if (VERSION_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    versionType = VersionType.fromString(parser.text());
+                                } else if (IF_SEQ_NO.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    ifSeqNo = parser.longValue();
+                                } else if (IF_PRIMARY_TERM.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    ifPrimaryTerm = parser.longValue();
+                                } else if (RETRY_ON_CONFLICT.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    retryOnConflict = parser.intValue();
+                                } else if (PIPELINE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    pipeline = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
+                                } else if (SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    fetchSourceContext = FetchSourceContext.fromXContent(parser);
+                                } else if (REQUIRE_ALIAS.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    requireAlias = parser.booleanValue();
+                                } else {
+                                    throw new IllegalArgumentException(
+                                        "Action/metadata line [" + line + "] contains an unknown parameter [" + currentFieldName + "]"
+                                    );
                                 }
-                                index = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (ID.match(currentFieldName, parser.getDeprecationHandler())) {
-                                id = parser.text();
-                            } else if (ROUTING.match(currentFieldName, parser.getDeprecationHandler())) {
-                                routing = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (OP_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                opType = parser.text();
-                            } else if (VERSION.match(currentFieldName, parser.getDeprecationHandler())) {
-                                version = parser.longValue();
-                            } else if (VERSION_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                versionType = VersionType.fromString(parser.text());
-                            } else if (IF_SEQ_NO.match(currentFieldName, parser.getDeprecationHandler())) {
-                                ifSeqNo = parser.longValue();
-                            } else if (IF_PRIMARY_TERM.match(currentFieldName, parser.getDeprecationHandler())) {
-                                ifPrimaryTerm = parser.longValue();
-                            } else if (RETRY_ON_CONFLICT.match(currentFieldName, parser.getDeprecationHandler())) {
-                                retryOnConflict = parser.intValue();
-                            } else if (PIPELINE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                pipeline = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                fetchSourceContext = FetchSourceContext.fromXContent(parser);
-                            } else if (REQUIRE_ALIAS.match(currentFieldName, parser.getDeprecationHandler())) {
-                                requireAlias = parser.booleanValue();
-                            } else {
-                                throw new IllegalArgumentException(
-                                    "Action/metadata line [" + line + "] contains an unknown parameter [" + currentFieldName + "]"
-                                );
-                            }
-                        } else if (token == XContentParser.Token.START_ARRAY) {
-                            throw new IllegalArgumentException(
-                                "Malformed action/metadata line ["
-                                    + line
-                                    + "], expected a simple value for field ["
-                                    + currentFieldName
-                                    + "] but found ["
-                                    + token
-                                    + "]"
-                            );
-                        } else if (token == XContentParser.Token.START_OBJECT
-                            && SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                fetchSourceContext = FetchSourceContext.fromXContent(parser);
-                            } else if (token != XContentParser.Token.VALUE_NULL) {
+                            } else if (token == XContentParser.Token.START_ARRAY) {
                                 throw new IllegalArgumentException(
                                     "Malformed action/metadata line ["
                                         + line
@@ -270,116 +352,136 @@ public final class BulkRequestParser {
                                         + token
                                         + "]"
                                 );
-                            }
+                            } else if (token == XContentParser.Token.START_OBJECT
+                                && SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    fetchSourceContext = FetchSourceContext.fromXContent(parser);
+                                } else if (token != XContentParser.Token.VALUE_NULL) {
+                                    throw new IllegalArgumentException(
+                                        "Malformed action/metadata line ["
+                                            + line
+                                            + "], expected a simple value for field ["
+                                            + currentFieldName
+                                            + "] but found ["
+                                            + token
+                                            + "]"
+                                    );
+                                }
+                        }
+                    } else if (token != XContentParser.Token.END_OBJECT) {
+                        throw new IllegalArgumentException(
+                            "Malformed action/metadata line ["
+                                + line
+                                + "], expected "
+                                + XContentParser.Token.START_OBJECT
+                                + " or "
+                                + XContentParser.Token.END_OBJECT
+                                + " but found ["
+                                + token
+                                + "]"
+                        );
                     }
-                } else if (token != XContentParser.Token.END_OBJECT) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected "
-                            + XContentParser.Token.START_OBJECT
-                            + " or "
-                            + XContentParser.Token.END_OBJECT
-                            + " but found ["
-                            + token
-                            + "]"
-                    );
-                }
 
-                if ("delete".equals(action)) {
-                    deleteRequestConsumer.accept(
-                        new DeleteRequest(index).id(id)
-                            .routing(routing)
-                            .version(version)
-                            .versionType(versionType)
-                            .setIfSeqNo(ifSeqNo)
-                            .setIfPrimaryTerm(ifPrimaryTerm)
-                    );
-                } else {
-                    nextMarker = findNextMarker(marker, from, data);
-                    if (nextMarker == -1) {
-                        break;
-                    }
-                    line++;
+                    if ("delete".equals(action)) {
+                        deleteRequestConsumer.accept(
+                            new DeleteRequest(index).id(id)
+                                .routing(routing)
+                                .version(version)
+                                .versionType(versionType)
+                                .setIfSeqNo(ifSeqNo)
+                                .setIfPrimaryTerm(ifPrimaryTerm)
+                        );
+                    } else {
+                        nextMarker = findNextMarker(marker, from, data, lastData);
+                        if (nextMarker == -1) {
+                            if (lastData == false) {
+                                // the source line did not arrive completely yet, so the action is parsed again with the next chunk
+                                from = actionFrom;
+                                line = actionLine;
+                            }
+                            break;
+                        }
+                        line++;
 
-                    // we use internalAdd so we don't fork here, this allows us not to copy over the big byte array to small chunks
-                    // of index request.
-                    if ("index".equals(action)) {
-                        if (opType == null) {
-                            indexRequestConsumer.accept(
-                                new IndexRequest(index).id(id)
-                                    .routing(routing)
-                                    .version(version)
-                                    .versionType(versionType)
-                                    .setPipeline(pipeline)
-                                    .setIfSeqNo(ifSeqNo)
-                                    .setIfPrimaryTerm(ifPrimaryTerm)
-                                    .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
-                                    .setRequireAlias(requireAlias)
-                            );
-                        } else {
+                        // we use internalAdd so we don't fork here, this allows us not to copy over the big byte array to small chunks
+                        // of index request.
+                        if ("index".equals(action)) {
+                            if (opType == null) {
+                                indexRequestConsumer.accept(
+                                    new IndexRequest(index).id(id)
+                                        .routing(routing)
+                                        .version(version)
+                                        .versionType(versionType)
+                                        .setPipeline(pipeline)
+                                        .setIfSeqNo(ifSeqNo)
+                                        .setIfPrimaryTerm(ifPrimaryTerm)
+                                        .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
+                                        .setRequireAlias(requireAlias)
+                                );
+                            } else {
+                                indexRequestConsumer.accept(
+                                    new IndexRequest(index).id(id)
+                                        .routing(routing)
+                                        .version(version)
+                                        .versionType(versionType)
+                                        .create("create".equals(opType))
+                                        .setPipeline(pipeline)
+                                        .setIfSeqNo(ifSeqNo)
+                                        .setIfPrimaryTerm(ifPrimaryTerm)
+                                        .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
+                                        .setRequireAlias(requireAlias)
+                                );
+                            }
+                        } else if ("create".equals(action)) {
                             indexRequestConsumer.accept(
                                 new IndexRequest(index).id(id)
                                     .routing(routing)
                                     .version(version)
                                     .versionType(versionType)
-                                    .create("create".equals(opType))
+                                    .create(true)
                                     .setPipeline(pipeline)
                                     .setIfSeqNo(ifSeqNo)
                                     .setIfPrimaryTerm(ifPrimaryTerm)
                                     .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
                                     .setRequireAlias(requireAlias)
                             );
-                        }
-                    } else if ("create".equals(action)) {
-                        indexRequestConsumer.accept(
-                            new IndexRequest(index).id(id)
+                        } else if ("update".equals(action)) {
+                            if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
+                                throw new IllegalArgumentException(
+                                    "Update requests do not support versioning. " + "Please use `if_seq_no` and `if_primary_term` instead"
+                                );
+                            }
+                            UpdateRequest updateRequest = new UpdateRequest().index(index)
+                                .id(id)
                                 .routing(routing)
-                                .version(version)
-                                .versionType(versionType)
-                                .create(true)
-                                .setPipeline(pipeline)
+                                .retryOnConflict(retryOnConflict)
                                 .setIfSeqNo(ifSeqNo)
                                 .setIfPrimaryTerm(ifPrimaryTerm)
-                                .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
                                 .setRequireAlias(requireAlias)
-                        );
-                    } else if ("update".equals(action)) {
-                        if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
-                            throw new IllegalArgumentException(
-                                "Update requests do not support versioning. " + "Please use `if_seq_no` and `if_primary_term` instead"
-                            );
-                        }
-                        UpdateRequest updateRequest = new UpdateRequest().index(index)
-                            .id(id)
-                            .routing(routing)
-                            .retryOnConflict(retryOnConflict)
-                            .setIfSeqNo(ifSeqNo)
-                            .setIfPrimaryTerm(ifPrimaryTerm)
-                            .setRequireAlias(requireAlias)
-                            .routing(routing);
-                        try (
-                            XContentParser sliceParser = createParser(
-                                sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType),
-                                xContent
-                            )
-                        ) {
-                            updateRequest.fromXContent(sliceParser);
-                        }
-                        if (fetchSourceContext != null) {
-                            updateRequest.fetchSource(fetchSourceContext);
-                        }
-                        IndexRequest upsertRequest = updateRequest.upsertRequest();
-                        if (upsertRequest != null) {
-                            upsertRequest.setPipeline(defaultPipeline);
-                        }
+                                .routing(routing);
+                            try (
+                                XContentParser sliceParser = createParser(
+                                    sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType),
+                                    xContent
+                                )
+                            ) {
+                                updateRequest.fromXContent(sliceParser);
+                            }
+                            if (fetchSourceContext != null) {
+                                updateRequest.fetchSource(fetchSourceContext);
+                            }
+                            IndexRequest upsertRequest = updateRequest.upsertRequest();
+                            if (upsertRequest != null) {
+                                upsertRequest.setPipeline(defaultPipeline);
+                            }
 
-                        updateRequestConsumer.accept(updateRequest);
+                            updateRequestConsumer.accept(updateRequest);
+                        }
+                        // move pointers
+                        from = nextMarker + 1;
                     }
-                    // move pointers
-                    from = nextMarker + 1;
                 }
             }
+            return from;
         }
     }
 
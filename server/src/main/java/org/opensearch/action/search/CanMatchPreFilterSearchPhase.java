@@ -35,6 +35,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.search.SearchService.CanMatchResponse;
@@ -67,6 +68,8 @@ import java.util.stream.Stream;
  * When the query primary sort is perform on a field, this phase extracts the min/max value in each shard and
  * sort them according to the provided order. This can be useful for instance to ensure that shards that contain recent
  * data are executed first when sorting by descending timestamp.
+ * Shards whose timestamp bounds are cached by the {@link ShardTimestampBoundsCache} of the coordinating node and don't overlap
+ * with the timestamp range the query requires are skipped without sending them a request.
  *
  * @opensearch.internal
  */
@@ -74,6 +77,10 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
 
     private final Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory;
     private final GroupShardsIterator<SearchShardIterator> shardsIts;
+    @Nullable
+    private final ShardTimestampBoundsCache timestampBoundsCache;
+    @Nullable
+    private final ShardTimestampBoundsCache.TimestampRange requiredTimestampRange;
 
     CanMatchPreFilterSearchPhase(
         Logger logger,
@@ -91,7 +98,8 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchTask task,
         Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
         SearchResponse.Clusters clusters,
-        SearchRequestOperationsListener searchRequestOperationsListener
+        SearchRequestOperationsListener searchRequestOperationsListener,
+        @Nullable ShardTimestampBoundsCache timestampBoundsCache
     ) {
         // We set max concurrent shard requests to the number of shards so no throttling happens for can_match requests
         super(
@@ -116,6 +124,16 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         );
         this.phaseFactory = phaseFactory;
         this.shardsIts = shardsIts;
+        if (timestampBoundsCache != null && timestampBoundsCache.isEnabled()) {
+            this.timestampBoundsCache = timestampBoundsCache;
+            this.requiredTimestampRange = ShardTimestampBoundsCache.requiredRange(
+                request.source(),
+                timeProvider.getAbsoluteStartMillis()
+            );
+        } else {
+            this.timestampBoundsCache = null;
+            this.requiredTimestampRange = null;
+        }
     }
 
     @Override
@@ -129,11 +147,27 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
         SearchShardTarget shard,
         SearchActionListener<CanMatchResponse> listener
     ) {
+        if (timestampBoundsCache == null || shard.getClusterAlias() != null) {
+            getSearchTransport().sendCanMatch(
+                getConnection(shard.getClusterAlias(), shard.getNodeId()),
+                buildShardSearchRequest(shardIt),
+                getTask(),
+                listener
+            );
+            return;
+        }
+        if (requiredTimestampRange != null && timestampBoundsCache.canMatch(shard.getShardId(), requiredTimestampRange) == false) {
+            listener.onResponse(new CanMatchResponse(false, null));
+            return;
+        }
         getSearchTransport().sendCanMatch(
             getConnection(shard.getClusterAlias(), shard.getNodeId()),
             buildShardSearchRequest(shardIt),
             getTask(),
-            listener
+            ActionListener.map(listener, response -> {
+                timestampBoundsCache.onCanMatchResponse(shard.getShardId(), response.timestampBounds());
+                return response;
+            })
         );
     }
 
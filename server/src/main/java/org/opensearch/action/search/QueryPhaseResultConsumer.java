@@ -44,6 +44,7 @@ import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContextBuilder;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -66,6 +67,14 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * A partial reduce is started when {@link SearchRequest#getBatchedReduceSize()} results are buffered or when the buffered
+ * aggregations exceed {@link org.opensearch.search.SearchService#BATCHED_REDUCE_MAX_BUFFER_SIZE_SETTING}, whichever comes
+ * first. This only bounds the results buffered before a partial reduce: the result of a partial reduce may still hold every
+ * bucket of every reduced shard. Once the memory held by this consumer exceeds the same limit, partial reduces are therefore
+ * asked to bound their result too, see {@link InternalAggregation.ReduceContext#isBoundedPartialReduce()}. Terms aggregations
+ * ordered by descending count then keep their <code>shard_size</code> most frequent buckets and account for the others in
+ * their doc count error. The results of other aggregations are kept whole.
  *
  * @opensearch.internal
  */
@@ -116,7 +125,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         this.hasTopDocs = source == null || source.size() != 0;
         this.hasAggs = source != null && source.aggregations() != null;
         int batchReduceSize = (hasAggs || hasTopDocs) ? Math.min(request.getBatchedReduceSize(), expectedResultSize) : expectedResultSize;
-        this.pendingMerges = new PendingMerges(batchReduceSize, request.resolveTrackTotalHitsUpTo());
+        long maxAggsBufferSize = hasAggs ? controller.getBatchedReduceMaxBufferBytes() : Long.MAX_VALUE;
+        this.pendingMerges = new PendingMerges(batchReduceSize, maxAggsBufferSize, request.resolveTrackTotalHitsUpTo());
     }
 
     @Override
@@ -180,7 +190,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         List<SearchShard> emptyResults,
         SearchPhaseController.TopDocsStats topDocsStats,
         MergeResult lastMerge,
-        int numReducePhases
+        int numReducePhases,
+        boolean boundedReduce
     ) {
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
@@ -219,7 +230,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             for (QuerySearchResult result : toConsume) {
                 aggsList.add(result.consumeAggs().expand());
             }
-            newAggs = InternalAggregations.topLevelReduce(aggsList, aggReduceContextBuilder.forPartialReduction());
+            InternalAggregation.ReduceContext reduceContext = aggReduceContextBuilder.forPartialReduction();
+            reduceContext.setBoundedPartialReduce(boundedReduce);
+            newAggs = InternalAggregations.topLevelReduce(aggsList, reduceContext);
         } else {
             newAggs = null;
         }
@@ -249,6 +262,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
      */
     private class PendingMerges implements Releasable {
         private final int batchReduceSize;
+        private final long maxAggsBufferSize;
         private final List<QuerySearchResult> buffer = new ArrayList<>();
         private final List<SearchShard> emptyResults = new ArrayList<>();
         // the memory that is accounted in the circuit breaker for this consumer
@@ -266,8 +280,9 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
 
-        PendingMerges(int batchReduceSize, int trackTotalHitsUpTo) {
+        PendingMerges(int batchReduceSize, long maxAggsBufferSize, int trackTotalHitsUpTo) {
             this.batchReduceSize = batchReduceSize;
+            this.maxAggsBufferSize = maxAggsBufferSize;
             this.topDocsStats = new SearchPhaseController.TopDocsStats(trackTotalHitsUpTo);
         }
 
@@ -350,7 +365,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 } else {
                     // add one if a partial merge is pending
                     int size = buffer.size() + (hasPartialReduce ? 1 : 0);
-                    if (size >= batchReduceSize) {
+                    // reduce early if the buffered aggregations are too large, as long as there are at least two results to reduce
+                    if (size >= batchReduceSize || (size >= 2 && aggsCurrentBufferSize >= maxAggsBufferSize)) {
                         hasPartialReduce = true;
                         executeNextImmediately = false;
                         QuerySearchResult[] clone = buffer.stream().toArray(QuerySearchResult[]::new);
@@ -438,6 +454,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 @Override
                 protected void doRun() {
                     final MergeResult thisMergeResult = mergeResult;
+                    // bound the size of the partial result once everything this consumer holds doesn't fit in the buffer anymore
+                    final boolean boundedReduce = circuitBreakerBytes >= maxAggsBufferSize;
                     long estimatedTotalSize = (thisMergeResult != null ? thisMergeResult.estimatedSize : 0) + task.aggsBufferSize;
                     final MergeResult newMerge;
                     try {
@@ -449,7 +467,14 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         addEstimateAndMaybeBreak(estimatedMergeSize);
                         estimatedTotalSize += estimatedMergeSize;
                         ++numReducePhases;
-                        newMerge = partialReduce(toConsume, task.emptyResults, topDocsStats, thisMergeResult, numReducePhases);
+                        newMerge = partialReduce(
+                            toConsume,
+                            task.emptyResults,
+                            topDocsStats,
+                            thisMergeResult,
+                            numReducePhases,
+                            boundedReduce
+                        );
                     } catch (Exception t) {
                         onMergeFailure(t);
                         return;
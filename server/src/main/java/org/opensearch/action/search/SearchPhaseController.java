@@ -80,6 +80,7 @@ import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -92,13 +93,23 @@ public final class SearchPhaseController {
 
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder;
+    private final LongSupplier batchedReduceMaxBufferBytes;
 
     public SearchPhaseController(
         NamedWriteableRegistry namedWriteableRegistry,
         Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder
+    ) {
+        this(namedWriteableRegistry, requestToAggReduceContextBuilder, () -> Long.MAX_VALUE);
+    }
+
+    public SearchPhaseController(
+        NamedWriteableRegistry namedWriteableRegistry,
+        Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder,
+        LongSupplier batchedReduceMaxBufferBytes
     ) {
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.requestToAggReduceContextBuilder = requestToAggReduceContextBuilder;
+        this.batchedReduceMaxBufferBytes = batchedReduceMaxBufferBytes;
     }
 
     public AggregatedDfs aggregateDfs(Collection<DfsSearchResult> results) {
@@ -732,6 +743,13 @@ public final class SearchPhaseController {
         return requestToAggReduceContextBuilder.apply(request.source());
     }
 
+    /**
+     * Returns the size in bytes of the buffered shard aggregation results that triggers a partial reduce.
+     */
+    long getBatchedReduceMaxBufferBytes() {
+        return batchedReduceMaxBufferBytes.getAsLong();
+    }
+
     /**
      * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally.
      */
@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.cluster.metadata.DataStream;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.geo.ShapeRelation;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.MinAndMax;
+
+import java.time.ZoneId;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches on the coordinating node the bounds of the {@link DataStream#TIMESERIES_FIELDNAME} field of the shards, as reported
+ * by the shards in their {@link SearchService.CanMatchResponse}s. The bounds are those of the last refreshed reader of the
+ * shard. The {@link CanMatchPreFilterSearchPhase} skips the shards whose cached bounds are outside of the timestamp range the
+ * query requires without sending them a can_match request, and only asks the shards whose bounds are unknown or older than
+ * {@link #TTL_SETTING}.
+ * <p>
+ * Since shards keep being written to, the bounds of a shard may have grown since they were cached, and documents that were
+ * indexed within {@link #TTL_SETTING} may be missed by searches that are pruned by the cached bounds. The cache is thus
+ * disabled by default.
+ *
+ * @opensearch.internal
+ */
+public class ShardTimestampBoundsCache {
+
+    public static final Setting<TimeValue> TTL_SETTING = Setting.timeSetting(
+        "search.can_match.timestamp_bounds.ttl",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<Integer> MAX_ENTRIES_SETTING = Setting.intSetting(
+        "search.can_match.timestamp_bounds.max_entries",
+        100_000,
+        0,
+        Property.NodeScope
+    );
+
+    private final Cache<ShardId, Entry> cache;
+    private final LongSupplier relativeTimeInMillis;
+    private volatile long ttlMillis;
+
+    public ShardTimestampBoundsCache(Settings settings, ClusterSettings clusterSettings, LongSupplier relativeTimeInMillis) {
+        this.cache = CacheBuilder.<ShardId, Entry>builder().setMaximumWeight(MAX_ENTRIES_SETTING.get(settings)).build();
+        this.relativeTimeInMillis = relativeTimeInMillis;
+        this.ttlMillis = TTL_SETTING.get(settings).millis();
+        clusterSettings.addSettingsUpdateConsumer(TTL_SETTING, this::setTtl);
+    }
+
+    private void setTtl(TimeValue ttl) {
+        this.ttlMillis = ttl.millis();
+        if (ttlMillis == 0) {
+            cache.invalidateAll();
+        }
+    }
+
+    boolean isEnabled() {
+        return ttlMillis > 0;
+    }
+
+    /**
+     * Records the bounds the given shard reported, or forgets its bounds if it didn't report any.
+     */
+    void onCanMatchResponse(ShardId shardId, MinAndMax<?> timestampBounds) {
+        if (isEnabled() == false) {
+            return;
+        }
+        if (timestampBounds == null) {
+            cache.invalidate(shardId);
+        } else {
+            final long min = ((Number) timestampBounds.getMin()).longValue();
+            final long max = ((Number) timestampBounds.getMax()).longValue();
+            cache.put(shardId, new Entry(min, max, relativeTimeInMillis.getAsLong()));
+        }
+    }
+
+    /**
+     * Returns {@code false} if the cached bounds of the given shard are recent enough and don't overlap with the given range,
+     * and {@code true} if the shard may hold timestamps within the range or its bounds are unknown or stale.
+     */
+    boolean canMatch(ShardId shardId, TimestampRange range) {
+        final long ttl = ttlMillis;
+        if (ttl == 0) {
+            return true;
+        }
+        final Entry entry = cache.get(shardId);
+        if (entry == null || relativeTimeInMillis.getAsLong() - entry.cachedAtMillis > ttl) {
+            return true;
+        }
+        return entry.max >= range.from && entry.min <= range.to;
+    }
+
+    /**
+     * Returns the range of the {@link DataStream#TIMESERIES_FIELDNAME} field in milliseconds that every document matching the
+     * given search must fall into, or {@code null} if the search doesn't require a range that can be resolved without the
+     * mappings of the shards. Only range queries that use the default date format of the field or that specify their format
+     * are resolved, and shards only report the bounds of fields that use the default date format.
+     */
+    static TimestampRange requiredRange(SearchSourceBuilder source, long nowInMillis) {
+        if (SearchService.canRewriteToMatchNone(source) == false) {
+            // the search must visit all shards, for instance to compute global aggregations
+            return null;
+        }
+        final TimestampRange range = new TimestampRange(Long.MIN_VALUE, Long.MAX_VALUE);
+        try {
+            return intersect(source.query(), range, nowInMillis) ? range : null;
+        } catch (RuntimeException e) {
+            // the shards report the invalid range
+            return null;
+        }
+    }
+
+    private static boolean intersect(QueryBuilder query, TimestampRange range, long nowInMillis) {
+        if (query instanceof RangeQueryBuilder) {
+            final RangeQueryBuilder rangeQuery = (RangeQueryBuilder) query;
+            if (DataStream.TIMESERIES_FIELDNAME.equals(rangeQuery.fieldName()) == false
+                || (rangeQuery.relation() != null && rangeQuery.relation() != ShapeRelation.INTERSECTS)) {
+                return false;
+            }
+            final DateMathParser parser = rangeQuery.format() == null
+                ? DateFieldMapper.DEFAULT_DATE_TIME_FORMATTER.toDateMathParser()
+                : DateFormatter.forPattern(rangeQuery.format()).toDateMathParser();
+            final ZoneId timeZone = rangeQuery.timeZone() == null ? null : ZoneId.of(rangeQuery.timeZone());
+            // resolved the same way as DateFieldMapper.DateFieldType#dateRangeQuery
+            if (rangeQuery.from() != null) {
+                long from = parse(rangeQuery.from(), rangeQuery.includeLower() == false, timeZone, parser, nowInMillis);
+                if (rangeQuery.includeLower() == false) {
+                    from = from == Long.MAX_VALUE ? from : from + 1;
+                }
+                range.from = Math.max(range.from, from);
+            }
+            if (rangeQuery.to() != null) {
+                long to = parse(rangeQuery.to(), rangeQuery.includeUpper(), timeZone, parser, nowInMillis);
+                if (rangeQuery.includeUpper() == false) {
+                    to = to == Long.MIN_VALUE ? to : to - 1;
+                }
+                range.to = Math.min(range.to, to);
+            }
+            return true;
+        } else if (query instanceof ConstantScoreQueryBuilder) {
+            return intersect(((ConstantScoreQueryBuilder) query).innerQuery(), range, nowInMillis);
+        } else if (query instanceof BoolQueryBuilder) {
+            final BoolQueryBuilder boolQuery = (BoolQueryBuilder) query;
+            boolean found = false;
+            for (QueryBuilder clause : boolQuery.must()) {
+                found |= intersect(clause, range, nowInMillis);
+            }
+            for (QueryBuilder clause : boolQuery.filter()) {
+                found |= intersect(clause, range, nowInMillis);
+            }
+            return found;
+        }
+        return false;
+    }
+
+    private static long parse(Object value, boolean roundUp, ZoneId timeZone, DateMathParser parser, long nowInMillis) {
+        return DateFieldMapper.DateFieldType.parseToLong(
+            value,
+            roundUp,
+            timeZone,
+            parser,
+            () -> nowInMillis,
+            DateFieldMapper.Resolution.MILLISECONDS
+        );
+    }
+
+    /**
+     * A range of timestamps in milliseconds, both ends inclusive.
+     *
+     * @opensearch.internal
+     */
+    static final class TimestampRange {
+        private long from;
+        private long to;
+
+        TimestampRange(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        long from() {
+            return from;
+        }
+
+        long to() {
+            return to;
+        }
+    }
+
+    private static final class Entry {
+        private final long min;
+        private final long max;
+        private final long cachedAtMillis;
+
+        private Entry(long min, long max, long cachedAtMillis) {
+            this.min = min;
+            this.max = max;
+            this.cachedAtMillis = cachedAtMillis;
+        }
+    }
+}
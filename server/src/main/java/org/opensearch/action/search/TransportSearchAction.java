@@ -170,6 +170,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
 
     private final SearchRequestStats searchRequestStats;
 
+    private final ShardTimestampBoundsCache timestampBoundsCache;
+
     @Inject
     public TransportSearchAction(
         NodeClient client,
@@ -202,6 +204,11 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.isRequestStatsEnabled = clusterService.getClusterSettings().get(SEARCH_REQUEST_STATS_ENABLED);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(SEARCH_REQUEST_STATS_ENABLED, this::setIsRequestStatsEnabled);
         this.searchRequestStats = searchRequestStats;
+        this.timestampBoundsCache = new ShardTimestampBoundsCache(
+            clusterService.getSettings(),
+            clusterService.getClusterSettings(),
+            threadPool::relativeTimeInMillis
+        );
     }
 
     private void setIsRequestStatsEnabled(boolean isRequestStatsEnabled) {
@@ -1202,7 +1209,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                     };
                 },
                 clusters,
-                searchRequestOperationsListener
+                searchRequestOperationsListener,
+                timestampBoundsCache
             );
         } else {
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(
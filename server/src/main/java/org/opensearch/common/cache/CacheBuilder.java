@@ -48,6 +48,7 @@ public class CacheBuilder<K, V> {
     private long expireAfterWriteNanos = -1;
     private ToLongBiFunction<K, V> weigher;
     private RemovalListener<K, V> removalListener;
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
 
     public static <K, V> CacheBuilder<K, V> builder() {
         return new CacheBuilder<>();
@@ -107,8 +108,17 @@ public class CacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets the implementation of the cache, defaults to {@link EvictionPolicy#LRU}.
+     */
+    public CacheBuilder<K, V> setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        Objects.requireNonNull(evictionPolicy);
+        this.evictionPolicy = evictionPolicy;
+        return this;
+    }
+
     public Cache<K, V> build() {
-        Cache<K, V> cache = new Cache<>();
+        Cache<K, V> cache = evictionPolicy == EvictionPolicy.TINY_LFU ? new TinyLfuCache<>() : new Cache<>();
         if (maximumWeight != -1) {
             cache.setMaximumWeight(maximumWeight);
         }
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import java.util.Locale;
+
+/**
+ * The implementation backing a {@link Cache} built by {@link CacheBuilder}.
+ *
+ * @opensearch.internal
+ */
+public enum EvictionPolicy {
+    /**
+     * Segmented hash maps with a single, lock protected LRU list, see {@link Cache}.
+     */
+    LRU,
+    /**
+     * Concurrent hash map with buffered, lock-free access recording and a W-TinyLFU admission policy, see {@link TinyLfuCache}.
+     */
+    TINY_LFU;
+
+    public static EvictionPolicy fromString(String policy) {
+        try {
+            return EvictionPolicy.valueOf(policy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown cache eviction policy [" + policy + "], must be one of [lru, tiny_lfu]", e);
+        }
+    }
+}
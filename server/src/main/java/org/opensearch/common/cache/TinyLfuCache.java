@@ -0,0 +1,638 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A concurrent cache with a frequency aware eviction policy, built by {@link CacheBuilder} when the
+ * {@link EvictionPolicy#TINY_LFU} policy is selected. It honours the same contract as {@link Cache}: weights, expiration,
+ * removal notifications and load-once semantics of {@link #computeIfAbsent(Object, CacheLoader)}.
+ * <p>
+ * Entries live in a single {@link ConcurrentHashMap}. Unlike {@link Cache}, reads never take a lock: an access is
+ * recorded into one of several striped, lossy ring buffers and the eviction policy is only updated when the thread that
+ * fills a buffer manages to acquire the eviction lock without waiting. Writes are queued and applied to the policy under
+ * the eviction lock by the writing thread, so the cache stays within its maximum weight once a write returns. Removal
+ * notifications are issued after the eviction lock is released.
+ * <p>
+ * The eviction policy is W-TinyLFU: new entries enter a small LRU admission window (1% of the maximum weight); entries
+ * leaving the window enter the probation segment of a segmented LRU. When the cache exceeds its maximum weight, the
+ * newest probation entry competes with the oldest one and the one that a {@link FrequencySketch} estimates as less
+ * popular is evicted. Probation entries that are accessed again are promoted to the protected segment (80% of the main
+ * space). This makes the cache resistant to scans that would flush an LRU cache.
+ * <p>
+ * Time-based expiration is applied lazily on reads and from the head of each segment on maintenance, mirroring the
+ * pruning of {@link Cache}. {@link #keys()} and {@link #values()} iterate in no particular order.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ *
+ * @opensearch.internal
+ */
+public class TinyLfuCache<K, V> extends Cache<K, V> {
+
+    private static final int READ_BUFFER_SIZE = 16;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int NUMBER_OF_READ_BUFFERS = Math.min(
+        64,
+        Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1) << 1
+    );
+    private static final int WINDOW_PERCENTAGE = 1;
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    private final ConcurrentHashMap<K, CompletableFuture<Node<K, V>>> map = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+    @SuppressWarnings("unchecked")
+    private final ReadBuffer<K, V>[] readBuffers = new ReadBuffer[NUMBER_OF_READ_BUFFERS];
+
+    {
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    // lock protecting the eviction policy, guards all fields below that are not volatile
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch = new FrequencySketch();
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+    private List<RemovalNotification<K, V>> pendingNotifications = new ArrayList<>();
+
+    private volatile int count = 0;
+    private volatile long weight = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private long maximumWeight = -1;
+    private long windowMaximumWeight = -1;
+    private long protectedMaximumWeight = -1;
+    private long expireAfterAccessNanos = -1;
+    private long expireAfterWriteNanos = -1;
+    private ToLongBiFunction<K, V> weigher = (k, v) -> 1;
+    private boolean weighted = false;
+    private boolean sketchSized = false;
+    private RemovalListener<K, V> removalListener = notification -> {};
+
+    // use CacheBuilder to construct
+    TinyLfuCache() {}
+
+    @Override
+    void setExpireAfterAccessNanos(long expireAfterAccessNanos) {
+        super.setExpireAfterAccessNanos(expireAfterAccessNanos);
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+    }
+
+    @Override
+    void setExpireAfterWriteNanos(long expireAfterWriteNanos) {
+        super.setExpireAfterWriteNanos(expireAfterWriteNanos);
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+    }
+
+    @Override
+    void setMaximumWeight(long maximumWeight) {
+        super.setMaximumWeight(maximumWeight);
+        this.maximumWeight = maximumWeight;
+        this.windowMaximumWeight = Math.max(1, maximumWeight * WINDOW_PERCENTAGE / 100);
+        this.protectedMaximumWeight = (maximumWeight - windowMaximumWeight) * PROTECTED_PERCENTAGE / 100;
+    }
+
+    @Override
+    void setWeigher(ToLongBiFunction<K, V> weigher) {
+        super.setWeigher(weigher);
+        this.weigher = weigher;
+        this.weighted = true;
+    }
+
+    @Override
+    void setRemovalListener(RemovalListener<K, V> removalListener) {
+        super.setRemovalListener(removalListener);
+        this.removalListener = removalListener;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = getNode(key, now());
+        return node == null ? null : node.value;
+    }
+
+    private Node<K, V> getNode(K key, long now) {
+        CompletableFuture<Node<K, V>> future = map.get(key);
+        if (future == null) {
+            misses.increment();
+            return null;
+        }
+        Node<K, V> node;
+        try {
+            node = future.get();
+        } catch (ExecutionException e) {
+            misses.increment();
+            return null;
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        if (isExpired(node, now)) {
+            misses.increment();
+            // eagerly remove expired entries or a subsequent computeIfAbsent would find them
+            if (map.remove(key, future)) {
+                final Node<K, V> expired = node;
+                afterWrite(() -> onRemove(expired, RemovalReason.EVICTED, true));
+            }
+            return null;
+        }
+        hits.increment();
+        node.accessTime = now;
+        afterRead(node);
+        return node;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, CacheLoader<K, V> loader) throws ExecutionException {
+        long now = now();
+        Node<K, V> node = getNode(key, now);
+        if (node != null) {
+            return node.value;
+        }
+        CompletableFuture<Node<K, V>> completableFuture = new CompletableFuture<>();
+        CompletableFuture<Node<K, V>> future = map.putIfAbsent(key, completableFuture);
+        if (future != null) {
+            // another thread is loading or has loaded the value, the exception of a failed load is rethrown here
+            try {
+                return future.get().value;
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        V loaded;
+        try {
+            loaded = loader.load(key);
+        } catch (Exception e) {
+            map.remove(key, completableFuture);
+            completableFuture.completeExceptionally(e);
+            throw new ExecutionException(e);
+        }
+        if (loaded == null) {
+            NullPointerException npe = new NullPointerException("loader returned a null value");
+            map.remove(key, completableFuture);
+            completableFuture.completeExceptionally(npe);
+            throw new ExecutionException(npe);
+        }
+        Node<K, V> loadedNode = new Node<>(key, loaded, weigher.applyAsLong(key, loaded), now);
+        completableFuture.complete(loadedNode);
+        afterWrite(() -> onAdd(loadedNode));
+        return loaded;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value, weigher.applyAsLong(key, value), now());
+        CompletableFuture<Node<K, V>> previous = map.put(key, CompletableFuture.completedFuture(node));
+        Node<K, V> replaced = nodeOf(previous);
+        afterWrite(() -> {
+            if (replaced != null) {
+                onRemove(replaced, RemovalReason.REPLACED, false);
+            }
+            onAdd(node);
+        });
+    }
+
+    @Override
+    public void invalidate(K key) {
+        Node<K, V> node = nodeOf(map.remove(key));
+        if (node != null) {
+            afterWrite(() -> onRemove(node, RemovalReason.INVALIDATED, false));
+        }
+    }
+
+    @Override
+    public void invalidate(K key, V value) {
+        CompletableFuture<Node<K, V>> future = map.get(key);
+        Node<K, V> node = nodeOf(future);
+        if (node != null && Objects.equals(value, node.value) && map.remove(key, future)) {
+            afterWrite(() -> onRemove(node, RemovalReason.INVALIDATED, false));
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (Map.Entry<K, CompletableFuture<Node<K, V>>> entry : map.entrySet()) {
+            Node<K, V> node = nodeOf(entry.getValue());
+            if (map.remove(entry.getKey(), entry.getValue()) && node != null) {
+                writeBuffer.add(() -> onRemove(node, RemovalReason.INVALIDATED, false));
+            }
+        }
+        maintain(true);
+    }
+
+    @Override
+    public void refresh() {
+        maintain(true);
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * A sequencing of the keys in the cache that supports removal. The iteration order is unspecified and the sequence is
+     * weakly consistent: it never throws on concurrent mutations, but may or may not reflect them.
+     */
+    @Override
+    public Iterable<K> keys() {
+        return () -> new NodeIterator<>(node -> node.key);
+    }
+
+    /**
+     * A sequencing of the values in the cache that supports removal. The iteration order is unspecified and the sequence
+     * is weakly consistent: it never throws on concurrent mutations, but may or may not reflect them.
+     */
+    @Override
+    public Iterable<V> values() {
+        return () -> new NodeIterator<>(node -> node.value);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (expireAfterAccessNanos != -1 && now - node.accessTime > expireAfterAccessNanos)
+            || (expireAfterWriteNanos != -1 && now - node.writeTime > expireAfterWriteNanos);
+    }
+
+    private static <K, V> Node<K, V> nodeOf(CompletableFuture<Node<K, V>> future) {
+        if (future == null || future.isDone() == false || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    private void afterRead(Node<K, V> node) {
+        ReadBuffer<K, V> buffer = readBuffers[readBufferIndex()];
+        if (buffer.offer(node) == false) {
+            maintain(false);
+        }
+    }
+
+    private void afterWrite(Runnable task) {
+        writeBuffer.add(task);
+        maintain(true);
+    }
+
+    private static int readBufferIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9e3779b9;
+        return (hash ^ (hash >>> 16)) & (NUMBER_OF_READ_BUFFERS - 1);
+    }
+
+    /**
+     * Applies the buffered reads and writes to the eviction policy and evicts entries as needed. Readers only attempt to
+     * acquire the eviction lock, writers wait for it.
+     */
+    private void maintain(boolean blocking) {
+        List<RemovalNotification<K, V>> notifications;
+        if (blocking) {
+            evictionLock.lock();
+        } else if (evictionLock.tryLock() == false) {
+            return;
+        }
+        try {
+            drainReadBuffers();
+            Runnable task;
+            while ((task = writeBuffer.poll()) != null) {
+                task.run();
+            }
+            expire(now());
+            evict();
+            if (pendingNotifications.isEmpty()) {
+                notifications = Collections.emptyList();
+            } else {
+                notifications = pendingNotifications;
+                pendingNotifications = new ArrayList<>();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        for (RemovalNotification<K, V> notification : notifications) {
+            removalListener.onRemoval(notification);
+        }
+    }
+
+    private void drainReadBuffers() {
+        assert evictionLock.isHeldByCurrentThread();
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drainTo(this::onAccess);
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        assert evictionLock.isHeldByCurrentThread();
+        if (node.segment == null) {
+            // not yet added or already removed
+            return;
+        }
+        sketch.increment(node.key.hashCode());
+        if (node.segment == probation) {
+            probation.remove(node);
+            protectedSegment.addLast(node);
+            node.segment = protectedSegment;
+        } else {
+            node.segment.moveToLast(node);
+        }
+    }
+
+    private void onAdd(Node<K, V> node) {
+        assert evictionLock.isHeldByCurrentThread();
+        // the entry may have been replaced or invalidated before its addition was applied
+        if (node.removed || nodeOf(map.get(node.key)) != node) {
+            return;
+        }
+        window.addLast(node);
+        node.segment = window;
+        count++;
+        weight += node.weight;
+        if (sketchSized == false) {
+            // the maximum weight bounds the number of entries if all weights are one, avoid losing frequencies while growing
+            sketchSized = true;
+            if (weighted == false && maximumWeight != -1) {
+                sketch.ensureCapacity(maximumWeight);
+            }
+        }
+        if (count > sketch.capacity()) {
+            sketch.ensureCapacity(2L * count);
+        }
+        sketch.increment(node.key.hashCode());
+    }
+
+    private void onRemove(Node<K, V> node, RemovalReason reason, boolean countEviction) {
+        assert evictionLock.isHeldByCurrentThread();
+        if (node.removed) {
+            // already evicted
+            return;
+        }
+        node.removed = true;
+        if (node.segment != null) {
+            node.segment.remove(node);
+            node.segment = null;
+            count--;
+            weight -= node.weight;
+        }
+        if (countEviction) {
+            evictions.increment();
+        }
+        pendingNotifications.add(new RemovalNotification<>(node.key, node.value, reason));
+    }
+
+    private void expire(long now) {
+        assert evictionLock.isHeldByCurrentThread();
+        if (expireAfterAccessNanos == -1 && expireAfterWriteNanos == -1) {
+            return;
+        }
+        expire(window, now);
+        expire(probation, now);
+        expire(protectedSegment, now);
+    }
+
+    private void expire(AccessOrderDeque<K, V> segment, long now) {
+        while (segment.head != null && isExpired(segment.head, now)) {
+            evictNode(segment.head);
+        }
+    }
+
+    private void evict() {
+        assert evictionLock.isHeldByCurrentThread();
+        if (maximumWeight == -1) {
+            return;
+        }
+        while (protectedSegment.weight > protectedMaximumWeight && protectedSegment.head != null) {
+            Node<K, V> demoted = protectedSegment.head;
+            protectedSegment.remove(demoted);
+            probation.addLast(demoted);
+            demoted.segment = probation;
+        }
+        while (window.weight > windowMaximumWeight && window.head != null) {
+            Node<K, V> candidate = window.head;
+            window.remove(candidate);
+            probation.addLast(candidate);
+            candidate.segment = probation;
+        }
+        while (weight > maximumWeight) {
+            Node<K, V> victim = probation.head;
+            Node<K, V> candidate = probation.tail;
+            Node<K, V> evicted;
+            if (victim == null) {
+                evicted = protectedSegment.head != null ? protectedSegment.head : window.head;
+            } else if (victim == candidate) {
+                evicted = victim;
+            } else {
+                // TinyLFU admission: the newest probation entry only survives if it is more popular than the oldest one
+                evicted = sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode()) ? victim : candidate;
+            }
+            if (evicted == null) {
+                break;
+            }
+            evictNode(evicted);
+        }
+    }
+
+    private void evictNode(Node<K, V> node) {
+        assert evictionLock.isHeldByCurrentThread();
+        CompletableFuture<Node<K, V>> future = map.get(node.key);
+        if (nodeOf(future) == node) {
+            map.remove(node.key, future);
+        }
+        onRemove(node, RemovalReason.EVICTED, true);
+    }
+
+    /**
+     * Entry in the cache
+     *
+     * @opensearch.internal
+     */
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long weight;
+        final long writeTime;
+        volatile long accessTime;
+
+        // guarded by the eviction lock
+        AccessOrderDeque<K, V> segment;
+        Node<K, V> previous;
+        Node<K, V> next;
+        boolean removed;
+
+        Node(K key, V value, long weight, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = this.accessTime = writeTime;
+        }
+    }
+
+    /**
+     * Intrusive doubly-linked list of nodes, ordered from least to most recently accessed. Guarded by the eviction lock.
+     *
+     * @opensearch.internal
+     */
+    private static final class AccessOrderDeque<K, V> {
+        Node<K, V> head;
+        Node<K, V> tail;
+        long weight;
+
+        void addLast(Node<K, V> node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            weight += node.weight;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = node.next = null;
+            weight -= node.weight;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (tail != node) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * A lossy, bounded ring buffer of recorded accesses. Any thread may offer, only the holder of the eviction lock drains.
+     * Accesses offered to a full buffer, or that lose a race against a concurrent offer, are dropped: the policy only needs a
+     * representative sample of the accesses.
+     *
+     * @opensearch.internal
+     */
+    private static final class ReadBuffer<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        /**
+         * Records the access, returns {@code false} if the buffer is full and should be drained.
+         */
+        boolean offer(Node<K, V> node) {
+            long tail = writeCounter.get();
+            if (tail - readCounter >= READ_BUFFER_SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & READ_BUFFER_MASK), node);
+            }
+            return true;
+        }
+
+        void drainTo(Consumer<Node<K, V>> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            for (; head < tail; head++) {
+                Node<K, V> node = buffer.getAndSet((int) (head & READ_BUFFER_MASK), null);
+                if (node != null) {
+                    consumer.accept(node);
+                }
+            }
+            readCounter = head;
+        }
+    }
+
+    private final class NodeIterator<T> implements Iterator<T> {
+        private final Iterator<Map.Entry<K, CompletableFuture<Node<K, V>>>> delegate = map.entrySet().iterator();
+        private final Function<Node<K, V>, T> extractor;
+        private Map.Entry<K, CompletableFuture<Node<K, V>>> next;
+        private Map.Entry<K, CompletableFuture<Node<K, V>>> current;
+
+        NodeIterator(Function<Node<K, V>, T> extractor) {
+            this.extractor = extractor;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (delegate.hasNext()) {
+                Map.Entry<K, CompletableFuture<Node<K, V>>> entry = delegate.next();
+                if (nodeOf(entry.getValue()) != null) {
+                    next = entry;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            advance();
+            return extractor.apply(nodeOf(current.getValue()));
+        }
+
+        @Override
+        public void remove() {
+            Map.Entry<K, CompletableFuture<Node<K, V>>> entry = current;
+            if (entry != null) {
+                current = null;
+                Node<K, V> node = nodeOf(entry.getValue());
+                if (node != null && map.remove(entry.getKey(), entry.getValue())) {
+                    afterWrite(() -> onRemove(node, RemovalReason.INVALIDATED, false));
+                }
+            }
+        }
+    }
+}
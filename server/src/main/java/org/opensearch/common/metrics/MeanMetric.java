@@ -49,6 +49,11 @@ public class MeanMetric implements Metric {
         sum.add(n);
     }
 
+    public void add(long count, long sum) {
+        this.counter.add(count);
+        this.sum.add(sum);
+    }
+
     public void add(MeanMetric other) {
         counter.add(other.counter.sum());
         sum.add(other.sum.sum());
@@ -46,6 +46,24 @@ public class OperationMetrics {
         time.inc(currentTime);
     }
 
+    /**
+     * Invoked before a batch of operations begins.
+     * @param count number of operations in the batch
+     */
+    public void beforeBatch(int count) {
+        current.addAndGet(count);
+    }
+
+    /**
+     * Invoked upon completion (success or failure) of a batch of operations
+     * @param count number of operations in the batch
+     * @param currentTime elapsed time of the whole batch
+     */
+    public void afterBatch(int count, long currentTime) {
+        current.addAndGet(-count);
+        time.add(count, currentTime);
+    }
+
     /**
      * Invoked upon failure of the operation.
      */
@@ -36,6 +36,7 @@ import org.opensearch.action.admin.cluster.configuration.TransportAddVotingConfi
 import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
 import org.opensearch.action.main.TransportMainAction;
 import org.opensearch.action.search.CreatePitController;
+import org.opensearch.action.search.ShardTimestampBoundsCache;
 import org.opensearch.action.search.TransportSearchAction;
 import org.opensearch.action.support.AutoCreateIndex;
 import org.opensearch.action.support.DestructiveOperations;
@@ -110,10 +111,13 @@ import org.opensearch.index.ShardIndexingPressureStore;
 import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.store.remote.filecache.FileCacheJournal;
+import org.opensearch.index.translog.TranslogGroupCommitScheduler;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.RefreshBudget;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.indices.analysis.HunspellService;
 import org.opensearch.indices.breaker.BreakerSettings;
@@ -341,6 +345,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 HttpTransportSettings.SETTING_HTTP_DETAILED_ERRORS_ENABLED,
                 HttpTransportSettings.SETTING_HTTP_CONTENT_TYPE_REQUIRED,
                 HttpTransportSettings.SETTING_HTTP_MAX_CONTENT_LENGTH,
+                HttpTransportSettings.SETTING_HTTP_STREAMING_BULK_ENABLED,
+                HttpTransportSettings.SETTING_HTTP_STREAMING_BULK_FLUSH_SIZE,
+                HttpTransportSettings.SETTING_HTTP_STREAMING_BULK_MAX_IN_FLIGHT,
                 HttpTransportSettings.SETTING_HTTP_MAX_CHUNK_SIZE,
                 HttpTransportSettings.SETTING_HTTP_MAX_HEADER_SIZE,
                 HttpTransportSettings.SETTING_HTTP_MAX_WARNING_HEADER_COUNT,
@@ -377,6 +384,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
                 TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
                 TransportSearchAction.SEARCH_REQUEST_STATS_ENABLED,
+                ShardTimestampBoundsCache.TTL_SETTING,
+                ShardTimestampBoundsCache.MAX_ENTRIES_SETTING,
                 RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
                 SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
                 RemoteClusterService.REMOTE_INITIAL_CONNECTION_TIMEOUT_SETTING,
@@ -411,6 +420,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSettings.PUBLISH_PORT_PROFILE,
                 TransportSettings.OLD_TRANSPORT_COMPRESS,
                 TransportSettings.TRANSPORT_COMPRESS,
+                TransportSettings.TRANSPORT_COMPRESSION_SCHEME,
+                TransportSettings.TRANSPORT_COMPRESSED_ACTIONS,
                 TransportSettings.PING_SCHEDULE,
                 TransportSettings.TCP_CONNECT_TIMEOUT,
                 TransportSettings.CONNECT_TIMEOUT,
@@ -475,6 +486,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_SIZE_KEY,
                 IndicesRequestCache.INDICES_CACHE_QUERY_SIZE,
                 IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE,
+                IndicesRequestCache.INDICES_CACHE_DISK_SIZE,
+                IndicesRequestCache.INDICES_CACHE_DISK_MAX_PENDING_SIZE,
+                IndicesRequestCache.INDICES_CACHE_EVICTION_POLICY,
                 HunspellService.HUNSPELL_LAZY_LOAD,
                 HunspellService.HUNSPELL_IGNORE_CASE,
                 HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -506,6 +520,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 SearchService.LOW_LEVEL_CANCELLATION_SETTING,
                 SearchService.MAX_OPEN_SCROLL_CONTEXT,
                 SearchService.MAX_OPEN_PIT_CONTEXT,
+                SearchService.BATCHED_REDUCE_MAX_BUFFER_SIZE_SETTING,
                 SearchService.MAX_PIT_KEEPALIVE_SETTING,
                 CreatePitController.PIT_INIT_KEEP_ALIVE,
                 Node.WRITE_PORTS_FILE_SETTING,
@@ -660,6 +675,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Settings related to Searchable Snapshots
                 Node.NODE_SEARCH_CACHE_SIZE_SETTING,
                 FileCache.DATA_TO_FILE_CACHE_SIZE_RATIO_SETTING,
+                FileCache.EVICTION_POLICY_SETTING,
+                FileCache.PREFETCH_BLOCKS_SETTING,
+                FileCache.PREFETCH_MAX_IN_FLIGHT_SETTING,
+                FileCacheJournal.INTERVAL_SETTING,
 
                 // Settings related to Remote Refresh Segment Pressure
                 RemoteStorePressureSettings.REMOTE_REFRESH_SEGMENT_PRESSURE_ENABLED,
@@ -678,7 +697,15 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RemoteClusterStateService.REMOTE_CLUSTER_STATE_ENABLED_SETTING,
                 RemoteStoreNodeService.REMOTE_STORE_COMPATIBILITY_MODE_SETTING,
                 IndicesService.CLUSTER_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING,
-                IndicesService.CLUSTER_REMOTE_INDEX_RESTRICT_ASYNC_DURABILITY_SETTING
+                IndicesService.CLUSTER_REMOTE_INDEX_RESTRICT_ASYNC_DURABILITY_SETTING,
+
+                // Translog group commit settings
+                TranslogGroupCommitScheduler.ENABLED_SETTING,
+                TranslogGroupCommitScheduler.WINDOW_SETTING,
+                TranslogGroupCommitScheduler.MAX_BYTES_SETTING,
+
+                // Adaptive refresh settings
+                RefreshBudget.MAX_BYTES_PER_SEC_SETTING
             )
         )
     );
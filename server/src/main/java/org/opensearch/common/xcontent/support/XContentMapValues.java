@@ -38,11 +38,15 @@ import org.apache.lucene.util.automaton.CharacterRunAutomaton;
 import org.apache.lucene.util.automaton.Operations;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -218,16 +222,47 @@ public class XContentMapValues {
      */
     public static Function<Map<String, ?>, Map<String, Object>> filter(String[] includes, String[] excludes) {
         CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
 
-        CharacterRunAutomaton include;
+        // NOTE: We cannot use Operations.minus because of the special case that
+        // we want all sub properties to match as soon as an object matches
+
+        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+    }
+
+    /**
+     * Returns a function that copies the object the parser is positioned on, or about to read, to the builder while
+     * filtering it with the same include and exclude rules as {@link #filter(String[], String[])}. The filtering is done in
+     * a single streaming pass: properties that are not kept are skipped at the token level instead of being parsed, and no
+     * map is built for the source.
+     * @see #filter(Map, String[], String[]) for details
+     */
+    public static CheckedBiConsumer<XContentParser, XContentBuilder, IOException> filterXContent(String[] includes, String[] excludes) {
+        CharacterRunAutomaton matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        CharacterRunAutomaton include = includeAutomaton(includes, matchAllAutomaton);
+        CharacterRunAutomaton exclude = excludeAutomaton(excludes);
+        return (parser, builder) -> {
+            XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+            if (token != XContentParser.Token.START_OBJECT) {
+                throw new OpenSearchParseException("expected an object to filter but got [{}]", token);
+            }
+            builder.startObject();
+            new StreamingFilter(parser, builder, matchAllAutomaton).filterObject(include, 0, exclude, 0);
+            builder.endObject();
+        };
+    }
+
+    private static CharacterRunAutomaton includeAutomaton(String[] includes, CharacterRunAutomaton matchAllAutomaton) {
         if (includes == null || includes.length == 0) {
-            include = matchAllAutomaton;
-        } else {
-            Automaton includeA = Regex.simpleMatchToAutomaton(includes);
-            includeA = makeMatchDotsInFieldNames(includeA);
-            include = new CharacterRunAutomaton(includeA);
+            return matchAllAutomaton;
         }
+        Automaton includeA = Regex.simpleMatchToAutomaton(includes);
+        includeA = makeMatchDotsInFieldNames(includeA);
+        return new CharacterRunAutomaton(includeA);
+    }
 
+    private static CharacterRunAutomaton excludeAutomaton(String[] excludes) {
         Automaton excludeA;
         if (excludes == null || excludes.length == 0) {
             excludeA = Automata.makeEmpty();
@@ -235,12 +270,7 @@ public class XContentMapValues {
             excludeA = Regex.simpleMatchToAutomaton(excludes);
             excludeA = makeMatchDotsInFieldNames(excludeA);
         }
-        CharacterRunAutomaton exclude = new CharacterRunAutomaton(excludeA);
-
-        // NOTE: We cannot use Operations.minus because of the special case that
-        // we want all sub properties to match as soon as an object matches
-
-        return (map) -> filter(map, include, 0, exclude, 0, matchAllAutomaton);
+        return new CharacterRunAutomaton(excludeA);
     }
 
     /** Make matches on objects also match dots in field names.
@@ -397,6 +427,163 @@ public class XContentMapValues {
         return filtered;
     }
 
+    /**
+     * Filters the tokens of a parser into a builder, making the same decisions as the map based filter does for each
+     * property. Objects and arrays that are only kept if they turn out to be non-empty are started lazily: their start is
+     * kept pending until the first value is written into them, and dropped if they end without any.
+     */
+    private static final class StreamingFilter {
+
+        private final XContentParser parser;
+        private final XContentBuilder builder;
+        private final CharacterRunAutomaton matchAllAutomaton;
+        // the names of the objects and arrays that were started but not written yet, null for array elements
+        private final List<String> pendingNames = new ArrayList<>();
+        private final List<Boolean> pendingObjects = new ArrayList<>();
+
+        StreamingFilter(XContentParser parser, XContentBuilder builder, CharacterRunAutomaton matchAllAutomaton) {
+            this.parser = parser;
+            this.builder = builder;
+            this.matchAllAutomaton = matchAllAutomaton;
+        }
+
+        void filterObject(
+            CharacterRunAutomaton includeAutomaton,
+            int initialIncludeState,
+            CharacterRunAutomaton excludeAutomaton,
+            int initialExcludeState
+        ) throws IOException {
+            for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_OBJECT; token = parser.nextToken()) {
+                String key = parser.currentName();
+                token = parser.nextToken();
+
+                int includeState = step(includeAutomaton, key, initialIncludeState);
+                if (includeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                int excludeState = step(excludeAutomaton, key, initialExcludeState);
+                if (excludeState != -1 && excludeAutomaton.isAccept(excludeState)) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                boolean included = includeAutomaton.isAccept(includeState);
+                CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+                int subIncludeState = includeState;
+                if (included) {
+                    if (excludeState == -1 || excludeAutomaton.step(excludeState, '.') == -1) {
+                        // the exclude has no chances to match inner properties
+                        copyCurrentStructure(key);
+                        continue;
+                    } else {
+                        // the object matched, so consider that the include matches every inner property
+                        // we only care about excludes now
+                        subIncludeAutomaton = matchAllAutomaton;
+                        subIncludeState = 0;
+                    }
+                }
+
+                if (token == XContentParser.Token.START_OBJECT) {
+                    subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                    if (subIncludeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    start(key, true, included);
+                    filterObject(subIncludeAutomaton, subIncludeState, excludeAutomaton, excludeState);
+                    end(true);
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    start(key, false, included);
+                    filterArray(subIncludeAutomaton, subIncludeState, excludeAutomaton, excludeState);
+                    end(false);
+                } else if (included) {
+                    // leaf property
+                    copyCurrentStructure(key);
+                }
+            }
+        }
+
+        private void filterArray(
+            CharacterRunAutomaton includeAutomaton,
+            int initialIncludeState,
+            CharacterRunAutomaton excludeAutomaton,
+            int initialExcludeState
+        ) throws IOException {
+            boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+            for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_ARRAY; token = parser.nextToken()) {
+                if (token == XContentParser.Token.START_OBJECT) {
+                    int includeState = includeAutomaton.step(initialIncludeState, '.');
+                    if (includeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    int excludeState = initialExcludeState;
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    start(null, true, false);
+                    filterObject(includeAutomaton, includeState, excludeAutomaton, excludeState);
+                    end(true);
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    start(null, false, false);
+                    filterArray(includeAutomaton, initialIncludeState, excludeAutomaton, initialExcludeState);
+                    end(false);
+                } else if (isInclude) {
+                    // #22557: only accept this array value if the key we are on is accepted:
+                    copyCurrentStructure(null);
+                }
+            }
+        }
+
+        private void start(String name, boolean object, boolean keepIfEmpty) throws IOException {
+            pendingNames.add(name);
+            pendingObjects.add(object);
+            if (keepIfEmpty) {
+                writePending();
+            }
+        }
+
+        private void end(boolean object) throws IOException {
+            if (pendingObjects.isEmpty() == false) {
+                // nothing was written into it, it is the last pending start since any nested ones ended already
+                pendingNames.remove(pendingNames.size() - 1);
+                pendingObjects.remove(pendingObjects.size() - 1);
+            } else if (object) {
+                builder.endObject();
+            } else {
+                builder.endArray();
+            }
+        }
+
+        private void copyCurrentStructure(String name) throws IOException {
+            writePending();
+            if (name != null) {
+                builder.field(name);
+            }
+            builder.copyCurrentStructure(parser);
+        }
+
+        private void writePending() throws IOException {
+            for (int i = 0; i < pendingNames.size(); i++) {
+                if (pendingNames.get(i) != null) {
+                    builder.field(pendingNames.get(i));
+                }
+                if (pendingObjects.get(i)) {
+                    builder.startObject();
+                } else {
+                    builder.startArray();
+                }
+            }
+            pendingNames.clear();
+            pendingObjects.clear();
+        }
+    }
+
     public static boolean isObject(Object node) {
         return node instanceof Map;
     }
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http;
+
+import org.opensearch.core.common.bytes.BytesReference;
+
+/**
+ * The content of an http request that is passed on chunk by chunk while it is received, instead of being aggregated into
+ * a single buffer before the request is dispatched. Http modules only stream the content of requests that the handler
+ * is known to consume this way; the {@link HttpRequest#content()} of such a request is empty.
+ *
+ * @opensearch.internal
+ */
+public interface HttpContentStream {
+
+    /**
+     * Registers the listener that the chunks are passed to, in the order in which they were received. Chunks that arrived
+     * before the listener was registered are passed on right away. May only be called once.
+     */
+    void subscribe(Listener listener);
+
+    /**
+     * Stops reading content from the network until {@link #resume()} is called. Chunks that were read already may still be
+     * passed to the listener.
+     */
+    void pause();
+
+    /**
+     * Resumes reading content from the network after {@link #pause()}.
+     */
+    void resume();
+
+    /**
+     * Receives the chunks of a {@link HttpContentStream}. Chunks are never passed on concurrently, and the bytes of a chunk
+     * stay valid after the listener returned.
+     *
+     * @opensearch.internal
+     */
+    interface Listener {
+
+        /**
+         * Called for every chunk of content, with {@code last} set for the final chunk.
+         */
+        void onChunk(BytesReference chunk, boolean last);
+
+        /**
+         * Called instead of {@link #onChunk} if the content could not be received completely.
+         */
+        void onFailure(Exception e);
+    }
+}
@@ -69,6 +69,11 @@ public class HttpPipelinedRequest implements HttpRequest, HttpPipelinedMessage {
         return delegate.content();
     }
 
+    @Override
+    public HttpContentStream contentStream() {
+        return delegate.contentStream();
+    }
+
     @Override
     public Map<String, List<String>> getHeaders() {
         return delegate.getHeaders();
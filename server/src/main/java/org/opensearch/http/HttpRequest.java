@@ -74,6 +74,15 @@ public interface HttpRequest {
 
     BytesReference content();
 
+    /**
+     * The content of the request chunk by chunk as it is received, or {@code null} if the content was aggregated and is
+     * available through {@link #content()}.
+     */
+    @Nullable
+    default HttpContentStream contentStream() {
+        return null;
+    }
+
     /**
      * Get all of the headers and values associated with the headers. Modifications of this map are not supported.
      */
@@ -144,6 +144,26 @@ public final class HttpTransportSettings {
         new ByteSizeValue(Integer.MAX_VALUE, ByteSizeUnit.BYTES),
         Property.NodeScope
     );
+    // bulk requests whose content is parsed and executed while it is received, so they are not bound by the max content length
+    public static final Setting<Boolean> SETTING_HTTP_STREAMING_BULK_ENABLED = Setting.boolSetting(
+        "http.streaming_bulk.enabled",
+        false,
+        Property.NodeScope
+    );
+    public static final Setting<ByteSizeValue> SETTING_HTTP_STREAMING_BULK_FLUSH_SIZE = Setting.byteSizeSetting(
+        "http.streaming_bulk.flush_size",
+        new ByteSizeValue(5, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.KB),
+        new ByteSizeValue(Integer.MAX_VALUE, ByteSizeUnit.BYTES),
+        Property.NodeScope
+    );
+    public static final Setting<ByteSizeValue> SETTING_HTTP_STREAMING_BULK_MAX_IN_FLIGHT = Setting.byteSizeSetting(
+        "http.streaming_bulk.max_in_flight",
+        new ByteSizeValue(20, ByteSizeUnit.MB),
+        new ByteSizeValue(1, ByteSizeUnit.KB),
+        new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES),
+        Property.NodeScope
+    );
     public static final Setting<ByteSizeValue> SETTING_HTTP_MAX_CHUNK_SIZE = Setting.byteSizeSetting(
         "http.max_chunk_size",
         new ByteSizeValue(8, ByteSizeUnit.KB),
@@ -78,7 +78,9 @@ import org.opensearch.index.store.FsDirectoryFactory;
 import org.opensearch.index.store.remote.directory.RemoteSnapshotDirectoryFactory;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupCommitScheduler;
 import org.opensearch.indices.IndicesQueryCache;
+import org.opensearch.indices.RefreshBudget;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.mapper.MapperRegistry;
 import org.opensearch.indices.recovery.RecoverySettings;
@@ -604,6 +606,8 @@ public final class IndexModule {
         BiFunction<IndexSettings, ShardRouting, TranslogFactory> translogFactorySupplier,
         Supplier<TimeValue> clusterDefaultRefreshIntervalSupplier,
         Supplier<TimeValue> clusterRemoteTranslogBufferIntervalSupplier,
+        TranslogGroupCommitScheduler translogGroupCommitScheduler,
+        RefreshBudget refreshBudget,
         RecoverySettings recoverySettings
     ) throws IOException {
         final IndexEventListener eventListener = freeze();
@@ -663,6 +667,8 @@ public final class IndexModule {
                 translogFactorySupplier,
                 clusterDefaultRefreshIntervalSupplier,
                 clusterRemoteTranslogBufferIntervalSupplier,
+                translogGroupCommitScheduler,
+                refreshBudget,
                 recoverySettings
             );
             success = true;
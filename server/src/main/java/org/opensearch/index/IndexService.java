@@ -92,6 +92,8 @@ import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupCommitScheduler;
+import org.opensearch.indices.RefreshBudget;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.mapper.MapperRegistry;
@@ -179,6 +181,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final BiFunction<IndexSettings, ShardRouting, TranslogFactory> translogFactorySupplier;
     private final Supplier<TimeValue> clusterDefaultRefreshIntervalSupplier;
     private final Supplier<TimeValue> clusterRemoteTranslogBufferIntervalSupplier;
+    private final TranslogGroupCommitScheduler translogGroupCommitScheduler;
+    private final RefreshBudget refreshBudget;
     private final RecoverySettings recoverySettings;
 
     public IndexService(
@@ -215,6 +219,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         BiFunction<IndexSettings, ShardRouting, TranslogFactory> translogFactorySupplier,
         Supplier<TimeValue> clusterDefaultRefreshIntervalSupplier,
         Supplier<TimeValue> clusterRemoteTranslogBufferIntervalSupplier,
+        TranslogGroupCommitScheduler translogGroupCommitScheduler,
+        RefreshBudget refreshBudget,
         RecoverySettings recoverySettings
     ) {
         super(indexSettings);
@@ -240,6 +246,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 scriptService
             );
             this.indexFieldData = new IndexFieldDataService(indexSettings, indicesFieldDataCache, circuitBreakerService, mapperService);
+            indexSettings.setTimeSeriesFieldTypeLookup(mapperService::fieldType);
             if (indexSettings.getIndexSortConfig().hasIndexSort()) {
                 // we delay the actual creation of the sort order for this index because the mapping has not been merged yet.
                 // The sort order is validated right after the merge of the mapping later in the process.
@@ -292,6 +299,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         this.retentionLeaseSyncTask = new AsyncRetentionLeaseSyncTask(this);
         this.translogFactorySupplier = translogFactorySupplier;
         this.clusterRemoteTranslogBufferIntervalSupplier = clusterRemoteTranslogBufferIntervalSupplier;
+        this.translogGroupCommitScheduler = translogGroupCommitScheduler;
+        this.refreshBudget = refreshBudget;
         this.recoverySettings = recoverySettings;
         updateFsyncTaskIfNecessary();
     }
@@ -524,6 +533,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
                 remoteStore,
                 remoteStoreStatsTrackerFactory,
                 clusterRemoteTranslogBufferIntervalSupplier,
+                translogGroupCommitScheduler,
+                refreshBudget,
                 nodeEnv.nodeId(),
                 recoverySettings
             );
@@ -49,6 +49,7 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.Index;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.ingest.IngestService;
@@ -94,6 +95,7 @@ public final class IndexSettings {
     public enum IndexMergePolicy {
         TIERED("tiered"),
         LOG_BYTE_SIZE("log_byte_size"),
+        TIME_SERIES("time_series"),
         DEFAULT_POLICY(IndexSettings.DEFAULT_POLICY);
 
         private final String value;
@@ -162,6 +164,24 @@ public final class IndexSettings {
         Property.IndexScope,
         Property.Dynamic
     );
+    /**
+     * If enabled, the shards of the index pick their own refresh interval between {@code index.refresh_interval} and
+     * {@code index.refresh.adaptive.max_interval}, depending on how often they are searched and on the node wide refresh budget,
+     * so that shards which are written heavily but rarely searched refresh less often and write fewer, larger segments.
+     */
+    public static final Setting<Boolean> INDEX_ADAPTIVE_REFRESH_ENABLED_SETTING = Setting.boolSetting(
+        "index.refresh.adaptive.enabled",
+        false,
+        Property.IndexScope,
+        Property.Dynamic
+    );
+    public static final Setting<TimeValue> INDEX_ADAPTIVE_REFRESH_MAX_INTERVAL_SETTING = Setting.timeSetting(
+        "index.refresh.adaptive.max_interval",
+        TimeValue.timeValueSeconds(30),
+        TimeValue.timeValueMillis(0),
+        Property.IndexScope,
+        Property.Dynamic
+    );
     public static final Setting<Translog.Durability> INDEX_TRANSLOG_DURABILITY_SETTING = new Setting<>(
         "index.translog.durability",
         Translog.Durability.REQUEST.name(),
@@ -701,6 +721,7 @@ public final class IndexSettings {
     private final MergeSchedulerConfig mergeSchedulerConfig;
     private final TieredMergePolicyProvider tieredMergePolicyProvider;
     private final LogByteSizeMergePolicyProvider logByteSizeMergePolicyProvider;
+    private final TimeSeriesMergePolicyProvider timeSeriesMergePolicyProvider;
     private final IndexSortConfig indexSortConfig;
     private final IndexScopedSettings scopedSettings;
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
@@ -736,6 +757,8 @@ public final class IndexSettings {
     private volatile int maxNgramDiff;
     private volatile int maxShingleDiff;
     private volatile TimeValue searchIdleAfter;
+    private volatile boolean adaptiveRefreshEnabled;
+    private volatile TimeValue adaptiveRefreshMaxInterval;
     private volatile int maxAnalyzedOffset;
     private volatile int maxTermsCount;
     private volatile String defaultPipeline;
@@ -894,8 +917,11 @@ public final class IndexSettings {
         maxRegexLength = scopedSettings.get(MAX_REGEX_LENGTH_SETTING);
         this.tieredMergePolicyProvider = new TieredMergePolicyProvider(logger, this);
         this.logByteSizeMergePolicyProvider = new LogByteSizeMergePolicyProvider(logger, this);
+        this.timeSeriesMergePolicyProvider = new TimeSeriesMergePolicyProvider(this, logByteSizeMergePolicyProvider);
         this.indexSortConfig = new IndexSortConfig(this);
         searchIdleAfter = scopedSettings.get(INDEX_SEARCH_IDLE_AFTER);
+        adaptiveRefreshEnabled = scopedSettings.get(INDEX_ADAPTIVE_REFRESH_ENABLED_SETTING);
+        adaptiveRefreshMaxInterval = scopedSettings.get(INDEX_ADAPTIVE_REFRESH_MAX_INTERVAL_SETTING);
         defaultPipeline = scopedSettings.get(DEFAULT_PIPELINE);
         setTranslogRetentionAge(scopedSettings.get(INDEX_TRANSLOG_RETENTION_AGE_SETTING));
         setTranslogRetentionSize(scopedSettings.get(INDEX_TRANSLOG_RETENTION_SIZE_SETTING));
@@ -968,6 +994,10 @@ public final class IndexSettings {
             LogByteSizeMergePolicyProvider.INDEX_LBS_NO_CFS_RATIO_SETTING,
             logByteSizeMergePolicyProvider::setLBSNoCFSRatio
         );
+        scopedSettings.addSettingsUpdateConsumer(
+            TimeSeriesMergePolicyProvider.MAX_MERGE_AGE_SETTING,
+            timeSeriesMergePolicyProvider::setMaxMergeAge
+        );
         scopedSettings.addSettingsUpdateConsumer(
             MergeSchedulerConfig.MAX_THREAD_COUNT_SETTING,
             MergeSchedulerConfig.MAX_MERGE_COUNT_SETTING,
@@ -1000,6 +1030,8 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_SLICES_PER_PIT, this::setMaxSlicesPerPit);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_FIELD_SETTING, this::setDefaultFields);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_IDLE_AFTER, this::setSearchIdleAfter);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_ADAPTIVE_REFRESH_ENABLED_SETTING, this::setAdaptiveRefreshEnabled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_ADAPTIVE_REFRESH_MAX_INTERVAL_SETTING, this::setAdaptiveRefreshMaxInterval);
         scopedSettings.addSettingsUpdateConsumer(MAX_REGEX_LENGTH_SETTING, this::setMaxRegexLength);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_PIPELINE, this::setDefaultPipeline);
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
@@ -1029,6 +1061,14 @@ public final class IndexSettings {
         this.searchIdleAfter = searchIdleAfter;
     }
 
+    private void setAdaptiveRefreshEnabled(boolean adaptiveRefreshEnabled) {
+        this.adaptiveRefreshEnabled = adaptiveRefreshEnabled;
+    }
+
+    private void setAdaptiveRefreshMaxInterval(TimeValue adaptiveRefreshMaxInterval) {
+        this.adaptiveRefreshMaxInterval = adaptiveRefreshMaxInterval;
+    }
+
     private void setTranslogFlushThresholdSize(ByteSizeValue byteSizeValue) {
         this.flushThresholdSize = byteSizeValue;
     }
@@ -1513,6 +1553,13 @@ public final class IndexSettings {
         return gcDeletesInMillis;
     }
 
+    /**
+     * Sets how the time series merge policy looks up the mapping of the timestamp field, to find out its resolution.
+     */
+    void setTimeSeriesFieldTypeLookup(Function<String, MappedFieldType> fieldTypeLookup) {
+        timeSeriesMergePolicyProvider.setFieldTypeLookup(fieldTypeLookup);
+    }
+
     /**
      * Returns the merge policy that should be used for this index.
      * @param isTimeSeriesIndex true if index contains @timestamp field
@@ -1528,6 +1575,9 @@ public final class IndexSettings {
             case LOG_BYTE_SIZE:
                 mergePolicyProvider = logByteSizeMergePolicyProvider;
                 break;
+            case TIME_SERIES:
+                mergePolicyProvider = timeSeriesMergePolicyProvider;
+                break;
             case DEFAULT_POLICY:
                 if (isTimeSeriesIndex) {
                     String nodeScopedTimeSeriesIndexPolicy = TIME_SERIES_INDEX_MERGE_POLICY.get(nodeSettings);
@@ -1540,6 +1590,9 @@ public final class IndexSettings {
                         case LOG_BYTE_SIZE:
                             mergePolicyProvider = logByteSizeMergePolicyProvider;
                             break;
+                        case TIME_SERIES:
+                            mergePolicyProvider = timeSeriesMergePolicyProvider;
+                            break;
                     }
                 } else {
                     mergePolicyProvider = tieredMergePolicyProvider;
@@ -1627,6 +1680,20 @@ public final class IndexSettings {
         return searchIdleAfter;
     }
 
+    /**
+     * Returns true iff the shards of this index adapt their refresh interval to how often they are searched
+     */
+    public boolean isAdaptiveRefreshEnabled() {
+        return adaptiveRefreshEnabled;
+    }
+
+    /**
+     * Returns the longest interval between two scheduled refreshes of a shard that adapts its refresh interval
+     */
+    public TimeValue getAdaptiveRefreshMaxInterval() {
+        return adaptiveRefreshMaxInterval;
+    }
+
     public String getDefaultPipeline() {
         return defaultPipeline;
     }
@@ -121,6 +121,10 @@ public class LogByteSizeMergePolicyProvider implements MergePolicyProvider {
         return mergesEnabled ? logByteSizeMergePolicy : NoMergePolicy.INSTANCE;
     }
 
+    LogByteSizeMergePolicy getLogByteSizeMergePolicy() {
+        return logByteSizeMergePolicy;
+    }
+
     void setLBSMergeFactor(int mergeFactor) {
         logByteSizeMergePolicy.setMergeFactor(mergeFactor);
     }
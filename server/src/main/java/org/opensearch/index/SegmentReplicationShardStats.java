@@ -8,6 +8,7 @@
 
 package org.opensearch.index;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -35,6 +36,8 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
     // doesn't include time taken by primary to upload data to remote store.
     private final long currentReplicationTimeMillis;
     private final long lastCompletedReplicationTimeMillis;
+    // Size of the segment files that the last completed replication added to the replica.
+    private final long lastCompletedReplicationBytes;
 
     @Nullable
     private SegmentReplicationState currentReplicationState;
@@ -46,6 +49,26 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         long currentReplicationTimeMillis,
         long currentReplicationLagMillis,
         long lastCompletedReplicationTime
+    ) {
+        this(
+            allocationId,
+            checkpointsBehindCount,
+            bytesBehindCount,
+            currentReplicationTimeMillis,
+            currentReplicationLagMillis,
+            lastCompletedReplicationTime,
+            0
+        );
+    }
+
+    public SegmentReplicationShardStats(
+        String allocationId,
+        long checkpointsBehindCount,
+        long bytesBehindCount,
+        long currentReplicationTimeMillis,
+        long currentReplicationLagMillis,
+        long lastCompletedReplicationTime,
+        long lastCompletedReplicationBytes
     ) {
         this.allocationId = allocationId;
         this.checkpointsBehindCount = checkpointsBehindCount;
@@ -53,6 +76,7 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = currentReplicationTimeMillis;
         this.currentReplicationLagMillis = currentReplicationLagMillis;
         this.lastCompletedReplicationTimeMillis = lastCompletedReplicationTime;
+        this.lastCompletedReplicationBytes = lastCompletedReplicationBytes;
     }
 
     public SegmentReplicationShardStats(StreamInput in) throws IOException {
@@ -62,6 +86,11 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = in.readVLong();
         this.lastCompletedReplicationTimeMillis = in.readVLong();
         this.currentReplicationLagMillis = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_2_11_1)) {
+            this.lastCompletedReplicationBytes = in.readVLong();
+        } else {
+            this.lastCompletedReplicationBytes = 0;
+        }
     }
 
     public String getAllocationId() {
@@ -97,6 +126,14 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         return lastCompletedReplicationTimeMillis;
     }
 
+    /**
+     * Size of the segment files that the last completed replication added to the replica.
+     * @return lastCompletedReplicationBytes
+     */
+    public long getLastCompletedReplicationBytes() {
+        return lastCompletedReplicationBytes;
+    }
+
     public void setCurrentReplicationState(SegmentReplicationState currentReplicationState) {
         this.currentReplicationState = currentReplicationState;
     }
@@ -115,6 +152,7 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         builder.field("current_replication_time", new TimeValue(currentReplicationTimeMillis));
         builder.field("current_replication_lag", new TimeValue(currentReplicationLagMillis));
         builder.field("last_completed_replication_time", new TimeValue(lastCompletedReplicationTimeMillis));
+        builder.field("last_completed_replication_bytes", new ByteSizeValue(lastCompletedReplicationBytes).toString());
         if (currentReplicationState != null) {
             builder.startObject();
             currentReplicationState.toXContent(builder, params);
@@ -132,6 +170,9 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         out.writeVLong(currentReplicationTimeMillis);
         out.writeVLong(lastCompletedReplicationTimeMillis);
         out.writeVLong(currentReplicationLagMillis);
+        if (out.getVersion().onOrAfter(Version.V_2_11_1)) {
+            out.writeVLong(lastCompletedReplicationBytes);
+        }
     }
 
     @Override
@@ -149,6 +190,8 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
             + currentReplicationTimeMillis
             + ", lastCompletedReplicationTimeMillis="
             + lastCompletedReplicationTimeMillis
+            + ", lastCompletedReplicationBytes="
+            + lastCompletedReplicationBytes
             + ", currentReplicationState="
             + currentReplicationState
             + '}';
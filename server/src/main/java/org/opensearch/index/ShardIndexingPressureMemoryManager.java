@@ -25,7 +25,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongSupplier;
-import java.util.function.ToLongFunction;
 
 /**
  * The Shard Indexing Pressure Memory Manager is the construct responsible for increasing and decreasing the allocated shard limit
@@ -206,11 +205,11 @@ public class ShardIndexingPressureMemoryManager {
 
         if (shardMemoryLimitsBreached) {
             BooleanSupplier increaseShardLimitSupplier = () -> increaseShardLimits(
-                tracker.getShardId(),
+                tracker,
                 this.shardIndexingPressureSettings.getNodePrimaryAndCoordinatingLimits(),
                 () -> tracker.getCommonOperationTracker().getCurrentCombinedCoordinatingAndPrimaryBytes(),
                 tracker::getPrimaryAndCoordinatingLimits,
-                ShardIndexingPressureTracker::getPrimaryAndCoordinatingLimits,
+                shardIndexingPressureStore::getHotStorePrimaryAndCoordinatingLimits,
                 tracker::compareAndSetPrimaryAndCoordinatingLimits
             );
 
@@ -253,11 +252,11 @@ public class ShardIndexingPressureMemoryManager {
 
         if (shardMemoryLimitsBreached) {
             BooleanSupplier increaseShardLimitSupplier = () -> increaseShardLimits(
-                tracker.getShardId(),
+                tracker,
                 this.shardIndexingPressureSettings.getNodePrimaryAndCoordinatingLimits(),
                 () -> tracker.getCommonOperationTracker().getCurrentCombinedCoordinatingAndPrimaryBytes(),
                 tracker::getPrimaryAndCoordinatingLimits,
-                ShardIndexingPressureTracker::getPrimaryAndCoordinatingLimits,
+                shardIndexingPressureStore::getHotStorePrimaryAndCoordinatingLimits,
                 tracker::compareAndSetPrimaryAndCoordinatingLimits
             );
 
@@ -300,11 +299,11 @@ public class ShardIndexingPressureMemoryManager {
 
         if (shardMemoryLimitsBreached) {
             BooleanSupplier increaseShardLimitSupplier = () -> increaseShardLimits(
-                tracker.getShardId(),
+                tracker,
                 this.shardIndexingPressureSettings.getNodeReplicaLimits(),
                 () -> tracker.getReplicaOperationTracker().getStatsTracker().getCurrentBytes(),
                 tracker::getReplicaLimits,
-                ShardIndexingPressureTracker::getReplicaLimits,
+                shardIndexingPressureStore::getHotStoreReplicaLimits,
                 tracker::compareAndSetReplicaLimits
             );
 
@@ -428,14 +427,19 @@ public class ShardIndexingPressureMemoryManager {
         }
     }
 
+    /**
+     * The new shard limit is checked against the sum of the limits that the hot store keeps, rather than by adding up the limits of
+     * all the trackers in it.
+     */
     private boolean increaseShardLimits(
-        ShardId shardId,
+        ShardIndexingPressureTracker tracker,
         long nodeLimit,
         LongSupplier shardCurrentBytesSupplier,
         LongSupplier shardLimitSupplier,
-        ToLongFunction<ShardIndexingPressureTracker> getShardLimitFunction,
+        LongSupplier hotStoreShardLimitsSupplier,
         BiPredicate<Long, Long> updateShardLimitPredicate
     ) {
+        ShardId shardId = tracker.getShardId();
         long currentShardLimit;
         long newShardLimit;
         do {
@@ -444,13 +448,10 @@ public class ShardIndexingPressureMemoryManager {
 
             if (((double) shardCurrentBytes / currentShardLimit) > this.upperOperatingFactor) {
                 newShardLimit = (long) (shardCurrentBytes / this.optimalOperatingFactor);
-                long totalShardLimitsExceptCurrentShard = this.shardIndexingPressureStore.getShardIndexingPressureHotStore()
-                    .entrySet()
-                    .stream()
-                    .filter(entry -> (shardId != entry.getKey()))
-                    .map(Map.Entry::getValue)
-                    .mapToLong(getShardLimitFunction)
-                    .sum();
+                long totalShardLimitsExceptCurrentShard = hotStoreShardLimitsSupplier.getAsLong();
+                if (tracker.isInHotStore()) {
+                    totalShardLimitsExceptCurrentShard -= currentShardLimit;
+                }
 
                 if (totalShardLimitsExceptCurrentShard + newShardLimit > nodeLimit) {
                     logger.debug(
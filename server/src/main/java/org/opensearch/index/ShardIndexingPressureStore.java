@@ -14,6 +14,7 @@ import org.opensearch.core.index.shard.ShardId;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BooleanSupplier;
 
 import static java.util.Objects.isNull;
@@ -61,6 +62,9 @@ public class ShardIndexingPressureStore {
     private final Map<ShardId, ShardIndexingPressureTracker> shardIndexingPressureHotStore = ConcurrentCollections
         .newConcurrentMapWithAggressiveConcurrency();
     private final Map<ShardId, ShardIndexingPressureTracker> shardIndexingPressureColdStore = new HashMap<>();
+    // Sums of the limits of the trackers in the hot store, kept up to date by the trackers themselves
+    private final AtomicLong hotStorePrimaryAndCoordinatingLimits = new AtomicLong();
+    private final AtomicLong hotStoreReplicaLimits = new AtomicLong();
     private final ShardIndexingPressureSettings shardIndexingPressureSettings;
 
     private volatile int maxColdStoreSize;
@@ -82,19 +86,23 @@ public class ShardIndexingPressureStore {
             tracker = shardIndexingPressureColdStore.get(shardId);
             // If not already present in cold store instantiate a new one
             if (isNull(tracker)) {
-                tracker = shardIndexingPressureHotStore.computeIfAbsent(
-                    shardId,
-                    (k) -> new ShardIndexingPressureTracker(
+                tracker = shardIndexingPressureHotStore.computeIfAbsent(shardId, (k) -> {
+                    ShardIndexingPressureTracker newTracker = new ShardIndexingPressureTracker(
                         shardId,
                         this.shardIndexingPressureSettings.getShardPrimaryAndCoordinatingBaseLimits(),
                         this.shardIndexingPressureSettings.getShardReplicaBaseLimits()
-                    )
-                );
+                    );
+                    newTracker.enterHotStore(hotStorePrimaryAndCoordinatingLimits, hotStoreReplicaLimits);
+                    return newTracker;
+                });
                 // Write through into the cold store for future reference
                 updateShardIndexingPressureColdStore(tracker);
             } else {
                 // Attempt update tracker to the hot store and return the tracker which finally made to the hot store to avoid any race
                 ShardIndexingPressureTracker newTracker = shardIndexingPressureHotStore.putIfAbsent(shardId, tracker);
+                if (newTracker == null) {
+                    tracker.enterHotStore(hotStorePrimaryAndCoordinatingLimits, hotStoreReplicaLimits);
+                }
                 tracker = newTracker == null ? tracker : newTracker;
             }
         }
@@ -114,10 +122,26 @@ public class ShardIndexingPressureStore {
             // Try inserting into cold store again in case there was an eviction triggered
             shardIndexingPressureColdStore.putIfAbsent(tracker.getShardId(), tracker);
             // Remove from the hot store
-            shardIndexingPressureHotStore.remove(tracker.getShardId(), tracker);
+            if (shardIndexingPressureHotStore.remove(tracker.getShardId(), tracker)) {
+                tracker.leaveHotStore();
+            }
         }
     }
 
+    /**
+     * Returns the sum of the primary and coordinating limits of all the trackers in the hot store.
+     */
+    public long getHotStorePrimaryAndCoordinatingLimits() {
+        return hotStorePrimaryAndCoordinatingLimits.get();
+    }
+
+    /**
+     * Returns the sum of the replica limits of all the trackers in the hot store.
+     */
+    public long getHotStoreReplicaLimits() {
+        return hotStoreReplicaLimits.get();
+    }
+
     /**
      * This is used to update the reference of tracker in cold store, to be re-used later of tracker is removed from hot store upon request
      * completion. When the cold store size reaches maximum, all the tracker objects in cold store are flushed. Flush is a less frequent
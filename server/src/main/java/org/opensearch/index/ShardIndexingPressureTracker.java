@@ -36,16 +36,29 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class ShardIndexingPressureTracker {
 
+    // The limits are kept in the lower bits of their state, and in the upper bits how many times the tracker was put into the hot
+    // store without being removed since. That count is one while the tracker is in the hot store, and only goes past one, or below
+    // zero, while its removal races with the next insertion. As the limits and the count change in a single atomic update, every
+    // change of the limits is applied to the node level sums of the hot store exactly once, without locking the tracker.
+    private static final int LIMITS_BITS = 48;
+    private static final long LIMITS_MASK = (1L << LIMITS_BITS) - 1;
+    private static final long HOT_STORE_COUNT_UNIT = 1L << LIMITS_BITS;
+
     private final ShardId shardId;
     private final AtomicLong primaryAndCoordinatingLimits;
     private final AtomicLong replicaLimits;
 
+    // The node level sums of the shard limits in the hot store, set before the tracker enters it for the first time
+    private volatile AtomicLong hotStorePrimaryAndCoordinatingLimits;
+    private volatile AtomicLong hotStoreReplicaLimits;
+
     private final OperationTracker coordinatingOperationTracker = new OperationTracker();
     private final OperationTracker primaryOperationTracker = new OperationTracker();
     private final OperationTracker replicaOperationTracker = new OperationTracker();
     private final CommonOperationTracker commonOperationTracker = new CommonOperationTracker();
 
     public ShardIndexingPressureTracker(ShardId shardId, long initialPrimaryAndCoordinatingLimits, long initialReplicaLimits) {
+        assert isValidLimits(initialPrimaryAndCoordinatingLimits) && isValidLimits(initialReplicaLimits);
         this.shardId = shardId;
         this.primaryAndCoordinatingLimits = new AtomicLong(initialPrimaryAndCoordinatingLimits);
         this.replicaLimits = new AtomicLong(initialReplicaLimits);
@@ -56,19 +69,76 @@ public class ShardIndexingPressureTracker {
     }
 
     public long getPrimaryAndCoordinatingLimits() {
-        return primaryAndCoordinatingLimits.get();
+        return limits(primaryAndCoordinatingLimits.get());
     }
 
     public boolean compareAndSetPrimaryAndCoordinatingLimits(long expectedValue, long newValue) {
-        return primaryAndCoordinatingLimits.compareAndSet(expectedValue, newValue);
+        return compareAndSetLimits(primaryAndCoordinatingLimits, hotStorePrimaryAndCoordinatingLimits, expectedValue, newValue);
     }
 
     public long getReplicaLimits() {
-        return replicaLimits.get();
+        return limits(replicaLimits.get());
     }
 
     public boolean compareAndSetReplicaLimits(long expectedValue, long newValue) {
-        return replicaLimits.compareAndSet(expectedValue, newValue);
+        return compareAndSetLimits(replicaLimits, hotStoreReplicaLimits, expectedValue, newValue);
+    }
+
+    boolean isInHotStore() {
+        return hotStoreCount(primaryAndCoordinatingLimits.get()) > 0;
+    }
+
+    /**
+     * Adds the limits of the tracker to the given node level sums, which then follow any change of the limits until the
+     * tracker leaves the hot store again.
+     */
+    void enterHotStore(AtomicLong hotStorePrimaryAndCoordinatingLimits, AtomicLong hotStoreReplicaLimits) {
+        this.hotStorePrimaryAndCoordinatingLimits = hotStorePrimaryAndCoordinatingLimits;
+        this.hotStoreReplicaLimits = hotStoreReplicaLimits;
+        updateHotStoreCount(primaryAndCoordinatingLimits, hotStorePrimaryAndCoordinatingLimits, HOT_STORE_COUNT_UNIT);
+        updateHotStoreCount(replicaLimits, hotStoreReplicaLimits, HOT_STORE_COUNT_UNIT);
+    }
+
+    void leaveHotStore() {
+        updateHotStoreCount(primaryAndCoordinatingLimits, hotStorePrimaryAndCoordinatingLimits, -HOT_STORE_COUNT_UNIT);
+        updateHotStoreCount(replicaLimits, hotStoreReplicaLimits, -HOT_STORE_COUNT_UNIT);
+    }
+
+    private static boolean compareAndSetLimits(AtomicLong state, AtomicLong hotStoreLimits, long expectedValue, long newValue) {
+        assert isValidLimits(newValue) : "invalid shard limits [" + newValue + "]";
+        long currentState;
+        do {
+            currentState = state.get();
+            if (limits(currentState) != expectedValue) {
+                return false;
+            }
+        } while (state.compareAndSet(currentState, currentState - expectedValue + newValue) == false);
+        if (hotStoreCount(currentState) > 0) {
+            hotStoreLimits.addAndGet(newValue - expectedValue);
+        }
+        return true;
+    }
+
+    private static void updateHotStoreCount(AtomicLong state, AtomicLong hotStoreLimits, long delta) {
+        long previousState = state.getAndAdd(delta);
+        long hotStoreCount = hotStoreCount(previousState + delta);
+        if (delta > 0 && hotStoreCount == 1) {
+            hotStoreLimits.addAndGet(limits(previousState));
+        } else if (delta < 0 && hotStoreCount == 0) {
+            hotStoreLimits.addAndGet(-limits(previousState));
+        }
+    }
+
+    private static long limits(long state) {
+        return state & LIMITS_MASK;
+    }
+
+    private static long hotStoreCount(long state) {
+        return state >> LIMITS_BITS;
+    }
+
+    private static boolean isValidLimits(long limits) {
+        return limits >= 0 && limits <= LIMITS_MASK;
     }
 
     public OperationTracker getCoordinatingOperationTracker() {
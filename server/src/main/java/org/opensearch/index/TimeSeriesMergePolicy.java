@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.lucene.index.FilterMergePolicy;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.MergeTrigger;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.opensearch.cluster.metadata.DataStream;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A merge policy for indices that are appended to in timestamp order, such as the backing indices of data streams. The
+ * timestamp field is {@link DataStream#TIMESERIES_FIELDNAME} unless {@link TimeSeriesMergePolicyProvider#TIMESTAMP_FIELD_SETTING}
+ * names another one. It hands the segments to the wrapped {@link org.apache.lucene.index.LogByteSizeMergePolicy}
+ * ordered by the time range they cover rather than by the order they were written in, so that the adjacent segments the
+ * wrapped policy merges together also cover adjacent time ranges and merged segments keep narrow ranges that range
+ * queries on the timestamp can skip.
+ * <p>
+ * The time range of a segment is read from the {@link #MIN_TIMESTAMP_ATTRIBUTE} and {@link #MAX_TIMESTAMP_ATTRIBUTE}
+ * attributes that the engine records when it merges segments. Flushed segments don't carry these attributes yet and are
+ * ordered after all merged segments, as they hold the most recent documents of an append-mostly index.
+ * <p>
+ * Segments that only hold documents older than {@link TimeSeriesMergePolicyProvider#MAX_MERGE_AGE_SETTING} are no longer
+ * picked for natural merges, so that old data that is not written to anymore isn't rewritten again and again. Forced
+ * merges still merge them. The age is computed from the recorded bounds, which are converted to milliseconds since the epoch
+ * through the resolution the timestamp field is mapped with.
+ *
+ * @opensearch.internal
+ */
+public final class TimeSeriesMergePolicy extends FilterMergePolicy {
+
+    /**
+     * The segment attribute that holds the smallest value of the timestamp field of a merged segment.
+     */
+    public static final String MIN_TIMESTAMP_ATTRIBUTE = "opensearch.timestamp.min";
+
+    /**
+     * The segment attribute that holds the largest value of the timestamp field of a merged segment.
+     */
+    public static final String MAX_TIMESTAMP_ATTRIBUTE = "opensearch.timestamp.max";
+
+    private static final Comparator<SegmentCommitInfo> BY_MIN_TIMESTAMP = Comparator.comparingLong(
+        info -> timestampAttribute(info.info, MIN_TIMESTAMP_ATTRIBUTE, Long.MAX_VALUE)
+    );
+
+    private final String timestampField;
+    private final LongSupplier nowInMillis;
+    private volatile long maxMergeAgeMillis;
+    private volatile Function<String, MappedFieldType> fieldTypeLookup = field -> null;
+
+    public TimeSeriesMergePolicy(MergePolicy in, String timestampField, long maxMergeAgeMillis, LongSupplier nowInMillis) {
+        super(in);
+        this.timestampField = timestampField;
+        this.maxMergeAgeMillis = maxMergeAgeMillis;
+        this.nowInMillis = nowInMillis;
+    }
+
+    /**
+     * Returns the name of the field whose bounds are recorded for every merged segment.
+     */
+    public String getTimestampField() {
+        return timestampField;
+    }
+
+    /**
+     * Returns the resolution the timestamp field is mapped with, or {@code null} if it isn't mapped as a date.
+     */
+    public DateFieldMapper.Resolution getTimestampResolution() {
+        final MappedFieldType fieldType = fieldTypeLookup.apply(timestampField);
+        return fieldType instanceof DateFieldMapper.DateFieldType ? ((DateFieldMapper.DateFieldType) fieldType).resolution() : null;
+    }
+
+    void setFieldTypeLookup(Function<String, MappedFieldType> fieldTypeLookup) {
+        this.fieldTypeLookup = fieldTypeLookup;
+    }
+
+    void setMaxMergeAgeMillis(long maxMergeAgeMillis) {
+        this.maxMergeAgeMillis = maxMergeAgeMillis;
+    }
+
+    long getMaxMergeAgeMillis() {
+        return maxMergeAgeMillis;
+    }
+
+    @Override
+    public MergeSpecification findMerges(MergeTrigger mergeTrigger, SegmentInfos segmentInfos, MergeContext mergeContext)
+        throws IOException {
+        return in.findMerges(mergeTrigger, mergeCandidates(segmentInfos), mergeContext);
+    }
+
+    /**
+     * Returns the segments that may be merged naturally, ordered by the smallest timestamp they hold.
+     */
+    SegmentInfos mergeCandidates(SegmentInfos segmentInfos) {
+        final long maxMergeAge = maxMergeAgeMillis;
+        final long oldestMergedTimestamp = maxMergeAge > 0 ? nowInMillis.getAsLong() - maxMergeAge : Long.MIN_VALUE;
+        final List<SegmentCommitInfo> candidates = new ArrayList<>(segmentInfos.size());
+        for (SegmentCommitInfo info : segmentInfos) {
+            if (timestampAttribute(info.info, MAX_TIMESTAMP_ATTRIBUTE, Long.MAX_VALUE) >= oldestMergedTimestamp) {
+                candidates.add(info);
+            }
+        }
+        // stable, so that segments without time range keep the order they were written in
+        candidates.sort(BY_MIN_TIMESTAMP);
+        final SegmentInfos sorted = new SegmentInfos(segmentInfos.getIndexCreatedVersionMajor());
+        sorted.addAll(candidates);
+        return sorted;
+    }
+
+    private static long timestampAttribute(SegmentInfo info, String attribute, long missingValue) {
+        final String value = info.getAttribute(attribute);
+        return value == null ? missingValue : Long.parseLong(value);
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSeriesMergePolicy{timestampField=" + timestampField + ", maxMergeAgeMillis=" + maxMergeAgeMillis + ", in=" + in + '}';
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.NoMergePolicy;
+import org.opensearch.cluster.metadata.DataStream;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.mapper.MappedFieldType;
+
+import java.util.function.Function;
+
+/**
+ * Provides the {@link TimeSeriesMergePolicy}, which merges the segments of indices with timestamps by the time range they
+ * cover. Segments are merged by a {@link org.apache.lucene.index.LogByteSizeMergePolicy} that is configured by the
+ * settings of the {@link LogByteSizeMergePolicyProvider}, so the <code>index.merge.log_byte_size_policy.*</code> settings
+ * apply to this policy as well.
+ *
+ * @opensearch.internal
+ */
+public class TimeSeriesMergePolicyProvider implements MergePolicyProvider {
+
+    public static final Setting<TimeValue> MAX_MERGE_AGE_SETTING = Setting.timeSetting(
+        "index.merge.time_series_policy.max_merge_age",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Setting.Property.Dynamic,
+        Setting.Property.IndexScope
+    );
+
+    public static final Setting<String> TIMESTAMP_FIELD_SETTING = Setting.simpleString(
+        "index.merge.time_series_policy.timestamp_field",
+        DataStream.TIMESERIES_FIELDNAME,
+        Setting.Property.Final,
+        Setting.Property.IndexScope
+    );
+
+    private final boolean mergesEnabled;
+    private final TimeSeriesMergePolicy timeSeriesMergePolicy;
+
+    TimeSeriesMergePolicyProvider(IndexSettings indexSettings, LogByteSizeMergePolicyProvider logByteSizeMergePolicyProvider) {
+        this.mergesEnabled = indexSettings.getSettings().getAsBoolean(INDEX_MERGE_ENABLED, true);
+        this.timeSeriesMergePolicy = new TimeSeriesMergePolicy(
+            logByteSizeMergePolicyProvider.getLogByteSizeMergePolicy(),
+            indexSettings.getValue(TIMESTAMP_FIELD_SETTING),
+            indexSettings.getValue(MAX_MERGE_AGE_SETTING).millis(),
+            System::currentTimeMillis
+        );
+    }
+
+    @Override
+    public MergePolicy getMergePolicy() {
+        return mergesEnabled ? timeSeriesMergePolicy : NoMergePolicy.INSTANCE;
+    }
+
+    void setFieldTypeLookup(Function<String, MappedFieldType> fieldTypeLookup) {
+        timeSeriesMergePolicy.setFieldTypeLookup(fieldTypeLookup);
+    }
+
+    void setMaxMergeAge(TimeValue maxMergeAge) {
+        timeSeriesMergePolicy.setMaxMergeAgeMillis(maxMergeAge.millis());
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSeriesMergePolicyProvider{maxMergeAgeMillis=" + timeSeriesMergePolicy.getMaxMergeAgeMillis() + '}';
+    }
+}
@@ -47,9 +47,22 @@ public final class ShardRequestCache {
     final CounterMetric totalMetric = new CounterMetric();
     final CounterMetric hitCount = new CounterMetric();
     final CounterMetric missCount = new CounterMetric();
+    final CounterMetric diskEvictionsMetric = new CounterMetric();
+    final CounterMetric diskTotalMetric = new CounterMetric();
+    final CounterMetric diskHitCount = new CounterMetric();
+    final CounterMetric diskMissCount = new CounterMetric();
 
     public RequestCacheStats stats() {
-        return new RequestCacheStats(totalMetric.count(), evictionsMetric.count(), hitCount.count(), missCount.count());
+        return new RequestCacheStats(
+            totalMetric.count(),
+            evictionsMetric.count(),
+            hitCount.count(),
+            missCount.count(),
+            diskTotalMetric.count(),
+            diskEvictionsMetric.count(),
+            diskHitCount.count(),
+            diskMissCount.count()
+        );
     }
 
     public void onHit() {
@@ -77,4 +90,23 @@ public final class ShardRequestCache {
         }
         totalMetric.dec(dec);
     }
+
+    public void onDiskHit() {
+        diskHitCount.inc();
+    }
+
+    public void onDiskMiss() {
+        diskMissCount.inc();
+    }
+
+    public void onDiskCached(long sizeInBytes) {
+        diskTotalMetric.inc(sizeInBytes);
+    }
+
+    public void onDiskRemoval(long sizeInBytes, boolean evicted) {
+        if (evicted) {
+            diskEvictionsMetric.inc();
+        }
+        diskTotalMetric.dec(sizeInBytes);
+    }
 }
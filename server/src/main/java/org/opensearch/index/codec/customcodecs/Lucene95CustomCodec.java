@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.lucene95.Lucene95Codec;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.index.codec.CodecSettings;
+import org.opensearch.index.codec.PerFieldMappingPostingFormatCodec;
+import org.opensearch.index.engine.EngineConfig;
+import org.opensearch.index.mapper.MapperService;
+
+/**
+ * Extends {@link FilterCodec} to reuse the functionality of {@link Lucene95Codec} while replacing the stored fields format
+ * with one that compresses stored fields with Zstandard. Only the stored fields format differs from the delegate, which
+ * is a {@link PerFieldMappingPostingFormatCodec} when a {@link MapperService} is available.
+ *
+ * @opensearch.internal
+ */
+public abstract class Lucene95CustomCodec extends FilterCodec implements CodecSettings {
+
+    public static final int DEFAULT_COMPRESSION_LEVEL = 3;
+
+    /**
+     * The stored fields compression modes
+     *
+     * @opensearch.internal
+     */
+    public enum Mode {
+        /** Zstandard with a dictionary built from the start of each block of documents */
+        ZSTD("ZSTD"),
+        /** Zstandard without a dictionary */
+        ZSTD_NO_DICT("ZSTDNODICT");
+
+        private final String codec;
+
+        Mode(String codec) {
+            this.codec = codec;
+        }
+
+        /**
+         * Returns the name the codec of this mode is registered with
+         */
+        public String getCodec() {
+            return codec;
+        }
+    }
+
+    private final StoredFieldsFormat storedFieldsFormat;
+
+    /**
+     * Creates a new compression codec with the default compression level.
+     *
+     * @param mode The compression codec (ZSTD or ZSTDNODICT).
+     */
+    public Lucene95CustomCodec(Mode mode) {
+        this(mode, DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a new compression codec with the given compression level. Higher compression levels give better compression
+     * ratios at the cost of slower compression, decompression speed is mostly unaffected.
+     *
+     * @param mode The compression codec (ZSTD or ZSTDNODICT).
+     * @param compressionLevel The compression level.
+     */
+    public Lucene95CustomCodec(Mode mode, int compressionLevel) {
+        super(mode.getCodec(), new Lucene95Codec());
+        this.storedFieldsFormat = new Lucene95CustomStoredFieldsFormat(mode, compressionLevel);
+    }
+
+    /**
+     * Creates a new compression codec that looks up the postings format of each field in the mappings.
+     *
+     * @param mode The compression codec (ZSTD or ZSTDNODICT).
+     * @param compressionLevel The compression level.
+     * @param mapperService The mapper service.
+     * @param logger The logger.
+     */
+    public Lucene95CustomCodec(Mode mode, int compressionLevel, MapperService mapperService, Logger logger) {
+        super(mode.getCodec(), new PerFieldMappingPostingFormatCodec(Lucene95Codec.Mode.BEST_SPEED, mapperService, logger));
+        this.storedFieldsFormat = new Lucene95CustomStoredFieldsFormat(mode, compressionLevel);
+    }
+
+    @Override
+    public StoredFieldsFormat storedFieldsFormat() {
+        return storedFieldsFormat;
+    }
+
+    @Override
+    public boolean supports(Setting<?> setting) {
+        return setting.equals(EngineConfig.INDEX_CODEC_COMPRESSION_LEVEL_SETTING);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
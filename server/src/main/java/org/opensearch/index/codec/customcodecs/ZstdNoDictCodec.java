@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.logging.log4j.Logger;
+import org.opensearch.index.mapper.MapperService;
+
+/**
+ * {@link Lucene95CustomCodec} that compresses stored fields with Zstandard, without a dictionary.
+ *
+ * @opensearch.internal
+ */
+public class ZstdNoDictCodec extends Lucene95CustomCodec {
+
+    /**
+     * Creates a new codec with the default compression level. Also used to read segments through the codec SPI.
+     */
+    public ZstdNoDictCodec() {
+        this(DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a new codec with the given compression level.
+     *
+     * @param compressionLevel The compression level.
+     */
+    public ZstdNoDictCodec(int compressionLevel) {
+        super(Mode.ZSTD_NO_DICT, compressionLevel);
+    }
+
+    /**
+     * Creates a new codec with the given compression level that looks up the postings format of each field in the mappings.
+     *
+     * @param mapperService The mapper service.
+     * @param logger The logger.
+     * @param compressionLevel The compression level.
+     */
+    public ZstdNoDictCodec(MapperService mapperService, Logger logger, int compressionLevel) {
+        super(Mode.ZSTD_NO_DICT, compressionLevel, mapperService, logger);
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.core.common.util.ByteArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link LiveVersionMap.VersionTable} that stores the versions inline in paged arrays rather than as objects. Each
+ * segment of the table is an open-addressing hash over the ordinals of its ids: the id bytes are appended to a
+ * {@link ByteArray} and the version, seq# and term of each id, as well as its translog location or delete timestamp, are
+ * stored in a {@link LongArray} at the ordinal of the id, so that there are no objects per entry. The slots of the hash
+ * hold the hash of the id next to its ordinal. The version values are
+ * materialized on lookup.
+ * <p>
+ * Writes lock the segment of the id, so that concurrent operations on different ids rarely contend. Lookups don't lock at
+ * all. A segment never resizes its arrays in place: once they are full it copies the live entries into bigger ones and
+ * publishes those through a volatile field. A lookup therefore always probes a complete hash, and the entry of the id it
+ * looks for is visible to it since {@link LiveVersionMap} only reads and writes an id under the lock of that id. Entries of
+ * other ids may be seen half-written, which is why a lookup checks the bounds of what it reads and compares the hash and
+ * the length of an id before its bytes.
+ * <p>
+ * Removing an id only marks its entry as absent, the space is reclaimed when the segment copies its entries. The arrays
+ * are not recycled since lookups may still read from them after they were replaced.
+ *
+ * @opensearch.internal
+ */
+final class CompactVersionTable implements LiveVersionMap.VersionTable {
+
+    private static final int NUM_SEGMENTS = 16;
+
+    /**
+     * The bytes that are reserved per entry for the id up front, the length of an auto-generated id.
+     */
+    private static final int EXPECTED_ID_LENGTH = 20;
+
+    private static final int ABSENT = 0;
+    private static final int INDEX = 1;
+    private static final int INDEX_WITH_LOCATION = 2;
+    private static final int DELETE = 3;
+
+    /**
+     * The longs per entry: the type (and the size of the translog location), version, seq#, term, either the generation
+     * and offset of the translog location or the delete timestamp, and the offset and length of the id.
+     */
+    private static final int LONGS_PER_ENTRY = 7;
+    private static final int META = 0;
+    private static final int VERSION = 1;
+    private static final int SEQ_NO = 2;
+    private static final int TERM = 3;
+    private static final int PAYLOAD_1 = 4;
+    private static final int PAYLOAD_2 = 5;
+    private static final int ID = 6;
+
+    private final Segment[] segments = new Segment[NUM_SEGMENTS];
+
+    CompactVersionTable(int expectedSize) {
+        final long capacity = Math.max(16, expectedSize / NUM_SEGMENTS);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    private Segment segment(BytesRef uid) {
+        return segments[Math.floorMod(uid.hashCode(), NUM_SEGMENTS)];
+    }
+
+    @Override
+    public VersionValue get(BytesRef uid) {
+        return segment(uid).get(uid);
+    }
+
+    @Override
+    public long put(BytesRef uid, VersionValue version) {
+        return segment(uid).put(uid, version);
+    }
+
+    @Override
+    public long remove(BytesRef uid) {
+        segment(uid).remove(uid);
+        return 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long ramBytesUsed = 0;
+        for (Segment segment : segments) {
+            ramBytesUsed += segment.ramBytesUsed();
+        }
+        return ramBytesUsed;
+    }
+
+    @Override
+    public Map<BytesRef, VersionValue> asMap() {
+        final Map<BytesRef, VersionValue> map = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.copyTo(map);
+        }
+        return map;
+    }
+
+    /**
+     * A part of the table, whose writes are guarded by its own monitor.
+     */
+    private static final class Segment {
+
+        private volatile Entries entries;
+        private int size;
+
+        Segment(long capacity) {
+            entries = new Entries(capacity, capacity * EXPECTED_ID_LENGTH);
+        }
+
+        VersionValue get(BytesRef uid) {
+            final Entries entries = this.entries;
+            final long ordinal = entries.find(uid, uid.hashCode());
+            return ordinal < 0 ? null : entries.read(ordinal);
+        }
+
+        synchronized long put(BytesRef uid, VersionValue version) {
+            final int hash = uid.hashCode();
+            Entries entries = this.entries;
+            final long ordinal = entries.find(uid, hash);
+            if (ordinal >= 0) {
+                if (entries.isAbsent(ordinal)) {
+                    size++;
+                }
+                entries.write(ordinal, version);
+                return 0;
+            }
+
+            final long ramBytesUsedBefore = entries.ramBytesUsed();
+            if (entries.hasRoomFor(uid.length) == false) {
+                entries = entries.copyLiveEntries(uid.length);
+                this.entries = entries;
+            }
+            entries.add(uid, hash, version);
+            size++;
+            return entries.ramBytesUsed() - ramBytesUsedBefore;
+        }
+
+        synchronized void remove(BytesRef uid) {
+            final long ordinal = entries.find(uid, uid.hashCode());
+            if (ordinal >= 0 && entries.isAbsent(ordinal) == false) {
+                entries.markAbsent(ordinal);
+                size--;
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long ramBytesUsed() {
+            return entries.ramBytesUsed();
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> map) {
+            entries.copyTo(map);
+        }
+    }
+
+    /**
+     * The arrays of a segment, which have a fixed capacity so that lookups never read past them.
+     */
+    private static final class Entries {
+
+        private final long capacity;
+        private final long mask;
+        // the hash of the id in the upper and the ordinal of its entry plus one in the lower half of a slot, zero if empty
+        private final LongArray slots;
+        private final LongArray values;
+        private final ByteArray ids;
+
+        // only accessed by writers, under the lock of the segment
+        private long numEntries;
+        private long idsSize;
+
+        Entries(long capacity, long idsCapacity) {
+            this.capacity = capacity;
+            // at most half of the slots are used, so that probing for an id that isn't there ends quickly
+            final long numSlots = Long.highestOneBit(capacity * 2 - 1) << 1;
+            this.mask = numSlots - 1;
+            this.slots = BigArrays.NON_RECYCLING_INSTANCE.newLongArray(numSlots, true);
+            this.values = BigArrays.NON_RECYCLING_INSTANCE.newLongArray(capacity * LONGS_PER_ENTRY, false);
+            this.ids = BigArrays.NON_RECYCLING_INSTANCE.newByteArray(idsCapacity, false);
+        }
+
+        long find(BytesRef uid, int hash) {
+            for (long slot = BitMixer.mix32(hash) & mask;; slot = (slot + 1) & mask) {
+                final long value = slots.get(slot);
+                if (value == 0) {
+                    return -1;
+                }
+                final long ordinal = (value & 0xFFFFFFFFL) - 1;
+                if ((int) (value >>> 32) == hash && ordinal >= 0 && ordinal < capacity && matches(ordinal, uid)) {
+                    return ordinal;
+                }
+            }
+        }
+
+        private boolean matches(long ordinal, BytesRef uid) {
+            final long id = values.get(ordinal * LONGS_PER_ENTRY + ID);
+            final long idOffset = id >>> 16;
+            if ((int) (id & 0xFFFF) != uid.length || idOffset > ids.size() - uid.length) {
+                return false;
+            }
+            for (int i = 0; i < uid.length; i++) {
+                if (ids.get(idOffset + i) != uid.bytes[uid.offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean hasRoomFor(int idLength) {
+            return numEntries < capacity && idsSize + idLength <= ids.size();
+        }
+
+        /**
+         * Appends the entry of an id that isn't in the hash yet.
+         */
+        void add(BytesRef uid, int hash, VersionValue version) {
+            assert hasRoomFor(uid.length);
+            assert uid.length <= 0xFFFF : "id of length [" + uid.length + "] is too long";
+            final long ordinal = numEntries++;
+            ids.set(idsSize, uid.bytes, uid.offset, uid.length);
+            values.set(ordinal * LONGS_PER_ENTRY + ID, (idsSize << 16) | uid.length);
+            idsSize += uid.length;
+            write(ordinal, version);
+
+            long slot = BitMixer.mix32(hash) & mask;
+            while (slots.get(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots.set(slot, ((long) hash << 32) | (ordinal + 1));
+        }
+
+        /**
+         * Copies the entries that are not absent into bigger arrays that have room for another id of the given length.
+         */
+        Entries copyLiveEntries(int idLength) {
+            final Entries copy = new Entries(capacity * 2, Math.max(ids.size() * 2, idsSize + idLength));
+            final BytesRef uid = new BytesRef();
+            for (long ordinal = 0; ordinal < numEntries; ordinal++) {
+                final VersionValue value = read(ordinal);
+                if (value != null) {
+                    id(ordinal, uid);
+                    copy.add(uid, uid.hashCode(), value);
+                }
+            }
+            return copy;
+        }
+
+        private BytesRef id(long ordinal, BytesRef ref) {
+            final long id = values.get(ordinal * LONGS_PER_ENTRY + ID);
+            ids.get(id >>> 16, (int) (id & 0xFFFF), ref);
+            return ref;
+        }
+
+        boolean isAbsent(long ordinal) {
+            return values.get(ordinal * LONGS_PER_ENTRY + META) == ABSENT;
+        }
+
+        void markAbsent(long ordinal) {
+            values.set(ordinal * LONGS_PER_ENTRY + META, ABSENT);
+        }
+
+        long ramBytesUsed() {
+            return slots.ramBytesUsed() + values.ramBytesUsed() + ids.ramBytesUsed();
+        }
+
+        void copyTo(Map<BytesRef, VersionValue> map) {
+            for (long ordinal = 0; ordinal < numEntries; ordinal++) {
+                final VersionValue value = read(ordinal);
+                if (value != null) {
+                    map.put(BytesRef.deepCopyOf(id(ordinal, new BytesRef())), value);
+                }
+            }
+        }
+
+        void write(long ordinal, VersionValue version) {
+            final long offset = ordinal * LONGS_PER_ENTRY;
+            values.set(offset + VERSION, version.version);
+            values.set(offset + SEQ_NO, version.seqNo);
+            values.set(offset + TERM, version.term);
+            if (version.isDelete()) {
+                values.set(offset + PAYLOAD_1, ((DeleteVersionValue) version).time);
+                values.set(offset + META, DELETE);
+            } else {
+                final Translog.Location location = version.getLocation();
+                if (location == null) {
+                    values.set(offset + META, INDEX);
+                } else {
+                    values.set(offset + PAYLOAD_1, location.generation);
+                    values.set(offset + PAYLOAD_2, location.translogLocation);
+                    values.set(offset + META, ((long) location.size << 32) | INDEX_WITH_LOCATION);
+                }
+            }
+        }
+
+        VersionValue read(long ordinal) {
+            final long offset = ordinal * LONGS_PER_ENTRY;
+            final long meta = values.get(offset + META);
+            final long version = values.get(offset + VERSION);
+            final long seqNo = values.get(offset + SEQ_NO);
+            final long term = values.get(offset + TERM);
+            switch ((int) meta) {
+                case ABSENT:
+                    return null;
+                case INDEX:
+                    return new IndexVersionValue(null, version, seqNo, term);
+                case INDEX_WITH_LOCATION:
+                    final Translog.Location location = new Translog.Location(
+                        values.get(offset + PAYLOAD_1),
+                        values.get(offset + PAYLOAD_2),
+                        (int) (meta >>> 32)
+                    );
+                    return new IndexVersionValue(location, version, seqNo, term);
+                case DELETE:
+                    return new DeleteVersionValue(version, seqNo, term, values.get(offset + PAYLOAD_1));
+                default:
+                    throw new IllegalStateException("unknown version entry type [" + meta + "]");
+            }
+        }
+    }
+}
@@ -134,6 +134,8 @@ public final class EngineConfig {
             case "lz4":
             case "best_compression":
             case "zlib":
+            case "zstd":
+            case "zstd_no_dict":
             case "lucene_default":
                 return s;
             default:
@@ -152,7 +154,8 @@ public final class EngineConfig {
                 }
 
                 throw new IllegalArgumentException(
-                    "unknown value for [index.codec] must be one of [default, lz4, best_compression, zlib] but was: " + s
+                    "unknown value for [index.codec] must be one of [default, lz4, best_compression, zlib, zstd, zstd_no_dict] but was: "
+                        + s
                 );
         }
     }, Property.IndexScope, Property.NodeScope);
@@ -190,6 +193,9 @@ public final class EngineConfig {
 
     private static void doValidateCodecSettings(final String codec) {
         switch (codec) {
+            case "zstd":
+            case "zstd_no_dict":
+                return;
             case "best_compression":
             case "zlib":
             case "lucene_default":
@@ -234,6 +240,16 @@ public final class EngineConfig {
         Property.Dynamic
     );
 
+    /**
+     * Configures whether the live version map stores the versions of the documents in paged arrays rather than as objects in a map,
+     * which reduces the memory it needs for update heavy workloads.
+     */
+    public static final Setting<Boolean> INDEX_COMPACT_VERSION_MAP_SETTING = Setting.boolSetting(
+        "index.version_map.compact",
+        false,
+        Property.IndexScope
+    );
+
     private final TranslogConfig translogConfig;
 
     private final TranslogFactory translogFactory;
@@ -460,6 +476,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_OPTIMIZE_AUTO_GENERATED_IDS);
     }
 
+    /**
+     * returns true if the live version map of the engine stores the versions in paged arrays
+     */
+    public boolean isCompactVersionMapEnabled() {
+        return indexSettings.getValue(INDEX_COMPACT_VERSION_MAP_SETTING);
+    }
+
     /**
      * Return the sort order of this index, or null if the index has no sort.
      */
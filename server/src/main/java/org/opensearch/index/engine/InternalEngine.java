@@ -91,6 +91,7 @@ import org.opensearch.core.Assertions;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.TimeSeriesMergePolicy;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.fieldvisitor.IdOnlyFieldVisitor;
 import org.opensearch.index.mapper.IdFieldMapper;
@@ -163,7 +164,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    private final LiveVersionMap versionMap = new LiveVersionMap();
+    private final LiveVersionMap versionMap;
 
     private volatile SegmentInfos lastCommittedSegmentInfos;
 
@@ -240,6 +241,7 @@ public class InternalEngine extends Engine {
     ) {
         super(engineConfig);
         this.maxDocs = maxDocs;
+        this.versionMap = new LiveVersionMap(engineConfig.isCompactVersionMapEnabled());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -2485,6 +2487,14 @@ public class InternalEngine extends Engine {
             iwc.setMaxFullFlushMergeWaitMillis(0);
         }
 
+        if (config().getMergePolicy() instanceof TimeSeriesMergePolicy) {
+            final TimeSeriesMergePolicy timeSeriesMergePolicy = (TimeSeriesMergePolicy) config().getMergePolicy();
+            mergePolicy = new TimestampBoundsMergePolicy(
+                timeSeriesMergePolicy.getTimestampField(),
+                timeSeriesMergePolicy::getTimestampResolution,
+                mergePolicy
+            );
+        }
         iwc.setMergePolicy(new OpenSearchMergePolicy(mergePolicy));
         iwc.setSimilarity(engineConfig.getSimilarity());
         iwc.setRAMBufferSizeMB(engineConfig.getIndexingBufferSize().getMbFrac());
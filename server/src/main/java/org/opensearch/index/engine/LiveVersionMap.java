@@ -45,6 +45,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
 
 /**
  * Maps _uid value to its version information.
@@ -55,6 +56,121 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
 
+    /**
+     * Stores the versions of a {@link VersionLookup}. Implementations must be safe for concurrent access to different ids.
+     *
+     * @opensearch.internal
+     */
+    interface VersionTable {
+
+        VersionValue get(BytesRef uid);
+
+        /**
+         * Puts the version of the given id and returns by how much the RAM used by the table changed.
+         */
+        long put(BytesRef uid, VersionValue version);
+
+        /**
+         * Removes the version of the given id and returns by how much the RAM used by the table changed.
+         */
+        long remove(BytesRef uid);
+
+        boolean isEmpty();
+
+        int size();
+
+        /**
+         * The RAM used by the table, or {@code 0} if it is accounted for entry by entry through {@link #put} and {@link #remove}.
+         */
+        long ramBytesUsed();
+
+        Map<BytesRef, VersionValue> asMap();
+    }
+
+    /**
+     * A {@link VersionTable} that holds the versions in a map.
+     *
+     * @opensearch.internal
+     */
+    private static final class MapVersionTable implements VersionTable {
+
+        private final Map<BytesRef, VersionValue> map;
+
+        MapVersionTable(Map<BytesRef, VersionValue> map) {
+            this.map = map;
+        }
+
+        @Override
+        public VersionValue get(BytesRef uid) {
+            return map.get(uid);
+        }
+
+        @Override
+        public long put(BytesRef uid, VersionValue version) {
+            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
+            VersionValue previousValue = map.put(uid, version);
+            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            return ramAccounting;
+        }
+
+        @Override
+        public long remove(BytesRef uid) {
+            VersionValue previousValue = map.remove(uid);
+            if (previousValue == null) {
+                return 0;
+            }
+            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+            return -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return 0;
+        }
+
+        @Override
+        public Map<BytesRef, VersionValue> asMap() {
+            return map;
+        }
+    }
+
+    /**
+     * Creates the version tables, given the expected number of entries.
+     */
+    private final IntFunction<VersionTable> versionTableFactory;
+
+    LiveVersionMap() {
+        this(false);
+    }
+
+    /**
+     * @param compact whether the versions are stored in a {@link CompactVersionTable} rather than in a map
+     */
+    LiveVersionMap(boolean compact) {
+        if (compact) {
+            this.versionTableFactory = CompactVersionTable::new;
+        } else {
+            this.versionTableFactory = expectedSize -> new MapVersionTable(
+                expectedSize == 0
+                    ? ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()
+                    : ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize)
+            );
+        }
+        this.maps = new Maps(versionTableFactory);
+        this.unsafeKeysMap = new Maps(versionTableFactory);
+    }
+
     /**
      * Looks up document version
      *
@@ -67,8 +183,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          *  clear this RAM. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
-        private final Map<BytesRef, VersionValue> map;
+        private static final VersionLookup EMPTY = new VersionLookup(new MapVersionTable(Collections.emptyMap()));
+        private final VersionTable table;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -86,24 +202,26 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
-            this.map = map;
+        private VersionLookup(VersionTable table) {
+            this.table = table;
+            // tables that account for their RAM as a whole start out with their initial capacity
+            this.ramBytesUsed.set(table.ramBytesUsed());
         }
 
         VersionValue get(BytesRef key) {
-            return map.get(key);
+            return table.get(key);
         }
 
-        VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+        long put(BytesRef key, VersionValue value) {
+            return table.put(key, value);
         }
 
         boolean isEmpty() {
-            return map.isEmpty();
+            return table.isEmpty();
         }
 
         int size() {
-            return map.size();
+            return table.size();
         }
 
         boolean isUnsafe() {
@@ -114,8 +232,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             unsafe = true;
         }
 
-        public VersionValue remove(BytesRef uid) {
-            return map.remove(uid);
+        public long remove(BytesRef uid) {
+            return table.remove(uid);
         }
 
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
@@ -143,14 +261,22 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        private final IntFunction<VersionTable> versionTableFactory;
+
+        Maps(
+            VersionLookup current,
+            VersionLookup old,
+            boolean previousMapsNeededSafeAccess,
+            IntFunction<VersionTable> versionTableFactory
+        ) {
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
+            this.versionTableFactory = versionTableFactory;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(IntFunction<VersionTable> versionTableFactory) {
+            this(new VersionLookup(versionTableFactory.apply(0)), VersionLookup.EMPTY, false, versionTableFactory);
         }
 
         boolean isSafeAccessMode() {
@@ -169,9 +295,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          */
         Maps buildTransitionMap() {
             return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
+                new VersionLookup(versionTableFactory.apply(current.size())),
                 current,
-                shouldInheritSafeAccess()
+                shouldInheritSafeAccess(),
+                versionTableFactory
             );
         }
 
@@ -179,15 +306,11 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess, versionTableFactory);
         }
 
         void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
+            adjustRam(current.put(uid, version));
         }
 
         void adjustRam(long value) {
@@ -198,12 +321,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
+            adjustRam(current.remove(uid));
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
-            }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
                 // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
@@ -219,10 +338,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap;
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -443,7 +562,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = new Maps(versionTableFactory);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -482,7 +601,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.table.asMap();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.CodecReader;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.OneMergeWrappingMergePolicy;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.opensearch.index.TimeSeriesMergePolicy;
+import org.opensearch.index.mapper.DateFieldMapper;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Merge policy that records the smallest and largest value of a timestamp field of every merged segment in the
+ * {@link TimeSeriesMergePolicy#MIN_TIMESTAMP_ATTRIBUTE} and {@link TimeSeriesMergePolicy#MAX_TIMESTAMP_ATTRIBUTE} segment
+ * attributes. The bounds are read from the points of the segments that are merged, so they include deleted documents, and are
+ * recorded in milliseconds since the epoch whatever the resolution of the field. No bounds are recorded for a segment whose
+ * timestamp field isn't mapped as a date, or isn't indexed as one dimensional long points.
+ * <p>
+ * This policy must wrap all other {@link OneMergeWrappingMergePolicy}s, as only the merges it returns to the
+ * {@link org.apache.lucene.index.IndexWriter} get the info of the segment they write.
+ *
+ * @opensearch.internal
+ */
+final class TimestampBoundsMergePolicy extends OneMergeWrappingMergePolicy {
+    TimestampBoundsMergePolicy(String timestampField, Supplier<DateFieldMapper.Resolution> resolution, MergePolicy in) {
+        super(in, toWrap -> new OneMerge(toWrap.segments) {
+            private long minTimestamp = Long.MAX_VALUE;
+            private long maxTimestamp = Long.MIN_VALUE;
+
+            @Override
+            public CodecReader wrapForMerge(CodecReader reader) throws IOException {
+                CodecReader wrapped = toWrap.wrapForMerge(reader);
+                PointValues points = wrapped.getPointValues(timestampField);
+                DateFieldMapper.Resolution timestampResolution = resolution.get();
+                SegmentCommitInfo mergeInfo = getMergeInfo();
+                if (points != null
+                    && timestampResolution != null
+                    && points.getNumDimensions() == 1
+                    && points.getBytesPerDimension() == Long.BYTES
+                    && points.size() > 0
+                    && mergeInfo != null) {
+                    minTimestamp = Math.min(minTimestamp, timestampResolution.parsePointAsMillis(points.getMinPackedValue()));
+                    maxTimestamp = Math.max(maxTimestamp, timestampResolution.parsePointAsMillis(points.getMaxPackedValue()));
+                    // the segment info is written once all readers are wrapped and merged
+                    mergeInfo.info.putAttribute(TimeSeriesMergePolicy.MIN_TIMESTAMP_ATTRIBUTE, Long.toString(minTimestamp));
+                    mergeInfo.info.putAttribute(TimeSeriesMergePolicy.MAX_TIMESTAMP_ATTRIBUTE, Long.toString(maxTimestamp));
+                }
+                return wrapped;
+            }
+        });
+    }
+}
@@ -146,6 +146,8 @@ public class DocumentMapper implements ToXContentFragment {
 
     private final DocumentParser documentParser;
 
+    private final DocumentParsePlan parsePlan;
+
     private final MappingLookup fieldMappers;
 
     private final MetadataFieldMapper[] deleteTombstoneMetadataFieldMappers;
@@ -158,6 +160,7 @@ public class DocumentMapper implements ToXContentFragment {
         final IndexSettings indexSettings = mapperService.getIndexSettings();
         this.mapping = mapping;
         this.documentParser = new DocumentParser(indexSettings, mapperService.documentMapperParser(), this);
+        this.parsePlan = DocumentParsePlan.compile(mapping);
 
         final IndexAnalyzers indexAnalyzers = mapperService.getIndexAnalyzers();
         this.fieldMappers = MappingLookup.fromMapping(this.mapping, indexAnalyzers.getDefaultIndexAnalyzer());
@@ -193,6 +196,13 @@ public class DocumentMapper implements ToXContentFragment {
         return mapping;
     }
 
+    /**
+     * The mapped fields compiled for parsing documents, see {@link DocumentParsePlan}.
+     */
+    DocumentParsePlan parsePlan() {
+        return parsePlan;
+    }
+
     public String type() {
         return this.type;
     }
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The mapped fields of a {@link DocumentMapper}, compiled once per mapping so that {@link DocumentParser} can resolve the
+ * fields of a document that are declared in the mapping without splitting their names or building their full path. For
+ * every object of the mapping, including the root and nested objects, it holds the direct children by name together with
+ * the path parts that the parser would otherwise split from the name.
+ * <p>
+ * Only names that resolve to the same mapper regardless of the current path of the parser are compiled: names that contain
+ * dots, and names that would be shadowed by a metadata field at the root, are left to the regular lookup, as are the fields
+ * of objects that are added dynamically while a document is parsed.
+ *
+ * @opensearch.internal
+ */
+final class DocumentParsePlan {
+
+    static final DocumentParsePlan EMPTY = new DocumentParsePlan(Collections.emptyMap());
+
+    private final Map<ObjectMapper, Map<String, Field>> fieldsByObject;
+
+    private DocumentParsePlan(Map<ObjectMapper, Map<String, Field>> fieldsByObject) {
+        this.fieldsByObject = fieldsByObject;
+    }
+
+    /**
+     * Compiles the plan of the given mapping.
+     */
+    static DocumentParsePlan compile(Mapping mapping) {
+        for (MetadataFieldMapper metadataMapper : mapping.metadataMappers) {
+            if (metadataMapper.name().indexOf('.') >= 0) {
+                // the full path of any field could match the name of this metadata field
+                return EMPTY;
+            }
+        }
+        final Map<ObjectMapper, Map<String, Field>> fieldsByObject = new IdentityHashMap<>();
+        compile(mapping.root(), mapping, fieldsByObject);
+        return new DocumentParsePlan(fieldsByObject);
+    }
+
+    private static void compile(ObjectMapper objectMapper, Mapping mapping, Map<ObjectMapper, Map<String, Field>> fieldsByObject) {
+        final Map<String, Field> fields = new HashMap<>();
+        for (Mapper mapper : objectMapper) {
+            final String name = mapper.simpleName();
+            if (name.indexOf('.') < 0 && mapping.getMetadataMapper(name) == null) {
+                fields.put(name, new Field(mapper, new String[] { name }));
+            }
+            if (mapper instanceof ObjectMapper) {
+                compile((ObjectMapper) mapper, mapping, fieldsByObject);
+            }
+        }
+        fieldsByObject.put(objectMapper, fields);
+    }
+
+    /**
+     * Returns the compiled field with the given name in the given object, or {@code null} if the field has to be looked up
+     * by {@link DocumentParser}.
+     */
+    Field field(ObjectMapper objectMapper, String name) {
+        final Map<String, Field> fields = fieldsByObject.get(objectMapper);
+        return fields == null ? null : fields.get(name);
+    }
+
+    /**
+     * A field of an object of the mapping.
+     *
+     * @opensearch.internal
+     */
+    static final class Field {
+        private final Mapper mapper;
+        private final String[] paths;
+
+        private Field(Mapper mapper, String[] paths) {
+            this.mapper = mapper;
+            this.paths = paths;
+        }
+
+        Mapper mapper() {
+            return mapper;
+        }
+
+        /**
+         * The parts of the name of the field, that is its name. The array is shared and must not be modified.
+         */
+        String[] paths() {
+            return paths;
+        }
+    }
+}
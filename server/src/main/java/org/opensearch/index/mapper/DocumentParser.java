@@ -429,15 +429,22 @@ final class DocumentParser {
         try {
             assert token == XContentParser.Token.FIELD_NAME || token == XContentParser.Token.END_OBJECT;
             String[] paths = null;
+            final DocumentParsePlan parsePlan = context.docMapper().parsePlan();
             context.incrementFieldCurrentDepth();
             context.checkFieldDepthLimit();
             while (token != XContentParser.Token.END_OBJECT) {
                 if (token == XContentParser.Token.FIELD_NAME) {
                     currentFieldName = parser.currentName();
-                    paths = splitAndValidatePath(currentFieldName);
-                    if (containsDisabledObjectMapper(mapper, paths)) {
-                        parser.nextToken();
-                        parser.skipChildren();
+                    final DocumentParsePlan.Field field = parsePlan.field(mapper, currentFieldName);
+                    if (field != null) {
+                        // a mapped field of this object, its name has no dots so there is no intermediate object that could be disabled
+                        paths = field.paths();
+                    } else {
+                        paths = splitAndValidatePath(currentFieldName);
+                        if (containsDisabledObjectMapper(mapper, paths)) {
+                            parser.nextToken();
+                            parser.skipChildren();
+                        }
                     }
                 } else if (token == XContentParser.Token.START_OBJECT) {
                     parseObject(context, mapper, currentFieldName, paths);
@@ -985,6 +992,13 @@ final class DocumentParser {
 
     // looks up a child mapper, but takes into account field names that expand to objects
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
+        if (subfields.length == 1) {
+            // mapped fields are resolved by the compiled plan, without building their full path
+            final DocumentParsePlan.Field field = context.docMapper().parsePlan().field(objectMapper, fieldName);
+            if (field != null) {
+                return field.mapper();
+            }
+        }
         String fieldPath = context.path().pathAsText(fieldName);
         // Check if mapper is a metadata mapper first
         Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
@@ -33,6 +33,7 @@
 package org.opensearch.index.refresh;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -63,6 +64,11 @@ public class RefreshStats implements Writeable, ToXContentFragment {
      */
     private int listeners;
 
+    /**
+     * The longest refresh interval picked by a shard that adapts its refresh interval to its search demand.
+     */
+    private long adaptiveIntervalInMillis;
+
     public RefreshStats() {}
 
     public RefreshStats(StreamInput in) throws IOException {
@@ -73,6 +79,9 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             externalTotalTimeInMillis = in.readVLong();
         }
         listeners = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_2_11_1)) {
+            adaptiveIntervalInMillis = in.readVLong();
+        }
     }
 
     @Override
@@ -84,14 +93,29 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             out.writeVLong(externalTotalTimeInMillis);
         }
         out.writeVInt(listeners);
+        if (out.getVersion().onOrAfter(Version.V_2_11_1)) {
+            out.writeVLong(adaptiveIntervalInMillis);
+        }
     }
 
     public RefreshStats(long total, long totalTimeInMillis, long externalTotal, long externalTotalTimeInMillis, int listeners) {
+        this(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners, 0);
+    }
+
+    public RefreshStats(
+        long total,
+        long totalTimeInMillis,
+        long externalTotal,
+        long externalTotalTimeInMillis,
+        int listeners,
+        long adaptiveIntervalInMillis
+    ) {
         this.total = total;
         this.totalTimeInMillis = totalTimeInMillis;
         this.externalTotal = externalTotal;
         this.externalTotalTimeInMillis = externalTotalTimeInMillis;
         this.listeners = listeners;
+        this.adaptiveIntervalInMillis = adaptiveIntervalInMillis;
     }
 
     public void add(RefreshStats refreshStats) {
@@ -107,6 +131,7 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.externalTotal += refreshStats.externalTotal;
         this.externalTotalTimeInMillis += refreshStats.externalTotalTimeInMillis;
         this.listeners += refreshStats.listeners;
+        this.adaptiveIntervalInMillis = Math.max(this.adaptiveIntervalInMillis, refreshStats.adaptiveIntervalInMillis);
     }
 
     /**
@@ -158,6 +183,14 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         return listeners;
     }
 
+    /**
+     * The longest refresh interval picked by a shard that adapts its refresh interval to its search demand (in milliseconds),
+     * or {@code 0} if no shard does.
+     */
+    public long getAdaptiveIntervalInMillis() {
+        return adaptiveIntervalInMillis;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("refresh");
@@ -166,6 +199,9 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         builder.field("external_total", externalTotal);
         builder.humanReadableField("external_total_time_in_millis", "external_total_time", getExternalTotalTime());
         builder.field("listeners", listeners);
+        if (adaptiveIntervalInMillis > 0) {
+            builder.humanReadableField("adaptive_interval_in_millis", "adaptive_interval", new TimeValue(adaptiveIntervalInMillis));
+        }
         builder.endObject();
         return builder;
     }
@@ -180,11 +216,12 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             && totalTimeInMillis == rhs.totalTimeInMillis
             && externalTotal == rhs.externalTotal
             && externalTotalTimeInMillis == rhs.externalTotalTimeInMillis
-            && listeners == rhs.listeners;
+            && listeners == rhs.listeners
+            && adaptiveIntervalInMillis == rhs.adaptiveIntervalInMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners, adaptiveIntervalInMillis);
     }
 }
@@ -143,6 +143,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long concurrentQueryTimeInMillis;
         private long concurrentQueryCurrent;
         private long queryConcurrency;
+        private long querySkippedSegmentCount;
 
         private long fetchCount;
         private long fetchTimeInMillis;
@@ -179,6 +180,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             long concurrentQueryTimeInMillis,
             long concurrentQueryCurrent,
             long queryConcurrency,
+            long querySkippedSegmentCount,
             long fetchCount,
             long fetchTimeInMillis,
             long fetchCurrent,
@@ -201,6 +203,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.concurrentQueryTimeInMillis = concurrentQueryTimeInMillis;
             this.concurrentQueryCurrent = concurrentQueryCurrent;
             this.queryConcurrency = queryConcurrency;
+            this.querySkippedSegmentCount = querySkippedSegmentCount;
 
             this.fetchCount = fetchCount;
             this.fetchTimeInMillis = fetchTimeInMillis;
@@ -252,6 +255,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 concurrentQueryCurrent = in.readVLong();
                 queryConcurrency = in.readVLong();
             }
+            if (in.getVersion().onOrAfter(Version.V_2_11_1)) {
+                querySkippedSegmentCount = in.readVLong();
+            }
         }
 
         public void add(Stats stats) {
@@ -263,6 +269,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             concurrentQueryTimeInMillis += stats.concurrentQueryTimeInMillis;
             concurrentQueryCurrent += stats.concurrentQueryCurrent;
             queryConcurrency += stats.queryConcurrency;
+            querySkippedSegmentCount += stats.querySkippedSegmentCount;
 
             fetchCount += stats.fetchCount;
             fetchTimeInMillis += stats.fetchTimeInMillis;
@@ -303,6 +310,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             pitTimeInMillis += stats.pitTimeInMillis;
             pitCurrent += stats.pitCurrent;
             queryConcurrency += stats.queryConcurrency;
+            querySkippedSegmentCount += stats.querySkippedSegmentCount;
         }
 
         public long getQueryCount() {
@@ -321,6 +329,13 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return queryCurrent;
         }
 
+        /**
+         * The number of segments that query phases skipped because the segments can't match the query.
+         */
+        public long getQuerySkippedSegmentCount() {
+            return querySkippedSegmentCount;
+        }
+
         public long getConcurrentQueryCount() {
             return concurrentQueryCount;
         }
@@ -454,6 +469,9 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 out.writeVLong(concurrentQueryCurrent);
                 out.writeVLong(queryConcurrency);
             }
+            if (out.getVersion().onOrAfter(Version.V_2_11_1)) {
+                out.writeVLong(querySkippedSegmentCount);
+            }
         }
 
         @Override
@@ -461,6 +479,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.field(Fields.QUERY_TOTAL, queryCount);
             builder.humanReadableField(Fields.QUERY_TIME_IN_MILLIS, Fields.QUERY_TIME, getQueryTime());
             builder.field(Fields.QUERY_CURRENT, queryCurrent);
+            builder.field(Fields.QUERY_SKIPPED_SEGMENTS, querySkippedSegmentCount);
 
             if (FeatureFlags.isEnabled(FeatureFlags.CONCURRENT_SEGMENT_SEARCH)) {
                 builder.field(Fields.CONCURRENT_QUERY_TOTAL, concurrentQueryCount);
@@ -627,6 +646,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String QUERY_TIME = "query_time";
         static final String QUERY_TIME_IN_MILLIS = "query_time_in_millis";
         static final String QUERY_CURRENT = "query_current";
+        static final String QUERY_SKIPPED_SEGMENTS = "query_skipped_segments";
         static final String CONCURRENT_QUERY_TOTAL = "concurrent_query_total";
         static final String CONCURRENT_QUERY_TIME = "concurrent_query_time";
         static final String CONCURRENT_QUERY_TIME_IN_MILLIS = "concurrent_query_time_in_millis";
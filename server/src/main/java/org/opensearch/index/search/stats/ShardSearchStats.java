@@ -126,6 +126,7 @@ public final class ShardSearchStats implements SearchOperationListener {
                 statsHolder.queryMetric.inc(tookInNanos);
                 statsHolder.queryCurrent.dec();
                 assert statsHolder.queryCurrent.count() >= 0;
+                statsHolder.querySkippedSegments.inc(searchContext.searcher().getSkippedLeafCount());
                 if (searchContext.shouldUseConcurrentSearch()) {
                     statsHolder.concurrentQueryMetric.inc(tookInNanos);
                     statsHolder.concurrentQueryCurrent.dec();
@@ -222,6 +223,7 @@ public final class ShardSearchStats implements SearchOperationListener {
         final MeanMetric queryMetric = new MeanMetric();
         final MeanMetric concurrentQueryMetric = new MeanMetric();
         final CounterMetric queryConcurrencyMetric = new CounterMetric();
+        final CounterMetric querySkippedSegments = new CounterMetric();
         final MeanMetric fetchMetric = new MeanMetric();
         /* We store scroll statistics in microseconds because with nanoseconds we run the risk of overflowing the total stats if there are
          * many scrolls. For example, on a system with 2^24 scrolls that have been executed, each executing for 2^10 seconds, then using
@@ -249,6 +251,7 @@ public final class ShardSearchStats implements SearchOperationListener {
                 TimeUnit.NANOSECONDS.toMillis(concurrentQueryMetric.sum()),
                 concurrentQueryCurrent.count(),
                 queryConcurrencyMetric.count(),
+                querySkippedSegments.count(),
                 fetchMetric.count(),
                 TimeUnit.NANOSECONDS.toMillis(fetchMetric.sum()),
                 fetchCurrent.count(),
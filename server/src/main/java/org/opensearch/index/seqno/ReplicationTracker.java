@@ -41,6 +41,7 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.routing.AllocationId;
 import org.opensearch.cluster.routing.IndexShardRoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SuppressForbidden;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
@@ -723,6 +724,11 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
          */
         long lastCompletedReplicationLag;
 
+        /**
+         * The size of the segment files that the most recent replication event added to the replica.
+         */
+        long lastCompletedReplicationBytes;
+
         public CheckpointState(long localCheckpoint, long globalCheckpoint, boolean inSync, boolean tracked, boolean replicated) {
             this.localCheckpoint = localCheckpoint;
             this.globalCheckpoint = globalCheckpoint;
@@ -1198,6 +1204,9 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
             });
             cps.lastCompletedReplicationLag = lastFinished.get();
         }
+        if (visibleCheckpoint.isAheadOf(cps.visibleReplicationCheckpoint)) {
+            cps.lastCompletedReplicationBytes = missingBytes(visibleCheckpoint, cps.visibleReplicationCheckpoint);
+        }
         logger.trace(
             () -> new ParameterizedMessage(
                 "updated local knowledge for [{}] on the primary of the visible checkpoint from [{}] to [{}], active timers {}",
@@ -1301,19 +1310,26 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
     }
 
     private SegmentReplicationShardStats buildShardStats(final String allocationId, final CheckpointState cps) {
-        final Store.RecoveryDiff diff = Store.segmentReplicationDiff(
-            latestReplicationCheckpoint.getMetadataMap(),
-            cps.visibleReplicationCheckpoint != null ? cps.visibleReplicationCheckpoint.getMetadataMap() : Collections.emptyMap()
-        );
-        final long bytesBehind = diff.missing.stream().mapToLong(StoreFileMetadata::length).sum();
         return new SegmentReplicationShardStats(
             allocationId,
             cps.checkpointTimers.size(),
-            bytesBehind,
+            missingBytes(latestReplicationCheckpoint, cps.visibleReplicationCheckpoint),
             cps.checkpointTimers.values().stream().mapToLong(SegmentReplicationLagTimer::time).max().orElse(0),
             cps.checkpointTimers.values().stream().mapToLong(SegmentReplicationLagTimer::totalElapsedTime).max().orElse(0),
-            cps.lastCompletedReplicationLag
+            cps.lastCompletedReplicationLag,
+            cps.lastCompletedReplicationBytes
+        );
+    }
+
+    /**
+     * Returns the size of the segment files of the given checkpoint that a replica at the visible checkpoint is missing.
+     */
+    private static long missingBytes(final ReplicationCheckpoint checkpoint, @Nullable final ReplicationCheckpoint visibleCheckpoint) {
+        final Store.RecoveryDiff diff = Store.segmentReplicationDiff(
+            checkpoint.getMetadataMap(),
+            visibleCheckpoint != null ? visibleCheckpoint.getMetadataMap() : Collections.emptyMap()
         );
+        return diff.missing.stream().mapToLong(StoreFileMetadata::length).sum();
     }
 
     /**
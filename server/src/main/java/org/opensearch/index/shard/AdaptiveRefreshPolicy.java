@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.Nullable;
+import org.opensearch.indices.RefreshBudget;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Picks the refresh interval of a shard that adapts it to its search demand, see
+ * {@link org.opensearch.index.IndexSettings#INDEX_ADAPTIVE_REFRESH_ENABLED_SETTING}. The interval is the maximum interval
+ * divided by one plus the number of searcher accesses expected within it, based on a moving average of the access rate, and
+ * is bounded by the refresh interval of the index. A shard that is searched every few seconds thus refreshes about as often
+ * as it is searched, and a shard that is rarely searched refreshes at the maximum interval. Once the interval elapsed, the
+ * refresh still needs room in the node wide {@link RefreshBudget} unless the maximum interval elapsed as well.
+ * <p>
+ * Refreshes that are waited for by refresh listeners are not subject to the policy.
+ *
+ * @opensearch.internal
+ */
+final class AdaptiveRefreshPolicy {
+
+    private static final double SEARCH_RATE_ALPHA = 0.3;
+
+    @Nullable
+    private final RefreshBudget refreshBudget;
+    private final LongAdder searches = new LongAdder();
+    private final ExponentiallyWeightedMovingAverage searchRate = new ExponentiallyWeightedMovingAverage(SEARCH_RATE_ALPHA, 0);
+
+    private long lastSampleMillis;
+    private long lastRefreshMillis;
+    private volatile long intervalMillis;
+
+    AdaptiveRefreshPolicy(@Nullable RefreshBudget refreshBudget, long nowInMillis) {
+        this.refreshBudget = refreshBudget;
+        this.lastSampleMillis = nowInMillis;
+        this.lastRefreshMillis = nowInMillis;
+    }
+
+    /**
+     * Records an access to the searcher of the shard.
+     */
+    void onSearcherAccess() {
+        searches.increment();
+    }
+
+    /**
+     * Returns whether a scheduled refresh should run now, and records the refresh if so.
+     *
+     * @param nowInMillis the current relative time in milliseconds
+     * @param minIntervalMillis the refresh interval of the index
+     * @param maxIntervalMillis the maximum refresh interval of the shard
+     * @param indexingBufferBytes the size of the indexing buffer that the refresh would write
+     */
+    synchronized boolean refreshDue(long nowInMillis, long minIntervalMillis, long maxIntervalMillis, long indexingBufferBytes) {
+        final long elapsedSinceSample = nowInMillis - lastSampleMillis;
+        if (elapsedSinceSample > 0) {
+            searchRate.addValue(searches.sumThenReset() * 1000.0 / elapsedSinceSample);
+            lastSampleMillis = nowInMillis;
+        }
+        final double expectedSearches = searchRate.getAverage() * maxIntervalMillis / 1000;
+        final long interval = Math.max(minIntervalMillis, Math.min(maxIntervalMillis, (long) (maxIntervalMillis / (1 + expectedSearches))));
+        intervalMillis = interval;
+
+        final long elapsedSinceRefresh = nowInMillis - lastRefreshMillis;
+        if (elapsedSinceRefresh < interval) {
+            return false;
+        }
+        if (refreshBudget != null) {
+            if (elapsedSinceRefresh < maxIntervalMillis) {
+                if (refreshBudget.tryAcquire(indexingBufferBytes, nowInMillis) == false) {
+                    return false;
+                }
+            } else {
+                refreshBudget.acquire(indexingBufferBytes, nowInMillis);
+            }
+        }
+        lastRefreshMillis = nowInMillis;
+        return true;
+    }
+
+    /**
+     * The refresh interval that was picked last, in milliseconds.
+     */
+    long getIntervalMillis() {
+        return intervalMillis;
+    }
+}
@@ -174,11 +174,13 @@ import org.opensearch.index.translog.RemoteTranslogStats;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupCommitScheduler;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.RefreshBudget;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryFailedException;
@@ -333,6 +335,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     private final AtomicLong lastSearcherAccess = new AtomicLong();
     private final AtomicReference<Translog.Location> pendingRefreshLocation = new AtomicReference<>();
+    private final AdaptiveRefreshPolicy adaptiveRefreshPolicy;
     private final RefreshPendingLocationListener refreshPendingLocationListener;
     private volatile boolean useRetentionLeasesInPeerRecovery;
 
@@ -370,6 +373,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         @Nullable final Store remoteStore,
         final RemoteStoreStatsTrackerFactory remoteStoreStatsTrackerFactory,
         final Supplier<TimeValue> clusterRemoteTranslogBufferIntervalSupplier,
+        @Nullable final TranslogGroupCommitScheduler translogGroupCommitScheduler,
+        @Nullable final RefreshBudget refreshBudget,
         final String nodeId,
         final RecoverySettings recoverySettings
     ) throws IOException {
@@ -392,7 +397,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             threadPool,
             this::getEngine,
             indexSettings.isRemoteTranslogStoreEnabled(),
-            () -> getRemoteTranslogUploadBufferInterval(clusterRemoteTranslogBufferIntervalSupplier)
+            () -> getRemoteTranslogUploadBufferInterval(clusterRemoteTranslogBufferIntervalSupplier),
+            translogGroupCommitScheduler
         );
         this.mapperService = mapperService;
         this.indexCache = indexCache;
@@ -457,6 +463,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         readerWrapper = indexReaderWrapper;
         refreshListeners = buildRefreshListeners();
         lastSearcherAccess.set(threadPool.relativeTimeInMillis());
+        adaptiveRefreshPolicy = new AdaptiveRefreshPolicy(refreshBudget, threadPool.relativeTimeInMillis());
         persistMetadata(path, indexSettings, shardRouting, null, logger);
         this.useRetentionLeasesInPeerRecovery = replicationTracker.hasAllPeerRecoveryRetentionLeases();
         this.refreshPendingLocationListener = new RefreshPendingLocationListener();
@@ -1332,7 +1339,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             TimeUnit.NANOSECONDS.toMillis(refreshMetric.sum()),
             externalRefreshMetric.count(),
             TimeUnit.NANOSECONDS.toMillis(externalRefreshMetric.sum()),
-            listeners
+            listeners,
+            indexSettings.isAdaptiveRefreshEnabled() ? adaptiveRefreshPolicy.getIntervalMillis() : 0
         );
     }
 
@@ -1825,6 +1833,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     private void markSearcherAccessed() {
         lastSearcherAccess.lazySet(threadPool.relativeTimeInMillis());
+        adaptiveRefreshPolicy.onSearcherAccess();
     }
 
     private Engine.Searcher acquireSearcher(String source, Engine.SearcherScope scope) {
@@ -4195,7 +4204,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         ThreadPool threadPool,
         Supplier<Engine> engineSupplier,
         boolean bufferAsyncIoProcessor,
-        Supplier<TimeValue> bufferIntervalSupplier
+        Supplier<TimeValue> bufferIntervalSupplier,
+        @Nullable TranslogGroupCommitScheduler translogGroupCommitScheduler
     ) {
         assert bufferAsyncIoProcessor == false || Objects.nonNull(bufferIntervalSupplier)
             : "If bufferAsyncIoProcessor is true, then the bufferIntervalSupplier needs to be non null";
@@ -4225,6 +4235,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 }
             };
         }
+        if (translogGroupCommitScheduler != null && translogGroupCommitScheduler.isEnabled()) {
+            return translogGroupCommitScheduler.newSyncProcessor(logger, threadContext, writeConsumer);
+        }
         return new AsyncIOProcessor<>(logger, 1024, threadContext) {
             @Override
             protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
@@ -4239,6 +4252,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      * the transaction log the caller thread will be hijacked to run the fsync for all pending fsync operations.
      * This method allows indexing threads to continue indexing without blocking on fsync calls. We ensure that there is only
      * one thread blocking on the sync an all others can continue indexing.
+     * If {@link TranslogGroupCommitScheduler#ENABLED_SETTING translog group commit} is enabled on the node, the location is synced
+     * together with the pending syncs of the other shards of the node instead and no caller thread is hijacked.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
      */
@@ -4403,6 +4418,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
                 setRefreshPending(engine);
                 return false;
+            } else if (listenerNeedsRefresh == false && isAdaptiveRefreshDue() == false) {
+                // the refresh interval that this shard picked did not elapse yet, a later scheduled refresh will pick it up
+                getEngine().maybePruneDeletes();
+                return false;
             } else {
                 if (logger.isTraceEnabled()) {
                     logger.trace("refresh with source [schedule]");
@@ -4415,6 +4434,22 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return false;
     }
 
+    /**
+     * Returns true unless the shard adapts its refresh interval to its search demand and it is not yet time for the next
+     * scheduled refresh, see {@link AdaptiveRefreshPolicy}.
+     */
+    private boolean isAdaptiveRefreshDue() {
+        if (indexSettings.isAdaptiveRefreshEnabled() == false) {
+            return true;
+        }
+        return adaptiveRefreshPolicy.refreshDue(
+            threadPool.relativeTimeInMillis(),
+            indexSettings.getRefreshInterval().millis(),
+            indexSettings.getAdaptiveRefreshMaxInterval().millis(),
+            getIndexBufferRAMBytesUsed()
+        );
+    }
+
     /**
      * Returns true if this shards is search idle
      */
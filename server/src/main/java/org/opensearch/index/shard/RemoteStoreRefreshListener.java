@@ -38,6 +38,7 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -354,7 +355,13 @@ public final class RemoteStoreRefreshListener extends CloseableRetryableRefreshL
     }
 
     private void uploadNewSegments(Collection<String> localSegmentsPostRefresh, ActionListener<Void> listener) {
-        Collection<String> filteredFiles = localSegmentsPostRefresh.stream().filter(file -> !skipUpload(file)).collect(Collectors.toList());
+        // The checkpoint is uploaded once all its files are, so the largest files, which take the longest to upload, are started
+        // first when the files are uploaded in parallel
+        Map<String, Long> fileLengths = segmentTracker.getLatestLocalFileNameLengthMap();
+        Collection<String> filteredFiles = localSegmentsPostRefresh.stream()
+            .filter(file -> !skipUpload(file))
+            .sorted(Comparator.comparingLong((String file) -> fileLengths.getOrDefault(file, 0L)).reversed())
+            .collect(Collectors.toList());
         if (filteredFiles.size() == 0) {
             logger.debug("No new segments to upload in uploadNewSegments");
             listener.onResponse(null);
@@ -23,6 +23,7 @@ import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.VersionedCodecStreamWrapper;
@@ -89,6 +90,15 @@ public final class RemoteSegmentStoreDirectory extends FilterDirectory implement
 
     private final ThreadPool threadPool;
 
+    private final ShardId shardId;
+
+    /**
+     * Uploads the segment files in parallel with those of the other shards of the node if the remote data directory doesn't
+     * support asynchronous uploads, or {@code null} to upload them on the calling thread.
+     */
+    @Nullable
+    private final RemoteSegmentUploadScheduler uploadScheduler;
+
     /**
      * Keeps track of local segment filename to uploaded filename along with other attributes like checksum.
      * This map acts as a cache layer for uploaded segment filenames which helps avoid calling listAll() each time.
@@ -122,12 +132,25 @@ public final class RemoteSegmentStoreDirectory extends FilterDirectory implement
         RemoteStoreLockManager mdLockManager,
         ThreadPool threadPool,
         ShardId shardId
+    ) throws IOException {
+        this(remoteDataDirectory, remoteMetadataDirectory, mdLockManager, threadPool, shardId, null);
+    }
+
+    public RemoteSegmentStoreDirectory(
+        RemoteDirectory remoteDataDirectory,
+        RemoteDirectory remoteMetadataDirectory,
+        RemoteStoreLockManager mdLockManager,
+        ThreadPool threadPool,
+        ShardId shardId,
+        @Nullable RemoteSegmentUploadScheduler uploadScheduler
     ) throws IOException {
         super(remoteDataDirectory);
         this.remoteDataDirectory = remoteDataDirectory;
         this.remoteMetadataDirectory = remoteMetadataDirectory;
         this.mdLockManager = mdLockManager;
         this.threadPool = threadPool;
+        this.shardId = shardId;
+        this.uploadScheduler = uploadScheduler;
         this.logger = Loggers.getLogger(getClass(), shardId);
         init();
     }
@@ -455,8 +478,22 @@ public final class RemoteSegmentStoreDirectory extends FilterDirectory implement
                 }
             }, listener);
             if (uploaded == false) {
-                copyFrom(from, src, src, context);
-                listener.onResponse(null);
+                if (uploadScheduler == null) {
+                    copyFrom(from, src, src, context);
+                    listener.onResponse(null);
+                } else {
+                    uploadScheduler.schedule(
+                        shardId,
+                        () -> copyFrom(from, src, src, context),
+                        ActionListener.wrap(listener::onResponse, e -> {
+                            logger.warn(
+                                () -> new ParameterizedMessage("Exception while uploading file {} to the remote segment store", src),
+                                e
+                            );
+                            listener.onFailure(e);
+                        })
+                    );
+                }
             }
         } catch (Exception e) {
             logger.warn(() -> new ParameterizedMessage("Exception while uploading file {} to the remote segment store", src), e);
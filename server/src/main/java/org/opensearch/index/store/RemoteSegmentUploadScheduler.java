@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store;
+
+import org.opensearch.common.CheckedRunnable;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the uploads of segment files to the remote segment store of all the shards of a node that are written to blob
+ * containers without support for asynchronous multipart uploads, which would otherwise be uploaded one after the other on
+ * the thread that refreshed the shard. The uploads run in parallel on the {@link ThreadPool.Names#REMOTE_SEGMENT_UPLOAD}
+ * thread pool, at most as many at a time as the thread pool has threads. Each shard queues its files in the order in which
+ * they should be uploaded, and the scheduler takes turns between the shards that have files queued, so that a shard that
+ * uploads many or large files doesn't hold back the uploads of the other shards.
+ *
+ * @opensearch.internal
+ */
+public final class RemoteSegmentUploadScheduler {
+
+    private final Supplier<Executor> executor;
+    private final IntSupplier maxConcurrentUploads;
+
+    private final Object mutex = new Object();
+    private final Map<ShardId, Deque<Upload>> queues = new HashMap<>();
+    // the shards with queued uploads, in the order in which they take their next turn
+    private final Deque<ShardId> shards = new ArrayDeque<>();
+    private int activeUploads;
+
+    public RemoteSegmentUploadScheduler(ThreadPool threadPool) {
+        this(
+            () -> threadPool.executor(ThreadPool.Names.REMOTE_SEGMENT_UPLOAD),
+            () -> threadPool.info(ThreadPool.Names.REMOTE_SEGMENT_UPLOAD).getMax()
+        );
+    }
+
+    RemoteSegmentUploadScheduler(Supplier<Executor> executor, IntSupplier maxConcurrentUploads) {
+        this.executor = executor;
+        this.maxConcurrentUploads = maxConcurrentUploads;
+    }
+
+    /**
+     * Queues an upload of the given shard, after the uploads the shard queued before, and notifies the listener once the
+     * upload completed or failed.
+     */
+    public void schedule(ShardId shardId, CheckedRunnable<IOException> upload, ActionListener<Void> listener) {
+        synchronized (mutex) {
+            queues.computeIfAbsent(shardId, k -> {
+                shards.addLast(k);
+                return new ArrayDeque<>();
+            }).addLast(new Upload(upload, listener));
+        }
+        startUploads();
+    }
+
+    /**
+     * Returns the number of uploads that are queued or running.
+     */
+    int pendingUploads() {
+        synchronized (mutex) {
+            int pending = activeUploads;
+            for (Deque<Upload> queue : queues.values()) {
+                pending += queue.size();
+            }
+            return pending;
+        }
+    }
+
+    private void startUploads() {
+        Upload upload;
+        while ((upload = nextUpload()) != null) {
+            final ActionListener<Void> listener = ActionListener.notifyOnce(ActionListener.runAfter(upload.listener, this::onUploadDone));
+            final CheckedRunnable<IOException> task = upload.task;
+            try {
+                executor.get().execute(new AbstractRunnable() {
+                    @Override
+                    protected void doRun() throws Exception {
+                        task.run();
+                        listener.onResponse(null);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        listener.onFailure(e);
+                    }
+                });
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+        }
+    }
+
+    private Upload nextUpload() {
+        synchronized (mutex) {
+            if (activeUploads >= Math.max(1, maxConcurrentUploads.getAsInt())) {
+                return null;
+            }
+            final ShardId shardId = shards.pollFirst();
+            if (shardId == null) {
+                return null;
+            }
+            final Deque<Upload> queue = queues.get(shardId);
+            final Upload upload = queue.pollFirst();
+            if (queue.isEmpty()) {
+                queues.remove(shardId);
+            } else {
+                shards.addLast(shardId);
+            }
+            activeUploads++;
+            return upload;
+        }
+    }
+
+    private void onUploadDone() {
+        synchronized (mutex) {
+            activeUploads--;
+        }
+        startUploads();
+    }
+
+    private static final class Upload {
+        private final CheckedRunnable<IOException> task;
+        private final ActionListener<Void> listener;
+
+        private Upload(CheckedRunnable<IOException> task, ActionListener<Void> listener) {
+            this.task = task;
+            this.listener = listener;
+        }
+    }
+}
@@ -94,7 +94,11 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
             assert indexShardSnapshot instanceof BlobStoreIndexShardSnapshot
                 : "indexShardSnapshot should be an instance of BlobStoreIndexShardSnapshot";
             final BlobStoreIndexShardSnapshot snapshot = (BlobStoreIndexShardSnapshot) indexShardSnapshot;
-            TransferManager transferManager = new TransferManager(blobContainer, remoteStoreFileCache);
+            TransferManager transferManager = new TransferManager(
+                blobContainer,
+                remoteStoreFileCache,
+                threadPool.executor(ThreadPool.Names.GENERIC)
+            );
             return new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager);
         });
     }
@@ -40,6 +40,12 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
 
     public static final String CLEANER_THREAD_NAME_PREFIX = "index-input-cleaner";
 
+    /**
+     * The number of consecutive moves to the next block after which reads are considered sequential and the following
+     * blocks are prefetched.
+     */
+    static final int SEQUENTIAL_BLOCKS_BEFORE_PREFETCH = 2;
+
     /**
      * A single static Cleaner instance to ensure any unclosed clone of an
      * IndexInput is closed. This instance creates a single daemon thread on
@@ -77,6 +83,12 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
      */
     private int currentBlockId;
 
+    /**
+     * Number of consecutive moves to the next block, and the last block that was prefetched
+     */
+    private int sequentialBlocks;
+    private int lastPrefetchedBlockId = -1;
+
     private final BlockHolder blockHolder = new BlockHolder();
 
     OnDemandBlockIndexInput(Builder builder) {
@@ -102,6 +114,20 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
      */
     protected abstract IndexInput fetchBlock(int blockId) throws IOException;
 
+    /**
+     * Returns how many blocks ahead of the current block should be prefetched once reads are sequential, zero if
+     * prefetching is disabled.
+     */
+    protected int prefetchBlockCount() {
+        return 0;
+    }
+
+    /**
+     * Asynchronously fetches the given block ahead of a sequential read, on a best effort basis.
+     * @param blockId to prefetch
+     */
+    protected void prefetchBlock(int blockId) {}
+
     @Override
     public abstract OnDemandBlockIndexInput clone();
 
@@ -334,11 +360,30 @@ abstract class OnDemandBlockIndexInput extends IndexInput implements RandomAcces
     private void demandBlock(int blockId) throws IOException {
         if (blockHolder.block != null && currentBlockId == blockId) return;
 
+        final boolean sequential = blockHolder.block != null && blockId == currentBlockId + 1;
+
         // close the current block before jumping to the new block
         blockHolder.close();
 
         blockHolder.set(fetchBlock(blockId));
         currentBlockId = blockId;
+
+        sequentialBlocks = sequential ? sequentialBlocks + 1 : 0;
+        if (sequentialBlocks >= SEQUENTIAL_BLOCKS_BEFORE_PREFETCH) {
+            prefetchFollowingBlocks(blockId);
+        }
+    }
+
+    private void prefetchFollowingBlocks(int blockId) {
+        final int count = prefetchBlockCount();
+        if (count <= 0 || length == 0) {
+            return;
+        }
+        final int lastBlockId = Math.min(getBlock(offset + length - 1), blockId + count);
+        for (int id = Math.max(blockId, lastPrefetchedBlockId) + 1; id <= lastBlockId; id++) {
+            prefetchBlock(id);
+            lastPrefetchedBlockId = id;
+        }
     }
 
     protected void cloneBlock(OnDemandBlockIndexInput other) {
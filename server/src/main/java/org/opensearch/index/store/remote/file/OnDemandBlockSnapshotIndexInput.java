@@ -127,6 +127,20 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
 
     @Override
     protected IndexInput fetchBlock(int blockId) throws IOException {
+        return transferManager.fetchBlob(blobFetchRequest(blockId));
+    }
+
+    @Override
+    protected int prefetchBlockCount() {
+        return transferManager.prefetchBlocks();
+    }
+
+    @Override
+    protected void prefetchBlock(int blockId) {
+        transferManager.prefetchBlob(blobFetchRequest(blockId));
+    }
+
+    private BlobFetchRequest blobFetchRequest(int blockId) {
         final String blockFileName = fileName + "." + blockId;
 
         final long blockStart = getBlockStart(blockId);
@@ -137,14 +151,13 @@ public class OnDemandBlockSnapshotIndexInput extends OnDemandBlockIndexInput {
         final long position = blockStart - partStart;
         final long length = blockEnd - blockStart;
 
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .position(position)
             .length(length)
             .blobName(fileInfo.partName(part))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
     }
 
     @Override
@@ -9,10 +9,13 @@
 package org.opensearch.index.store.remote.filecache;
 
 import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.index.store.remote.utils.cache.CacheUsage;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
 import org.opensearch.index.store.remote.utils.cache.RefCountedCache;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 import org.opensearch.index.store.remote.utils.cache.stats.CacheStats;
@@ -21,8 +24,16 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Predicate;
 
 import static org.opensearch.index.store.remote.directory.RemoteSnapshotDirectoryFactory.LOCAL_STORE_LOCATION;
@@ -65,11 +76,128 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Defines the {@link EvictionPolicy} of the file cache of a search node: {@code lru}, {@code slru} (segmented LRU) or
+     * {@code tinylfu} (segmented LRU with TinyLFU admission). The latter two keep a scan over a cold index from evicting
+     * the blocks that are read over and over.
+     */
+    public static final Setting<EvictionPolicy> EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        EvictionPolicy.LRU.policyName(),
+        EvictionPolicy::fromString,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Defines how many blocks ahead of a sequential reader are fetched asynchronously into the file cache, before the
+     * reader asks for them. Zero disables prefetching.
+     */
+    public static final Setting<Integer> PREFETCH_BLOCKS_SETTING = Setting.intSetting(
+        "cluster.filecache.prefetch.blocks",
+        2,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Defines how many blocks may be prefetched concurrently on the node. Prefetches beyond this limit are skipped rather
+     * than queued, as a reader would have asked for the block itself by the time a queued prefetch runs.
+     */
+    public static final Setting<Integer> PREFETCH_MAX_IN_FLIGHT_SETTING = Setting.intSetting(
+        "cluster.filecache.prefetch.max_in_flight",
+        16,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    private volatile int prefetchBlocks = PREFETCH_BLOCKS_SETTING.getDefault(Settings.EMPTY);
+    private volatile int maxInFlightPrefetches = PREFETCH_MAX_IN_FLIGHT_SETTING.getDefault(Settings.EMPTY);
+    private final AtomicInteger inFlightPrefetches = new AtomicInteger();
+
+    private final LongAdder prefetchCount = new LongAdder();
+    private final LongAdder prefetchHitCount = new LongAdder();
+    private final LongAdder prefetchWasteCount = new LongAdder();
+
     public FileCache(SegmentedCache<Path, CachedIndexInput> cache, CircuitBreaker circuitBreaker) {
         this.theCache = cache;
         this.circuitBreaker = circuitBreaker;
     }
 
+    /**
+     * Applies the prefetch settings of the node and keeps them up to date.
+     */
+    public void registerPrefetchSettings(Settings settings, ClusterSettings clusterSettings) {
+        setPrefetchBlocks(PREFETCH_BLOCKS_SETTING.get(settings));
+        setMaxInFlightPrefetches(PREFETCH_MAX_IN_FLIGHT_SETTING.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(PREFETCH_BLOCKS_SETTING, this::setPrefetchBlocks);
+        clusterSettings.addSettingsUpdateConsumer(PREFETCH_MAX_IN_FLIGHT_SETTING, this::setMaxInFlightPrefetches);
+    }
+
+    void setPrefetchBlocks(int prefetchBlocks) {
+        this.prefetchBlocks = prefetchBlocks;
+    }
+
+    void setMaxInFlightPrefetches(int maxInFlightPrefetches) {
+        this.maxInFlightPrefetches = maxInFlightPrefetches;
+    }
+
+    /**
+     * Returns how many blocks ahead of a sequential reader should be prefetched.
+     */
+    public int prefetchBlocks() {
+        return prefetchBlocks;
+    }
+
+    /**
+     * Reserves a slot for prefetching a block of the given length. Returns {@code false} if the maximum number of
+     * prefetches is already in flight, or if the block wouldn't fit next to the entries that are in use and can't be
+     * evicted. A successful reservation must be released with {@link #onPrefetchDone()}.
+     */
+    public boolean tryStartPrefetch(long length) {
+        if (usage().activeUsage() + length > capacity()) {
+            return false;
+        }
+        int inFlight;
+        do {
+            inFlight = inFlightPrefetches.get();
+            if (inFlight >= maxInFlightPrefetches) {
+                return false;
+            }
+        } while (inFlightPrefetches.compareAndSet(inFlight, inFlight + 1) == false);
+        return true;
+    }
+
+    /**
+     * Releases a slot reserved by {@link #tryStartPrefetch(long)}.
+     */
+    public void onPrefetchDone() {
+        final int inFlight = inFlightPrefetches.decrementAndGet();
+        assert inFlight >= 0 : "prefetch released more often than started";
+    }
+
+    /**
+     * Records that a block was added to the cache by a prefetch.
+     */
+    public void onPrefetch() {
+        prefetchCount.increment();
+    }
+
+    /**
+     * Records that a reader asked for a block that had been prefetched.
+     */
+    public void onPrefetchHit() {
+        prefetchHitCount.increment();
+    }
+
+    /**
+     * Records that a block that had been prefetched was removed from the cache before any reader asked for it.
+     */
+    public void onPrefetchWasted() {
+        prefetchWasteCount.increment();
+    }
+
     public long capacity() {
         return theCache.capacity();
     }
@@ -171,12 +299,33 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
         }
     }
 
+    /**
+     * Passes the key of each entry, together with the number of times it was hit, to the given consumer in the order in which
+     * the entries would be evicted.
+     */
+    public void forEachInEvictionOrder(ObjIntConsumer<Path> consumer) {
+        theCache.forEachInEvictionOrder(consumer);
+    }
+
     /**
      * Restores the file cache instance performing a folder scan of the
      * {@link org.opensearch.index.store.remote.directory.RemoteSnapshotDirectoryFactory#LOCAL_STORE_LOCATION}
      * directory within the provided file cache path.
      */
     public void restoreFromDirectory(List<Path> fileCacheDataPaths) {
+        restoreFromDirectory(fileCacheDataPaths, Collections.emptyMap());
+    }
+
+    /**
+     * Restores the file cache instance performing a folder scan of the
+     * {@link org.opensearch.index.store.remote.directory.RemoteSnapshotDirectoryFactory#LOCAL_STORE_LOCATION}
+     * directory within the provided file cache path. The files that the given {@link FileCacheJournal} entries still match are
+     * restored in the order of the journal and with the hits it recorded, after all other files, which are restored as cold
+     * entries. The cache is sized for all the files up front, so that it keeps the access frequencies of the restored files.
+     */
+    public void restoreFromDirectory(List<Path> fileCacheDataPaths, Map<Path, FileCacheJournal.Entry> journal) {
+        final Map<Path, Long> coldLengths = new LinkedHashMap<>();
+        final Map<Path, Long> journaledLengths = new HashMap<>();
         fileCacheDataPaths.stream()
             .filter(Files::isDirectory)
             .map(path -> path.resolve(LOCAL_STORE_LOCATION))
@@ -194,8 +343,14 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
             .filter(Files::isRegularFile)
             .forEach(path -> {
                 try {
-                    put(path.toAbsolutePath(), new RestoredCachedIndexInput(Files.size(path)));
-                    decRef(path.toAbsolutePath());
+                    final Path key = path.toAbsolutePath();
+                    final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    final FileCacheJournal.Entry entry = journal.get(key);
+                    if (entry != null && entry.matches(attributes)) {
+                        journaledLengths.put(key, attributes.size());
+                    } else {
+                        coldLengths.put(key, attributes.size());
+                    }
                 } catch (IOException e) {
                     throw new UncheckedIOException(
                         "Unable to retrieve cache file details. Please clear the file cache for node startup.",
@@ -203,6 +358,17 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                     );
                 }
             });
+        theCache.ensureCapacity(coldLengths.size() + journaledLengths.size());
+        for (Map.Entry<Path, Long> entry : coldLengths.entrySet()) {
+            put(entry.getKey(), new RestoredCachedIndexInput(entry.getValue()));
+            decRef(entry.getKey());
+        }
+        for (Map.Entry<Path, FileCacheJournal.Entry> entry : journal.entrySet()) {
+            final Long length = journaledLengths.get(entry.getKey());
+            if (length != null) {
+                theCache.restore(entry.getKey(), new RestoredCachedIndexInput(length), entry.getValue().hits());
+            }
+        }
     }
 
     /**
@@ -218,7 +384,11 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
             usage.usage(),
             stats.evictionWeight(),
             stats.hitCount(),
-            stats.missCount()
+            stats.missCount(),
+            prefetchCount.sum(),
+            prefetchHitCount.sum(),
+            prefetchWasteCount.sum(),
+            theCache.getEvictionPolicy().policyName()
         );
     }
 
@@ -10,6 +10,7 @@ package org.opensearch.index.store.remote.filecache;
 
 import org.opensearch.common.cache.RemovalReason;
 import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 
 import java.nio.file.Files;
@@ -45,6 +46,22 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build(), circuitBreaker);
     }
 
+    public static FileCache createConcurrentFileCache(long capacity, EvictionPolicy evictionPolicy, CircuitBreaker circuitBreaker) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).evictionPolicy(evictionPolicy).build(), circuitBreaker);
+    }
+
+    public static FileCache createConcurrentFileCache(
+        long capacity,
+        int concurrencyLevel,
+        EvictionPolicy evictionPolicy,
+        CircuitBreaker circuitBreaker
+    ) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).evictionPolicy(evictionPolicy).build(),
+            circuitBreaker
+        );
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.filecache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists the entries of the {@link FileCache} in the order in which they would be evicted, together with the number of
+ * times each entry was hit, so that a restarted search node restores the hotness of the blocks it cached instead of serving
+ * as if its cache was cold. The journal is written every {@link #INTERVAL_SETTING} and when the node stops, and it is read
+ * once when the file cache is restored at startup.
+ * <p>
+ * The journal records the size and the last modification time of each block file and is protected by a checksum. Blocks
+ * whose file changed since the journal was written are restored as cold entries, as are all blocks if the journal is
+ * missing or corrupted.
+ *
+ * @opensearch.internal
+ */
+public class FileCacheJournal extends AbstractLifecycleComponent {
+    private static final Logger logger = LogManager.getLogger(FileCacheJournal.class);
+
+    public static final Setting<TimeValue> INTERVAL_SETTING = Setting.timeSetting(
+        "node.search.cache.journal.interval",
+        TimeValue.timeValueMinutes(5),
+        TimeValue.ZERO,
+        Property.NodeScope
+    );
+
+    static final String JOURNAL_FILE_NAME = "file_cache.journal";
+    private static final String CODEC_NAME = "file_cache_journal";
+    private static final int VERSION = 1;
+
+    private final ThreadPool threadPool;
+    private final FileCache fileCache;
+    private final Path fileCachePath;
+    private final TimeValue interval;
+    private volatile Scheduler.Cancellable scheduledWrite;
+
+    public FileCacheJournal(Settings settings, ThreadPool threadPool, FileCache fileCache, Path fileCachePath) {
+        this.threadPool = threadPool;
+        this.fileCache = fileCache;
+        this.fileCachePath = fileCachePath.toAbsolutePath();
+        this.interval = INTERVAL_SETTING.get(settings);
+    }
+
+    @Override
+    protected void doStart() {
+        if (interval.millis() > 0) {
+            scheduledWrite = threadPool.scheduleWithFixedDelay(this::writeQuietly, interval, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    @Override
+    protected void doStop() {
+        if (scheduledWrite != null) {
+            scheduledWrite.cancel();
+        }
+        writeQuietly();
+    }
+
+    @Override
+    protected void doClose() {}
+
+    private void writeQuietly() {
+        try {
+            write();
+        } catch (Exception e) {
+            logger.warn(() -> new ParameterizedMessage("failed to write the file cache journal to [{}]", fileCachePath), e);
+        }
+    }
+
+    /**
+     * Writes the current entries of the file cache to the journal, replacing the previous journal atomically.
+     */
+    synchronized void write() throws IOException {
+        final List<Path> keys = new ArrayList<>();
+        final List<Integer> hits = new ArrayList<>();
+        fileCache.forEachInEvictionOrder((key, keyHits) -> {
+            keys.add(key);
+            hits.add(keyHits);
+        });
+
+        final String tempFileName = JOURNAL_FILE_NAME + ".tmp";
+        Files.createDirectories(fileCachePath);
+        Files.deleteIfExists(fileCachePath.resolve(tempFileName));
+        try (Directory directory = new NIOFSDirectory(fileCachePath)) {
+            try (IndexOutput out = directory.createOutput(tempFileName, IOContext.DEFAULT)) {
+                CodecUtil.writeHeader(out, CODEC_NAME, VERSION);
+                for (int i = 0; i < keys.size(); i++) {
+                    final Path key = keys.get(i).toAbsolutePath();
+                    if (key.startsWith(fileCachePath) == false) {
+                        continue;
+                    }
+                    final BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(key, BasicFileAttributes.class);
+                    } catch (IOException e) {
+                        // evicted or deleted in the meantime
+                        continue;
+                    }
+                    out.writeByte((byte) 1);
+                    out.writeString(fileCachePath.relativize(key).toString());
+                    out.writeVLong(attributes.size());
+                    out.writeLong(attributes.lastModifiedTime().toMillis());
+                    out.writeVInt(hits.get(i));
+                }
+                out.writeByte((byte) 0);
+                CodecUtil.writeFooter(out);
+            }
+            directory.sync(Collections.singleton(tempFileName));
+            directory.rename(tempFileName, JOURNAL_FILE_NAME);
+            directory.syncMetaData();
+        }
+    }
+
+    /**
+     * Returns the entries of the journal keyed by the absolute path of their block file, from the first to the last to be
+     * evicted, or an empty map if there is no journal or if it is corrupted.
+     */
+    public Map<Path, Entry> read() {
+        if (Files.exists(fileCachePath.resolve(JOURNAL_FILE_NAME)) == false) {
+            return Collections.emptyMap();
+        }
+        try (
+            Directory directory = new NIOFSDirectory(fileCachePath);
+            ChecksumIndexInput in = directory.openChecksumInput(JOURNAL_FILE_NAME, IOContext.READONCE)
+        ) {
+            CodecUtil.checkHeader(in, CODEC_NAME, VERSION, VERSION);
+            final Map<Path, Entry> entries = new LinkedHashMap<>();
+            while (in.readByte() != 0) {
+                final Path key = fileCachePath.resolve(in.readString());
+                final long length = in.readVLong();
+                final long lastModifiedMillis = in.readLong();
+                final int hits = in.readVInt();
+                entries.put(key, new Entry(length, lastModifiedMillis, hits));
+            }
+            CodecUtil.checkFooter(in);
+            return entries;
+        } catch (Exception e) {
+            logger.warn(
+                () -> new ParameterizedMessage("failed to read the file cache journal from [{}], restoring a cold cache", fileCachePath),
+                e
+            );
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * A block file recorded in the journal.
+     *
+     * @opensearch.internal
+     */
+    public static final class Entry {
+        private final long length;
+        private final long lastModifiedMillis;
+        private final int hits;
+
+        Entry(long length, long lastModifiedMillis, int hits) {
+            this.length = length;
+            this.lastModifiedMillis = lastModifiedMillis;
+            this.hits = hits;
+        }
+
+        /**
+         * Returns whether the block file still has the size and the modification time it had when the journal was written.
+         */
+        boolean matches(BasicFileAttributes attributes) {
+            return attributes.size() == length && attributes.lastModifiedTime().toMillis() == lastModifiedMillis;
+        }
+
+        int hits() {
+            return hits;
+        }
+    }
+}
@@ -8,12 +8,14 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
 
 import java.io.IOException;
 
@@ -31,6 +33,10 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
     private final long evicted;
     private final long hits;
     private final long misses;
+    private final long prefetched;
+    private final long prefetchHits;
+    private final long prefetchWasted;
+    private final String evictionPolicy;
 
     public FileCacheStats(
         final long timestamp,
@@ -40,6 +46,22 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         final long evicted,
         final long hits,
         final long misses
+    ) {
+        this(timestamp, active, total, used, evicted, hits, misses, 0, 0, 0, EvictionPolicy.LRU.policyName());
+    }
+
+    public FileCacheStats(
+        final long timestamp,
+        final long active,
+        final long total,
+        final long used,
+        final long evicted,
+        final long hits,
+        final long misses,
+        final long prefetched,
+        final long prefetchHits,
+        final long prefetchWasted,
+        final String evictionPolicy
     ) {
         this.timestamp = timestamp;
         this.active = active;
@@ -48,6 +70,10 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.evicted = evicted;
         this.hits = hits;
         this.misses = misses;
+        this.prefetched = prefetched;
+        this.prefetchHits = prefetchHits;
+        this.prefetchWasted = prefetchWasted;
+        this.evictionPolicy = evictionPolicy;
     }
 
     public FileCacheStats(final StreamInput in) throws IOException {
@@ -58,6 +84,17 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.evicted = in.readLong();
         this.hits = in.readLong();
         this.misses = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_2_11_1)) {
+            this.prefetched = in.readLong();
+            this.prefetchHits = in.readLong();
+            this.prefetchWasted = in.readLong();
+            this.evictionPolicy = in.readString();
+        } else {
+            this.prefetched = 0;
+            this.prefetchHits = 0;
+            this.prefetchWasted = 0;
+            this.evictionPolicy = EvictionPolicy.LRU.policyName();
+        }
     }
 
     public static short calculatePercentage(long used, long max) {
@@ -73,6 +110,12 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(evicted);
         out.writeLong(hits);
         out.writeLong(misses);
+        if (out.getVersion().onOrAfter(Version.V_2_11_1)) {
+            out.writeLong(prefetched);
+            out.writeLong(prefetchHits);
+            out.writeLong(prefetchWasted);
+            out.writeString(evictionPolicy);
+        }
     }
 
     public long getTimestamp() {
@@ -111,6 +154,34 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    /**
+     * Returns the number of blocks that were prefetched into the cache ahead of sequential readers.
+     */
+    public long getPrefetched() {
+        return prefetched;
+    }
+
+    /**
+     * Returns the number of prefetched blocks that a reader asked for afterwards.
+     */
+    public long getPrefetchHits() {
+        return prefetchHits;
+    }
+
+    /**
+     * Returns the number of prefetched blocks that were removed from the cache without being read.
+     */
+    public long getPrefetchWasted() {
+        return prefetchWasted;
+    }
+
+    /**
+     * Returns the name of the {@link EvictionPolicy} of the cache, which the hit and miss counts depend on.
+     */
+    public String getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.FILE_CACHE);
@@ -123,6 +194,10 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.USED_PERCENT, getUsedPercent());
         builder.field(Fields.HIT_COUNT, getCacheHits());
         builder.field(Fields.MISS_COUNT, getCacheMisses());
+        builder.field(Fields.EVICTION_POLICY, getEvictionPolicy());
+        builder.field(Fields.PREFETCH_COUNT, getPrefetched());
+        builder.field(Fields.PREFETCH_HIT_COUNT, getPrefetchHits());
+        builder.field(Fields.PREFETCH_WASTED_COUNT, getPrefetchWasted());
         builder.endObject();
         return builder;
     }
@@ -144,5 +219,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
 
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String EVICTION_POLICY = "eviction_policy";
+        static final String PREFETCH_COUNT = "prefetch_count";
+        static final String PREFETCH_HIT_COUNT = "prefetch_hit_count";
+        static final String PREFETCH_WASTED_COUNT = "prefetch_wasted_count";
     }
 }
@@ -10,8 +10,10 @@ package org.opensearch.index.store.remote.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
@@ -28,6 +30,8 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -41,10 +45,28 @@ public class TransferManager {
 
     private final BlobContainer blobContainer;
     private final FileCache fileCache;
+    @Nullable
+    private final Executor prefetchExecutor;
 
     public TransferManager(final BlobContainer blobContainer, final FileCache fileCache) {
+        this(blobContainer, fileCache, null);
+    }
+
+    /**
+     * @param prefetchExecutor the executor that prefetches blocks ahead of sequential readers, or {@code null} to disable
+     *                         prefetching
+     */
+    public TransferManager(final BlobContainer blobContainer, final FileCache fileCache, @Nullable final Executor prefetchExecutor) {
         this.blobContainer = blobContainer;
         this.fileCache = fileCache;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Returns how many blocks ahead of a sequential reader should be prefetched with {@link #prefetchBlob(BlobFetchRequest)}.
+     */
+    public int prefetchBlocks() {
+        return prefetchExecutor == null ? 0 : fileCache.prefetchBlocks();
     }
 
     /**
@@ -65,6 +87,10 @@ public class TransferManager {
             }
         });
 
+        if (cacheEntry instanceof DelayedCreationCachedIndexInput && ((DelayedCreationCachedIndexInput) cacheEntry).markRead()) {
+            fileCache.onPrefetchHit();
+        }
+
         // Cache entry was either retrieved from the cache or newly added, either
         // way the reference count has been incremented by one. We can only
         // decrement this reference _after_ creating the clone to be returned.
@@ -75,6 +101,53 @@ public class TransferManager {
         }
     }
 
+    /**
+     * Asynchronously fetches the given blob into the file cache so that a later {@link #fetchBlob(BlobFetchRequest)} for
+     * it doesn't need to wait for the blob store. This is best effort: the prefetch is skipped if the blob is already
+     * cached, if the node has too many prefetches in flight or if the blob doesn't fit into the cache.
+     * @param blobFetchRequest to prefetch
+     */
+    public void prefetchBlob(BlobFetchRequest blobFetchRequest) {
+        if (prefetchExecutor == null || fileCache.tryStartPrefetch(blobFetchRequest.getLength()) == false) {
+            return;
+        }
+        try {
+            prefetchExecutor.execute(() -> {
+                try {
+                    doPrefetchBlob(blobFetchRequest);
+                } finally {
+                    fileCache.onPrefetchDone();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fileCache.onPrefetchDone();
+        }
+    }
+
+    private void doPrefetchBlob(BlobFetchRequest blobFetchRequest) {
+        final Path key = blobFetchRequest.getFilePath();
+        final AtomicBoolean created = new AtomicBoolean();
+        final CachedIndexInput cacheEntry = fileCache.compute(key, (path, cachedIndexInput) -> {
+            if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
+                created.set(true);
+                return new DelayedCreationCachedIndexInput(fileCache, blobContainer, blobFetchRequest, true);
+            } else {
+                return cachedIndexInput;
+            }
+        });
+        try {
+            if (created.get()) {
+                fileCache.onPrefetch();
+                // downloads the blob unless a reader started to do so in the meantime
+                cacheEntry.getIndexInput();
+            }
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("failed to prefetch [{}]", key), e);
+        } finally {
+            fileCache.decRef(key);
+        }
+    }
+
     private static FileCachedIndexInput createIndexInput(FileCache fileCache, BlobContainer blobContainer, BlobFetchRequest request) {
         // We need to do a privileged action here in order to fetch from remote
         // and write to the local file cache in case this is invoked as a side
@@ -117,11 +190,30 @@ public class TransferManager {
         private final CompletableFuture<IndexInput> result = new CompletableFuture<>();
         private final AtomicBoolean isStarted = new AtomicBoolean(false);
         private final AtomicBoolean isClosed = new AtomicBoolean(false);
+        // whether the entry was created by a prefetch and no reader has asked for it yet
+        private final AtomicBoolean isUnreadPrefetch;
 
         private DelayedCreationCachedIndexInput(FileCache fileCache, BlobContainer blobContainer, BlobFetchRequest request) {
+            this(fileCache, blobContainer, request, false);
+        }
+
+        private DelayedCreationCachedIndexInput(
+            FileCache fileCache,
+            BlobContainer blobContainer,
+            BlobFetchRequest request,
+            boolean isPrefetch
+        ) {
             this.fileCache = fileCache;
             this.blobContainer = blobContainer;
             this.request = request;
+            this.isUnreadPrefetch = new AtomicBoolean(isPrefetch);
+        }
+
+        /**
+         * Returns {@code true} if the entry was created by a prefetch and this is the first time a reader asks for it.
+         */
+        private boolean markRead() {
+            return isUnreadPrefetch.get() && isUnreadPrefetch.compareAndSet(true, false);
         }
 
         @Override
@@ -163,6 +255,9 @@ public class TransferManager {
         @Override
         public void close() throws Exception {
             if (isClosed.getAndSet(true) == false) {
+                if (isUnreadPrefetch.compareAndSet(true, false)) {
+                    fileCache.onPrefetchWasted();
+                }
                 result.whenComplete((indexInput, error) -> {
                     if (indexInput != null) {
                         try {
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.Locale;
+
+/**
+ * The policies that decide which unreferenced entry a {@link RefCountedCache} evicts first once it exceeds its capacity.
+ *
+ * @opensearch.internal
+ */
+public enum EvictionPolicy {
+    /**
+     * Evicts the least recently used entry.
+     */
+    LRU("lru") {
+        @Override
+        <K> EvictionQueue<K> newQueue(long capacity) {
+            return new LRUQueue<>();
+        }
+    },
+    /**
+     * Segmented LRU: new entries start on a probation segment and only move to a protected segment, which holds most of
+     * the capacity, once they are used again. A scan over many entries that are used once only evicts other entries of
+     * the probation segment.
+     */
+    SEGMENTED_LRU("slru") {
+        @Override
+        <K> EvictionQueue<K> newQueue(long capacity) {
+            return new SegmentedLRUQueue<>(capacity);
+        }
+    },
+    /**
+     * Segmented LRU behind a small LRU admission window, whose evicted entries only replace the next victim of the
+     * segmented LRU if their keys were accessed more often recently, as estimated by a TinyLFU frequency sketch.
+     */
+    TINY_LFU("tinylfu") {
+        @Override
+        <K> EvictionQueue<K> newQueue(long capacity) {
+            return new TinyLFUQueue<>(capacity);
+        }
+    };
+
+    private final String policyName;
+
+    EvictionPolicy(String policyName) {
+        this.policyName = policyName;
+    }
+
+    /**
+     * Creates the queue of the evictable entries of a cache with the given capacity.
+     */
+    abstract <K> EvictionQueue<K> newQueue(long capacity);
+
+    public String policyName() {
+        return policyName;
+    }
+
+    public static EvictionPolicy fromString(String policyName) {
+        for (EvictionPolicy policy : values()) {
+            if (policy.policyName.equals(policyName.toLowerCase(Locale.ROOT))) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("unknown eviction policy [" + policyName + "]");
+    }
+}
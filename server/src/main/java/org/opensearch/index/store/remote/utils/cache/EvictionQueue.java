@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.List;
+
+/**
+ * The unreferenced entries of a {@link LRUCache} in the order an {@link EvictionPolicy} evicts them. Entries are added
+ * to the queue when their reference count drops to zero and removed when they are referenced or removed from the cache.
+ * Implementations are not thread safe, the cache accesses them under its lock.
+ *
+ * @opensearch.internal
+ */
+interface EvictionQueue<K> {
+
+    /**
+     * Records that the given key was looked up, whether or not it is cached.
+     */
+    void recordAccess(K key);
+
+    /**
+     * Prepares the queue for the given number of entries, so that it does not need to grow while the cache restores them.
+     */
+    default void ensureCapacity(int expectedSize) {}
+
+    /**
+     * Adds an entry that is no longer referenced.
+     * @param reused whether the entry was used again since it was added to the cache
+     */
+    void add(K key, long weight, boolean reused);
+
+    /**
+     * Removes the given entry, and returns whether it was queued.
+     */
+    boolean remove(K key);
+
+    /**
+     * Removes and returns the next entry to evict, or {@code null} if the queue is empty.
+     */
+    K poll();
+
+    /**
+     * Returns the queued keys in eviction order.
+     */
+    List<K> keys();
+
+    void clear();
+}
@@ -17,11 +17,10 @@ import org.opensearch.index.store.remote.utils.cache.stats.DefaultStatsCounter;
 import org.opensearch.index.store.remote.utils.cache.stats.StatsCounter;
 
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Predicate;
 
 /**
@@ -38,6 +37,7 @@ import java.util.function.Predicate;
  * <li>Supports RemovalListener</li>
  * <li>Cache maintains it's capacity using LRU Eviction while ignoring entries with {@link Node#refCount} greater than 0 from eviction</li>
  * </ul>
+ * The order in which unreferenced entries are evicted can be changed from LRU to another {@link EvictionPolicy}.
  * @see RefCountedCache
  *
  * @opensearch.internal
@@ -47,8 +47,8 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     private final HashMap<K, Node<K, V>> data;
 
-    /** the LRU list */
-    private final LinkedHashMap<K, Node<K, V>> lru;
+    /** the unreferenced entries in eviction order */
+    private final EvictionQueue<K> evictionQueue;
 
     private final RemovalListener<K, V> listener;
 
@@ -77,6 +77,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
         int refCount;
 
+        /** whether the entry was looked up or replaced since it was added */
+        boolean reused;
+
+        /** the number of times the entry was looked up or replaced since it was added */
+        int hits;
+
         Node(K key, V value, long weight) {
             this.key = key;
             this.value = value;
@@ -90,11 +96,15 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     }
 
     public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this(capacity, listener, weigher, EvictionPolicy.LRU);
+    }
+
+    public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher, EvictionPolicy evictionPolicy) {
         this.capacity = capacity;
         this.listener = listener;
         this.weigher = weigher;
         this.data = new HashMap<>();
-        this.lru = new LinkedHashMap<>();
+        this.evictionQueue = evictionPolicy.newQueue(capacity);
         this.lock = new ReentrantLock();
         this.statsCounter = new DefaultStatsCounter<>();
 
@@ -105,6 +115,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         Objects.requireNonNull(key);
         lock.lock();
         try {
+            evictionQueue.recordAccess(key);
             Node<K, V> node = data.get(key);
             // miss
             if (node == null) {
@@ -112,6 +123,8 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                 return null;
             }
             // hit
+            node.reused = true;
+            node.hits = saturatedIncrement(node.hits);
             incRef(key);
             statsCounter.recordHits(key, 1);
             return node.value;
@@ -127,6 +140,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
         lock.lock();
         try {
+            evictionQueue.recordAccess(key);
             Node<K, V> node = data.get(key);
             if (node != null) {
                 final V oldValue = node.value;
@@ -147,6 +161,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         Objects.requireNonNull(remappingFunction);
         lock.lock();
         try {
+            evictionQueue.recordAccess(key);
             final Node<K, V> node = data.get(key);
             if (node == null) {
                 final V newValue = remappingFunction.apply(key, null);
@@ -165,6 +180,8 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                     return null;
                 } else {
                     statsCounter.recordHits(key, 1);
+                    node.reused = true;
+                    node.hits = saturatedIncrement(node.hits);
                     replaceNode(node, newValue);
                     return newValue;
                 }
@@ -191,7 +208,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         try {
             usage = 0L;
             activeUsage = 0L;
-            lru.clear();
+            evictionQueue.clear();
             for (Node<K, V> node : data.values()) {
                 data.remove(node.key);
                 statsCounter.recordRemoval(node.weight);
@@ -221,7 +238,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since it become active, we should remove it from eviction list
-                    lru.remove(node.key);
+                    evictionQueue.remove(node.key);
                 }
 
                 node.refCount++;
@@ -243,7 +260,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    evictionQueue.add(node.key, node.weight, node.reused);
                 }
 
                 if (node.refCount == 0) {
@@ -261,14 +278,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         long sum = 0L;
         lock.lock();
         try {
-            final Iterator<Node<K, V>> iterator = lru.values().iterator();
-            while (iterator.hasNext()) {
-                final Node<K, V> node = iterator.next();
-                if (keyPredicate != null && !keyPredicate.test(node.key)) {
+            for (K key : evictionQueue.keys()) {
+                if (keyPredicate != null && !keyPredicate.test(key)) {
                     continue;
                 }
-                iterator.remove();
-                data.remove(node.key, node);
+                evictionQueue.remove(key);
+                final Node<K, V> node = data.remove(key);
                 sum += node.weight;
                 statsCounter.recordRemoval(node.weight);
                 listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
@@ -280,6 +295,71 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         return sum;
     }
 
+    /**
+     * Passes the key of each entry, together with the number of times it was hit, to the given consumer in the order in which
+     * the entries would be evicted, with the referenced entries last. The consumer is called while holding the lock.
+     */
+    void forEachInEvictionOrder(ObjIntConsumer<K> consumer) {
+        lock.lock();
+        try {
+            for (K key : evictionQueue.keys()) {
+                consumer.accept(key, data.get(key).hits);
+            }
+            for (Node<K, V> node : data.values()) {
+                if (node.evictable() == false) {
+                    consumer.accept(node.key, node.hits);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Prepares this cache for the given number of entries before they are restored.
+     */
+    void ensureCapacity(int expectedSize) {
+        lock.lock();
+        try {
+            evictionQueue.ensureCapacity(expectedSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an unreferenced entry that was hit the given number of times before this cache was created, as the most recently
+     * used entry. Entries that are restored from the coldest to the hottest thus get back the order they were evicted in.
+     * Restoring an entry is not counted as a hit or a miss, and does nothing if the key is already cached.
+     */
+    void restore(K key, V value, int hits) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        lock.lock();
+        try {
+            if (data.containsKey(key)) {
+                return;
+            }
+            final Node<K, V> node = new Node<>(key, value, weigher.weightOf(value));
+            node.hits = Math.max(hits, 0);
+            node.reused = node.hits > 0;
+            data.put(key, node);
+            usage += node.weight;
+            evictionQueue.add(key, node.weight, node.reused);
+            // the frequency sketch of TinyLFU saturates at 15 accesses
+            for (int i = 0; i < Math.min(node.hits, 15); i++) {
+                evictionQueue.recordAccess(key);
+            }
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int saturatedIncrement(int value) {
+        return value == Integer.MAX_VALUE ? value : value + 1;
+    }
+
     @Override
     public CacheUsage usage() {
         lock.lock();
@@ -338,7 +418,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             }
             usage -= node.weight;
             if (node.evictable()) {
-                lru.remove(node.key);
+                evictionQueue.remove(node.key);
             }
             statsCounter.recordRemoval(node.weight);
             listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
@@ -352,12 +432,13 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     private void evict() {
         // Attempts to evict entries from the cache if it exceeds the maximum
         // capacity.
-        final Iterator<Node<K, V>> iterator = lru.values().iterator();
-        while (hasOverflowed() && iterator.hasNext()) {
-            final Node<K, V> node = iterator.next();
-            iterator.remove();
+        while (hasOverflowed()) {
+            final K key = evictionQueue.poll();
+            if (key == null) {
+                break;
+            }
             // Notify the listener only if the entry was evicted
-            data.remove(node.key, node);
+            final Node<K, V> node = data.remove(key);
             usage -= node.weight;
             statsCounter.recordEviction(node.weight);
             listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * {@link EvictionQueue} of {@link EvictionPolicy#LRU}.
+ *
+ * @opensearch.internal
+ */
+final class LRUQueue<K> implements EvictionQueue<K> {
+
+    private final LinkedHashMap<K, Long> entries = new LinkedHashMap<>();
+
+    @Override
+    public void recordAccess(K key) {}
+
+    @Override
+    public void add(K key, long weight, boolean reused) {
+        entries.put(key, weight);
+    }
+
+    @Override
+    public boolean remove(K key) {
+        return entries.remove(key) != null;
+    }
+
+    @Override
+    public K poll() {
+        final Iterator<K> iterator = entries.keySet().iterator();
+        if (iterator.hasNext() == false) {
+            return null;
+        }
+        final K key = iterator.next();
+        iterator.remove();
+        return key;
+    }
+
+    @Override
+    public List<K> keys() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -15,6 +15,7 @@ import org.opensearch.index.store.remote.utils.cache.stats.CacheStats;
 
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Predicate;
 
 /**
@@ -39,7 +40,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
     /**
      * The array of bins. Size is always a power of two.
      */
-    private final RefCountedCache<K, V>[] table;
+    private final LRUCache<K, V>[] table;
 
     /**
      * Mask value for indexing into segments.
@@ -48,6 +49,8 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
     private final Weigher<V> weigher;
 
+    private final EvictionPolicy evictionPolicy;
+
     public SegmentedCache(Builder<K, V> builder) {
         this.capacity = builder.capacity;
         final int segments = ceilingNextPowerOfTwo(builder.concurrencyLevel);
@@ -55,17 +58,18 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.table = newSegmentArray(segments);
         this.perSegmentCapacity = (capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
+        this.evictionPolicy = builder.evictionPolicy;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher, builder.evictionPolicy);
         }
     }
 
     @SuppressWarnings("unchecked")
-    final RefCountedCache<K, V>[] newSegmentArray(int size) {
-        return new RefCountedCache[size];
+    final LRUCache<K, V>[] newSegmentArray(int size) {
+        return new LRUCache[size];
     }
 
-    RefCountedCache<K, V> segmentFor(K key) {
+    LRUCache<K, V> segmentFor(K key) {
         int h = key.hashCode();
         // Based on this answer https://stackoverflow.com/a/12996028
         h = ((h >>> 16) ^ h) * 0x45d9f3b;
@@ -148,6 +152,36 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         return sum;
     }
 
+    /**
+     * Passes the key of each entry, together with the number of times it was hit, to the given consumer, segment by segment
+     * and in the order in which the entries of each segment would be evicted.
+     */
+    public void forEachInEvictionOrder(ObjIntConsumer<K> consumer) {
+        for (LRUCache<K, V> cache : table) {
+            cache.forEachInEvictionOrder(consumer);
+        }
+    }
+
+    /**
+     * Prepares the segments for the given number of entries before they are restored. Each segment is prepared for twice its
+     * share, as the keys don't spread evenly across the segments.
+     */
+    public void ensureCapacity(int expectedSize) {
+        final int segmentSize = (int) Math.min(Integer.MAX_VALUE, 2L * ((expectedSize + table.length - 1) / table.length));
+        for (LRUCache<K, V> cache : table) {
+            cache.ensureCapacity(segmentSize);
+        }
+    }
+
+    /**
+     * Adds an unreferenced entry that was hit the given number of times before this cache was created, as the most recently
+     * used entry of its segment, without counting a hit or a miss.
+     */
+    public void restore(K key, V value, int hits) {
+        if (key == null || value == null) throw new NullPointerException();
+        segmentFor(key).restore(key, value, hits);
+    }
+
     @Override
     public CacheUsage usage() {
         long usage = 0L;
@@ -218,6 +252,13 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         return weigher;
     }
 
+    /**
+     * @return the policy that orders the evictions of each segment
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
     /**
      * A builder that creates {@link SegmentedCache} instances. It
      * provides a flexible approach for constructing customized instances with
@@ -229,6 +270,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         RemovalListener<K, V> listener;
         Weigher<V> weigher;
+        EvictionPolicy evictionPolicy;
 
         int concurrencyLevel;
 
@@ -240,6 +282,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
+            evictionPolicy = EvictionPolicy.LRU;
         }
 
         /**
@@ -299,6 +342,19 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies the policy that decides which unreferenced entry of a segment
+         * is evicted first (default {@link EvictionPolicy#LRU}).
+         *
+         * @param evictionPolicy the eviction policy of the segments
+         * @throws NullPointerException if the eviction policy is null
+         */
+        public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+            Objects.requireNonNull(evictionPolicy);
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
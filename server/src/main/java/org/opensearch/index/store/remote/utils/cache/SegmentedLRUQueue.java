@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link EvictionQueue} of {@link EvictionPolicy#SEGMENTED_LRU}. Entries that were used again since they were added to
+ * the cache are queued on the protected segment, up to {@link #PROTECTED_RATIO} of the capacity, and all others on the
+ * probation segment, which is evicted first. Entries that overflow the protected segment are moved back to probation.
+ *
+ * @opensearch.internal
+ */
+final class SegmentedLRUQueue<K> implements EvictionQueue<K> {
+
+    static final double PROTECTED_RATIO = 0.8;
+
+    private final LinkedHashMap<K, Long> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Long> protectedEntries = new LinkedHashMap<>();
+    private final long protectedCapacity;
+    private long probationWeight;
+    private long protectedWeight;
+
+    SegmentedLRUQueue(long capacity) {
+        this.protectedCapacity = (long) (capacity * PROTECTED_RATIO);
+    }
+
+    @Override
+    public void recordAccess(K key) {}
+
+    @Override
+    public void add(K key, long weight, boolean reused) {
+        if (reused) {
+            protectedEntries.put(key, weight);
+            protectedWeight += weight;
+            while (protectedWeight > protectedCapacity) {
+                final Map.Entry<K, Long> eldest = protectedEntries.entrySet().iterator().next();
+                protectedEntries.remove(eldest.getKey());
+                protectedWeight -= eldest.getValue();
+                addToProbation(eldest.getKey(), eldest.getValue());
+            }
+        } else {
+            addToProbation(key, weight);
+        }
+    }
+
+    private void addToProbation(K key, long weight) {
+        probation.put(key, weight);
+        probationWeight += weight;
+    }
+
+    @Override
+    public boolean remove(K key) {
+        Long weight = probation.remove(key);
+        if (weight != null) {
+            probationWeight -= weight;
+            return true;
+        } else if ((weight = protectedEntries.remove(key)) != null) {
+            protectedWeight -= weight;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the next entry to evict without removing it, or {@code null} if the queue is empty.
+     */
+    K peek() {
+        if (probation.isEmpty() == false) {
+            return probation.keySet().iterator().next();
+        }
+        return protectedEntries.isEmpty() ? null : protectedEntries.keySet().iterator().next();
+    }
+
+    @Override
+    public K poll() {
+        final K key = peek();
+        if (key != null) {
+            remove(key);
+        }
+        return key;
+    }
+
+    long weight() {
+        return probationWeight + protectedWeight;
+    }
+
+    @Override
+    public List<K> keys() {
+        final List<K> keys = new ArrayList<>(probation.size() + protectedEntries.size());
+        keys.addAll(probation.keySet());
+        keys.addAll(protectedEntries.keySet());
+        return keys;
+    }
+
+    @Override
+    public void clear() {
+        probation.clear();
+        protectedEntries.clear();
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+}
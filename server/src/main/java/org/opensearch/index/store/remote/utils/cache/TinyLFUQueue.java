@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.common.cache.FrequencySketch;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link EvictionQueue} of {@link EvictionPolicy#TINY_LFU}. New entries are queued on an LRU admission window that
+ * holds {@link #WINDOW_RATIO} of the capacity, and entries that were used again on the protected segment of the
+ * {@link SegmentedLRUQueue} that holds the rest. While the segmented LRU has room, the entries that overflow the window
+ * move into its probation segment. Once it is full, the eldest entry of an overflowing window only replaces the next
+ * victim of the segmented LRU if its key was accessed more often, as estimated by a {@link FrequencySketch}, and is
+ * evicted otherwise. This keeps entries that are read once, such as the blocks of a large scan, from flushing the
+ * entries that are read over and over.
+ * <p>
+ * The cache evicts when it adds an entry, at which point the new entry is still referenced and not queued. The window
+ * thus always keeps the last entry that was released, even if it overflows, so that this entry competes with the
+ * victim of the segmented LRU at the next eviction.
+ *
+ * @opensearch.internal
+ */
+final class TinyLFUQueue<K> implements EvictionQueue<K> {
+
+    static final double WINDOW_RATIO = 0.01;
+
+    private final LinkedHashMap<K, Long> window = new LinkedHashMap<>();
+    private final SegmentedLRUQueue<K> main;
+    private final FrequencySketch sketch = new FrequencySketch();
+    private final long windowCapacity;
+    private final long mainCapacity;
+    private long windowWeight;
+    private int size;
+
+    TinyLFUQueue(long capacity) {
+        this.windowCapacity = (long) (capacity * WINDOW_RATIO);
+        this.mainCapacity = capacity - windowCapacity;
+        this.main = new SegmentedLRUQueue<>(mainCapacity);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        sketch.increment(key.hashCode());
+    }
+
+    /**
+     * Grows the frequency sketch up front, since growing it later drops the accesses that restored entries recorded.
+     */
+    @Override
+    public void ensureCapacity(int expectedSize) {
+        sketch.ensureCapacity(expectedSize);
+    }
+
+    @Override
+    public void add(K key, long weight, boolean reused) {
+        sketch.ensureCapacity(++size);
+        if (reused) {
+            main.add(key, weight, true);
+            return;
+        }
+        window.put(key, weight);
+        windowWeight += weight;
+        while (windowWeight > windowCapacity && window.size() > 1) {
+            final Map.Entry<K, Long> eldest = window.entrySet().iterator().next();
+            if (main.weight() + eldest.getValue() > mainCapacity) {
+                break;
+            }
+            window.remove(eldest.getKey());
+            windowWeight -= eldest.getValue();
+            main.add(eldest.getKey(), eldest.getValue(), false);
+        }
+    }
+
+    @Override
+    public boolean remove(K key) {
+        final Long weight = window.remove(key);
+        if (weight != null) {
+            windowWeight -= weight;
+        } else if (main.remove(key) == false) {
+            return false;
+        }
+        size--;
+        return true;
+    }
+
+    @Override
+    public K poll() {
+        if (window.isEmpty()) {
+            return pollMain();
+        }
+        final K victim = main.peek();
+        if (victim != null && windowWeight <= windowCapacity) {
+            return pollMain();
+        }
+        // the window overflows: its eldest entry is either admitted in place of the victim, or evicted itself
+        final Map.Entry<K, Long> candidate = window.entrySet().iterator().next();
+        window.remove(candidate.getKey());
+        windowWeight -= candidate.getValue();
+        size--;
+        if (victim != null && sketch.frequency(candidate.getKey().hashCode()) > sketch.frequency(victim.hashCode())) {
+            main.remove(victim);
+            main.add(candidate.getKey(), candidate.getValue(), false);
+            return victim;
+        }
+        return candidate.getKey();
+    }
+
+    private K pollMain() {
+        final K key = main.poll();
+        if (key != null) {
+            size--;
+        }
+        return key;
+    }
+
+    @Override
+    public List<K> keys() {
+        final List<K> keys = new ArrayList<>(size);
+        keys.addAll(window.keySet());
+        keys.addAll(main.keys());
+        return keys;
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        main.clear();
+        windowWeight = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.metrics.MeanMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Node level group commit of translog syncs. The sync requests of all shards on the node are collected for up to
+ * {@link #WINDOW_SETTING} after the first of them arrived, or until the operations waiting for a sync add up to
+ * {@link #MAX_BYTES_SETTING}, and the translogs of all shards in the batch are then synced together on the
+ * {@link ThreadPool.Names#TRANSLOG_SYNC} threadpool. The listeners are completed on the thread that synced the translog
+ * of their shard, so that write threads never block on an fsync.
+ * <p>
+ * Without group commit each shard syncs its translog on the first write thread that asks for it, see {@link AsyncIOProcessor}.
+ *
+ * @opensearch.internal
+ */
+public class TranslogGroupCommitScheduler {
+
+    private static final Logger logger = LogManager.getLogger(TranslogGroupCommitScheduler.class);
+
+    public static final Setting<Boolean> ENABLED_SETTING = Setting.boolSetting(
+        "indices.translog.group_commit.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> WINDOW_SETTING = Setting.timeSetting(
+        "indices.translog.group_commit.window",
+        TimeValue.timeValueMillis(5),
+        TimeValue.ZERO,
+        TimeValue.timeValueMillis(100),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    public static final Setting<ByteSizeValue> MAX_BYTES_SETTING = Setting.byteSizeSetting(
+        "indices.translog.group_commit.max_bytes",
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(0),
+        new ByteSizeValue(Long.MAX_VALUE),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    private final ThreadPool threadPool;
+    private final boolean enabled;
+    private volatile TimeValue window;
+    private volatile long maxBytes;
+
+    private final Object mutex = new Object();
+    private Map<ShardSyncProcessor, List<Tuple<Translog.Location, Consumer<Exception>>>> pending = new IdentityHashMap<>();
+    private long pendingBytes;
+    private boolean flushScheduled;
+    private boolean flushForced;
+
+    private final MeanMetric batchSizes = new MeanMetric();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final MeanMetric syncTimes = new MeanMetric();
+    private final AtomicLong maxSyncTime = new AtomicLong();
+
+    public TranslogGroupCommitScheduler(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.window = WINDOW_SETTING.get(settings);
+        this.maxBytes = MAX_BYTES_SETTING.get(settings).getBytes();
+        clusterSettings.addSettingsUpdateConsumer(WINDOW_SETTING, window -> this.window = window);
+        clusterSettings.addSettingsUpdateConsumer(MAX_BYTES_SETTING, maxBytes -> this.maxBytes = maxBytes.getBytes());
+    }
+
+    /**
+     * Whether the translog syncs of the shards on this node are group committed.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates the processor that hands the sync requests of a shard to this scheduler.
+     *
+     * @param writer syncs the translog of the shard up to the given locations
+     */
+    public AsyncIOProcessor<Translog.Location> newSyncProcessor(
+        Logger logger,
+        ThreadContext threadContext,
+        CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writer
+    ) {
+        return new ShardSyncProcessor(logger, threadContext, writer);
+    }
+
+    public TranslogGroupCommitStats stats() {
+        return new TranslogGroupCommitStats(
+            batchSizes.count(),
+            batchSizes.sum(),
+            maxBatchSize.get(),
+            syncTimes.count(),
+            TimeUnit.NANOSECONDS.toMillis(syncTimes.sum()),
+            TimeUnit.NANOSECONDS.toMillis(maxSyncTime.get())
+        );
+    }
+
+    private void add(ShardSyncProcessor processor, Translog.Location location, Consumer<Exception> listener) {
+        final boolean schedule;
+        final boolean flushNow;
+        synchronized (mutex) {
+            pending.computeIfAbsent(processor, k -> new ArrayList<>()).add(new Tuple<>(location, listener));
+            pendingBytes += location.size;
+            final boolean full = pendingBytes >= maxBytes || window.nanos() == 0;
+            schedule = flushScheduled == false;
+            flushNow = full && flushForced == false;
+            flushScheduled = true;
+            flushForced |= full;
+        }
+        if (flushNow) {
+            scheduleFlush(TimeValue.ZERO);
+        } else if (schedule) {
+            scheduleFlush(window);
+        }
+    }
+
+    private void scheduleFlush(TimeValue delay) {
+        try {
+            if (delay.nanos() == 0) {
+                threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(this::flush);
+            } else {
+                threadPool.schedule(this::flush, delay, ThreadPool.Names.TRANSLOG_SYNC);
+            }
+        } catch (Exception e) {
+            logger.error("failed to schedule translog group commit", e);
+            for (List<Tuple<Translog.Location, Consumer<Exception>>> candidates : drain().values()) {
+                notifyList(candidates, e);
+            }
+        }
+    }
+
+    private Map<ShardSyncProcessor, List<Tuple<Translog.Location, Consumer<Exception>>>> drain() {
+        synchronized (mutex) {
+            final Map<ShardSyncProcessor, List<Tuple<Translog.Location, Consumer<Exception>>>> batch = pending;
+            pending = new IdentityHashMap<>();
+            pendingBytes = 0;
+            flushScheduled = false;
+            flushForced = false;
+            return batch;
+        }
+    }
+
+    private void flush() {
+        final Map<ShardSyncProcessor, List<Tuple<Translog.Location, Consumer<Exception>>>> batch = drain();
+        if (batch.isEmpty()) {
+            // a flush that was scheduled for the window found the batch drained by one that was forced by its size already
+            return;
+        }
+        long batchSize = 0;
+        for (List<Tuple<Translog.Location, Consumer<Exception>>> candidates : batch.values()) {
+            batchSize += candidates.size();
+        }
+        batchSizes.inc(batchSize);
+        maxBatchSize.accumulateAndGet(batchSize, Math::max);
+
+        // the translogs of the other shards are synced concurrently, the last one is synced on this thread
+        final List<Map.Entry<ShardSyncProcessor, List<Tuple<Translog.Location, Consumer<Exception>>>>> entries = new ArrayList<>(
+            batch.entrySet()
+        );
+        for (int i = 0; i < entries.size() - 1; i++) {
+            final ShardSyncProcessor processor = entries.get(i).getKey();
+            final List<Tuple<Translog.Location, Consumer<Exception>>> candidates = entries.get(i).getValue();
+            threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    sync(processor, candidates);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    notifyList(candidates, e);
+                }
+            });
+        }
+        final Map.Entry<ShardSyncProcessor, List<Tuple<Translog.Location, Consumer<Exception>>>> last = entries.get(entries.size() - 1);
+        sync(last.getKey(), last.getValue());
+    }
+
+    private void sync(ShardSyncProcessor processor, List<Tuple<Translog.Location, Consumer<Exception>>> candidates) {
+        final long startNanos = System.nanoTime();
+        Exception exception = null;
+        try {
+            processor.write(candidates);
+        } catch (Exception e) {
+            processor.logger.debug("failed to sync translog", e);
+            exception = e;
+        }
+        final long tookNanos = System.nanoTime() - startNanos;
+        syncTimes.inc(tookNanos);
+        maxSyncTime.accumulateAndGet(tookNanos, Math::max);
+        notifyList(candidates, exception);
+    }
+
+    private static void notifyList(List<Tuple<Translog.Location, Consumer<Exception>>> candidates, Exception exception) {
+        for (Tuple<Translog.Location, Consumer<Exception>> tuple : candidates) {
+            try {
+                tuple.v2().accept(exception);
+            } catch (Exception ex) {
+                logger.warn("failed to notify callback", ex);
+            }
+        }
+    }
+
+    /**
+     * Hands the sync requests of a shard to the scheduler rather than processing them on the calling thread.
+     */
+    private class ShardSyncProcessor extends AsyncIOProcessor<Translog.Location> {
+
+        private final Logger logger;
+        private final ThreadContext threadContext;
+        private final CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writer;
+
+        ShardSyncProcessor(
+            Logger logger,
+            ThreadContext threadContext,
+            CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writer
+        ) {
+            // the queue of the processor is not used, all items are queued by the scheduler
+            super(logger, 1, threadContext);
+            this.logger = logger;
+            this.threadContext = threadContext;
+            this.writer = writer;
+        }
+
+        @Override
+        public void put(Translog.Location location, Consumer<Exception> listener) {
+            Objects.requireNonNull(location, "item must not be null");
+            Objects.requireNonNull(listener, "listener must not be null");
+            final Supplier<ThreadContext.StoredContext> restorableContext = threadContext.newRestorableContext(false);
+            add(this, location, e -> {
+                try (ThreadContext.StoredContext ignore = restorableContext.get()) {
+                    listener.accept(e);
+                }
+            });
+        }
+
+        @Override
+        protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
+            writer.accept(candidates);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Statistics of the node level group commit of translog syncs, see {@link TranslogGroupCommitScheduler}.
+ *
+ * @opensearch.internal
+ */
+public class TranslogGroupCommitStats implements Writeable, ToXContentFragment {
+
+    private final long batches;
+    private final long syncRequests;
+    private final long maxBatchSize;
+    private final long syncs;
+    private final long syncTimeInMillis;
+    private final long maxSyncTimeInMillis;
+
+    public TranslogGroupCommitStats(
+        long batches,
+        long syncRequests,
+        long maxBatchSize,
+        long syncs,
+        long syncTimeInMillis,
+        long maxSyncTimeInMillis
+    ) {
+        this.batches = batches;
+        this.syncRequests = syncRequests;
+        this.maxBatchSize = maxBatchSize;
+        this.syncs = syncs;
+        this.syncTimeInMillis = syncTimeInMillis;
+        this.maxSyncTimeInMillis = maxSyncTimeInMillis;
+    }
+
+    public TranslogGroupCommitStats(StreamInput in) throws IOException {
+        this.batches = in.readVLong();
+        this.syncRequests = in.readVLong();
+        this.maxBatchSize = in.readVLong();
+        this.syncs = in.readVLong();
+        this.syncTimeInMillis = in.readVLong();
+        this.maxSyncTimeInMillis = in.readVLong();
+    }
+
+    /**
+     * The number of batches of sync requests that were committed.
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * The number of sync requests of all batches.
+     */
+    public long getSyncRequests() {
+        return syncRequests;
+    }
+
+    /**
+     * The largest number of sync requests in a single batch.
+     */
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The number of translog syncs, one per shard of each batch.
+     */
+    public long getSyncs() {
+        return syncs;
+    }
+
+    public long getSyncTimeInMillis() {
+        return syncTimeInMillis;
+    }
+
+    public long getMaxSyncTimeInMillis() {
+        return maxSyncTimeInMillis;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(batches);
+        out.writeVLong(syncRequests);
+        out.writeVLong(maxBatchSize);
+        out.writeVLong(syncs);
+        out.writeVLong(syncTimeInMillis);
+        out.writeVLong(maxSyncTimeInMillis);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.TRANSLOG_GROUP_COMMIT);
+        builder.field(Fields.BATCHES, batches);
+        builder.field(Fields.SYNC_REQUESTS, syncRequests);
+        builder.field(Fields.MAX_BATCH_SIZE, maxBatchSize);
+        builder.field(Fields.SYNCS, syncs);
+        builder.humanReadableField(Fields.SYNC_TIME_IN_MILLIS, Fields.SYNC_TIME, new TimeValue(syncTimeInMillis));
+        builder.humanReadableField(Fields.MAX_SYNC_TIME_IN_MILLIS, Fields.MAX_SYNC_TIME, new TimeValue(maxSyncTimeInMillis));
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TranslogGroupCommitStats that = (TranslogGroupCommitStats) o;
+        return batches == that.batches
+            && syncRequests == that.syncRequests
+            && maxBatchSize == that.maxBatchSize
+            && syncs == that.syncs
+            && syncTimeInMillis == that.syncTimeInMillis
+            && maxSyncTimeInMillis == that.maxSyncTimeInMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batches, syncRequests, maxBatchSize, syncs, syncTimeInMillis, maxSyncTimeInMillis);
+    }
+
+    /**
+     * Fields for translog group commit statistics
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String TRANSLOG_GROUP_COMMIT = "translog_group_commit";
+        static final String BATCHES = "batches";
+        static final String SYNC_REQUESTS = "sync_requests";
+        static final String MAX_BATCH_SIZE = "max_batch_size";
+        static final String SYNCS = "syncs";
+        static final String SYNC_TIME = "sync_time";
+        static final String SYNC_TIME_IN_MILLIS = "sync_time_in_millis";
+        static final String MAX_SYNC_TIME = "max_sync_time";
+        static final String MAX_SYNC_TIME_IN_MILLIS = "max_sync_time_in_millis";
+    }
+}
@@ -65,6 +65,26 @@ abstract class AbstractIndexShardCacheEntity implements IndicesRequestCache.Cach
         stats().onMiss();
     }
 
+    @Override
+    public final void onDiskHit() {
+        stats().onDiskHit();
+    }
+
+    @Override
+    public final void onDiskMiss() {
+        stats().onDiskMiss();
+    }
+
+    @Override
+    public final void onDiskCached(long sizeInBytes) {
+        stats().onDiskCached(sizeInBytes);
+    }
+
+    @Override
+    public final void onDiskRemoval(long sizeInBytes, boolean evicted) {
+        stats().onDiskRemoval(sizeInBytes, evicted);
+    }
+
     @Override
     public final void onRemoval(RemovalNotification<IndicesRequestCache.Key, BytesReference> notification) {
         stats().onRemoval(notification.getKey(), notification.getValue(), notification.getRemovalReason() == RemovalReason.EVICTED);
@@ -36,14 +36,19 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.cache.CacheLoader;
+import org.opensearch.common.cache.EvictionPolicy;
 import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -55,13 +60,18 @@ import org.opensearch.core.common.unit.ByteSizeValue;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 /**
  * The indices request cache allows to cache a shard level request stage responses, helping with improving
@@ -73,6 +83,9 @@ import java.util.concurrent.ConcurrentMap;
  * Currently, the cache is only enabled for count requests, and can only be opted in on an index
  * level setting that can be dynamically changed and defaults to false.
  * <p>
+ * When {@link #INDICES_CACHE_DISK_SIZE} is set, entries evicted from the heap are spilled to a second, disk backed tier
+ * (see {@link RequestCacheDiskTier}) and promoted back to the heap on their next hit.
+ * <p>
  * There are still several TODOs left in this class, some easily addressable, some more complex, but the support
  * is functional.
  *
@@ -92,6 +105,17 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         Property.Dynamic,
         Property.IndexScope
     );
+    /**
+     * A setting to cache the results of requests per segment rather than per shard, so that only the segments that are new
+     * since the last refresh need to be searched. Only applies to requests whose results can be computed segment by segment,
+     * others are cached per shard.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING = Setting.boolSetting(
+        "index.requests.cache.segment_level",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
     public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_SIZE = Setting.memorySizeSetting(
         "indices.requests.cache.size",
         "1%",
@@ -102,30 +126,87 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         new TimeValue(0),
         Property.NodeScope
     );
+    /**
+     * The implementation of the heap tier, {@code tiny_lfu} trades strict LRU ordering for lock-free reads and a frequency
+     * aware admission policy.
+     */
+    public static final Setting<EvictionPolicy> INDICES_CACHE_EVICTION_POLICY = new Setting<>(
+        "indices.requests.cache.eviction_policy",
+        EvictionPolicy.LRU.name().toLowerCase(Locale.ROOT),
+        EvictionPolicy::fromString,
+        Property.NodeScope
+    );
+    /**
+     * The size of the disk tier of the request cache, entries evicted from the heap are spilled to it. A size of zero disables
+     * the disk tier.
+     */
+    public static final Setting<ByteSizeValue> INDICES_CACHE_DISK_SIZE = Setting.byteSizeSetting(
+        "indices.requests.cache.disk.size",
+        new ByteSizeValue(0),
+        Property.NodeScope
+    );
+    /**
+     * The heap that entries evicted from the heap tier may hold while they wait to be written to the disk tier. Evictions
+     * beyond it are dropped rather than spilled.
+     */
+    public static final Setting<ByteSizeValue> INDICES_CACHE_DISK_MAX_PENDING_SIZE = Setting.memorySizeSetting(
+        "indices.requests.cache.disk.max_pending_size",
+        "0.5%",
+        Property.NodeScope
+    );
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
     private final Set<CleanupKey> keysToClean = ConcurrentCollections.newConcurrentSet();
     private final ByteSizeValue size;
     private final TimeValue expire;
     private final Cache<Key, BytesReference> cache;
+    @Nullable
+    private final RequestCacheDiskTier diskTier;
 
     IndicesRequestCache(Settings settings) {
+        this(settings, null, null);
+    }
+
+    /**
+     * @param diskTierPath the directory to spill heap evictions to, or {@code null} to keep the cache on heap only
+     * @param spillExecutor the executor that writes heap evictions to the disk tier, required with a disk tier path
+     */
+    IndicesRequestCache(Settings settings, @Nullable Path diskTierPath, @Nullable Executor spillExecutor) {
         this.size = INDICES_CACHE_QUERY_SIZE.get(settings);
         this.expire = INDICES_CACHE_QUERY_EXPIRE.exists(settings) ? INDICES_CACHE_QUERY_EXPIRE.get(settings) : null;
         long sizeInBytes = size.getBytes();
         CacheBuilder<Key, BytesReference> cacheBuilder = CacheBuilder.<Key, BytesReference>builder()
             .setMaximumWeight(sizeInBytes)
             .weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed())
+            .setEvictionPolicy(INDICES_CACHE_EVICTION_POLICY.get(settings))
             .removalListener(this);
         if (expire != null) {
             cacheBuilder.setExpireAfterAccess(expire);
         }
         cache = cacheBuilder.build();
+        final ByteSizeValue diskSize = INDICES_CACHE_DISK_SIZE.get(settings);
+        if (diskTierPath != null && diskSize.getBytes() > 0) {
+            try {
+                diskTier = new RequestCacheDiskTier(
+                    diskTierPath,
+                    diskSize,
+                    INDICES_CACHE_DISK_MAX_PENDING_SIZE.get(settings),
+                    Objects.requireNonNull(spillExecutor)
+                );
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to initialize request cache disk tier at [" + diskTierPath + "]", e);
+            }
+        } else {
+            diskTier = null;
+        }
     }
 
     @Override
-    public void close() {
+    public void close() throws IOException {
         cache.invalidateAll();
+        if (diskTier != null) {
+            diskTier.close();
+        }
     }
 
     void clear(CacheEntity entity) {
@@ -136,6 +217,9 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
     @Override
     public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
         notification.getKey().entity.onRemoval(notification);
+        if (diskTier != null && notification.getRemovalReason() == RemovalReason.EVICTED && notification.getKey().entity.isOpen()) {
+            diskTier.spill(notification.getKey(), notification.getValue());
+        }
     }
 
     BytesReference getOrCompute(
@@ -145,17 +229,56 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         BytesReference cacheKey
     ) throws Exception {
         assert reader.getReaderCacheHelper() != null;
-        final Key key = new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
-        Loader cacheLoader = new Loader(cacheEntity, loader);
+        return getOrCompute(
+            cacheEntity,
+            loader,
+            reader.getReaderCacheHelper().getKey(),
+            cacheKey,
+            cleanupKey -> OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey)
+        );
+    }
+
+    /**
+     * Like {@link #getOrCompute(CacheEntity, CheckedSupplier, DirectoryReader, BytesReference)}, but for a value that was
+     * computed from a single segment. The value is kept across refreshes for as long as the segment reader is in use, and
+     * cleaned up once it is closed.
+     */
+    BytesReference getOrCompute(
+        CacheEntity cacheEntity,
+        CheckedSupplier<BytesReference, IOException> loader,
+        LeafReader reader,
+        BytesReference cacheKey
+    ) throws Exception {
+        final IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+        assert cacheHelper != null;
+        return getOrCompute(cacheEntity, loader, cacheHelper.getKey(), cacheKey, cacheHelper::addClosedListener);
+    }
+
+    private BytesReference getOrCompute(
+        CacheEntity cacheEntity,
+        CheckedSupplier<BytesReference, IOException> loader,
+        IndexReader.CacheKey readerCacheKey,
+        BytesReference cacheKey,
+        CheckedConsumer<CleanupKey, IOException> closeListenerRegistration
+    ) throws Exception {
+        final Key key = new Key(cacheEntity, readerCacheKey, cacheKey);
+        Loader cacheLoader = new Loader(cacheEntity, loader, diskTier);
         BytesReference value = cache.computeIfAbsent(key, cacheLoader);
         if (cacheLoader.isLoaded()) {
-            key.entity.onMiss();
+            if (cacheLoader.isPromoted()) {
+                key.entity.onDiskHit();
+            } else {
+                key.entity.onMiss();
+                if (diskTier != null) {
+                    key.entity.onDiskMiss();
+                }
+            }
             // see if its the first time we see this reader, and make sure to register a cleanup key
-            CleanupKey cleanupKey = new CleanupKey(cacheEntity, reader.getReaderCacheHelper().getKey());
+            CleanupKey cleanupKey = new CleanupKey(cacheEntity, readerCacheKey);
             if (!registeredClosedListeners.containsKey(cleanupKey)) {
                 Boolean previous = registeredClosedListeners.putIfAbsent(cleanupKey, Boolean.TRUE);
                 if (previous == null) {
-                    OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey);
+                    closeListenerRegistration.accept(cleanupKey);
                 }
             }
         } else {
@@ -172,7 +295,11 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     void invalidate(CacheEntity cacheEntity, DirectoryReader reader, BytesReference cacheKey) {
         assert reader.getReaderCacheHelper() != null;
-        cache.invalidate(new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey));
+        final Key key = new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
+        cache.invalidate(key);
+        if (diskTier != null) {
+            diskTier.invalidate(key);
+        }
     }
 
     /**
@@ -184,20 +311,35 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
         private final CacheEntity entity;
         private final CheckedSupplier<BytesReference, IOException> loader;
+        private final RequestCacheDiskTier diskTier;
         private boolean loaded;
+        private boolean promoted;
 
-        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader) {
+        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader, @Nullable RequestCacheDiskTier diskTier) {
             this.entity = entity;
             this.loader = loader;
+            this.diskTier = diskTier;
         }
 
         public boolean isLoaded() {
             return this.loaded;
         }
 
+        /**
+         * Returns <code>true</code> iff the value was not computed but promoted from the disk tier.
+         */
+        public boolean isPromoted() {
+            return this.promoted;
+        }
+
         @Override
         public BytesReference load(Key key) throws Exception {
-            BytesReference value = loader.get();
+            BytesReference value = diskTier == null ? null : diskTier.take(key);
+            if (value != null) {
+                promoted = true;
+            } else {
+                value = loader.get();
+            }
             entity.onCached(key, value);
             loaded = true;
             return value;
@@ -240,6 +382,26 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
          * Called when this entity instance is removed
          */
         void onRemoval(RemovalNotification<Key, BytesReference> notification);
+
+        /**
+         * Called each time a heap miss of this entity is served from the disk tier.
+         */
+        void onDiskHit();
+
+        /**
+         * Called each time a heap miss of this entity is not found in the disk tier either.
+         */
+        void onDiskMiss();
+
+        /**
+         * Called after an entry of this entity was spilled to the disk tier.
+         */
+        void onDiskCached(long sizeInBytes);
+
+        /**
+         * Called when an entry of this entity is removed from the disk tier.
+         */
+        void onDiskRemoval(long sizeInBytes, boolean evicted);
     }
 
     /**
@@ -344,19 +506,25 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
             }
         }
         if (!currentKeysToClean.isEmpty() || !currentFullClean.isEmpty()) {
+            final Predicate<Key> shouldClean = key -> currentFullClean.contains(key.entity.getCacheIdentity())
+                || currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey));
             for (Iterator<Key> iterator = cache.keys().iterator(); iterator.hasNext();) {
                 Key key = iterator.next();
-                if (currentFullClean.contains(key.entity.getCacheIdentity())) {
+                if (shouldClean.test(key)) {
                     iterator.remove();
-                } else {
-                    if (currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey))) {
-                        iterator.remove();
-                    }
                 }
             }
+            if (diskTier != null) {
+                // removals above do not spill, but entries evicted concurrently may still be queued
+                diskTier.removeIf(shouldClean);
+            }
         }
 
         cache.refresh();
+        if (diskTier != null) {
+            diskTier.flushPendingSpills();
+            diskTier.refresh();
+        }
     }
 
     /**
@@ -366,6 +534,13 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         return cache.count();
     }
 
+    /**
+     * Returns the current number of entries in the disk tier
+     */
+    int diskCount() {
+        return diskTier == null ? 0 : diskTier.count();
+    }
+
     int numRegisteredCloseListeners() { // for testing
         return registeredClosedListeners.size();
     }
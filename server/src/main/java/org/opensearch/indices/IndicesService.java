@@ -37,6 +37,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader.CacheHelper;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.util.CollectionUtil;
 import org.apache.lucene.util.RamUsageEstimator;
@@ -61,7 +62,6 @@ import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.CheckedFunction;
-import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
@@ -140,6 +140,7 @@ import org.opensearch.index.store.remote.filecache.FileCacheCleaner;
 import org.opensearch.index.translog.InternalTranslogFactory;
 import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupCommitScheduler;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -216,6 +217,10 @@ public class IndicesService extends AbstractLifecycleComponent
     private static final Logger logger = LogManager.getLogger(IndicesService.class);
 
     public static final String INDICES_SHARDS_CLOSED_TIMEOUT = "indices.shards_closed_timeout";
+    /**
+     * The node data path folder holding the disk tier of the {@link IndicesRequestCache}
+     */
+    public static final String REQUEST_CACHE_FOLDER = "request_cache";
     public static final Setting<TimeValue> INDICES_CACHE_CLEAN_INTERVAL_SETTING = Setting.positiveTimeSetting(
         "indices.cache.cleanup_interval",
         TimeValue.timeValueMinutes(1),
@@ -350,6 +355,8 @@ public class IndicesService extends AbstractLifecycleComponent
     private volatile TimeValue clusterDefaultRefreshInterval;
     private volatile TimeValue clusterRemoteTranslogBufferInterval;
     private final FileCacheCleaner fileCacheCleaner;
+    private final TranslogGroupCommitScheduler translogGroupCommitScheduler;
+    private final RefreshBudget refreshBudget;
 
     private final SearchRequestStats searchRequestStats;
 
@@ -396,7 +403,11 @@ public class IndicesService extends AbstractLifecycleComponent
         this.shardsClosedTimeout = settings.getAsTime(INDICES_SHARDS_CLOSED_TIMEOUT, new TimeValue(1, TimeUnit.DAYS));
         this.analysisRegistry = analysisRegistry;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
-        this.indicesRequestCache = new IndicesRequestCache(settings);
+        this.indicesRequestCache = new IndicesRequestCache(
+            settings,
+            nodeEnv != null && nodeEnv.hasNodeFile() ? nodeEnv.nodeDataPaths()[0].resolve(REQUEST_CACHE_FOLDER) : null,
+            threadPool.generic()
+        );
         this.indicesQueryCache = new IndicesQueryCache(settings);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
@@ -482,6 +493,8 @@ public class IndicesService extends AbstractLifecycleComponent
         this.clusterRemoteTranslogBufferInterval = CLUSTER_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING.get(clusterService.getSettings());
         clusterService.getClusterSettings()
             .addSettingsUpdateConsumer(CLUSTER_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING, this::setClusterRemoteTranslogBufferInterval);
+        this.translogGroupCommitScheduler = new TranslogGroupCommitScheduler(settings, clusterService.getClusterSettings(), threadPool);
+        this.refreshBudget = new RefreshBudget(settings, clusterService.getClusterSettings());
         this.recoverySettings = recoverySettings;
     }
 
@@ -882,6 +895,8 @@ public class IndicesService extends AbstractLifecycleComponent
             translogFactorySupplier,
             this::getClusterDefaultRefreshInterval,
             this::getClusterRemoteTranslogBufferInterval,
+            translogGroupCommitScheduler,
+            refreshBudget,
             this.recoverySettings
         );
     }
@@ -1677,6 +1692,11 @@ public class IndicesService extends AbstractLifecycleComponent
      */
     public void loadIntoContext(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase) throws Exception {
         assert canCache(request, context);
+        if (context.indexShard().indexSettings().getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_SEGMENT_LEVEL_SETTING)
+            && QueryPhase.canExecuteBySegment(context)) {
+            loadSegmentLevelIntoContext(request, context);
+            return;
+        }
         final DirectoryReader directoryReader = context.searcher().getDirectoryReader();
 
         boolean[] loadedFromCache = new boolean[] { true };
@@ -1711,6 +1731,35 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Loads the result of each segment from the cache, computing the results of the segments that are not cached yet, and
+     * reduces them into the {@link SearchContext#queryResult() context's query result}. Since the results are cached per
+     * segment reader, a refresh only invalidates the results of the segments that it changed.
+     */
+    private void loadSegmentLevelIntoContext(ShardSearchRequest request, SearchContext context) throws Exception {
+        final IndexShardCacheEntity cacheEntity = new IndexShardCacheEntity(context.indexShard());
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        final List<StreamInput> segmentResults = new ArrayList<>(leaves.size());
+        for (LeafReaderContext leaf : leaves) {
+            final CheckedConsumer<StreamOutput, IOException> loader = out -> QueryPhase.executeOnSegment(context, leaf, out);
+            final BytesReference bytesReference;
+            if (leaf.reader().getReaderCacheHelper() == null) {
+                bytesReference = computeResult(loader);
+            } else {
+                bytesReference = indicesRequestCache.getOrCompute(
+                    cacheEntity,
+                    () -> computeResult(loader),
+                    leaf.reader(),
+                    request.cacheKey()
+                );
+            }
+            segmentResults.add(new NamedWriteableAwareStreamInput(bytesReference.streamInput(), namedWriteableRegistry));
+        }
+        final QuerySearchResult result = context.queryResult();
+        QueryPhase.reduceSegmentResults(context, segmentResults);
+        result.setSearchShardTarget(context.shardTarget());
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
@@ -1730,23 +1779,24 @@ public class IndicesService extends AbstractLifecycleComponent
         CheckedConsumer<StreamOutput, IOException> loader
     ) throws Exception {
         IndexShardCacheEntity cacheEntity = new IndexShardCacheEntity(shard);
-        CheckedSupplier<BytesReference, IOException> supplier = () -> {
-            /* BytesStreamOutput allows to pass the expected size but by default uses
-             * BigArrays.PAGE_SIZE_IN_BYTES which is 16k. A common cached result ie.
-             * a date histogram with 3 buckets is ~100byte so 16k might be very wasteful
-             * since we don't shrink to the actual size once we are done serializing.
-             * By passing 512 as the expected size we will resize the byte array in the stream
-             * slowly until we hit the page size and don't waste too much memory for small query
-             * results.*/
-            final int expectedSizeInBytes = 512;
-            try (BytesStreamOutput out = new BytesStreamOutput(expectedSizeInBytes)) {
-                loader.accept(out);
-                // for now, keep the paged data structure, which might have unused bytes to fill a page, but better to keep
-                // the memory properly paged instead of having varied sized bytes
-                return out.bytes();
-            }
-        };
-        return indicesRequestCache.getOrCompute(cacheEntity, supplier, reader, cacheKey);
+        return indicesRequestCache.getOrCompute(cacheEntity, () -> computeResult(loader), reader, cacheKey);
+    }
+
+    private static BytesReference computeResult(CheckedConsumer<StreamOutput, IOException> loader) throws IOException {
+        /* BytesStreamOutput allows to pass the expected size but by default uses
+         * BigArrays.PAGE_SIZE_IN_BYTES which is 16k. A common cached result ie.
+         * a date histogram with 3 buckets is ~100byte so 16k might be very wasteful
+         * since we don't shrink to the actual size once we are done serializing.
+         * By passing 512 as the expected size we will resize the byte array in the stream
+         * slowly until we hit the page size and don't waste too much memory for small query
+         * results.*/
+        final int expectedSizeInBytes = 512;
+        try (BytesStreamOutput out = new BytesStreamOutput(expectedSizeInBytes)) {
+            loader.accept(out);
+            // for now, keep the paged data structure, which might have unused bytes to fill a page, but better to keep
+            // the memory properly paged instead of having varied sized bytes
+            return out.bytes();
+        }
     }
 
     /**
@@ -2007,6 +2057,10 @@ public class IndicesService extends AbstractLifecycleComponent
     }
 
     // Exclusively for testing, please do not use it elsewhere.
+    public TranslogGroupCommitScheduler getTranslogGroupCommitScheduler() {
+        return translogGroupCommitScheduler;
+    }
+
     public TimeValue getClusterRemoteTranslogBufferInterval() {
         return clusterRemoteTranslogBufferInterval;
     }
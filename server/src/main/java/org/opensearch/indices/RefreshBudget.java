@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+/**
+ * The node wide budget for the I/O of scheduled refreshes of shards that adapt their refresh interval, see
+ * {@link org.opensearch.index.IndexSettings#INDEX_ADAPTIVE_REFRESH_ENABLED_SETTING}. The cost of a refresh is the size of the
+ * indexing buffer it writes to disk. The budget is a token bucket that holds up to one second worth of
+ * {@link #MAX_BYTES_PER_SEC_SETTING}; a refresh that finds the bucket empty is deferred to a later scheduled refresh, until
+ * the shard reaches its maximum refresh interval.
+ *
+ * @opensearch.internal
+ */
+public class RefreshBudget {
+
+    public static final Setting<ByteSizeValue> MAX_BYTES_PER_SEC_SETTING = Setting.byteSizeSetting(
+        "indices.refresh.adaptive.max_bytes_per_sec",
+        new ByteSizeValue(0),
+        new ByteSizeValue(0),
+        new ByteSizeValue(Long.MAX_VALUE),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    private volatile long maxBytesPerSec;
+
+    private long availableBytes;
+    private long lastRefillMillis;
+
+    public RefreshBudget(Settings settings, ClusterSettings clusterSettings) {
+        this.maxBytesPerSec = MAX_BYTES_PER_SEC_SETTING.get(settings).getBytes();
+        this.availableBytes = maxBytesPerSec;
+        clusterSettings.addSettingsUpdateConsumer(MAX_BYTES_PER_SEC_SETTING, value -> this.maxBytesPerSec = value.getBytes());
+    }
+
+    /**
+     * Takes the given bytes from the budget if it is not exhausted. A refresh that is larger than the budget may still run
+     * and is paid for by the refreshes of the following seconds.
+     *
+     * @param bytes the bytes the refresh writes
+     * @param nowInMillis the current relative time in milliseconds
+     * @return whether the refresh may run now
+     */
+    public synchronized boolean tryAcquire(long bytes, long nowInMillis) {
+        if (maxBytesPerSec == 0) {
+            return true;
+        }
+        refill(nowInMillis);
+        if (availableBytes <= 0) {
+            return false;
+        }
+        availableBytes -= bytes;
+        return true;
+    }
+
+    /**
+     * Takes the given bytes from the budget regardless of whether it is exhausted, for refreshes that cannot be deferred.
+     */
+    public synchronized void acquire(long bytes, long nowInMillis) {
+        if (maxBytesPerSec == 0) {
+            return;
+        }
+        refill(nowInMillis);
+        availableBytes -= bytes;
+    }
+
+    private void refill(long nowInMillis) {
+        final long elapsedMillis = Math.max(0, nowInMillis - lastRefillMillis);
+        final double refill = (double) maxBytesPerSec * elapsedMillis / 1000;
+        availableBytes = (long) Math.min(maxBytesPerSec, availableBytes + refill);
+        lastRefillMillis = nowInMillis;
+    }
+}
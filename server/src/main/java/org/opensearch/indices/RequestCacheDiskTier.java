@@ -0,0 +1,241 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Second, disk backed tier of the {@link IndicesRequestCache}. Entries evicted from the heap tier are spilled to one file
+ * per entry under a node local directory, bounded in size and evicted in LRU order. Only the keys and the location of the
+ * spilled bytes are kept on heap; the keys reference the index reader cache key exactly like heap entries do, so
+ * invalidation on reader close works the same way for both tiers.
+ * <p>
+ * Heap evictions are notified while the heap cache holds its LRU lock, so spilled entries are only queued there and
+ * written out by {@link #flushPendingSpills()} on the spill executor, away from the search threads. The queue is bounded
+ * by the heap its entries hold: once the disk writes fall behind, further evictions are dropped instead of spilled.
+ *
+ * @opensearch.internal
+ */
+final class RequestCacheDiskTier implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(RequestCacheDiskTier.class);
+
+    private final Path path;
+    private final Cache<IndicesRequestCache.Key, DiskEntry> cache;
+    private final ConcurrentMap<IndicesRequestCache.Key, BytesReference> pendingSpills = ConcurrentCollections.newConcurrentMap();
+    private final AtomicLong pendingSpillsBytes = new AtomicLong();
+    private final long maxPendingSpillsBytes;
+    private final Executor spillExecutor;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong fileNameGenerator = new AtomicLong();
+
+    RequestCacheDiskTier(Path path, ByteSizeValue size, ByteSizeValue maxPendingSpillsSize, Executor spillExecutor) throws IOException {
+        this.path = path;
+        this.maxPendingSpillsBytes = maxPendingSpillsSize.getBytes();
+        this.spillExecutor = spillExecutor;
+        // spilled entries are bound to index readers of the previous node incarnation, nothing can be reused
+        IOUtils.rm(path);
+        Files.createDirectories(path);
+        this.cache = CacheBuilder.<IndicesRequestCache.Key, DiskEntry>builder()
+            .setMaximumWeight(size.getBytes())
+            .weigher((k, v) -> v.sizeInBytes)
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    /**
+     * Queues an entry evicted from the heap tier to be written to disk, unless the queued entries already hold the maximum
+     * of heap, and makes sure a flush is scheduled on the spill executor.
+     */
+    void spill(IndicesRequestCache.Key key, BytesReference value) {
+        final long bytes = value.ramBytesUsed();
+        if (pendingSpillsBytes.addAndGet(bytes) > maxPendingSpillsBytes) {
+            pendingSpillsBytes.addAndGet(-bytes);
+            logger.trace("dropping request cache entry of [{}] bytes, the pending spills are full", bytes);
+            return;
+        }
+        final BytesReference previous = pendingSpills.put(key, value);
+        if (previous != null) {
+            pendingSpillsBytes.addAndGet(-previous.ramBytesUsed());
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                spillExecutor.execute(() -> {
+                    // cleared first, entries queued while flushing schedule another flush
+                    flushScheduled.set(false);
+                    flushPendingSpills();
+                });
+            } catch (RejectedExecutionException e) {
+                // the node is shutting down, the queued entries are dropped on close
+                logger.debug("failed to schedule the flush of the pending request cache spills", e);
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Writes all queued entries to disk. Entries of closed cache entities are dropped.
+     */
+    void flushPendingSpills() {
+        for (Iterator<Map.Entry<IndicesRequestCache.Key, BytesReference>> iterator = pendingSpills.entrySet().iterator(); iterator
+            .hasNext();) {
+            final Map.Entry<IndicesRequestCache.Key, BytesReference> pending = iterator.next();
+            // another thread may have taken the entry back to the heap tier, only the thread that removes it writes it
+            if (removePendingSpill(pending.getKey(), pending.getValue()) == false) {
+                continue;
+            }
+            final IndicesRequestCache.Key key = pending.getKey();
+            if (key.entity.isOpen() == false) {
+                continue;
+            }
+            final BytesReference value = pending.getValue();
+            final Path file = path.resolve(Long.toString(fileNameGenerator.incrementAndGet()));
+            try (OutputStream outputStream = Files.newOutputStream(file)) {
+                value.writeTo(outputStream);
+            } catch (IOException e) {
+                logger.warn(new ParameterizedMessage("failed to spill request cache entry to [{}]", file), e);
+                deleteQuietly(file);
+                continue;
+            }
+            key.entity.onDiskCached(value.length());
+            cache.put(key, new DiskEntry(file, value.length()));
+        }
+    }
+
+    /**
+     * Removes the entry for the given key from this tier and returns its value, or {@code null} if this tier does not hold
+     * the key. Used to promote disk hits back to the heap tier.
+     */
+    BytesReference take(IndicesRequestCache.Key key) {
+        final BytesReference pending = pendingSpills.get(key);
+        if (pending != null && removePendingSpill(key, pending)) {
+            return pending;
+        }
+        final DiskEntry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        BytesReference value;
+        try {
+            value = new BytesArray(Files.readAllBytes(entry.file));
+        } catch (NoSuchFileException e) {
+            // evicted concurrently
+            value = null;
+        } catch (IOException e) {
+            logger.warn(new ParameterizedMessage("failed to read request cache entry from [{}]", entry.file), e);
+            value = null;
+        }
+        cache.invalidate(key, entry);
+        return value;
+    }
+
+    void invalidate(IndicesRequestCache.Key key) {
+        final BytesReference pending = pendingSpills.get(key);
+        if (pending != null) {
+            removePendingSpill(key, pending);
+        }
+        cache.invalidate(key);
+    }
+
+    /**
+     * Removes all entries, queued or on disk, whose key matches the given predicate.
+     */
+    void removeIf(Predicate<IndicesRequestCache.Key> predicate) {
+        for (Map.Entry<IndicesRequestCache.Key, BytesReference> pending : pendingSpills.entrySet()) {
+            if (predicate.test(pending.getKey())) {
+                removePendingSpill(pending.getKey(), pending.getValue());
+            }
+        }
+        for (Iterator<IndicesRequestCache.Key> iterator = cache.keys().iterator(); iterator.hasNext();) {
+            if (predicate.test(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    void refresh() {
+        cache.refresh();
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Map.Entry<IndicesRequestCache.Key, BytesReference> pending : pendingSpills.entrySet()) {
+            removePendingSpill(pending.getKey(), pending.getValue());
+        }
+        cache.invalidateAll();
+        IOUtils.rm(path);
+    }
+
+    private boolean removePendingSpill(IndicesRequestCache.Key key, BytesReference value) {
+        if (pendingSpills.remove(key, value)) {
+            pendingSpillsBytes.addAndGet(-value.ramBytesUsed());
+            return true;
+        }
+        return false;
+    }
+
+    private void onRemoval(RemovalNotification<IndicesRequestCache.Key, DiskEntry> notification) {
+        final DiskEntry entry = notification.getValue();
+        deleteQuietly(entry.file);
+        notification.getKey().entity.onDiskRemoval(entry.sizeInBytes, notification.getRemovalReason() == RemovalReason.EVICTED);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn(new ParameterizedMessage("failed to delete request cache file [{}]", file), e);
+        }
+    }
+
+    /**
+     * Location and size of a spilled entry
+     *
+     * @opensearch.internal
+     */
+    private static final class DiskEntry {
+        private final Path file;
+        private final int sizeInBytes;
+
+        private DiskEntry(Path file, int sizeInBytes) {
+            this.file = file;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.apache.lucene.index.IndexFormatTooNewException;
 import org.apache.lucene.index.IndexFormatTooOldException;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.OpenSearchCorruptionException;
@@ -36,8 +37,11 @@ import org.opensearch.indices.replication.common.ReplicationTarget;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -182,7 +186,8 @@ public class SegmentReplicationTarget extends ReplicationTarget {
     private List<StoreFileMetadata> getFiles(CheckpointInfoResponse checkpointInfo) throws IOException {
         cancellableThreads.checkForCancel();
         state.setStage(SegmentReplicationState.Stage.FILE_DIFF);
-        final Store.RecoveryDiff diff = Store.segmentReplicationDiff(checkpointInfo.getMetadataMap(), indexShard.getSegmentMetadataMap());
+        final Map<String, StoreFileMetadata> localMetadata = indexShard.getSegmentMetadataMap();
+        final Store.RecoveryDiff diff = Store.segmentReplicationDiff(checkpointInfo.getMetadataMap(), localMetadata);
         // local files
         final Set<String> localFiles = Set.of(indexShard.store().directory().listAll());
         // set of local files that can be reused
@@ -219,10 +224,40 @@ public class SegmentReplicationTarget extends ReplicationTarget {
             );
         }
 
+        final Set<String> copiedFiles = copyLocalFiles(missingFiles, localMetadata);
         for (StoreFileMetadata file : missingFiles) {
-            state.getIndex().addFileDetail(file.name(), file.length(), false);
+            state.getIndex().addFileDetail(file.name(), file.length(), copiedFiles.contains(file.name()));
         }
-        return missingFiles;
+        return missingFiles.stream().filter(md -> copiedFiles.contains(md.name()) == false).collect(Collectors.toList());
+    }
+
+    /**
+     * Copies the missing files that the shard already holds under a different name, with the same length and checksum, from
+     * the local copy instead of fetching them from the source, and returns the names of the copied files. A file that fails to
+     * be copied is fetched from the source.
+     */
+    private Set<String> copyLocalFiles(List<StoreFileMetadata> missingFiles, Map<String, StoreFileMetadata> localMetadata) {
+        final Map<String, StoreFileMetadata> localFilesByChecksum = new HashMap<>();
+        for (StoreFileMetadata localFile : localMetadata.values()) {
+            localFilesByChecksum.putIfAbsent(localFile.checksum(), localFile);
+        }
+        final Set<String> copiedFiles = new HashSet<>();
+        final Directory directory = store.directory();
+        for (StoreFileMetadata file : missingFiles) {
+            final StoreFileMetadata localFile = localFilesByChecksum.get(file.checksum());
+            if (localFile == null || localFile.name().equals(file.name()) || file.isSame(localFile) == false) {
+                continue;
+            }
+            cancellableThreads.checkForCancel();
+            try {
+                directory.copyFrom(directory, localFile.name(), file.name(), IOContext.DEFAULT);
+                copiedFiles.add(file.name());
+            } catch (IOException e) {
+                logger.debug(() -> new ParameterizedMessage("failed to copy local file {} to {}", localFile.name(), file.name()), e);
+                store.deleteQuiet(file.name());
+            }
+        }
+        return copiedFiles;
     }
 
     private boolean validateLocalChecksum(StoreFileMetadata file) {
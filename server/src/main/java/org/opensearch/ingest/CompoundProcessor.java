@@ -39,10 +39,13 @@ import org.opensearch.common.metrics.OperationMetrics;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
@@ -187,6 +190,90 @@ public class CompoundProcessor implements Processor {
         });
     }
 
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        innerBatchExecute(0, ingestDocumentWrappers, handler);
+    }
+
+    /**
+     * Executes the processors one after the other on the whole batch. Documents that fail or get dropped leave the batch,
+     * documents that fail into the on_failure processors continue on their own, exactly as with {@link #innerExecute}.
+     */
+    void innerBatchExecute(
+        int currentProcessor,
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        if (currentProcessor == processorsWithMetrics.size() || ingestDocumentWrappers.isEmpty()) {
+            handler.accept(ingestDocumentWrappers);
+            return;
+        }
+
+        Tuple<Processor, OperationMetrics> processorWithMetric = processorsWithMetrics.get(currentProcessor);
+        final Processor processor = processorWithMetric.v1();
+        final OperationMetrics metric = processorWithMetric.v2();
+        // a failed document is not part of the result, but ignore_failure and on_failure carry on with it
+        final Map<Integer, IngestDocument> documentsBySlot = new HashMap<>(ingestDocumentWrappers.size());
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            documentsBySlot.put(ingestDocumentWrapper.getSlot(), ingestDocumentWrapper.getIngestDocument());
+        }
+        final int size = ingestDocumentWrappers.size();
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        metric.beforeBatch(size);
+        processor.batchExecute(ingestDocumentWrappers, results -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            metric.afterBatch(size, ingestTimeInMillis);
+
+            final List<IngestDocumentWrapper> completed = Collections.synchronizedList(new ArrayList<>(size));
+            final List<IngestDocumentWrapper> next = new ArrayList<>(results.size());
+            final List<Tuple<IngestDocumentWrapper, IngestProcessorException>> failed = new ArrayList<>();
+            for (IngestDocumentWrapper result : results) {
+                if (result.getException() != null) {
+                    metric.failed();
+                    IngestDocument ingestDocument = documentsBySlot.get(result.getSlot());
+                    IngestDocumentWrapper original = new IngestDocumentWrapper(result.getSlot(), ingestDocument, null);
+                    if (ignoreFailure) {
+                        next.add(original);
+                    } else {
+                        IngestProcessorException compoundProcessorException = newCompoundProcessorException(
+                            result.getException(),
+                            processor,
+                            ingestDocument
+                        );
+                        if (onFailureProcessors.isEmpty()) {
+                            completed.add(new IngestDocumentWrapper(result.getSlot(), null, compoundProcessorException));
+                        } else {
+                            failed.add(new Tuple<>(original, compoundProcessorException));
+                        }
+                    }
+                } else if (result.getIngestDocument() == null) {
+                    completed.add(result);
+                } else {
+                    next.add(result);
+                }
+            }
+
+            // the rest of the batch and every document that runs the on_failure processors complete independently
+            final AtomicInteger pending = new AtomicInteger(failed.size() + 1);
+            final Runnable onPartCompleted = () -> {
+                if (pending.decrementAndGet() == 0) {
+                    handler.accept(completed);
+                }
+            };
+            for (Tuple<IngestDocumentWrapper, IngestProcessorException> failure : failed) {
+                final int slot = failure.v1().getSlot();
+                executeOnFailureAsync(0, failure.v1().getIngestDocument(), failure.v2(), (result, e) -> {
+                    completed.add(new IngestDocumentWrapper(slot, result, e));
+                    onPartCompleted.run();
+                });
+            }
+            innerBatchExecute(currentProcessor + 1, next, rest -> {
+                completed.addAll(rest);
+                onPartCompleted.run();
+            });
+        });
+    }
+
     void executeOnFailureAsync(
         int currentOnFailureProcessor,
         IngestDocument ingestDocument,
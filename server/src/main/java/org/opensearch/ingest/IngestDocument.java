@@ -56,6 +56,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Represents a single document being captured before indexing and holds the source and metadata (like id, type and index).
@@ -813,6 +814,35 @@ public final class IngestDocument {
         }
     }
 
+    /**
+     * Executes the given pipeline for a batch of documents that are not executing any pipeline yet, which is the case for
+     * the documents of a bulk request that enter their first pipeline.
+     *
+     * @param pipeline the pipeline to execute
+     * @param ingestDocumentWrappers the documents of the batch
+     * @param handler handles the results of all documents of the batch
+     */
+    static void executePipeline(
+        Pipeline pipeline,
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            IngestDocument ingestDocument = ingestDocumentWrapper.getIngestDocument();
+            assert ingestDocument.executedPipelines.isEmpty() : "document is already executing " + ingestDocument.executedPipelines;
+            ingestDocument.executedPipelines.add(pipeline.getId());
+            ingestDocument.ingestMetadata.put("pipeline", pipeline.getId());
+        }
+        pipeline.batchExecute(ingestDocumentWrappers, results -> {
+            for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+                IngestDocument ingestDocument = ingestDocumentWrapper.getIngestDocument();
+                ingestDocument.executedPipelines.remove(pipeline.getId());
+                ingestDocument.ingestMetadata.remove("pipeline");
+            }
+            handler.accept(results);
+        });
+    }
+
     /**
      * @return a pipeline stack; all pipelines that are in execution by this document in reverse order
      */
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.common.Nullable;
+
+/**
+ * A document of a batch that is passed through {@link Processor#batchExecute}. The slot identifies the document within the
+ * batch, so that the results of a batch may be returned in any order. A result without an {@link IngestDocument} and
+ * without an exception is a document that got dropped.
+ *
+ * @opensearch.internal
+ */
+public final class IngestDocumentWrapper {
+    private final int slot;
+    private final IngestDocument ingestDocument;
+    private final Exception exception;
+
+    public IngestDocumentWrapper(int slot, @Nullable IngestDocument ingestDocument, @Nullable Exception exception) {
+        this.slot = slot;
+        this.ingestDocument = ingestDocument;
+        this.exception = exception;
+    }
+
+    /**
+     * The position of the document within its batch, or within its bulk request when executed by the {@link IngestService}
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    @Nullable
+    public IngestDocument getIngestDocument() {
+        return ingestDocument;
+    }
+
+    @Nullable
+    public Exception getException() {
+        return exception;
+    }
+}
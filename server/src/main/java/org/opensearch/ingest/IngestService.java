@@ -510,6 +510,26 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         IntConsumer onDropped,
         String executorName
     ) {
+        executeBulkRequest(numberOfActionRequests, actionRequests, onFailure, onCompletion, onDropped, executorName, 1);
+    }
+
+    /**
+     * Executes the pipelines of the given requests. With a batch size greater than one, the documents that go through the
+     * same pipelines are grouped into batches of up to that many documents, which are passed through every processor
+     * together with {@link Processor#batchExecute}.
+     */
+    public void executeBulkRequest(
+        int numberOfActionRequests,
+        Iterable<DocWriteRequest<?>> actionRequests,
+        BiConsumer<Integer, Exception> onFailure,
+        BiConsumer<Thread, Exception> onCompletion,
+        IntConsumer onDropped,
+        String executorName,
+        int batchSize
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch size must be greater than 0 but was [" + batchSize + "]");
+        }
 
         threadPool.executor(executorName).execute(new AbstractRunnable() {
 
@@ -522,6 +542,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             protected void doRun() {
                 final Thread originalThread = Thread.currentThread();
                 final AtomicInteger counter = new AtomicInteger(numberOfActionRequests);
+                final Map<Tuple<List<String>, Boolean>, List<IndexRequestWrapper>> batches = batchSize > 1 ? new HashMap<>() : null;
                 int i = 0;
                 for (DocWriteRequest<?> actionRequest : actionRequests) {
                     IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(actionRequest);
@@ -557,20 +578,56 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                         continue;
                     }
 
-                    executePipelines(
-                        i,
-                        pipelines.iterator(),
-                        hasFinalPipeline,
-                        indexRequest,
-                        onDropped,
-                        onFailure,
-                        counter,
-                        onCompletion,
-                        originalThread
-                    );
+                    if (batches == null) {
+                        executePipelines(
+                            i,
+                            pipelines.iterator(),
+                            hasFinalPipeline,
+                            indexRequest,
+                            onDropped,
+                            onFailure,
+                            counter,
+                            onCompletion,
+                            originalThread
+                        );
+                    } else {
+                        final Tuple<List<String>, Boolean> key = new Tuple<>(pipelines, hasFinalPipeline);
+                        final List<IndexRequestWrapper> batch = batches.computeIfAbsent(key, k -> new ArrayList<>(batchSize));
+                        batch.add(new IndexRequestWrapper(i, indexRequest));
+                        if (batch.size() == batchSize) {
+                            batches.remove(key);
+                            executePipelinesInBatch(
+                                batch,
+                                pipelines,
+                                0,
+                                hasFinalPipeline,
+                                onDropped,
+                                onFailure,
+                                counter,
+                                onCompletion,
+                                originalThread
+                            );
+                        }
+                    }
 
                     i++;
                 }
+
+                if (batches != null) {
+                    for (Map.Entry<Tuple<List<String>, Boolean>, List<IndexRequestWrapper>> entry : batches.entrySet()) {
+                        executePipelinesInBatch(
+                            entry.getValue(),
+                            entry.getKey().v1(),
+                            0,
+                            entry.getKey().v2(),
+                            onDropped,
+                            onFailure,
+                            counter,
+                            onCompletion,
+                            originalThread
+                        );
+                    }
+                }
             }
         });
     }
@@ -674,6 +731,138 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         }
     }
 
+    private void executePipelinesInBatch(
+        final List<IndexRequestWrapper> batch,
+        final List<String> pipelineIds,
+        final int pipelineIndex,
+        final boolean hasFinalPipeline,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        final String pipelineId = pipelineIds.get(pipelineIndex);
+        final PipelineHolder holder = pipelines.get(pipelineId);
+        if (holder == null) {
+            final Exception e = new IllegalArgumentException("pipeline with id [" + pipelineId + "] does not exist");
+            for (IndexRequestWrapper indexRequestWrapper : batch) {
+                onPipelineFailure(pipelineId, indexRequestWrapper, e, onFailure);
+                completeDocument(counter, onCompletion, originalThread);
+            }
+            return;
+        }
+
+        final Map<Integer, IndexRequestWrapper> requestsBySlot = new HashMap<>(batch.size());
+        final Map<Integer, String> originalIndices = new HashMap<>(batch.size());
+        for (IndexRequestWrapper indexRequestWrapper : batch) {
+            requestsBySlot.put(indexRequestWrapper.slot, indexRequestWrapper);
+            originalIndices.put(indexRequestWrapper.slot, indexRequestWrapper.indexRequest.indices()[0]);
+        }
+
+        final Consumer<List<IndexRequestWrapper>> onPipelineCompleted = succeeded -> {
+            final List<IndexRequestWrapper> next = new ArrayList<>(succeeded.size());
+            for (IndexRequestWrapper indexRequestWrapper : succeeded) {
+                final int slot = indexRequestWrapper.slot;
+                final IndexRequest indexRequest = indexRequestWrapper.indexRequest;
+                if (Objects.equals(originalIndices.get(slot), indexRequest.indices()[0]) == false) {
+                    if (hasFinalPipeline && pipelineIndex == pipelineIds.size() - 1) {
+                        totalMetrics.failed();
+                        onFailure.accept(
+                            slot,
+                            new IllegalStateException("final pipeline [" + pipelineId + "] can't change the target index")
+                        );
+                        completeDocument(counter, onCompletion, originalThread);
+                    } else {
+                        // the target index changed, the document leaves the batch and runs the final pipeline of its new index
+                        indexRequest.isPipelineResolved(false);
+                        resolvePipelines(null, indexRequest, state.metadata());
+                        if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
+                            executePipelines(
+                                slot,
+                                Collections.singleton(indexRequest.getFinalPipeline()).iterator(),
+                                true,
+                                indexRequest,
+                                onDropped,
+                                onFailure,
+                                counter,
+                                onCompletion,
+                                originalThread
+                            );
+                        } else {
+                            completeDocument(counter, onCompletion, originalThread);
+                        }
+                    }
+                } else if (pipelineIndex < pipelineIds.size() - 1) {
+                    next.add(indexRequestWrapper);
+                } else {
+                    completeDocument(counter, onCompletion, originalThread);
+                }
+            }
+            if (next.isEmpty() == false) {
+                executePipelinesInBatch(
+                    next,
+                    pipelineIds,
+                    pipelineIndex + 1,
+                    hasFinalPipeline,
+                    onDropped,
+                    onFailure,
+                    counter,
+                    onCompletion,
+                    originalThread
+                );
+            }
+        };
+
+        final Pipeline pipeline = holder.pipeline;
+        if (pipeline.getProcessors().isEmpty()) {
+            onPipelineCompleted.accept(batch);
+            return;
+        }
+        innerBatchExecute(batch, pipeline, onDropped, results -> {
+            final List<IndexRequestWrapper> succeeded = new ArrayList<>(results.size());
+            for (IngestDocumentWrapper result : results) {
+                final IndexRequestWrapper indexRequestWrapper = requestsBySlot.get(result.getSlot());
+                if (result.getException() != null) {
+                    onPipelineFailure(pipelineId, indexRequestWrapper, result.getException(), onFailure);
+                    completeDocument(counter, onCompletion, originalThread);
+                } else if (result.getIngestDocument() == null) {
+                    // dropped, which has already been reported
+                    completeDocument(counter, onCompletion, originalThread);
+                } else {
+                    succeeded.add(indexRequestWrapper);
+                }
+            }
+            onPipelineCompleted.accept(succeeded);
+        });
+    }
+
+    private static void onPipelineFailure(
+        String pipelineId,
+        IndexRequestWrapper indexRequestWrapper,
+        Exception e,
+        BiConsumer<Integer, Exception> onFailure
+    ) {
+        final IndexRequest indexRequest = indexRequestWrapper.indexRequest;
+        logger.debug(
+            () -> new ParameterizedMessage(
+                "failed to execute pipeline [{}] for document [{}/{}]",
+                pipelineId,
+                indexRequest.index(),
+                indexRequest.id()
+            ),
+            e
+        );
+        onFailure.accept(indexRequestWrapper.slot, e);
+    }
+
+    private static void completeDocument(AtomicInteger counter, BiConsumer<Thread, Exception> onCompletion, Thread originalThread) {
+        if (counter.decrementAndGet() == 0) {
+            onCompletion.accept(originalThread, null);
+        }
+        assert counter.get() >= 0;
+    }
+
     public IngestStats stats() {
         IngestStats.Builder statsBuilder = new IngestStats.Builder();
         statsBuilder.addTotalMetrics(totalMetrics);
@@ -741,13 +930,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         // the pipeline specific stat holder may not exist and that is fine:
         // (e.g. the pipeline may have been removed while we're ingesting a document
         totalMetrics.before();
-        String index = indexRequest.index();
-        String id = indexRequest.id();
-        String routing = indexRequest.routing();
-        Long version = indexRequest.version();
-        VersionType versionType = indexRequest.versionType();
-        Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
-        IngestDocument ingestDocument = new IngestDocument(index, id, routing, version, versionType, sourceAsMap);
+        IngestDocument ingestDocument = toIngestDocument(indexRequest);
         ingestDocument.executePipeline(pipeline, (result, e) -> {
             long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
             totalMetrics.after(ingestTimeInMillis);
@@ -758,28 +941,87 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 itemDroppedHandler.accept(slot);
                 handler.accept(null);
             } else {
-                Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
-                // it's fine to set all metadata fields all the time, as ingest document holds their starting values
-                // before ingestion, which might also get modified during ingestion.
-                indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
-                indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
-                indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
-                indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
-                if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
-                    indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
-                    indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
-                    indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
-                }
-                indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+                updateIndexRequest(indexRequest, ingestDocument);
                 handler.accept(null);
             }
         });
     }
 
+    private void innerBatchExecute(
+        List<IndexRequestWrapper> batch,
+        Pipeline pipeline,
+        IntConsumer itemDroppedHandler,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        final Map<Integer, IndexRequest> requestsBySlot = new HashMap<>(batch.size());
+        final List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>(batch.size());
+        final List<IngestDocumentWrapper> invalidDocuments = new ArrayList<>();
+        for (IndexRequestWrapper indexRequestWrapper : batch) {
+            requestsBySlot.put(indexRequestWrapper.slot, indexRequestWrapper.indexRequest);
+            try {
+                IngestDocument ingestDocument = toIngestDocument(indexRequestWrapper.indexRequest);
+                ingestDocumentWrappers.add(new IngestDocumentWrapper(indexRequestWrapper.slot, ingestDocument, null));
+            } catch (Exception e) {
+                invalidDocuments.add(new IngestDocumentWrapper(indexRequestWrapper.slot, null, e));
+            }
+        }
+        if (ingestDocumentWrappers.isEmpty()) {
+            handler.accept(invalidDocuments);
+            return;
+        }
+
+        final int size = ingestDocumentWrappers.size();
+        final long startTimeInNanos = System.nanoTime();
+        totalMetrics.beforeBatch(size);
+        IngestDocument.executePipeline(pipeline, ingestDocumentWrappers, results -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
+            totalMetrics.afterBatch(size, ingestTimeInMillis);
+            final List<IngestDocumentWrapper> allResults = new ArrayList<>(invalidDocuments.size() + results.size());
+            allResults.addAll(invalidDocuments);
+            for (IngestDocumentWrapper result : results) {
+                if (result.getException() != null) {
+                    totalMetrics.failed();
+                } else if (result.getIngestDocument() == null) {
+                    itemDroppedHandler.accept(result.getSlot());
+                } else {
+                    updateIndexRequest(requestsBySlot.get(result.getSlot()), result.getIngestDocument());
+                }
+                allResults.add(result);
+            }
+            handler.accept(allResults);
+        });
+    }
+
+    private static IngestDocument toIngestDocument(IndexRequest indexRequest) {
+        String index = indexRequest.index();
+        String id = indexRequest.id();
+        String routing = indexRequest.routing();
+        Long version = indexRequest.version();
+        VersionType versionType = indexRequest.versionType();
+        Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
+        return new IngestDocument(index, id, routing, version, versionType, sourceAsMap);
+    }
+
+    private static void updateIndexRequest(IndexRequest indexRequest, IngestDocument ingestDocument) {
+        Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
+        // it's fine to set all metadata fields all the time, as ingest document holds their starting values
+        // before ingestion, which might also get modified during ingestion.
+        indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
+        indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
+        indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
+        indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
+        if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
+            indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
+            indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
+            indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
+        }
+        indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+    }
+
     @Override
     public void applyClusterState(final ClusterChangedEvent event) {
         state = event.state();
@@ -966,4 +1208,18 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         }
     }
 
+    /**
+     * An index request of a bulk request together with its position in the bulk request
+     */
+    static final class IndexRequestWrapper {
+
+        final int slot;
+        final IndexRequest indexRequest;
+
+        IndexRequestWrapper(int slot, IndexRequest indexRequest) {
+            this.slot = slot;
+            this.indexRequest = indexRequest;
+        }
+    }
+
 }
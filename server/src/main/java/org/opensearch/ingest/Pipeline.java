@@ -43,6 +43,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 
 /**
@@ -140,6 +141,28 @@ public final class Pipeline {
         });
     }
 
+    /**
+     * Modifies the data of a batch of documents to be indexed based on the processor this pipeline holds. The handler is
+     * invoked once with a result for every document of the batch.
+     *
+     * A result without a document and without an exception is a document that will be dropped and not indexed.
+     */
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        final int size = ingestDocumentWrappers.size();
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        metrics.beforeBatch(size);
+        compoundProcessor.batchExecute(ingestDocumentWrappers, results -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            metrics.afterBatch(size, ingestTimeInMillis);
+            for (IngestDocumentWrapper result : results) {
+                if (result.getException() != null) {
+                    metrics.failed();
+                }
+            }
+            handler.accept(results);
+        });
+    }
+
     /**
      * The unique id of this pipeline
      */
@@ -33,13 +33,17 @@
 package org.opensearch.ingest;
 
 import org.opensearch.client.Client;
+import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.env.Environment;
 import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.script.ScriptService;
 import org.opensearch.threadpool.Scheduler;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -72,6 +76,34 @@ public interface Processor {
         handler.accept(result, null);
     }
 
+    /**
+     * Introspect and potentially modify a batch of documents. The handler is invoked exactly once with one result per document
+     * of the batch, in any order, each result carrying the slot of its document.
+     *
+     * Expert method: by default the documents are executed one by one with {@link #execute(IngestDocument, BiConsumer)}. Only
+     * override this method if a processor implementation can amortize work across documents, e.g. by sending a single request
+     * to a remote service for the whole batch.
+     */
+    default void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (ingestDocumentWrappers.isEmpty()) {
+            handler.accept(Collections.emptyList());
+            return;
+        }
+        final int size = ingestDocumentWrappers.size();
+        final AtomicInteger counter = new AtomicInteger(size);
+        final AtomicArray<IngestDocumentWrapper> results = new AtomicArray<>(size);
+        for (int i = 0; i < size; i++) {
+            final int index = i;
+            final IngestDocumentWrapper ingestDocumentWrapper = ingestDocumentWrappers.get(i);
+            execute(ingestDocumentWrapper.getIngestDocument(), (result, e) -> {
+                results.set(index, new IngestDocumentWrapper(ingestDocumentWrapper.getSlot(), result, e));
+                if (counter.decrementAndGet() == 0) {
+                    handler.accept(results.asList());
+                }
+            });
+        }
+    }
+
     /**
      * Introspect and potentially modify the incoming data.
      *
@@ -144,6 +144,7 @@ import org.opensearch.index.store.RemoteSegmentStoreDirectoryFactory;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheCleaner;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.filecache.FileCacheJournal;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.ShardLimitValidator;
@@ -401,6 +402,7 @@ public class Node implements Closeable {
     final NamedWriteableRegistry namedWriteableRegistry;
     private final AtomicReference<RunnableTaskExecutionListener> runnableTaskListener;
     private FileCache fileCache;
+    private FileCacheJournal fileCacheJournal;
     private final RemoteStoreStatsTrackerFactory remoteStoreStatsTrackerFactory;
 
     public Node(Environment environment) {
@@ -668,7 +670,12 @@ public class Node implements Closeable {
                 settingsModule.getClusterSettings()
             );
             // File cache will be initialized by the node once circuit breakers are in place.
-            initializeFileCache(settings, circuitBreakerService.getBreaker(CircuitBreaker.REQUEST));
+            initializeFileCache(
+                settings,
+                settingsModule.getClusterSettings(),
+                circuitBreakerService.getBreaker(CircuitBreaker.REQUEST),
+                threadPool
+            );
             final FileCacheCleaner fileCacheCleaner = new FileCacheCleaner(nodeEnvironment, fileCache);
             final MonitorService monitorService = new MonitorService(settings, nodeEnvironment, threadPool, fileCache);
 
@@ -1169,7 +1176,13 @@ public class Node implements Closeable {
                 b.bind(SearchService.class).toInstance(searchService);
                 b.bind(SearchTransportService.class).toInstance(searchTransportService);
                 b.bind(SearchPhaseController.class)
-                    .toInstance(new SearchPhaseController(namedWriteableRegistry, searchService::aggReduceContextBuilder));
+                    .toInstance(
+                        new SearchPhaseController(
+                            namedWriteableRegistry,
+                            searchService::aggReduceContextBuilder,
+                            searchService::getBatchedReduceMaxBufferBytes
+                        )
+                    );
                 b.bind(Transport.class).toInstance(transport);
                 b.bind(TransportService.class).toInstance(transportService);
                 b.bind(NetworkService.class).toInstance(networkService);
@@ -1323,6 +1336,9 @@ public class Node implements Closeable {
 
         injector.getInstance(MappingUpdatedAction.class).setClient(client);
         injector.getInstance(IndicesService.class).start();
+        if (fileCacheJournal != null) {
+            fileCacheJournal.start();
+        }
         injector.getInstance(IndicesClusterStateService.class).start();
         injector.getInstance(SnapshotsService.class).start();
         injector.getInstance(SnapshotShardsService.class).start();
@@ -1502,6 +1518,10 @@ public class Node implements Closeable {
         // we should stop this last since it waits for resources to get released
         // if we had scroll searchers etc or recovery going on we wait for to finish.
         injector.getInstance(IndicesService.class).stop();
+        // persist the file cache once the shards released the files they were reading
+        if (fileCacheJournal != null) {
+            fileCacheJournal.stop();
+        }
         logger.info("stopped");
 
         return this;
@@ -1541,6 +1561,7 @@ public class Node implements Closeable {
         toClose.add(injector.getInstance(IndicesService.class));
         // close filter/fielddata caches after indices
         toClose.add(injector.getInstance(IndicesStore.class));
+        toClose.add(fileCacheJournal);
         toClose.add(injector.getInstance(PeerRecoverySourceService.class));
         toClose.add(injector.getInstance(SegmentReplicationSourceService.class));
         toClose.add(() -> stopWatch.stop().start("cluster"));
@@ -1822,7 +1843,12 @@ public class Node implements Closeable {
      * If the user doesn't configure the cache size, it fails if the node is a data + search node.
      * Else it configures the size to 80% of available capacity for a dedicated search node, if not explicitly defined.
      */
-    private void initializeFileCache(Settings settings, CircuitBreaker circuitBreaker) throws IOException {
+    private void initializeFileCache(
+        Settings settings,
+        ClusterSettings clusterSettings,
+        CircuitBreaker circuitBreaker,
+        ThreadPool threadPool
+    ) throws IOException {
         if (DiscoveryNode.isSearchNode(settings)) {
             NodeEnvironment.NodePath fileCacheNodePath = nodeEnvironment.fileCacheNodePath();
             long capacity = NODE_SEARCH_CACHE_SIZE_SETTING.get(settings).getBytes();
@@ -1847,9 +1873,15 @@ public class Node implements Closeable {
             }
             capacity = Math.min(capacity, availableCapacity);
             fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(capacity, ByteSizeUnit.BYTES);
-            this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity, circuitBreaker);
+            this.fileCache = FileCacheFactory.createConcurrentFileCache(
+                capacity,
+                FileCache.EVICTION_POLICY_SETTING.get(settings),
+                circuitBreaker
+            );
+            this.fileCache.registerPrefetchSettings(settings, clusterSettings);
+            this.fileCacheJournal = new FileCacheJournal(settings, threadPool, fileCache, fileCacheNodePath.fileCachePath);
             List<Path> fileCacheDataPaths = collectFileCacheDataPath(fileCacheNodePath);
-            this.fileCache.restoreFromDirectory(fileCacheDataPaths);
+            this.fileCache.restoreFromDirectory(fileCacheDataPaths, fileCacheJournal.read());
         }
     }
 
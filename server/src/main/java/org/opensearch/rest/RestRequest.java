@@ -49,6 +49,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.http.HttpChannel;
+import org.opensearch.http.HttpContentStream;
 import org.opensearch.http.HttpRequest;
 
 import java.io.IOException;
@@ -289,6 +290,15 @@ public class RestRequest implements ToXContent.Params {
         return httpRequest.content();
     }
 
+    /**
+     * The content of the request chunk by chunk as it is received, or {@code null} if the content is available through
+     * {@link #content()}. The http layer only streams the content of requests to handlers that consume it this way.
+     */
+    @Nullable
+    public HttpContentStream contentStream() {
+        return httpRequest.contentStream();
+    }
+
     /**
      * @return content of the request body or throw an exception if the body or content type is missing
      */
@@ -34,11 +34,17 @@ package org.opensearch.rest.action.document;
 
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkRequestParser;
 import org.opensearch.action.bulk.BulkShardRequest;
 import org.opensearch.action.support.ActiveShardCount;
 import org.opensearch.client.Requests;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.http.HttpContentStream;
+import org.opensearch.http.HttpTransportSettings;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.action.RestStatusToXContentListener;
@@ -66,9 +72,13 @@ import static org.opensearch.rest.RestRequest.Method.PUT;
 public class RestBulkAction extends BaseRestHandler {
 
     private final boolean allowExplicitIndex;
+    private final long streamingFlushSize;
+    private final long streamingMaxInFlight;
 
     public RestBulkAction(Settings settings) {
         this.allowExplicitIndex = MULTI_ALLOW_EXPLICIT_INDEX.get(settings);
+        this.streamingFlushSize = HttpTransportSettings.SETTING_HTTP_STREAMING_BULK_FLUSH_SIZE.get(settings).getBytes();
+        this.streamingMaxInFlight = HttpTransportSettings.SETTING_HTTP_STREAMING_BULK_MAX_IN_FLIGHT.get(settings).getBytes();
     }
 
     @Override
@@ -97,6 +107,47 @@ public class RestBulkAction extends BaseRestHandler {
         Boolean defaultRequireAlias = request.paramAsBoolean(DocWriteRequest.REQUIRE_ALIAS, null);
         bulkRequest.timeout(request.paramAsTime("timeout", BulkShardRequest.DEFAULT_TIMEOUT));
         bulkRequest.setRefreshPolicy(request.param("refresh"));
+        bulkRequest.batchSize(request.paramAsInt("batch_size", 1));
+
+        HttpContentStream contentStream = request.contentStream();
+        if (contentStream != null) {
+            MediaType mediaType = request.getMediaType();
+            if (mediaType == null) {
+                throw new IllegalArgumentException("a Content-Type header is required to stream a bulk request");
+            }
+            if (mediaType != MediaTypeRegistry.JSON && mediaType != XContentType.SMILE) {
+                throw new IllegalArgumentException(
+                    "Content-Type [" + mediaType + "] does not support stream parsing. Use JSON or SMILE instead"
+                );
+            }
+            return channel -> contentStream.subscribe(
+                new StreamingBulkConsumer(
+                    contentStream,
+                    consumer -> new BulkRequestParser().incrementalParser(
+                        defaultIndex,
+                        defaultRouting,
+                        defaultFetchSourceContext,
+                        defaultPipeline,
+                        defaultRequireAlias,
+                        allowExplicitIndex,
+                        mediaType,
+                        consumer::add,
+                        consumer::add,
+                        consumer::add
+                    ),
+                    () -> Requests.bulkRequest()
+                        .waitForActiveShards(bulkRequest.waitForActiveShards())
+                        .timeout(bulkRequest.timeout())
+                        .setRefreshPolicy(bulkRequest.getRefreshPolicy())
+                        .batchSize(bulkRequest.batchSize()),
+                    client::bulk,
+                    streamingFlushSize,
+                    streamingMaxInFlight,
+                    new RestStatusToXContentListener<>(channel)
+                )
+            );
+        }
+
         bulkRequest.add(
             request.requiredContent(),
             defaultIndex,
@@ -0,0 +1,330 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkRequestParser;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.http.HttpContentStream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Executes a bulk request whose content is streamed. The actions are parsed chunk by chunk as the content is received and
+ * are sent off in bulk requests of about {@code flushSize} bytes as soon as they are complete, so the content is never held
+ * in memory as a whole. Reading from the network is paused while the bulk requests in flight add up to {@code maxInFlight}
+ * bytes or more; each of these bulk requests is accounted for by the indexing pressure of the coordinating node like any
+ * other bulk request. Once the last of them completed, their items are merged into a single response.
+ * <p>
+ * If the content turns out to be malformed, or can't be received completely, after actions were sent off already, the
+ * response holds the results of the actions that were sent off, a failure for each action that was parsed but not sent off
+ * and a last failure, without index nor id, for the content that could not be parsed. Otherwise the request fails as a whole
+ * like an aggregated one would.
+ * <p>
+ * The state of the consumer is guarded by its monitor, but bulk requests are sent off and the listener is notified only after
+ * the monitor was released, as either may run arbitrary code on the calling thread.
+ *
+ * @opensearch.internal
+ */
+final class StreamingBulkConsumer implements HttpContentStream.Listener {
+
+    private final HttpContentStream stream;
+    private final Supplier<BulkRequest> bulkRequestSupplier;
+    private final BiConsumer<BulkRequest, ActionListener<BulkResponse>> bulkAction;
+    private final ActionListener<BulkResponse> listener;
+    private final BulkRequestParser.IncrementalParser parser;
+    private final long flushSize;
+    private final long maxInFlight;
+    private final long startNanos = System.nanoTime();
+
+    private final List<BulkItemResponse[]> itemResponses = new ArrayList<>();
+    // bulk requests to send off and listener notifications, that are run once the monitor is released
+    private final List<Runnable> work = new ArrayList<>();
+    private BytesReference remaining = BytesArray.EMPTY;
+    private BulkRequest pending;
+    private int dispatchedItems;
+    private int abandonedItems;
+    private long inFlightBytes;
+    private int inFlightRequests;
+    private long ingestTookInMillis = BulkResponse.NO_INGEST_TOOK;
+    private boolean paused;
+    private boolean done;
+    private boolean completed;
+    private Exception failure;
+
+    /**
+     * @param parserFactory creates the parser of the content, given the consumers of the index, update and delete requests
+     * @param bulkRequestSupplier creates the bulk requests that the actions are sent off in, with the parameters of the
+     *                            streamed request
+     */
+    StreamingBulkConsumer(
+        HttpContentStream stream,
+        Function<StreamingBulkConsumer, BulkRequestParser.IncrementalParser> parserFactory,
+        Supplier<BulkRequest> bulkRequestSupplier,
+        BiConsumer<BulkRequest, ActionListener<BulkResponse>> bulkAction,
+        long flushSize,
+        long maxInFlight,
+        ActionListener<BulkResponse> listener
+    ) {
+        this.stream = stream;
+        this.bulkRequestSupplier = bulkRequestSupplier;
+        this.bulkAction = bulkAction;
+        this.flushSize = flushSize;
+        this.maxInFlight = maxInFlight;
+        this.listener = listener;
+        this.parser = parserFactory.apply(this);
+    }
+
+    /**
+     * Adds a parsed action to the bulk request that is sent off next, and sends it off once it is large enough.
+     */
+    void add(DocWriteRequest<?> request) {
+        assert Thread.holdsLock(this);
+        if (pending == null) {
+            pending = bulkRequestSupplier.get();
+        }
+        pending.add(request);
+        if (pending.estimatedSizeInBytes() >= flushSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void onChunk(BytesReference chunk, boolean last) {
+        final List<Runnable> toRun;
+        synchronized (this) {
+            processChunk(chunk, last);
+            toRun = drainWork();
+        }
+        run(toRun);
+    }
+
+    private void processChunk(BytesReference chunk, boolean last) {
+        assert Thread.holdsLock(this);
+        if (done) {
+            // the request failed already, the rest of the content is of no interest
+            return;
+        }
+        final BytesReference data;
+        if (remaining.length() == 0) {
+            data = chunk;
+        } else if (chunk.length() == 0) {
+            data = remaining;
+        } else {
+            data = CompositeBytesReference.of(remaining, chunk);
+        }
+        try {
+            int consumed = parser.parse(data, last);
+            remaining = data.slice(consumed, data.length() - consumed);
+        } catch (Exception e) {
+            fail(e);
+            return;
+        }
+        if (last) {
+            done = true;
+            remaining = BytesArray.EMPTY;
+            if (pending != null || dispatchedItems == 0) {
+                // a request without any action is sent off nonetheless, so that it fails like an aggregated one would
+                if (pending == null) {
+                    pending = bulkRequestSupplier.get();
+                }
+                flush();
+            }
+            maybeComplete();
+        }
+    }
+
+    @Override
+    public void onFailure(Exception e) {
+        final List<Runnable> toRun;
+        synchronized (this) {
+            fail(e);
+            toRun = drainWork();
+        }
+        run(toRun);
+    }
+
+    private void fail(Exception e) {
+        assert Thread.holdsLock(this);
+        if (done) {
+            return;
+        }
+        done = true;
+        remaining = BytesArray.EMPTY;
+        if (dispatchedItems == 0) {
+            // nothing was executed, so the request fails as a whole like an aggregated one
+            failure = e;
+        } else {
+            // the actions that were sent off may have been executed already, so their results are reported along with a failure
+            // for each action that was not sent off and one for the content that could not be parsed
+            final int notDispatched = pending == null ? 0 : pending.numberOfActions();
+            final BulkItemResponse[] items = new BulkItemResponse[notDispatched + 1];
+            for (int i = 0; i < notDispatched; i++) {
+                DocWriteRequest<?> request = pending.requests().get(i);
+                items[i] = new BulkItemResponse(
+                    dispatchedItems + i,
+                    request.opType(),
+                    new BulkItemResponse.Failure(request.index(), request.id(), e)
+                );
+            }
+            items[notDispatched] = new BulkItemResponse(
+                dispatchedItems + notDispatched,
+                DocWriteRequest.OpType.INDEX,
+                new BulkItemResponse.Failure(null, null, e)
+            );
+            itemResponses.add(items);
+            abandonedItems = items.length;
+        }
+        pending = null;
+        maybeComplete();
+    }
+
+    private void flush() {
+        assert Thread.holdsLock(this);
+        final BulkRequest bulkRequest = pending;
+        final int offset = dispatchedItems;
+        final long bytes = bulkRequest.estimatedSizeInBytes();
+        pending = null;
+        dispatchedItems += bulkRequest.numberOfActions();
+        inFlightBytes += bytes;
+        inFlightRequests++;
+        if (paused == false && inFlightBytes >= maxInFlight) {
+            paused = true;
+            stream.pause();
+        }
+        work.add(() -> bulkAction.accept(bulkRequest, new ActionListener<BulkResponse>() {
+            @Override
+            public void onResponse(BulkResponse response) {
+                final List<Runnable> toRun;
+                synchronized (StreamingBulkConsumer.this) {
+                    onBulkResponse(offset, bytes, response);
+                    toRun = drainWork();
+                }
+                run(toRun);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                final List<Runnable> toRun;
+                synchronized (StreamingBulkConsumer.this) {
+                    onBulkFailure(offset, bytes, bulkRequest, e);
+                    toRun = drainWork();
+                }
+                run(toRun);
+            }
+        }));
+    }
+
+    private void onBulkResponse(int offset, long bytes, BulkResponse response) {
+        assert Thread.holdsLock(this);
+        BulkItemResponse[] items = response.getItems();
+        BulkItemResponse[] shifted = new BulkItemResponse[items.length];
+        for (int i = 0; i < items.length; i++) {
+            BulkItemResponse item = items[i];
+            if (item.isFailed()) {
+                shifted[i] = new BulkItemResponse(offset + item.getItemId(), item.getOpType(), item.getFailure());
+            } else {
+                shifted[i] = new BulkItemResponse(offset + item.getItemId(), item.getOpType(), item.getResponse());
+            }
+        }
+        itemResponses.add(shifted);
+        if (response.getIngestTookInMillis() != BulkResponse.NO_INGEST_TOOK) {
+            ingestTookInMillis = Math.max(ingestTookInMillis, 0) + response.getIngestTookInMillis();
+        }
+        onBulkCompleted(bytes);
+    }
+
+    private void onBulkFailure(int offset, long bytes, BulkRequest bulkRequest, Exception e) {
+        assert Thread.holdsLock(this);
+        if (dispatchedItems == bulkRequest.numberOfActions() && abandonedItems == 0 && done && failure == null) {
+            // the only request that was sent off, fail the same way as an aggregated request
+            failure = e;
+        } else {
+            // other actions may have been executed already, so the failure is reported for each action of this request
+            List<DocWriteRequest<?>> requests = bulkRequest.requests();
+            BulkItemResponse[] items = new BulkItemResponse[requests.size()];
+            for (int i = 0; i < items.length; i++) {
+                DocWriteRequest<?> request = requests.get(i);
+                items[i] = new BulkItemResponse(
+                    offset + i,
+                    request.opType(),
+                    new BulkItemResponse.Failure(request.index(), request.id(), e)
+                );
+            }
+            itemResponses.add(items);
+        }
+        onBulkCompleted(bytes);
+    }
+
+    private void onBulkCompleted(long bytes) {
+        assert Thread.holdsLock(this);
+        inFlightBytes -= bytes;
+        inFlightRequests--;
+        if (paused && inFlightBytes < maxInFlight) {
+            paused = false;
+            stream.resume();
+        }
+        maybeComplete();
+    }
+
+    private void maybeComplete() {
+        assert Thread.holdsLock(this);
+        if (done == false || inFlightRequests > 0 || completed) {
+            return;
+        }
+        completed = true;
+        if (paused) {
+            paused = false;
+            stream.resume();
+        }
+        if (failure != null) {
+            final Exception e = failure;
+            work.add(() -> listener.onFailure(e));
+            return;
+        }
+        BulkItemResponse[] items = new BulkItemResponse[dispatchedItems + abandonedItems];
+        for (BulkItemResponse[] responses : itemResponses) {
+            for (BulkItemResponse item : responses) {
+                items[item.getItemId()] = item;
+            }
+        }
+        long tookInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        final BulkResponse response = new BulkResponse(items, tookInMillis, ingestTookInMillis);
+        work.add(() -> listener.onResponse(response));
+    }
+
+    private List<Runnable> drainWork() {
+        assert Thread.holdsLock(this);
+        if (work.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Runnable> toRun = new ArrayList<>(work);
+        work.clear();
+        return toRun;
+    }
+
+    private void run(List<Runnable> toRun) {
+        assert Thread.holdsLock(this) == false;
+        for (Runnable runnable : toRun) {
+            runnable.run();
+        }
+    }
+}
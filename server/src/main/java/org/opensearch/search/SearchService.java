@@ -34,10 +34,14 @@ package org.opensearch.search;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.DeletePitInfo;
@@ -50,6 +54,7 @@ import org.opensearch.action.search.UpdatePitContextRequest;
 import org.opensearch.action.search.UpdatePitContextResponse;
 import org.opensearch.action.support.TransportActions;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.DataStream;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.UUIDs;
@@ -69,6 +74,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.index.Index;
@@ -78,6 +84,8 @@ import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.query.InnerHitContextBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.MatchNoneQueryBuilder;
@@ -249,6 +257,19 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    /**
+     * The size of the shard aggregation results that the coordinating node buffers for a search before it reduces them, even if fewer
+     * than {@link org.opensearch.action.search.SearchRequest#getBatchedReduceSize()} results are buffered. This only bounds the shard
+     * results buffered before a partial reduce, not the result of the partial reduce. Once the search holds more than this size, terms
+     * aggregations ordered by descending count keep their <code>shard_size</code> most frequent buckets in partial reduces.
+     */
+    public static final Setting<ByteSizeValue> BATCHED_REDUCE_MAX_BUFFER_SIZE_SETTING = Setting.memorySizeSetting(
+        "search.aggs.batched_reduce.max_buffer_size",
+        "5%",
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final Setting<Boolean> CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING = Setting.boolSetting(
         "search.concurrent_segment_search.enabled",
         true,
@@ -293,6 +314,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile int maxOpenPitContext;
 
+    private volatile long batchedReduceMaxBufferBytes;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -362,6 +385,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         maxOpenPitContext = MAX_OPEN_PIT_CONTEXT.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(MAX_OPEN_PIT_CONTEXT, this::setMaxOpenPitContext);
 
+        batchedReduceMaxBufferBytes = BATCHED_REDUCE_MAX_BUFFER_SIZE_SETTING.get(settings).getBytes();
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(BATCHED_REDUCE_MAX_BUFFER_SIZE_SETTING, this::setBatchedReduceMaxBufferSize);
+
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
     }
@@ -436,6 +463,17 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.maxOpenPitContext = maxOpenPitContext;
     }
 
+    private void setBatchedReduceMaxBufferSize(ByteSizeValue batchedReduceMaxBufferSize) {
+        this.batchedReduceMaxBufferBytes = batchedReduceMaxBufferSize.getBytes();
+    }
+
+    /**
+     * Returns the size in bytes of the shard aggregation results that the coordinating node buffers before it reduces them.
+     */
+    public long getBatchedReduceMaxBufferBytes() {
+        return batchedReduceMaxBufferBytes;
+    }
+
     private void setLowLevelCancellation(Boolean lowLevelCancellation) {
         this.lowLevelCancellation = lowLevelCancellation;
     }
@@ -1549,11 +1587,38 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 final Integer trackTotalHitsUpto = request.source() == null ? null : request.source().trackTotalHitsUpTo();
                 canMatch = canMatch && canMatchSearchAfter(searchAfterFieldDoc, minMax, sortBuilder, trackTotalHitsUpto);
 
-                return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
+                // the bounds of a shard that has pending writes or of a pinned reader may be stale
+                final MinAndMax<?> timestampBounds = readerContext == null && hasRefreshPending == false
+                    ? getTimestampBoundsOrNull(context, canMatchSearcher.getIndexReader())
+                    : null;
+                return new CanMatchResponse(canMatch || hasRefreshPending, minMax, timestampBounds);
             }
         }
     }
 
+    /**
+     * Returns the bounds in milliseconds of the {@link DataStream#TIMESERIES_FIELDNAME} field of the given reader, if the field is
+     * a date field that uses the default format, so that the coordinating node can resolve range queries on the field the same way
+     * the shard does. A reader without any timestamp has the empty bounds {@code [Long.MAX_VALUE, Long.MIN_VALUE]}.
+     */
+    private static MinAndMax<?> getTimestampBoundsOrNull(QueryShardContext context, IndexReader reader) throws IOException {
+        final MappedFieldType fieldType = context.fieldMapper(DataStream.TIMESERIES_FIELDNAME);
+        if (fieldType instanceof DateFieldMapper.DateFieldType == false || fieldType.isSearchable() == false) {
+            return null;
+        }
+        final DateFieldMapper.DateFieldType dateFieldType = (DateFieldMapper.DateFieldType) fieldType;
+        if (dateFieldType.resolution() != DateFieldMapper.Resolution.MILLISECONDS
+            || DateFieldMapper.DEFAULT_DATE_TIME_FORMATTER.pattern().equals(dateFieldType.dateTimeFormatter().pattern()) == false) {
+            return null;
+        }
+        final byte[] minPackedValue = PointValues.getMinPackedValue(reader, DataStream.TIMESERIES_FIELDNAME);
+        final byte[] maxPackedValue = PointValues.getMaxPackedValue(reader, DataStream.TIMESERIES_FIELDNAME);
+        if (minPackedValue == null || maxPackedValue == null) {
+            return new MinAndMax<>(Long.MAX_VALUE, Long.MIN_VALUE);
+        }
+        return new MinAndMax<>(LongPoint.decodeDimension(minPackedValue, 0), LongPoint.decodeDimension(maxPackedValue, 0));
+    }
+
     public static boolean canMatchSearchAfter(
         FieldDoc searchAfter,
         MinAndMax<?> minMax,
@@ -1686,6 +1751,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final class CanMatchResponse extends SearchPhaseResult {
         private final boolean canMatch;
         private final MinAndMax<?> estimatedMinAndMax;
+        private final MinAndMax<?> timestampBounds;
 
         public CanMatchResponse(StreamInput in) throws IOException {
             super(in);
@@ -1695,11 +1761,21 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             } else {
                 estimatedMinAndMax = null;
             }
+            if (in.getVersion().onOrAfter(Version.V_2_11_1)) {
+                timestampBounds = in.readOptionalWriteable(MinAndMax::new);
+            } else {
+                timestampBounds = null;
+            }
         }
 
         public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax) {
+            this(canMatch, estimatedMinAndMax, null);
+        }
+
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, MinAndMax<?> timestampBounds) {
             this.canMatch = canMatch;
             this.estimatedMinAndMax = estimatedMinAndMax;
+            this.timestampBounds = timestampBounds;
         }
 
         @Override
@@ -1708,6 +1784,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             if (out.getVersion().onOrAfter(LegacyESVersion.V_7_6_0)) {
                 out.writeOptionalWriteable(estimatedMinAndMax);
             }
+            if (out.getVersion().onOrAfter(Version.V_2_11_1)) {
+                out.writeOptionalWriteable(timestampBounds);
+            }
         }
 
         public boolean canMatch() {
@@ -1717,6 +1796,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         public MinAndMax<?> estimatedMinAndMax() {
             return estimatedMinAndMax;
         }
+
+        /**
+         * The bounds in milliseconds of the {@link DataStream#TIMESERIES_FIELDNAME} field of the shard, or {@code null} if unknown.
+         */
+        public MinAndMax<?> timestampBounds() {
+            return timestampBounds;
+        }
     }
 
     /**
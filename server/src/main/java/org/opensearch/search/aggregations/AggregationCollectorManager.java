@@ -17,7 +17,11 @@ import org.opensearch.search.query.ReduceableSearchResult;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Common {@link CollectorManager} used by both concurrent and non-concurrent aggregation path and also for global and non-global
@@ -29,6 +33,11 @@ public abstract class AggregationCollectorManager implements CollectorManager<Co
     protected final SearchContext context;
     private final CheckedFunction<SearchContext, List<Aggregator>, IOException> aggProvider;
     private final String collectorReason;
+    // the collectors created by this manager whose aggregations haven't been built yet
+    private final Set<Collector> pendingCollectors = ConcurrentHashMap.newKeySet();
+    // the aggregations of the slices that were built as soon as the slices completed their collection
+    private final Map<Collector, List<InternalAggregation>> builtSlices = new ConcurrentHashMap<>();
+    private boolean bucketConsumerReset;
 
     AggregationCollectorManager(
         SearchContext context,
@@ -45,20 +54,34 @@ public abstract class AggregationCollectorManager implements CollectorManager<Co
         final Collector collector = createCollector(aggProvider.apply(context));
         // For Aggregations we should not have a NO_OP_Collector
         assert collector != BucketCollector.NO_OP_COLLECTOR;
+        pendingCollectors.add(collector);
         return collector;
     }
 
-    public String getCollectorReason() {
-        return collectorReason;
+    /**
+     * Builds the aggregations of the given collector of a slice once the slice completed its collection, on the thread of the slice, so
+     * that the slices that complete first don't wait for the last one to be built in {@link #reduce(Collection)}. The aggregations of
+     * the slices are still reduced together, as reducing them slice by slice would apply the shard level bucket count thresholds to
+     * partial counts.
+     *
+     * @return {@code false} if the collector wasn't created by this manager or was already built
+     */
+    boolean buildSliceAggregations(Collector collector) {
+        if (pendingCollectors.remove(collector) == false) {
+            return false;
+        }
+        builtSlices.put(collector, buildAggregations(collector));
+        return true;
     }
 
-    public abstract String getCollectorName();
-
-    @Override
-    public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
-        final List<Aggregator> aggregators = context.bucketCollectorProcessor().toAggregators(collectors);
+    // slices are built one at a time, as they count their buckets with the same consumer
+    private synchronized List<InternalAggregation> buildAggregations(Collector collector) {
+        if (bucketConsumerReset == false) {
+            context.aggregations().resetBucketMultiConsumer();
+            bucketConsumerReset = true;
+        }
+        final List<Aggregator> aggregators = context.bucketCollectorProcessor().toAggregators(Collections.singletonList(collector));
         final List<InternalAggregation> internals = new ArrayList<>(aggregators.size());
-        context.aggregations().resetBucketMultiConsumer();
         for (Aggregator aggregator : aggregators) {
             try {
                 // post collection is called in ContextIndexSearcher after search on leaves are completed
@@ -67,6 +90,30 @@ public abstract class AggregationCollectorManager implements CollectorManager<Co
                 throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
             }
         }
+        return internals;
+    }
+
+    public String getCollectorReason() {
+        return collectorReason;
+    }
+
+    public abstract String getCollectorName();
+
+    @Override
+    public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        final List<InternalAggregation> internals = new ArrayList<>(collectors.size());
+        for (Collector collector : collectors) {
+            final List<InternalAggregation> built = builtSlices.remove(collector);
+            if (built != null) {
+                internals.addAll(built);
+            } else {
+                pendingCollectors.remove(collector);
+                internals.addAll(buildAggregations(collector));
+            }
+        }
+        synchronized (this) {
+            bucketConsumerReset = false;
+        }
 
         // PipelineTreeSource is serialized to the coordinators on older OpenSearch versions for bwc but is deprecated in latest release
         // To handle that we need to add it in the InternalAggregations object sent in QuerySearchResult.
@@ -68,10 +68,18 @@ public class BucketCollectorProcessor {
                 }
             } else if (currentCollector instanceof BucketCollector) {
                 ((BucketCollector) currentCollector).postCollection();
+                onPostCollection((BucketCollector) currentCollector);
             }
         }
     }
 
+    /**
+     * Called on the thread of a slice after {@link BucketCollector#postCollection()} was performed on one of the top level
+     * {@link BucketCollector}s of the collector tree of the slice.
+     * @param collector the collector whose collection of the slice completed
+     */
+    protected void onPostCollection(BucketCollector collector) throws IOException {}
+
     /**
      * Unwraps the input collection of {@link Collector} to get the list of the {@link Aggregator} used by different slice threads. The
      * input is expected to contain the collectors related to Aggregations only as that is passed to {@link AggregationCollectorManager}
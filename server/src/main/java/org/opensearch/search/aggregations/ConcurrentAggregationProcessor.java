@@ -19,30 +19,36 @@ import org.opensearch.search.query.QueryPhaseExecutionException;
 import org.opensearch.search.query.ReduceableSearchResult;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * {@link AggregationProcessor} implementation to be used with {@link org.opensearch.search.query.ConcurrentQueryPhaseSearcher}. It takes
  * care of performing shard level reduce on Aggregation results collected as part of concurrent execution among slices. This is done to
  * avoid the increase in aggregation result sets returned by each shard to coordinator where final reduce happens for results received from
- * all the shards
+ * all the shards. The aggregations of each slice are built as soon as the slice completes its collection, see
+ * {@link AggregationCollectorManager#buildSliceAggregations(Collector)}.
  */
 public class ConcurrentAggregationProcessor implements AggregationProcessor {
 
-    private final BucketCollectorProcessor bucketCollectorProcessor = new BucketCollectorProcessor();
-
     @Override
     public void preProcess(SearchContext context) {
         try {
             if (context.aggregations() != null) {
+                final List<AggregationCollectorManager> collectorManagers = new ArrayList<>(2);
                 // update the bucket collector process as there is aggregation in the request
-                context.setBucketCollectorProcessor(bucketCollectorProcessor);
+                context.setBucketCollectorProcessor(new SliceBucketCollectorProcessor(collectorManagers));
                 if (context.aggregations().factories().hasNonGlobalAggregator()) {
-                    context.queryCollectorManagers().put(NonGlobalAggCollectorManager.class, new NonGlobalAggCollectorManager(context));
+                    final NonGlobalAggCollectorManager collectorManager = new NonGlobalAggCollectorManager(context);
+                    context.queryCollectorManagers().put(NonGlobalAggCollectorManager.class, collectorManager);
+                    collectorManagers.add(collectorManager);
                 }
                 // initialize global aggregators as well, such that any failure to initialize can be caught before executing the request
                 if (context.aggregations().factories().hasGlobalAggregator()) {
-                    context.queryCollectorManagers().put(GlobalAggCollectorManager.class, new GlobalAggCollectorManager(context));
+                    final GlobalAggCollectorManager collectorManager = new GlobalAggCollectorManager(context);
+                    context.queryCollectorManagers().put(GlobalAggCollectorManager.class, collectorManager);
+                    collectorManagers.add(collectorManager);
                 }
             }
         } catch (IOException ex) {
@@ -84,4 +90,25 @@ public class ConcurrentAggregationProcessor implements AggregationProcessor {
         context.queryCollectorManagers().remove(NonGlobalAggCollectorManager.class);
         context.queryCollectorManagers().remove(GlobalAggCollectorManager.class);
     }
+
+    /**
+     * {@link BucketCollectorProcessor} that builds the aggregations of a slice with the collector manager that created its collector
+     * once the slice completed its collection.
+     */
+    private static final class SliceBucketCollectorProcessor extends BucketCollectorProcessor {
+        private final List<AggregationCollectorManager> collectorManagers;
+
+        private SliceBucketCollectorProcessor(List<AggregationCollectorManager> collectorManagers) {
+            this.collectorManagers = collectorManagers;
+        }
+
+        @Override
+        protected void onPostCollection(BucketCollector collector) {
+            for (AggregationCollectorManager collectorManager : collectorManagers) {
+                if (collectorManager.buildSliceAggregations(collector)) {
+                    return;
+                }
+            }
+        }
+    }
 }
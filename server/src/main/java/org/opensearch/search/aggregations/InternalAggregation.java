@@ -94,6 +94,7 @@ public abstract class InternalAggregation implements Aggregation, NamedWriteable
         private final PipelineTree pipelineTreeRoot;
 
         private boolean isSliceLevel;
+        private boolean boundedPartialReduce;
         /**
          * Supplies the pipelines when the result of the reduce is serialized
          * to node versions that need pipeline aggregators to be serialized
@@ -163,6 +164,22 @@ public abstract class InternalAggregation implements Aggregation, NamedWriteable
             return this.isSliceLevel;
         }
 
+        /**
+         * Sets whether a partial reduce on the coordinator should bound the size of its result, like shards bound the size of
+         * theirs. This is used when the shard results buffered on the coordinator don't fit in memory anymore.
+         */
+        public void setBoundedPartialReduce(boolean boundedPartialReduce) {
+            this.boundedPartialReduce = boundedPartialReduce;
+        }
+
+        /**
+         * Returns <code>true</code> iff this is a partial reduce whose result should be bounded in size. Aggregations that
+         * support it prune their buckets to the shard level limits and account for the pruned buckets in their error bounds.
+         */
+        public boolean isBoundedPartialReduce() {
+            return isFinalReduce() == false && boundedPartialReduce;
+        }
+
         /**
          * For slice level partial reduce we will apply shard level `shard_size` and `shard_min_doc_count` limits
          * whereas for coordinator level partial reduce it will use top level `size` and `min_doc_count`
@@ -129,8 +129,8 @@ public class MultiBucketConsumerService {
         private final int limit;
         private final CircuitBreaker breaker;
 
-        // aggregations execute in a single thread for both sequential
-        // and concurrent search, so no atomic here
+        // aggregations are built by a single thread at a time for both
+        // sequential and concurrent search, so no atomic here
         private int count;
 
         // will be updated by multiple threads in concurrent search
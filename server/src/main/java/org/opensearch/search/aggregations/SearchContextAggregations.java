@@ -62,7 +62,10 @@ public class SearchContextAggregations {
         return multiBucketConsumer;
     }
 
-    void resetBucketMultiConsumer() {
+    /**
+     * Resets the number of buckets that the consumer counted, before the aggregations of a slice or a segment are built
+     */
+    public void resetBucketMultiConsumer() {
         multiBucketConsumer.reset();
     }
 }
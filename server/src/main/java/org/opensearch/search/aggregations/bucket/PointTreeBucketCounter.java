@@ -0,0 +1,331 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.DocCountFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.DateRangeIncludingNowQuery;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.function.BiConsumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Counts the documents of the buckets of a top level bucket aggregation on a date field by walking the points index of
+ * the field rather than collecting the matching documents one by one. Inner nodes of the BKD tree whose values all
+ * fall in the same bucket are counted in one step, only the leaf blocks that straddle a bucket boundary or a bound of
+ * the query have their values visited.
+ * <p>
+ * The counts are exact only under a number of conditions that are checked by {@link #build} for the whole request and
+ * by {@link #canCount} for each segment: the aggregation has no parent and no sub-aggregations, the field is
+ * an indexed date field with millisecond resolution that is read without script or missing value, the query is either
+ * a match all query or a conjunction of range queries on the same field, and the segment has no deleted documents, no
+ * {@code _doc_count} field and at most one value per document.
+ *
+ * @opensearch.internal
+ */
+public final class PointTreeBucketCounter {
+
+    private static final LongUnaryOperator SINGLE_BUCKET = value -> 0L;
+
+    private final String field;
+    private final long queryMin;
+    private final long queryMax;
+
+    private int optimizedSegments;
+    private int unoptimizedSegments;
+
+    private PointTreeBucketCounter(String field, long queryMin, long queryMax) {
+        this.field = field;
+        this.queryMin = queryMin;
+        this.queryMax = queryMax;
+    }
+
+    /**
+     * Returns a counter for the aggregation, or {@code null} if its buckets cannot be counted from the points index.
+     */
+    @Nullable
+    public static PointTreeBucketCounter build(SearchContext context, Aggregator parent, int subAggregators, ValuesSourceConfig config) {
+        if (config.script() != null || config.missing() != null) {
+            return null;
+        }
+        return build(context, parent, subAggregators, config.fieldType());
+    }
+
+    /**
+     * Returns a counter for the aggregation, or {@code null} if its buckets cannot be counted from the points index.
+     * Callers must make sure that the values of the aggregation are read from <code>fieldType</code> as is.
+     */
+    @Nullable
+    public static PointTreeBucketCounter build(
+        SearchContext context,
+        Aggregator parent,
+        int subAggregators,
+        @Nullable MappedFieldType fieldType
+    ) {
+        if (parent != null || subAggregators > 0) {
+            return null;
+        }
+        if (context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER || context.minimumScore() != null) {
+            return null;
+        }
+        if (fieldType instanceof DateFieldMapper.DateFieldType == false) {
+            return null;
+        }
+        final DateFieldMapper.DateFieldType dateFieldType = (DateFieldMapper.DateFieldType) fieldType;
+        if (dateFieldType.isSearchable() == false || dateFieldType.resolution() != DateFieldMapper.Resolution.MILLISECONDS) {
+            return null;
+        }
+        final long[] bounds = queryBounds(context.query(), fieldType.name());
+        if (bounds == null) {
+            return null;
+        }
+        return forRange(fieldType.name(), bounds[0], bounds[1]);
+    }
+
+    /**
+     * Returns a counter for documents whose value of <code>field</code> is between <code>queryMin</code> and
+     * <code>queryMax</code>, both inclusive. Callers are responsible for checking that the counts are exact.
+     */
+    public static PointTreeBucketCounter forRange(String field, long queryMin, long queryMax) {
+        return new PointTreeBucketCounter(field, queryMin, queryMax);
+    }
+
+    /**
+     * Returns the inclusive bounds on <code>field</code> of the documents that match <code>query</code>, or {@code null}
+     * if the query cannot be expressed as a single range on the field.
+     */
+    @Nullable
+    static long[] queryBounds(Query query, String field) {
+        if (query == null || query instanceof MatchAllDocsQuery) {
+            return new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+        } else if (query instanceof ConstantScoreQuery) {
+            return queryBounds(((ConstantScoreQuery) query).getQuery(), field);
+        } else if (query instanceof BoostQuery) {
+            return queryBounds(((BoostQuery) query).getQuery(), field);
+        } else if (query instanceof IndexOrDocValuesQuery) {
+            return queryBounds(((IndexOrDocValuesQuery) query).getIndexQuery(), field);
+        } else if (query instanceof DateRangeIncludingNowQuery) {
+            return queryBounds(((DateRangeIncludingNowQuery) query).getQuery(), field);
+        } else if (query instanceof PointRangeQuery) {
+            final PointRangeQuery rangeQuery = (PointRangeQuery) query;
+            if (field.equals(rangeQuery.getField()) == false || rangeQuery.getNumDims() != 1 || rangeQuery.getBytesPerDim() != Long.BYTES) {
+                return null;
+            }
+            final long lower = LongPoint.decodeDimension(rangeQuery.getLowerPoint(), 0);
+            final long upper = LongPoint.decodeDimension(rangeQuery.getUpperPoint(), 0);
+            return new long[] { lower, upper };
+        } else if (query instanceof BooleanQuery) {
+            final BooleanQuery booleanQuery = (BooleanQuery) query;
+            if (booleanQuery.clauses().isEmpty()) {
+                return null;
+            }
+            final long[] bounds = new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+            for (BooleanClause clause : booleanQuery.clauses()) {
+                if (clause.getOccur() != BooleanClause.Occur.MUST && clause.getOccur() != BooleanClause.Occur.FILTER) {
+                    return null;
+                }
+                final long[] clauseBounds = queryBounds(clause.getQuery(), field);
+                if (clauseBounds == null) {
+                    return null;
+                }
+                bounds[0] = Math.max(bounds[0], clauseBounds[0]);
+                bounds[1] = Math.min(bounds[1], clauseBounds[1]);
+            }
+            return bounds;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the documents of the given segment can be counted from the points of the field.
+     */
+    public boolean canCount(LeafReaderContext ctx) throws IOException {
+        final LeafReader reader = ctx.reader();
+        if (reader.hasDeletions() || reader.getFieldInfos().fieldInfo(DocCountFieldMapper.NAME) != null) {
+            unoptimizedSegments++;
+            return false;
+        }
+        final FieldInfo fieldInfo = reader.getFieldInfos().fieldInfo(field);
+        if (fieldInfo != null && (fieldInfo.getPointDimensionCount() != 1 || fieldInfo.getPointNumBytes() != Long.BYTES)) {
+            // the values of the segment were not indexed as points
+            unoptimizedSegments++;
+            return false;
+        }
+        final PointValues values = reader.getPointValues(field);
+        if (values != null && values.size() != values.getDocCount()) {
+            // multi-valued documents are counted once per bucket
+            unoptimizedSegments++;
+            return false;
+        }
+        optimizedSegments++;
+        return true;
+    }
+
+    /**
+     * Counts the documents of a segment that {@link #canCount} accepted per rounded value, <code>consumer</code> may be called
+     * more than once for the same rounded value.
+     */
+    public void countByRounding(LeafReaderContext ctx, LongUnaryOperator rounding, BucketCountConsumer consumer) throws IOException {
+        assert ctx.reader().hasDeletions() == false;
+        final PointValues values = ctx.reader().getPointValues(field);
+        if (values == null || queryMin > queryMax) {
+            return;
+        }
+        final Counter counter = new Counter(rounding, queryMin, queryMax, consumer);
+        counter.collect(values.getPointTree());
+        counter.flush();
+    }
+
+    /**
+     * Counts the documents of a segment that {@link #canCount} accepted whose value is between <code>from</code> and
+     * <code>to</code>, both inclusive.
+     */
+    public long count(LeafReaderContext ctx, long from, long to) throws IOException {
+        assert ctx.reader().hasDeletions() == false;
+        final PointValues values = ctx.reader().getPointValues(field);
+        final long min = Math.max(from, queryMin);
+        final long max = Math.min(to, queryMax);
+        if (values == null || min > max) {
+            return 0;
+        }
+        final Counter counter = new Counter(SINGLE_BUCKET, min, max, null);
+        counter.collect(values.getPointTree());
+        return counter.count;
+    }
+
+    /**
+     * Adds the number of optimized and unoptimized segments to the debug information of the aggregation.
+     */
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        add.accept("optimized_segments", optimizedSegments);
+        add.accept("unoptimized_segments", unoptimizedSegments);
+    }
+
+    /**
+     * Receives the document count of a bucket.
+     *
+     * @opensearch.internal
+     */
+    @FunctionalInterface
+    public interface BucketCountConsumer {
+        void accept(long roundedValue, long count) throws IOException;
+    }
+
+    /**
+     * Walks the tree in value order and accumulates the count of the current bucket.
+     */
+    private static final class Counter implements PointValues.IntersectVisitor {
+        private final LongUnaryOperator rounding;
+        private final long min;
+        private final long max;
+
+        private final BucketCountConsumer consumer;
+
+        private boolean first = true;
+        private long bucket;
+        private long count;
+
+        Counter(LongUnaryOperator rounding, long min, long max, @Nullable BucketCountConsumer consumer) {
+            this.rounding = rounding;
+            this.min = min;
+            this.max = max;
+            this.consumer = consumer;
+        }
+
+        void collect(PointValues.PointTree tree) throws IOException {
+            final long cellMin = LongPoint.decodeDimension(tree.getMinPackedValue(), 0);
+            final long cellMax = LongPoint.decodeDimension(tree.getMaxPackedValue(), 0);
+            if (cellMax < min || cellMin > max) {
+                return;
+            }
+            if (cellMin >= min && cellMax <= max) {
+                final long bucketMin = rounding.applyAsLong(cellMin);
+                if (bucketMin == rounding.applyAsLong(cellMax)) {
+                    // rounding is monotonic so all the values of the cell belong to the same bucket
+                    add(bucketMin, tree.size());
+                    return;
+                }
+            }
+            if (tree.moveToChild()) {
+                do {
+                    collect(tree);
+                } while (tree.moveToSibling());
+                tree.moveToParent();
+            } else {
+                tree.visitDocValues(this);
+            }
+        }
+
+        private void add(long roundedValue, long docCount) throws IOException {
+            if (consumer != null && first == false && roundedValue != bucket) {
+                consumer.accept(bucket, count);
+                count = 0;
+            }
+            first = false;
+            bucket = roundedValue;
+            count += docCount;
+        }
+
+        void flush() throws IOException {
+            if (consumer != null && count > 0) {
+                consumer.accept(bucket, count);
+            }
+        }
+
+        @Override
+        public void visit(int docID) {
+            throw new IllegalStateException("should never be called");
+        }
+
+        @Override
+        public void visit(int docID, byte[] packedValue) throws IOException {
+            final long value = LongPoint.decodeDimension(packedValue, 0);
+            if (value >= min && value <= max) {
+                add(rounding.applyAsLong(value), 1);
+            }
+        }
+
+        @Override
+        public void visit(DocIdSetIterator iterator, byte[] packedValue) throws IOException {
+            final long value = LongPoint.decodeDimension(packedValue, 0);
+            if (value >= min && value <= max) {
+                long docCount = 0;
+                while (iterator.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                    docCount++;
+                }
+                add(rounding.applyAsLong(value), docCount);
+            }
+        }
+
+        @Override
+        public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+            return PointValues.Relation.CELL_CROSSES_QUERY;
+        }
+    }
+}
@@ -56,6 +56,7 @@ import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.comparators.LongComparator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.RoaringDocIdSet;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.index.IndexSortConfig;
 import org.opensearch.lucene.queries.SearchAfterSortedDocQuery;
@@ -70,6 +71,7 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.PointTreeBucketCounter;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.searchafter.SearchAfterBuilder;
@@ -81,6 +83,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
 
@@ -110,6 +113,13 @@ final class CompositeAggregator extends BucketsAggregator {
 
     private boolean earlyTerminated;
 
+    /**
+     * Counts the documents of each bucket from the points index when the composite has a single date histogram source
+     * that allows it, {@code null} otherwise.
+     */
+    @Nullable
+    private final PointTreeBucketCounter pointTreeCounter;
+
     CompositeAggregator(
         String name,
         AggregatorFactories factories,
@@ -153,6 +163,21 @@ final class CompositeAggregator extends BucketsAggregator {
         }
         this.queue = new CompositeValuesCollectorQueue(context.bigArrays(), sources, size, rawAfterKey);
         this.rawAfterKey = rawAfterKey;
+        this.pointTreeCounter = buildPointTreeCounter(context, parent);
+    }
+
+    @Nullable
+    private PointTreeBucketCounter buildPointTreeCounter(SearchContext context, Aggregator parent) {
+        if (sourceConfigs.length != 1) {
+            return null;
+        }
+        final CompositeValuesSourceConfig sourceConfig = sourceConfigs[0];
+        if (sourceConfig.valuesSource() instanceof RoundingValuesSource == false
+            || sourceConfig.hasScript()
+            || sourceConfig.missingBucket()) {
+            return null;
+        }
+        return PointTreeBucketCounter.build(context, parent, subAggregators.length, sourceConfig.fieldType());
     }
 
     @Override
@@ -239,6 +264,14 @@ final class CompositeAggregator extends BucketsAggregator {
         );
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        if (pointTreeCounter != null) {
+            pointTreeCounter.collectDebugInfo(add);
+        }
+    }
+
     private void finishLeaf() {
         if (currentLeaf != null) {
             DocIdSet docIdSet = docIdSetBuilder.build();
@@ -451,6 +484,23 @@ final class CompositeAggregator extends BucketsAggregator {
 
         boolean fillDocIdSet = deferredCollectors != NO_OP_COLLECTOR;
 
+        if (pointTreeCounter != null && fillDocIdSet == false && pointTreeCounter.canCount(ctx)) {
+            // Count the documents of each rounded value from the points index and offer the buckets to the queue,
+            // partial counts of the same bucket are merged since a bucket that was pushed out of the queue is never
+            // competitive again.
+            final RoundingValuesSource valuesSource = (RoundingValuesSource) sourceConfigs[0].valuesSource();
+            pointTreeCounter.countByRounding(ctx, valuesSource::round, (rounded, docCount) -> {
+                final LeafBucketCollector collector = queue.getLeafCollector(rounded, ctx, new LeafBucketCollector() {
+                    @Override
+                    public void collect(int doc, long bucket) throws IOException {
+                        queue.addIfCompetitive(docCount);
+                    }
+                });
+                collector.collect(0, 0L);
+            });
+            throw new CollectionTerminatedException();
+        }
+
         Sort indexSortPrefix = buildIndexSortPrefix(ctx);
         int sortPrefixLen = computeSortPrefixLen(indexSortPrefix);
 
@@ -33,6 +33,7 @@ package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
@@ -47,6 +48,7 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.PointTreeBucketCounter;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
@@ -83,6 +85,12 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
     private final LongKeyedBucketOrds bucketOrds;
 
+    /**
+     * Counts the documents of each bucket from the points index when possible, {@code null} otherwise.
+     */
+    @Nullable
+    private final PointTreeBucketCounter pointTreeCounter;
+
     DateHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -114,6 +122,9 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         this.formatter = valuesSourceConfig.format();
 
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        this.pointTreeCounter = valuesSource == null
+            ? null
+            : PointTreeBucketCounter.build(aggregationContext, parent, subAggregators.length, valuesSourceConfig);
     }
 
     @Override
@@ -129,6 +140,19 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        if (pointTreeCounter != null && pointTreeCounter.canCount(ctx)) {
+            pointTreeCounter.countByRounding(ctx, preparedRounding::round, (rounded, docCount) -> {
+                if (hardBounds == null || hardBounds.contain(rounded)) {
+                    long bucketOrd = bucketOrds.add(0, rounded);
+                    if (bucketOrd < 0) { // already seen
+                        bucketOrd = -1 - bucketOrd;
+                    }
+                    incrementBucketDocCount(bucketOrd, docCount);
+                }
+            });
+            // the segment is fully counted, no need to collect its documents
+            throw new CollectionTerminatedException();
+        }
         SortedNumericDocValues values = valuesSource.longValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -213,6 +237,9 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         add.accept("total_buckets", bucketOrds.size());
+        if (pointTreeCounter != null) {
+            pointTreeCounter.collectDebugInfo(add);
+        }
     }
 
     /**
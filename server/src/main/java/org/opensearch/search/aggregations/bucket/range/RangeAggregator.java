@@ -32,7 +32,9 @@
 package org.opensearch.search.aggregations.bucket.range;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
+import org.opensearch.common.Nullable;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -54,7 +56,9 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.PointTreeBucketCounter;
 import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -62,6 +66,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import static org.opensearch.core.xcontent.ConstructingObjectParser.optionalConstructorArg;
 
@@ -75,6 +80,11 @@ public class RangeAggregator extends BucketsAggregator {
     public static final ParseField RANGES_FIELD = new ParseField("ranges");
     public static final ParseField KEYED_FIELD = new ParseField("keyed");
 
+    /**
+     * The largest magnitude up to which all longs can be represented exactly as doubles.
+     */
+    private static final double MAX_EXACT_LONG = 1L << 53;
+
     /**
      * Range for the range aggregator
      *
@@ -245,6 +255,40 @@ public class RangeAggregator extends BucketsAggregator {
 
     final double[] maxTo;
 
+    /**
+     * Counts the documents of each range from the points index when possible, {@code null} otherwise.
+     */
+    @Nullable
+    private final PointTreeBucketCounter pointTreeCounter;
+
+    public RangeAggregator(
+        String name,
+        AggregatorFactories factories,
+        ValuesSourceConfig valuesSourceConfig,
+        InternalRange.Factory rangeFactory,
+        Range[] ranges,
+        boolean keyed,
+        SearchContext context,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata
+    ) throws IOException {
+        this(
+            name,
+            factories,
+            (ValuesSource.Numeric) valuesSourceConfig.getValuesSource(),
+            valuesSourceConfig.format(),
+            rangeFactory,
+            ranges,
+            keyed,
+            context,
+            parent,
+            cardinality,
+            metadata,
+            valuesSourceConfig
+        );
+    }
+
     public RangeAggregator(
         String name,
         AggregatorFactories factories,
@@ -258,6 +302,23 @@ public class RangeAggregator extends BucketsAggregator {
         CardinalityUpperBound cardinality,
         Map<String, Object> metadata
     ) throws IOException {
+        this(name, factories, valuesSource, format, rangeFactory, ranges, keyed, context, parent, cardinality, metadata, null);
+    }
+
+    private RangeAggregator(
+        String name,
+        AggregatorFactories factories,
+        ValuesSource.Numeric valuesSource,
+        DocValueFormat format,
+        InternalRange.Factory rangeFactory,
+        Range[] ranges,
+        boolean keyed,
+        SearchContext context,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata,
+        @Nullable ValuesSourceConfig valuesSourceConfig
+    ) throws IOException {
 
         super(name, factories, context, parent, cardinality.multiply(ranges.length), metadata);
         assert valuesSource != null;
@@ -274,6 +335,9 @@ public class RangeAggregator extends BucketsAggregator {
             maxTo[i] = Math.max(this.ranges[i].to, maxTo[i - 1]);
         }
 
+        this.pointTreeCounter = valuesSourceConfig == null || hasExactBounds(ranges) == false
+            ? null
+            : PointTreeBucketCounter.build(context, parent, subAggregators.length, valuesSourceConfig);
     }
 
     @Override
@@ -286,6 +350,16 @@ public class RangeAggregator extends BucketsAggregator {
 
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
+        if (pointTreeCounter != null && pointTreeCounter.canCount(ctx)) {
+            for (int i = 0; i < ranges.length; i++) {
+                final long docCount = pointTreeCounter.count(ctx, lowerBound(ranges[i].from), upperBound(ranges[i].to));
+                if (docCount > 0) {
+                    incrementBucketDocCount(subBucketOrdinal(0, i), docCount);
+                }
+            }
+            // the segment is fully counted, no need to collect its documents
+            throw new CollectionTerminatedException();
+        }
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -354,6 +428,44 @@ public class RangeAggregator extends BucketsAggregator {
         return owningBucketOrdinal * ranges.length + rangeOrd;
     }
 
+    /**
+     * Returns the smallest long that is greater than or equal to the inclusive lower bound of a range.
+     */
+    private static long lowerBound(double from) {
+        return from == Double.NEGATIVE_INFINITY ? Long.MIN_VALUE : (long) Math.ceil(from);
+    }
+
+    /**
+     * Returns the largest long that is strictly less than the exclusive upper bound of a range.
+     */
+    private static long upperBound(double to) {
+        return to == Double.POSITIVE_INFINITY ? Long.MAX_VALUE : (long) Math.ceil(to) - 1;
+    }
+
+    /**
+     * Returns whether the bounds of all ranges can be converted to longs without losing precision.
+     */
+    private static boolean hasExactBounds(Range[] ranges) {
+        for (Range range : ranges) {
+            if (isExact(range.from, Double.NEGATIVE_INFINITY) == false || isExact(range.to, Double.POSITIVE_INFINITY) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isExact(double bound, double unbounded) {
+        return bound == unbounded || Math.abs(bound) <= MAX_EXACT_LONG;
+    }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        if (pointTreeCounter != null) {
+            pointTreeCounter.collectDebugInfo(add);
+        }
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForFixedBucketCount(
@@ -458,6 +458,11 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             reducedBuckets = reduceLegacy(aggregations, reduceContext);
         }
         final B[] list;
+        final boolean prunePartialReduce = reduceContext.isBoundedPartialReduce()
+            && InternalOrder.isCountDesc(order)
+            && reducedBuckets.size() > getShardSize();
+        // the doc count of the most frequent bucket that a bounded partial reduce pruned
+        long prunedDocCount = 0;
         if (reduceContext.isFinalReduce() || reduceContext.isSliceLevel()) {
             final int size = Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size());
             // final comparator
@@ -485,6 +490,32 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             for (int i = ordered.size() - 1; i >= 0; i--) {
                 list[i] = ordered.pop();
             }
+        } else if (prunePartialReduce) {
+            // keep the shard_size most frequent buckets like shards do, so that the partial result doesn't grow with the
+            // number of shards. The pruned buckets are added to the doc count error, like the buckets that shards don't return.
+            final BucketPriorityQueue<B> ordered = new BucketPriorityQueue<>(getShardSize(), order.comparator());
+            for (B bucket : reducedBuckets) {
+                if (sumDocCountError == -1) {
+                    bucket.setDocCountError(-1);
+                } else {
+                    final long finalSumDocCountError = sumDocCountError;
+                    bucket.setDocCountError(docCountError -> docCountError + finalSumDocCountError);
+                }
+                B removed = ordered.insertWithOverflow(bucket);
+                if (removed != null) {
+                    otherDocCount += removed.getDocCount();
+                    prunedDocCount = Math.max(prunedDocCount, removed.getDocCount());
+                }
+            }
+            list = createBucketsArray(ordered.size());
+            for (int i = ordered.size() - 1; i >= 0; i--) {
+                reduceContext.consumeBucketsAndMaybeBreak(1);
+                list[i] = ordered.pop();
+            }
+            if (isKeyOrder(thisReduceOrder)) {
+                // partial results must stay sorted by key
+                Arrays.sort(list, thisReduceOrder.comparator());
+            }
         } else {
             // we can prune the list on partial reduce if the aggregation is ordered by key
             // and not filtered (minDocCount == 0)
@@ -507,7 +538,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         if (sumDocCountError == -1) {
             docCountError = -1;
         } else {
-            docCountError = aggregations.size() == 1 ? 0 : sumDocCountError;
+            docCountError = (aggregations.size() == 1 ? 0 : sumDocCountError) + prunedDocCount;
         }
 
         // Shards must return buckets sorted by key, so we apply the sort here in shard level reduce
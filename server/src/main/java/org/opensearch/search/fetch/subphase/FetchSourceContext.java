@@ -33,6 +33,7 @@
 package org.opensearch.search.fetch.subphase;
 
 import org.opensearch.common.Booleans;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.ParsingException;
@@ -68,6 +69,7 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
     private final String[] includes;
     private final String[] excludes;
     private Function<Map<String, ?>, Map<String, Object>> filter;
+    private CheckedBiConsumer<XContentParser, XContentBuilder, IOException> xContentFilter;
 
     public FetchSourceContext(boolean fetchSource, String[] includes, String[] excludes) {
         this.fetchSource = fetchSource;
@@ -273,4 +275,15 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
         }
         return filter;
     }
+
+    /**
+     * Returns a filter function that copies the source from a parser to a builder,
+     * skipping the parts of the source that are filtered out without parsing them.
+     */
+    public CheckedBiConsumer<XContentParser, XContentBuilder, IOException> getXContentFilter() {
+        if (xContentFilter == null) {
+            xContentFilter = XContentMapValues.filterXContent(includes, excludes);
+        }
+        return xContentFilter;
+    }
 }
@@ -96,6 +96,16 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
+        // If the source was not parsed yet, filter it in a single pass over its bytes instead of parsing it into a map.
+        if (nestedHit == false && source.source() == null) {
+            try {
+                hitContext.hit().sourceRef(source.filterAsBytes(fetchSourceContext));
+            } catch (IOException e) {
+                throw new OpenSearchException("Error filtering source", e);
+            }
+            return;
+        }
+
         // Otherwise, filter the source and add it to the hit.
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
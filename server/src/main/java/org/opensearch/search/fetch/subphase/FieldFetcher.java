@@ -33,7 +33,11 @@
 package org.opensearch.search.fetch.subphase;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.ValueFetcher;
 import org.opensearch.index.query.QueryShardContext;
@@ -44,6 +48,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,6 +63,7 @@ public class FieldFetcher {
     public static FieldFetcher create(QueryShardContext context, SearchLookup searchLookup, Collection<FieldAndFormat> fieldAndFormats) {
 
         List<FieldContext> fieldContexts = new ArrayList<>();
+        Set<String> sourcePaths = new HashSet<>();
 
         for (FieldAndFormat fieldAndFormat : fieldAndFormats) {
             String fieldPattern = fieldAndFormat.field;
@@ -71,20 +77,30 @@ public class FieldFetcher {
                 }
                 ValueFetcher valueFetcher = ft.valueFetcher(context, searchLookup, format);
                 fieldContexts.add(new FieldContext(field, valueFetcher));
+                sourcePaths.addAll(context.sourcePath(field));
             }
         }
 
-        return new FieldFetcher(fieldContexts);
+        // only the source paths of the fields are parsed, the rest of the source is skipped
+        CheckedBiConsumer<XContentParser, XContentBuilder, IOException> sourceFilter = sourcePaths.isEmpty()
+            ? null
+            : XContentMapValues.filterXContent(sourcePaths.toArray(new String[0]), null);
+        return new FieldFetcher(fieldContexts, sourceFilter);
     }
 
     private final List<FieldContext> fieldContexts;
+    private final CheckedBiConsumer<XContentParser, XContentBuilder, IOException> sourceFilter;
 
-    private FieldFetcher(List<FieldContext> fieldContexts) {
+    private FieldFetcher(List<FieldContext> fieldContexts, CheckedBiConsumer<XContentParser, XContentBuilder, IOException> sourceFilter) {
         this.fieldContexts = fieldContexts;
+        this.sourceFilter = sourceFilter;
     }
 
     public Map<String, DocumentField> fetch(SourceLookup sourceLookup, Set<String> ignoredFields) throws IOException {
         Map<String, DocumentField> documentFields = new HashMap<>();
+        if (sourceFilter != null) {
+            sourceLookup = sourceLookup.partialLookup(sourceFilter);
+        }
         for (FieldContext context : fieldContexts) {
             String field = context.fieldName;
             if (ignoredFields.contains(field)) {
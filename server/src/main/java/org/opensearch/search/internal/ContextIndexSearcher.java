@@ -83,11 +83,13 @@ import org.opensearch.search.sort.MinAndMax;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -107,6 +109,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
     private SearchContext searchContext;
+    private final LongAdder skippedLeaves = new LongAdder();
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -230,9 +233,10 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         TotalHits totalHits
     ) throws IOException {
         final List<Collector> collectors = new ArrayList<>(leaves.size());
+        final RequiredPointRanges requiredRanges = RequiredPointRanges.of(weight.getQuery());
         for (LeafReaderContext ctx : leaves) {
             final Collector collector = manager.newCollector();
-            searchLeaf(ctx, weight, collector);
+            searchLeaf(ctx, weight, collector, requiredRanges);
             collectors.add(collector);
         }
         TopFieldDocs mergedTopDocs = (TopFieldDocs) manager.reduce(collectors);
@@ -266,19 +270,29 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Searches a single segment of the reader, post-collecting the collector afterwards like a search of the whole reader
+     * would. This allows to compute the results of a request segment by segment.
+     */
+    public void search(LeafReaderContext leaf, Query query, Collector collector) throws IOException {
+        final Weight weight = createWeight(rewrite(query), collector.scoreMode(), 1f);
+        search(Collections.singletonList(leaf), weight, collector);
+    }
+
     @Override
     protected void search(List<LeafReaderContext> leaves, Weight weight, Collector collector) throws IOException {
         // Time series based workload by default traverses segments in desc order i.e. latest to the oldest order.
         // This is actually beneficial for search queries to start search on latest segments first for time series workload.
         // That can slow down ASC order queries on timestamp workload. So to avoid that slowdown, we will reverse leaf
         // reader order here.
+        final RequiredPointRanges requiredRanges = RequiredPointRanges.of(weight.getQuery());
         if (searchContext.shouldUseTimeSeriesDescSortOptimization()) {
             for (int i = leaves.size() - 1; i >= 0; i--) {
-                searchLeaf(leaves.get(i), weight, collector);
+                searchLeaf(leaves.get(i), weight, collector, requiredRanges);
             }
         } else {
             for (int i = 0; i < leaves.size(); i++) {
-                searchLeaf(leaves.get(i), weight, collector);
+                searchLeaf(leaves.get(i), weight, collector, requiredRanges);
             }
         }
         searchContext.bucketCollectorProcessor().processPostCollection(collector);
@@ -290,10 +304,15 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      * {@link LeafCollector#collect(int)} is called for every matching document in
      * the provided <code>ctx</code>.
      */
-    private void searchLeaf(LeafReaderContext ctx, Weight weight, Collector collector) throws IOException {
+    private void searchLeaf(LeafReaderContext ctx, Weight weight, Collector collector, RequiredPointRanges requiredRanges)
+        throws IOException {
 
         // Check if at all we need to call this leaf for collecting results.
-        if (canMatch(ctx) == false) {
+        if (canMatch(ctx, requiredRanges) == false) {
+            skippedLeaves.increment();
+            if (profiler != null) {
+                profiler.addSkippedLeaf();
+            }
             return;
         }
 
@@ -456,6 +475,13 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         return slicesInternal(leaves, SearchBootstrapSettings.getTargetMaxSlice());
     }
 
+    /**
+     * Returns the number of leaves that were skipped without collecting them because they can't match the query.
+     */
+    public long getSkippedLeafCount() {
+        return skippedLeaves.sum();
+    }
+
     public DirectoryReader getDirectoryReader() {
         final IndexReader reader = getIndexReader();
         assert reader instanceof DirectoryReader : "expected an instance of DirectoryReader, got " + reader.getClass();
@@ -495,7 +521,11 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
-    private boolean canMatch(LeafReaderContext ctx) throws IOException {
+    private boolean canMatch(LeafReaderContext ctx, RequiredPointRanges requiredRanges) throws IOException {
+        // skip segments whose points are outside of the ranges the query requires
+        if (requiredRanges != null && requiredRanges.canMatch(ctx.reader()) == false) {
+            return false;
+        }
         // skip segments for search after if min/max of them doesn't qualify competitive
         return canMatchSearchAfter(ctx);
     }
@@ -565,6 +565,11 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.shouldUseConcurrentSearch();
     }
 
+    @Override
+    public boolean isExecutedBySegment() {
+        return in.isExecutedBySegment();
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return in.shouldUseTimeSeriesDescSortOptimization();
@@ -15,12 +15,17 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /**
  * Supplier to compute leaf slices based on passed in leaves and max target slice count to limit the number of computed slices. It sorts
- * all the leaves based on document count and then assign each leaf in round-robin fashion to the target slice count slices. Based on
+ * all the leaves based on their estimated cost and then assigns each leaf to the slice with the lowest total cost so far. Based on
  * experiment results as shared in <a href=https://github.com/opensearch-project/OpenSearch/issues/7358>issue-7358</a>
  * we can see this mechanism helps to achieve better tail/median latency over default lucene slice computation.
+ * <p>
+ * The cost of a leaf is estimated by its count of live documents, as deleted documents are skipped without being scored or collected.
+ * With leaves of similar cost, this assigns the leaves in round-robin fashion. With skewed leaves, such as a large segment next to
+ * small ones after a force merge, the small leaves are spread over the other slices rather than the slice of the large leaf.
  *
  * @opensearch.internal
  */
@@ -37,19 +42,43 @@ final class MaxTargetSliceSupplier {
         // Make a copy so we can sort:
         List<LeafReaderContext> sortedLeaves = new ArrayList<>(leaves);
 
-        // Sort by maxDoc, descending:
-        sortedLeaves.sort(Collections.reverseOrder(Comparator.comparingInt(l -> l.reader().maxDoc())));
+        // Sort by cost, descending:
+        sortedLeaves.sort(Collections.reverseOrder(Comparator.comparingInt(MaxTargetSliceSupplier::estimateCost)));
 
         final List<List<LeafReaderContext>> groupedLeaves = new ArrayList<>();
+        // slices ordered by their total cost, ties are broken by the order the slices were created in
+        final PriorityQueue<Group> groups = new PriorityQueue<>(
+            Math.max(1, targetSliceCount),
+            Comparator.comparingLong((Group group) -> group.cost).thenComparingInt(group -> group.index)
+        );
         for (int i = 0; i < targetSliceCount; ++i) {
             groupedLeaves.add(new ArrayList<>());
+            groups.add(new Group(i));
         }
-        // distribute the slices in round-robin fashion
-        for (int idx = 0; idx < sortedLeaves.size(); ++idx) {
-            int currentGroup = idx % targetSliceCount;
-            groupedLeaves.get(currentGroup).add(sortedLeaves.get(idx));
+        // assign each leaf to the slice with the lowest cost so far
+        for (LeafReaderContext leaf : sortedLeaves) {
+            final Group group = groups.poll();
+            groupedLeaves.get(group.index).add(leaf);
+            group.cost += estimateCost(leaf);
+            groups.add(group);
         }
 
         return groupedLeaves.stream().map(IndexSearcher.LeafSlice::new).toArray(IndexSearcher.LeafSlice[]::new);
     }
+
+    private static int estimateCost(LeafReaderContext leaf) {
+        return leaf.reader().numDocs();
+    }
+
+    /**
+     * A slice that is being computed.
+     */
+    private static final class Group {
+        private final int index;
+        private long cost;
+
+        private Group(int index) {
+            this.index = index;
+        }
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.ArrayUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The point ranges that every document matching a query must fall into, that is the {@link PointRangeQuery}s that the query
+ * requires at its top level, through required clauses of boolean queries and the wrappers that don't change which documents
+ * match. A leaf whose points of a range field are all outside of the range, or that has no points for the field at all,
+ * can't match the query, which {@link ContextIndexSearcher} checks against the bounds of the points of the leaf before it
+ * sets up the collection of the leaf.
+ *
+ * @opensearch.internal
+ */
+final class RequiredPointRanges {
+
+    private final List<PointRangeQuery> ranges;
+
+    private RequiredPointRanges(List<PointRangeQuery> ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Returns the point ranges required by the given query, or {@code null} if it doesn't require any.
+     */
+    static RequiredPointRanges of(Query query) {
+        final List<PointRangeQuery> ranges = new ArrayList<>();
+        collect(query, ranges);
+        return ranges.isEmpty() ? null : new RequiredPointRanges(ranges);
+    }
+
+    private static void collect(Query query, List<PointRangeQuery> ranges) {
+        if (query instanceof PointRangeQuery) {
+            ranges.add((PointRangeQuery) query);
+        } else if (query instanceof IndexOrDocValuesQuery) {
+            collect(((IndexOrDocValuesQuery) query).getIndexQuery(), ranges);
+        } else if (query instanceof ConstantScoreQuery) {
+            collect(((ConstantScoreQuery) query).getQuery(), ranges);
+        } else if (query instanceof BoostQuery) {
+            collect(((BoostQuery) query).getQuery(), ranges);
+        } else if (query instanceof BooleanQuery) {
+            for (BooleanClause clause : (BooleanQuery) query) {
+                if (clause.isRequired()) {
+                    collect(clause.getQuery(), ranges);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the given leaf may hold documents within all the ranges.
+     */
+    boolean canMatch(LeafReader reader) throws IOException {
+        for (PointRangeQuery range : ranges) {
+            final PointValues points = reader.getPointValues(range.getField());
+            if (points == null) {
+                return false;
+            }
+            final int numDims = range.getNumDims();
+            final int bytesPerDim = range.getBytesPerDim();
+            if (points.getNumIndexDimensions() != numDims || points.getBytesPerDimension() != bytesPerDim) {
+                // let the query deal with a mismatch of the field type
+                continue;
+            }
+            final ArrayUtil.ByteArrayComparator comparator = ArrayUtil.getUnsignedComparator(bytesPerDim);
+            final byte[] minPackedValue = points.getMinPackedValue();
+            final byte[] maxPackedValue = points.getMaxPackedValue();
+            final byte[] lowerPoint = range.getLowerPoint();
+            final byte[] upperPoint = range.getUpperPoint();
+            for (int dim = 0; dim < numDims; dim++) {
+                final int offset = dim * bytesPerDim;
+                if (comparator.compare(upperPoint, offset, minPackedValue, offset) < 0
+                    || comparator.compare(lowerPoint, offset, maxPackedValue, offset) > 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -78,6 +78,7 @@ import org.opensearch.search.rescore.RescoreContext;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.search.suggest.SuggestionSearchContext;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -119,6 +120,7 @@ public abstract class SearchContext implements Releasable {
     private InnerHitsContext innerHitsContext;
 
     private volatile boolean searchTimedOut;
+    private volatile boolean executedBySegment;
 
     protected SearchContext() {}
 
@@ -404,10 +406,24 @@ public abstract class SearchContext implements Releasable {
     }
 
     /**
-     * Returns local bucket count thresholds based on concurrent segment search status
+     * Whether the query phase is executed segment by segment, in which case the results of the segments are reduced into
+     * the shard result like the results of the slices of a concurrent segment search are.
+     */
+    public boolean isExecutedBySegment() {
+        return executedBySegment;
+    }
+
+    public void setExecutedBySegment(boolean executedBySegment) {
+        this.executedBySegment = executedBySegment;
+    }
+
+    /**
+     * Returns local bucket count thresholds based on concurrent segment search status. The results of the slices of a
+     * concurrent segment search and of the segments of a segment by segment execution are only cut to the shard thresholds
+     * once they are reduced into the shard result.
      */
     public LocalBucketCountThresholds asLocalBucketCountThresholds(TermsAggregator.BucketCountThresholds bucketCountThresholds) {
-        if (shouldUseConcurrentSearch()) {
+        if (shouldUseConcurrentSearch() || isExecutedBySegment()) {
             return new LocalBucketCountThresholds(0, ArrayUtil.MAX_ARRAY_LENGTH - 1);
         } else {
             return new LocalBucketCountThresholds(bucketCountThresholds.getShardMinDocCount(), bucketCountThresholds.getShardSize());
@@ -421,6 +437,24 @@ public abstract class SearchContext implements Releasable {
         releasables.add(releasable);
     }
 
+    /**
+     * Returns the number of releasables that were added to this context, to be passed to {@link #releaseAddedAfter}.
+     */
+    public int releasableCount() {
+        return releasables.size();
+    }
+
+    /**
+     * Frees the releasables that were added to this context after the given number of releasables, for instance the
+     * aggregators of a single segment, instead of holding them until this context is closed.
+     */
+    public void releaseAddedAfter(int count) {
+        final List<Releasable> toRelease = releasables.subList(count, releasables.size());
+        final List<Releasable> released = new ArrayList<>(toRelease);
+        toRelease.clear();
+        Releasables.close(released);
+    }
+
     /**
      * @return true if the request contains only suggest
      */
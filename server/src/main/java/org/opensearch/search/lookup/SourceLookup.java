@@ -37,12 +37,17 @@ import org.opensearch.OpenSearchParseException;
 import org.opensearch.common.CheckedBiConsumer;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.index.SequentialStoredFieldsLeafReader;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
@@ -198,6 +203,56 @@ public class SourceLookup implements Map {
         return context.getFilter().apply(loadSourceIfNeeded());
     }
 
+    /**
+     * Filters the source bytes like {@link #filter(FetchSourceContext)} filters the source map, in a single streaming pass that
+     * skips the parts of the source that are filtered out, so that no map needs to be built. Must only be called if the
+     * source is available as bytes.
+     */
+    public BytesReference filterAsBytes(FetchSourceContext context) throws IOException {
+        assert sourceAsBytes != null;
+        return filterSourceBytes(context.getXContentFilter());
+    }
+
+    private BytesReference filterSourceBytes(CheckedBiConsumer<XContentParser, XContentBuilder, IOException> filter) throws IOException {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                sourceAsBytes
+            )
+        ) {
+            BytesStreamOutput streamOutput = new BytesStreamOutput(Math.min(1024, sourceAsBytes.length()));
+            XContentBuilder builder = new XContentBuilder(parser.contentType().xContent(), streamOutput);
+            filter.accept(parser, builder);
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    /**
+     * Returns a lookup for the same document whose source only holds the parts of this source that the filter keeps. The
+     * source bytes are filtered in a single streaming pass before they are parsed, so that only the kept parts are parsed
+     * into a map. If the source was loaded as a map already, or is not available as bytes, this lookup is returned.
+     *
+     * @param filter a filter as returned by {@link XContentMapValues#filterXContent(String[], String[])}
+     */
+    public SourceLookup partialLookup(CheckedBiConsumer<XContentParser, XContentBuilder, IOException> filter) {
+        if (source != null || sourceAsBytes == null) {
+            return this;
+        }
+        SourceLookup partial = new SourceLookup();
+        partial.reader = reader;
+        partial.fieldReader = fieldReader;
+        partial.docId = docId;
+        try {
+            Tuple<XContentType, Map<String, Object>> tuple = sourceAsMapAndType(filterSourceBytes(filter));
+            partial.sourceContentType = tuple.v1();
+            partial.source = tuple.v2();
+        } catch (Exception e) {
+            throw new OpenSearchParseException("failed to parse / load source", e);
+        }
+        return partial;
+    }
+
     @Override
     public Object get(Object key) {
         return loadSourceIfNeeded().get(key);
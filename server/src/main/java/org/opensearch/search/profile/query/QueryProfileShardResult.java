@@ -32,6 +32,7 @@
 
 package org.opensearch.search.profile.query;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -49,7 +50,8 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 
 /**
  * A container class to hold the profile results for a single shard in the request.
- * Contains a list of query profiles, a collector tree and a total rewrite tree.
+ * Contains a list of query profiles, a collector tree, a total rewrite tree and the number of segments that were skipped
+ * because they can't match the query.
  *
  * @opensearch.internal
  */
@@ -58,6 +60,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
     public static final String COLLECTOR = "collector";
     public static final String REWRITE_TIME = "rewrite_time";
     public static final String QUERY_ARRAY = "query";
+    public static final String SKIPPED_SEGMENTS = "skipped_segments";
 
     private final List<ProfileResult> queryProfileResults;
 
@@ -65,11 +68,23 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
     private final long rewriteTime;
 
+    private final long skippedSegments;
+
     public QueryProfileShardResult(List<ProfileResult> queryProfileResults, long rewriteTime, CollectorResult profileCollector) {
+        this(queryProfileResults, rewriteTime, profileCollector, 0);
+    }
+
+    public QueryProfileShardResult(
+        List<ProfileResult> queryProfileResults,
+        long rewriteTime,
+        CollectorResult profileCollector,
+        long skippedSegments
+    ) {
         assert (profileCollector != null);
         this.queryProfileResults = queryProfileResults;
         this.profileCollector = profileCollector;
         this.rewriteTime = rewriteTime;
+        this.skippedSegments = skippedSegments;
     }
 
     /**
@@ -84,6 +99,11 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
         profileCollector = new CollectorResult(in);
         rewriteTime = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_2_11_1)) {
+            skippedSegments = in.readVLong();
+        } else {
+            skippedSegments = 0;
+        }
     }
 
     @Override
@@ -94,6 +114,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         profileCollector.writeTo(out);
         out.writeLong(rewriteTime);
+        if (out.getVersion().onOrAfter(Version.V_2_11_1)) {
+            out.writeVLong(skippedSegments);
+        }
     }
 
     public List<ProfileResult> getQueryResults() {
@@ -104,6 +127,13 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         return rewriteTime;
     }
 
+    /**
+     * @return the number of segments that were skipped because they can't match the query
+     */
+    public long getSkippedSegments() {
+        return skippedSegments;
+    }
+
     public CollectorResult getCollectorResult() {
         return profileCollector;
     }
@@ -117,6 +147,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         builder.endArray();
         builder.field(REWRITE_TIME, rewriteTime);
+        if (skippedSegments > 0) {
+            builder.field(SKIPPED_SEGMENTS, skippedSegments);
+        }
         builder.startArray(COLLECTOR);
         profileCollector.toXContent(builder, params);
         builder.endArray();
@@ -130,6 +163,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         String currentFieldName = null;
         List<ProfileResult> queryProfileResults = new ArrayList<>();
         long rewriteTime = 0;
+        long skippedSegments = 0;
         CollectorResult collector = null;
         while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
@@ -137,6 +171,8 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
             } else if (token.isValue()) {
                 if (REWRITE_TIME.equals(currentFieldName)) {
                     rewriteTime = parser.longValue();
+                } else if (SKIPPED_SEGMENTS.equals(currentFieldName)) {
+                    skippedSegments = parser.longValue();
                 } else {
                     parser.skipChildren();
                 }
@@ -156,6 +192,6 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
                 parser.skipChildren();
             }
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector);
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector, skippedSegments);
     }
 }
@@ -37,6 +37,7 @@ import org.opensearch.search.profile.AbstractProfiler;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This class acts as a thread-local storage for profiling a query.  It also
@@ -58,6 +59,11 @@ public final class QueryProfiler extends AbstractProfiler<ContextualProfileBreak
      */
     private InternalProfileComponent collector;
 
+    /**
+     * The number of leaves that were skipped because they can't match the query
+     */
+    private final LongAdder skippedLeaves = new LongAdder();
+
     public QueryProfiler(boolean concurrent) {
         super(new InternalQueryProfileTree(concurrent));
     }
@@ -95,6 +101,20 @@ public final class QueryProfiler extends AbstractProfiler<ContextualProfileBreak
         return ((InternalQueryProfileTree) profileTree).getRewriteTime();
     }
 
+    /**
+     * Records a leaf that was skipped without collecting it because it can't match the query.
+     */
+    public void addSkippedLeaf() {
+        skippedLeaves.increment();
+    }
+
+    /**
+     * @return the number of leaves that were skipped because they can't match the query
+     */
+    public long getSkippedLeafCount() {
+        return skippedLeaves.sum();
+    }
+
     /**
      * Return the current root Collector for this search
      */
@@ -41,24 +41,36 @@ import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
 import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.concurrent.QueueResizingOpenSearchThreadPoolExecutor;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.lucene.queries.SearchAfterSortedDocQuery;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchContextSourcePrinter;
 import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.AggregationProcessor;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.BucketCollectorProcessor;
 import org.opensearch.search.aggregations.DefaultAggregationProcessor;
 import org.opensearch.search.aggregations.GlobalAggCollectorManager;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketCollector;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
@@ -71,6 +83,7 @@ import org.opensearch.search.suggest.SuggestProcessor;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -167,6 +180,118 @@ public class QueryPhase {
         }
     }
 
+    /**
+     * Whether the query phase of the context can be executed segment by segment with {@link #executeOnSegment}, so that the
+     * results of the segments that did not change can be reused across refreshes. This is the case if the shard result
+     * only consists of the total hit count and aggregations whose per segment results can be reduced into the shard result,
+     * like the per slice results of a concurrent segment search are, and if none of them depends on scores, since these
+     * are computed from the statistics of the whole shard.
+     */
+    public static boolean canExecuteBySegment(SearchContext searchContext) throws IOException {
+        if (searchContext.aggregations() == null
+            || searchContext.size() != 0
+            || searchContext.sort() != null
+            || searchContext.parsedPostFilter() != null
+            || searchContext.minimumScore() != null
+            || searchContext.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || searchContext.suggest() != null
+            || searchContext.rescore().isEmpty() == false
+            || searchContext.scrollContext() != null
+            || searchContext.getProfilers() != null) {
+            return false;
+        }
+        if (searchContext.timeout() != null && searchContext.timeout().equals(SearchService.NO_TIMEOUT) == false) {
+            return false;
+        }
+        if (searchContext.searcher().getIndexReader().leaves().isEmpty()) {
+            return false;
+        }
+        final AggregatorFactories factories = searchContext.aggregations().factories();
+        if (factories.hasGlobalAggregator() || factories.allFactoriesSupportConcurrentSearch() == false) {
+            return false;
+        }
+        // the aggregators are only created to read their score mode
+        final int releasableCount = searchContext.releasableCount();
+        try {
+            return MultiBucketCollector.wrap(factories.createTopLevelAggregators(searchContext)).scoreMode().needsScores() == false;
+        } finally {
+            searchContext.releaseAddedAfter(releasableCount);
+        }
+    }
+
+    /**
+     * Executes the query phase of the context on a single segment, writing the number of hits and the aggregations of the
+     * segment to the output. The results of all the segments are reduced into the query result of the context with
+     * {@link #reduceSegmentResults}.
+     */
+    public static void executeOnSegment(SearchContext searchContext, LeafReaderContext leaf, StreamOutput out) throws IOException {
+        if (searchContext.bucketCollectorProcessor() == SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR) {
+            searchContext.setBucketCollectorProcessor(new BucketCollectorProcessor());
+        }
+        // the results of the segment are only cut to the shard thresholds once they are reduced into the shard result
+        searchContext.setExecutedBySegment(true);
+        // the aggregators of the segment are released as soon as its results are written
+        final int releasableCount = searchContext.releasableCount();
+        try {
+            executeOnSegment(searchContext, leaf, searchContext.aggregations().factories().createTopLevelAggregators(searchContext), out);
+        } finally {
+            searchContext.releaseAddedAfter(releasableCount);
+        }
+    }
+
+    private static void executeOnSegment(
+        SearchContext searchContext,
+        LeafReaderContext leaf,
+        List<Aggregator> aggregators,
+        StreamOutput out
+    ) throws IOException {
+        final BucketCollector aggregationCollector = MultiBucketCollector.wrap(aggregators);
+        aggregationCollector.preCollection();
+        final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+        try {
+            searchContext.searcher().search(leaf, searchContext.query(), MultiCollector.wrap(hitCountCollector, aggregationCollector));
+        } catch (Exception e) {
+            throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Failed to execute main query", e);
+        }
+        final List<InternalAggregation> internals = new ArrayList<>(aggregators.size());
+        searchContext.aggregations().resetBucketMultiConsumer();
+        for (Aggregator aggregator : aggregators) {
+            try {
+                internals.add(aggregator.buildTopLevel());
+            } catch (IOException e) {
+                throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
+            }
+        }
+        out.writeVLong(hitCountCollector.getTotalHits());
+        InternalAggregations.from(internals).writeTo(out);
+    }
+
+    /**
+     * Reduces the results that {@link #executeOnSegment} wrote for each segment into the query result of the context. The
+     * aggregations are reduced at the shard level the same way the results of the slices of a concurrent segment search are.
+     */
+    public static void reduceSegmentResults(SearchContext searchContext, List<StreamInput> segmentResults) throws IOException {
+        long totalHits = 0;
+        final List<InternalAggregations> aggregations = new ArrayList<>(segmentResults.size());
+        for (StreamInput in : segmentResults) {
+            totalHits += in.readVLong();
+            aggregations.add(InternalAggregations.readFrom(in));
+        }
+        final TotalHits hitCount = searchContext.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED
+            // for bwc hit count is set to 0, it will be converted to -1 by the coordinating node
+            ? new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO)
+            : new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO);
+        final InternalAggregation.ReduceContext reduceContext = searchContext.partialOnShard();
+        reduceContext.setSliceLevel(true);
+
+        final QuerySearchResult queryResult = searchContext.queryResult();
+        queryResult.searchTimedOut(false);
+        queryResult.from(searchContext.from());
+        queryResult.size(searchContext.size());
+        queryResult.topDocs(new TopDocsAndMaxScore(new TopDocs(hitCount, Lucene.EMPTY_SCORE_DOCS), Float.NaN), null);
+        queryResult.aggregations(InternalAggregations.topLevelReduce(aggregations, reduceContext));
+    }
+
     // making public for testing
     public QueryPhaseSearcher getQueryPhaseSearcher() {
         return queryPhaseSearcher;
@@ -32,12 +32,12 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStream;
 import org.opensearch.core.common.io.stream.StreamOutput;
-import org.opensearch.core.compress.CompressorRegistry;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -63,17 +63,33 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     private final OutputStream stream;
     private final BytesStream bytesStreamOutput;
     private final boolean shouldCompress;
+    private long uncompressedBytes;
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
+        this(bytesStreamOutput, shouldCompress ? TransportCompressionScheme.DEFLATE : null);
+    }
+
+    /**
+     * @param compressionScheme the scheme to compress the written bytes with, or {@code null} to write them uncompressed
+     */
+    CompressibleBytesOutputStream(BytesStream bytesStreamOutput, @Nullable TransportCompressionScheme compressionScheme)
+        throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
-        this.shouldCompress = shouldCompress;
+        this.shouldCompress = compressionScheme != null;
         if (shouldCompress) {
-            this.stream = CompressorRegistry.defaultCompressor().threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            this.stream = compressionScheme.compressor().threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
         } else {
             this.stream = bytesStreamOutput;
         }
     }
 
+    /**
+     * Returns the number of bytes written to this stream before compression
+     */
+    long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
     /**
      * This method ensures that compression is complete and returns the underlying bytes.
      *
@@ -94,11 +110,13 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     @Override
     public void writeByte(byte b) throws IOException {
         stream.write(b);
+        uncompressedBytes++;
     }
 
     @Override
     public void writeBytes(byte[] b, int offset, int length) throws IOException {
         stream.write(b, offset, length);
+        uncompressedBytes += length;
     }
 
     @Override
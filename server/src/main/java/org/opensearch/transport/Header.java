@@ -61,6 +61,8 @@ public class Header {
     String actionName;
     Tuple<Map<String, String>, Map<String, Set<String>>> headers;
     Set<String> features;
+    // Set by the decoder once the compressed content was read, null for messages that are not compressed
+    private TransportCompressionScheme compressionScheme;
 
     Header(int networkMessageSize, long requestId, byte status, Version version) {
         this.networkMessageSize = networkMessageSize;
@@ -105,6 +107,14 @@ public class Header {
         return TransportStatus.isCompress(status);
     }
 
+    TransportCompressionScheme getCompressionScheme() {
+        return compressionScheme;
+    }
+
+    void setCompressionScheme(TransportCompressionScheme compressionScheme) {
+        this.compressionScheme = compressionScheme;
+    }
+
     public String getActionName() {
         return actionName;
     }
@@ -55,14 +55,21 @@ public class InboundDecoder implements Releasable {
 
     private final Version version;
     private final PageCacheRecycler recycler;
+    private final StatsTracker statsTracker;
+    private Header header;
     private TransportDecompressor decompressor;
     private int totalNetworkSize = -1;
     private int bytesConsumed = 0;
     private boolean isClosed = false;
 
     public InboundDecoder(Version version, PageCacheRecycler recycler) {
+        this(version, recycler, new StatsTracker());
+    }
+
+    public InboundDecoder(Version version, PageCacheRecycler recycler, StatsTracker statsTracker) {
         this.version = version;
         this.recycler = recycler;
+        this.statsTracker = statsTracker;
     }
 
     public int decode(ReleasableBytesReference reference, Consumer<Object> fragmentConsumer) throws IOException {
@@ -90,7 +97,7 @@ public class InboundDecoder implements Releasable {
                 } else {
                     totalNetworkSize = messageLength + TcpHeader.BYTES_REQUIRED_FOR_MESSAGE_SIZE;
 
-                    Header header = readHeader(version, messageLength, reference);
+                    header = readHeader(version, messageLength, reference);
                     bytesConsumed += headerBytesToRead;
                     if (header.isCompressed()) {
                         decompressor = new TransportDecompressor(recycler);
@@ -118,6 +125,9 @@ public class InboundDecoder implements Releasable {
             }
             if (decompressor != null) {
                 decompress(retainedContent);
+                if (isDone()) {
+                    decompressor.finish();
+                }
                 ReleasableBytesReference decompressed;
                 while ((decompressed = decompressor.pollDecompressedPage()) != null) {
                     fragmentConsumer.accept(decompressed);
@@ -140,6 +150,9 @@ public class InboundDecoder implements Releasable {
     }
 
     private void finishMessage(Consumer<Object> fragmentConsumer) {
+        if (decompressor != null) {
+            statsTracker.markCompressedBytesRead(decompressor.getCompressedBytes(), decompressor.getDecompressedBytes());
+        }
         cleanDecodeState();
         fragmentConsumer.accept(END_CONTENT);
     }
@@ -147,6 +160,7 @@ public class InboundDecoder implements Releasable {
     private void cleanDecodeState() {
         IOUtils.closeWhileHandlingException(decompressor);
         decompressor = null;
+        header = null;
         totalNetworkSize = -1;
         bytesConsumed = 0;
     }
@@ -156,6 +170,9 @@ public class InboundDecoder implements Releasable {
             int consumed = decompressor.decompress(content);
             assert consumed == content.length();
         }
+        if (header.getCompressionScheme() == null) {
+            header.setCompressionScheme(decompressor.getScheme());
+        }
     }
 
     private boolean isDone() {
@@ -208,6 +208,7 @@ public class InboundHandler {
                     version,
                     header.getFeatures(),
                     header.isCompressed(),
+                    responseCompressionScheme(header),
                     header.isHandshake(),
                     message.takeBreakerReleaseControl()
                 );
@@ -238,6 +239,7 @@ public class InboundHandler {
                     version,
                     header.getFeatures(),
                     header.isCompressed(),
+                    responseCompressionScheme(header),
                     header.isHandshake(),
                     message.takeBreakerReleaseControl()
                 );
@@ -369,6 +371,14 @@ public class InboundHandler {
         }
     }
 
+    /**
+     * Responses to compressed requests are compressed with the scheme of the request, which the remote node is known to support
+     */
+    private static TransportCompressionScheme responseCompressionScheme(Header header) {
+        final TransportCompressionScheme scheme = header.getCompressionScheme();
+        return scheme == null ? TransportCompressionScheme.DEFLATE : scheme;
+    }
+
     private static void sendErrorResponse(String actionName, TransportChannel transportChannel, Exception e) {
         try {
             transportChannel.sendResponse(e);
@@ -0,0 +1,312 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.Compressor;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Compressor} that frames the transport message content as a sequence of independently LZ4 compressed blocks. Each
+ * block is written as its uncompressed length, its compressed length and the compressed bytes, and the stream is terminated
+ * by a block with an uncompressed length of zero. LZ4 trades some compression ratio for much cheaper compression and
+ * decompression than DEFLATE, which makes it a better fit for large intra-cluster payloads such as bulk shard requests.
+ *
+ * This compressor is not registered with the {@link org.opensearch.core.compress.CompressorRegistry} as it is only
+ * meant to be used on the transport layer.
+ *
+ * @opensearch.internal
+ */
+final class Lz4TransportCompressor implements Compressor {
+
+    static final Lz4TransportCompressor INSTANCE = new Lz4TransportCompressor();
+
+    /**
+     * An arbitrary header that we use to identify compressed streams, distinct from the headers of the other
+     * {@link TransportCompressionScheme}s
+     */
+    private static final byte[] HEADER = new byte[] { 'L', 'Z', '4', '\0' };
+
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    // worst case expansion of LZ4 on incompressible input
+    private static final int MAX_COMPRESSED_BLOCK_SIZE = BLOCK_SIZE + BLOCK_SIZE / 255 + 16;
+
+    // the buffers of the streams of each thread, kept apart so that a thread can decompress and compress at the same time
+    private static final ThreadLocal<Buffers> inputBuffers = ThreadLocal.withInitial(Buffers::new);
+    private static final ThreadLocal<Buffers> outputBuffers = ThreadLocal.withInitial(Buffers::new);
+
+    private Lz4TransportCompressor() {}
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        final byte[] header = in.readNBytes(HEADER.length);
+        if (Arrays.equals(header, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new BlockInputStream(in, acquire(inputBuffers));
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        return new BlockOutputStream(out, acquire(outputBuffers));
+    }
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput uncompressed = new BytesStreamOutput();
+        try (InputStream in = threadLocalInputStream(bytesReference.streamInput())) {
+            in.transferTo(uncompressed);
+        }
+        return uncompressed.bytes();
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput compressed = new BytesStreamOutput();
+        try (OutputStream out = threadLocalOutputStream(compressed)) {
+            bytesReference.writeTo(out);
+        }
+        return compressed.bytes();
+    }
+
+    private static Buffers acquire(ThreadLocal<Buffers> threadLocalBuffers) {
+        final Buffers buffers = threadLocalBuffers.get();
+        if (buffers.inUse) {
+            // nested streams should not happen but we still handle them safely by using fresh buffers
+            return new Buffers();
+        }
+        buffers.inUse = true;
+        return buffers;
+    }
+
+    private static void writeInt(OutputStream out, int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static int readInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            final int b = in.read();
+            if (b == -1) {
+                throw new EOFException("unexpected end of LZ4 compressed stream");
+            }
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+
+    /**
+     * The buffers of a block stream, that are reused by the streams of a thread like the DEFLATE compressor reuses its
+     * deflaters and inflaters, so that compressing or decompressing a message does not allocate them again
+     */
+    private static final class Buffers {
+        // LZ4 may copy a few bytes past the end of the decompressed data
+        private final byte[] uncompressed = new byte[BLOCK_SIZE + 8];
+        private final byte[] compressed = new byte[MAX_COMPRESSED_BLOCK_SIZE];
+        private final LZ4.FastCompressionHashTable hashTable = new LZ4.FastCompressionHashTable();
+        // true if a stream is currently using these buffers
+        private boolean inUse;
+    }
+
+    /**
+     * Buffers up to {@link #BLOCK_SIZE} bytes and writes them out as a single compressed block
+     */
+    private static final class BlockOutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final Buffers buffers;
+        private final byte[] buffer;
+        private final byte[] compressed;
+        private int length;
+        private boolean closed;
+
+        private BlockOutputStream(OutputStream out, Buffers buffers) {
+            this.out = out;
+            this.buffers = buffers;
+            this.buffer = buffers.uncompressed;
+            this.compressed = buffers.compressed;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (length == BLOCK_SIZE) {
+                writeBlock();
+            }
+            buffer[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (length == BLOCK_SIZE) {
+                    writeBlock();
+                }
+                final int toCopy = Math.min(len, BLOCK_SIZE - length);
+                System.arraycopy(b, off, buffer, length, toCopy);
+                length += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (length == 0) {
+                return;
+            }
+            final ByteArrayDataOutput output = new ByteArrayDataOutput(compressed);
+            LZ4.compress(buffer, 0, length, output, buffers.hashTable);
+            writeInt(out, length);
+            writeInt(out, output.getPosition());
+            out.write(compressed, 0, output.getPosition());
+            length = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // like a DeflaterOutputStream without sync flush, buffered bytes are only written once a block is complete
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writeBlock();
+                writeInt(out, 0);
+            } finally {
+                buffers.inUse = false;
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Reads and decompresses one block at a time until the terminating block is reached
+     */
+    private static final class BlockInputStream extends InputStream {
+
+        private final InputStream in;
+        private final Buffers buffers;
+        private final byte[] buffer;
+        private final byte[] compressed;
+        private int position;
+        private int limit;
+        private boolean eos;
+        private boolean closed;
+
+        private BlockInputStream(InputStream in, Buffers buffers) {
+            this.in = in;
+            this.buffers = buffers;
+            this.buffer = buffers.uncompressed;
+            this.compressed = buffers.compressed;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, limit - position);
+            System.arraycopy(buffer, position, b, off, toCopy);
+            position += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() {
+            return limit - position;
+        }
+
+        private boolean ensureAvailable() throws IOException {
+            while (position == limit) {
+                if (eos) {
+                    return false;
+                }
+                readBlock();
+            }
+            return true;
+        }
+
+        private void readBlock() throws IOException {
+            final int rawLength = readInt(in);
+            if (rawLength == 0) {
+                eos = true;
+                return;
+            }
+            final int compressedLength = readInt(in);
+            if (rawLength < 0 || rawLength > BLOCK_SIZE || compressedLength <= 0 || compressedLength > MAX_COMPRESSED_BLOCK_SIZE) {
+                throw new IOException(
+                    "corrupt LZ4 block with uncompressed length [" + rawLength + "] and compressed length [" + compressedLength + "]"
+                );
+            }
+            if (in.readNBytes(compressed, 0, compressedLength) != compressedLength) {
+                throw new EOFException("unexpected end of LZ4 compressed stream");
+            }
+            LZ4.decompress(new ByteArrayDataInput(compressed, 0, compressedLength), rawLength, buffer, 0);
+            position = 0;
+            limit = rawLength;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffers.inUse = false;
+            in.close();
+        }
+    }
+}
@@ -113,6 +113,36 @@ final class OutboundHandler {
         final Version channelVersion,
         final boolean compressRequest,
         final boolean isHandshake
+    ) throws IOException, TransportException {
+        sendRequest(
+            node,
+            channel,
+            requestId,
+            action,
+            request,
+            options,
+            channelVersion,
+            compressRequest,
+            TransportCompressionScheme.DEFLATE,
+            isHandshake
+        );
+    }
+
+    /**
+     * Sends the request to the given channel, compressing it with the given scheme if {@code compressRequest} is set and the
+     * channel version supports that scheme.
+     */
+    void sendRequest(
+        final DiscoveryNode node,
+        final TcpChannel channel,
+        final long requestId,
+        final String action,
+        final TransportRequest request,
+        final TransportRequestOptions options,
+        final Version channelVersion,
+        final boolean compressRequest,
+        final TransportCompressionScheme compressionScheme,
+        final boolean isHandshake
     ) throws IOException, TransportException {
         Version version = Version.min(this.version, channelVersion);
         OutboundMessage.Request message = new OutboundMessage.Request(
@@ -123,7 +153,8 @@ final class OutboundHandler {
             action,
             requestId,
             isHandshake,
-            compressRequest
+            compressRequest,
+            compressionScheme
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onRequestSent(node, requestId, action, request, options));
         sendMessage(channel, message, listener);
@@ -144,6 +175,34 @@ final class OutboundHandler {
         final TransportResponse response,
         final boolean compress,
         final boolean isHandshake
+    ) throws IOException {
+        sendResponse(
+            nodeVersion,
+            features,
+            channel,
+            requestId,
+            action,
+            response,
+            compress,
+            TransportCompressionScheme.DEFLATE,
+            isHandshake
+        );
+    }
+
+    /**
+     * Sends the response to the given channel, compressing it with the given scheme if {@code compress} is set and the node
+     * version supports that scheme.
+     */
+    void sendResponse(
+        final Version nodeVersion,
+        final Set<String> features,
+        final TcpChannel channel,
+        final long requestId,
+        final String action,
+        final TransportResponse response,
+        final boolean compress,
+        final TransportCompressionScheme compressionScheme,
+        final boolean isHandshake
     ) throws IOException {
         Version version = Version.min(this.version, nodeVersion);
         OutboundMessage.Response message = new OutboundMessage.Response(
@@ -153,7 +212,8 @@ final class OutboundHandler {
             version,
             requestId,
             isHandshake,
-            compress
+            compress,
+            compressionScheme
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
         sendMessage(channel, message, listener);
@@ -190,6 +250,9 @@ final class OutboundHandler {
         MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays);
         SendContext sendContext = new SendContext(channel, serializer, listener, serializer);
         internalSend(channel, sendContext);
+        if (networkMessage.getCompressedContentSize() > 0) {
+            statsTracker.markCompressedBytesWritten(networkMessage.getCompressedContentSize(), networkMessage.getUncompressedContentSize());
+        }
     }
 
     private void internalSend(TcpChannel channel, SendContext sendContext) throws IOException {
@@ -51,10 +51,21 @@ import java.util.Set;
 abstract class OutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final TransportCompressionScheme compressionScheme;
+    private long compressedContentSize;
+    private long uncompressedContentSize;
 
-    OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+    OutboundMessage(
+        ThreadContext threadContext,
+        Version version,
+        byte status,
+        long requestId,
+        Writeable message,
+        TransportCompressionScheme compressionScheme
+    ) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressionScheme = compressionScheme.forVersion(version);
     }
 
     BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
@@ -71,7 +82,9 @@ abstract class OutboundMessage extends NetworkMessage {
             variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
         }
 
-        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+        final boolean compress = TransportStatus.isCompress(status);
+        final long preContentPosition = bytesStream.position();
+        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, compress ? compressionScheme : null)) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -79,6 +92,10 @@ abstract class OutboundMessage extends NetworkMessage {
                 writeVariableHeader(stream);
             }
             reference = writeMessage(stream);
+            if (compress) {
+                uncompressedContentSize = stream.getUncompressedBytes();
+                compressedContentSize = bytesStream.position() - preContentPosition;
+            }
         }
 
         bytesStream.seek(0);
@@ -91,6 +108,20 @@ abstract class OutboundMessage extends NetworkMessage {
         threadContext.writeTo(stream);
     }
 
+    /**
+     * Returns the size of the compressed content once serialized, or 0 if the message is not compressed
+     */
+    long getCompressedContentSize() {
+        return compressedContentSize;
+    }
+
+    /**
+     * Returns the size of the content before compression once serialized, or 0 if the message is not compressed
+     */
+    long getUncompressedContentSize() {
+        return uncompressedContentSize;
+    }
+
     protected BytesReference writeMessage(CompressibleBytesOutputStream stream) throws IOException {
         final BytesReference zeroCopyBuffer;
         if (message instanceof BytesTransportRequest) {
@@ -137,7 +168,21 @@ abstract class OutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, action, requestId, isHandshake, compress, TransportCompressionScheme.DEFLATE);
+        }
+
+        Request(
+            ThreadContext threadContext,
+            String[] features,
+            Writeable message,
+            Version version,
+            String action,
+            long requestId,
+            boolean isHandshake,
+            boolean compress,
+            TransportCompressionScheme compressionScheme
+        ) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressionScheme);
             this.features = features;
             this.action = action;
         }
@@ -181,7 +226,20 @@ abstract class OutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, requestId, isHandshake, compress, TransportCompressionScheme.DEFLATE);
+        }
+
+        Response(
+            ThreadContext threadContext,
+            Set<String> features,
+            Writeable message,
+            Version version,
+            long requestId,
+            boolean isHandshake,
+            boolean compress,
+            TransportCompressionScheme compressionScheme
+        ) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressionScheme);
             this.features = features;
         }
 
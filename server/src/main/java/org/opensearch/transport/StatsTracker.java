@@ -46,6 +46,10 @@ public final class StatsTracker {
     private final LongAdder bytesRead = new LongAdder();
     private final LongAdder messagesReceived = new LongAdder();
     private final MeanMetric writeBytesMetric = new MeanMetric();
+    private final LongAdder compressedBytesRead = new LongAdder();
+    private final LongAdder uncompressedBytesRead = new LongAdder();
+    private final LongAdder compressedBytesWritten = new LongAdder();
+    private final LongAdder uncompressedBytesWritten = new LongAdder();
 
     public void markBytesRead(long bytesReceived) {
         bytesRead.add(bytesReceived);
@@ -59,6 +63,22 @@ public final class StatsTracker {
         writeBytesMetric.inc(bytesWritten);
     }
 
+    /**
+     * Marks the content of a compressed message as read, with its size on the wire and its size once decompressed
+     */
+    public void markCompressedBytesRead(long compressedBytes, long uncompressedBytes) {
+        compressedBytesRead.add(compressedBytes);
+        uncompressedBytesRead.add(uncompressedBytes);
+    }
+
+    /**
+     * Marks the content of a compressed message as written, with its size on the wire and its size before compression
+     */
+    public void markCompressedBytesWritten(long compressedBytes, long uncompressedBytes) {
+        compressedBytesWritten.add(compressedBytes);
+        uncompressedBytesWritten.add(uncompressedBytes);
+    }
+
     public long getBytesRead() {
         return bytesRead.sum();
     }
@@ -78,4 +98,20 @@ public final class StatsTracker {
     public long getMessagesSent() {
         return writeBytesMetric.count();
     }
+
+    public long getCompressedBytesRead() {
+        return compressedBytesRead.sum();
+    }
+
+    public long getUncompressedBytesRead() {
+        return uncompressedBytesRead.sum();
+    }
+
+    public long getCompressedBytesWritten() {
+        return compressedBytesWritten.sum();
+    }
+
+    public long getUncompressedBytesWritten() {
+        return uncompressedBytesWritten.sum();
+    }
 }
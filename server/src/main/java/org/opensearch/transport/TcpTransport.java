@@ -46,6 +46,7 @@ import org.opensearch.common.network.CloseableChannel;
 import org.opensearch.common.network.NetworkAddress;
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.network.NetworkUtils;
+import org.opensearch.common.regex.Regex;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.PortsRange;
@@ -134,6 +135,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
     protected final NetworkService networkService;
     protected final Set<ProfileSettings> profileSettings;
     private final CircuitBreakerService circuitBreakerService;
+    private final TransportCompressionScheme compressionScheme;
+    private final String[] compressedActions;
 
     private final ConcurrentMap<String, BoundTransportAddress> profileBoundAddresses = newConcurrentMap();
     private final Map<String, List<TcpServerChannel>> serverChannels = newConcurrentMap();
@@ -170,6 +173,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         this.pageCacheRecycler = pageCacheRecycler;
         this.circuitBreakerService = circuitBreakerService;
         this.networkService = networkService;
+        this.compressionScheme = TransportSettings.TRANSPORT_COMPRESSION_SCHEME.get(settings);
+        this.compressedActions = TransportSettings.TRANSPORT_COMPRESSED_ACTIONS.get(settings).toArray(Strings.EMPTY_ARRAY);
         String nodeName = Node.NODE_NAME_SETTING.get(settings);
         final Settings defaultFeatures = TransportSettings.DEFAULT_FEATURES_SETTING.get(settings);
         String[] features;
@@ -256,6 +261,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         private final DiscoveryNode node;
         private final Version version;
         private final boolean compress;
+        private final TransportCompressionScheme compressionScheme;
         private final AtomicBoolean isClosing = new AtomicBoolean(false);
 
         NodeChannels(DiscoveryNode node, List<TcpChannel> channels, ConnectionProfile connectionProfile, Version handshakeVersion) {
@@ -273,6 +279,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             }
             version = handshakeVersion;
             compress = connectionProfile.getCompressionEnabled();
+            // negotiated per connection from the handshake version, nodes that predate the other schemes only understand DEFLATE
+            compressionScheme = TcpTransport.this.compressionScheme.forVersion(handshakeVersion);
         }
 
         @Override
@@ -317,7 +325,19 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
                 throw new NodeNotConnectedException(node, "connection already closed");
             }
             TcpChannel channel = channel(options.type());
-            outboundHandler.sendRequest(node, channel, requestId, action, request, options, getVersion(), compress, false);
+            final boolean compressRequest = compress || (compressedActions.length > 0 && Regex.simpleMatch(compressedActions, action));
+            outboundHandler.sendRequest(
+                node,
+                channel,
+                requestId,
+                action,
+                request,
+                options,
+                getVersion(),
+                compressRequest,
+                compressionScheme,
+                false
+            );
         }
     }
 
@@ -942,7 +962,11 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             messagesReceived,
             bytesRead,
             messagesSent,
-            bytesWritten
+            bytesWritten,
+            statsTracker.getCompressedBytesRead(),
+            statsTracker.getUncompressedBytesRead(),
+            statsTracker.getCompressedBytesWritten(),
+            statsTracker.getUncompressedBytesWritten()
         );
     }
 
@@ -55,6 +55,7 @@ public final class TcpTransportChannel extends BaseTcpTransportChannel {
     private final Version version;
     private final Set<String> features;
     private final boolean compressResponse;
+    private final TransportCompressionScheme compressionScheme;
     private final boolean isHandshake;
     private final Releasable breakerRelease;
 
@@ -68,6 +69,35 @@ public final class TcpTransportChannel extends BaseTcpTransportChannel {
         boolean compressResponse,
         boolean isHandshake,
         Releasable breakerRelease
+    ) {
+        this(
+            outboundHandler,
+            channel,
+            action,
+            requestId,
+            version,
+            features,
+            compressResponse,
+            TransportCompressionScheme.DEFLATE,
+            isHandshake,
+            breakerRelease
+        );
+    }
+
+    /**
+     * @param compressionScheme the scheme the request was compressed with, the response is compressed with the same scheme
+     */
+    TcpTransportChannel(
+        OutboundHandler outboundHandler,
+        TcpChannel channel,
+        String action,
+        long requestId,
+        Version version,
+        Set<String> features,
+        boolean compressResponse,
+        TransportCompressionScheme compressionScheme,
+        boolean isHandshake,
+        Releasable breakerRelease
     ) {
         super(channel);
         this.version = version;
@@ -76,6 +106,7 @@ public final class TcpTransportChannel extends BaseTcpTransportChannel {
         this.action = action;
         this.requestId = requestId;
         this.compressResponse = compressResponse;
+        this.compressionScheme = compressionScheme;
         this.isHandshake = isHandshake;
         this.breakerRelease = breakerRelease;
     }
@@ -92,7 +123,17 @@ public final class TcpTransportChannel extends BaseTcpTransportChannel {
                 // update outbound network time with current time before sending response over network
                 ((QuerySearchResult) response).getShardSearchRequest().setOutboundNetworkTime(System.currentTimeMillis());
             }
-            outboundHandler.sendResponse(version, features, getChannel(), requestId, action, response, compressResponse, isHandshake);
+            outboundHandler.sendResponse(
+                version,
+                features,
+                getChannel(),
+                requestId,
+                action,
+                response,
+                compressResponse,
+                compressionScheme,
+                isHandshake
+            );
         } finally {
             release(false);
         }
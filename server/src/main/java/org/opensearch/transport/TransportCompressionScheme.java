@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
+import org.opensearch.compress.ZstdCompressor;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
+
+import java.util.Locale;
+
+/**
+ * The algorithms that can be used to compress the content of a transport message. The scheme of a compressed message is
+ * identified on the receiving side by the header that the {@link Compressor} of the scheme writes at the start of the
+ * content, so no additional framing is needed and DEFLATE compressed messages stay readable by older nodes.
+ *
+ * @opensearch.internal
+ */
+public enum TransportCompressionScheme {
+    DEFLATE {
+        @Override
+        Compressor compressor() {
+            return CompressorRegistry.defaultCompressor();
+        }
+    },
+    LZ4 {
+        @Override
+        Compressor compressor() {
+            return Lz4TransportCompressor.INSTANCE;
+        }
+    },
+    ZSTD {
+        @Override
+        Compressor compressor() {
+            return CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+        }
+    };
+
+    /**
+     * The first version that is able to decompress messages with a scheme other than {@link #DEFLATE}
+     */
+    static final Version MINIMUM_VERSION = Version.V_2_11_1;
+
+    /**
+     * The number of content bytes required to detect the scheme of a compressed message
+     */
+    static final int MAX_HEADER_LENGTH = 5;
+
+    abstract Compressor compressor();
+
+    /**
+     * Returns the scheme to use when talking to a node of the given version, falling back to {@link #DEFLATE} if that node is
+     * not able to decompress this scheme.
+     */
+    TransportCompressionScheme forVersion(Version version) {
+        return version.onOrAfter(MINIMUM_VERSION) ? this : DEFLATE;
+    }
+
+    /**
+     * Returns the scheme that compressed the given content, or {@code null} if the content does not start with the header of
+     * any scheme
+     */
+    @Nullable
+    static TransportCompressionScheme fromCompressedContent(BytesReference content) {
+        for (TransportCompressionScheme scheme : values()) {
+            if (scheme.compressor().isCompressed(content)) {
+                return scheme;
+            }
+        }
+        return null;
+    }
+
+    public static TransportCompressionScheme fromString(String scheme) {
+        try {
+            return valueOf(scheme.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown transport compression scheme [" + scheme + "]", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
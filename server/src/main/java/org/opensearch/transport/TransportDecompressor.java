@@ -29,27 +29,32 @@
  * Modifications Copyright OpenSearch Contributors. See
  * GitHub history for details.
  */
-
 package org.opensearch.transport;
 
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
-import org.opensearch.core.compress.Compressor;
-import org.opensearch.core.compress.CompressorRegistry;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
 /**
- * Decompresses data over the transport wire
+ * Decompresses data over the transport wire. The {@link TransportCompressionScheme} is detected from the header of the
+ * compressed content. DEFLATE content is inflated incrementally as it arrives while the block based schemes buffer the
+ * compressed content of the message and decompress it once {@link #finish()} is called after the last content bytes.
  *
  * @opensearch.internal
  */
@@ -58,8 +63,13 @@ public class TransportDecompressor implements Closeable {
     private final Inflater inflater;
     private final PageCacheRecycler recycler;
     private final ArrayDeque<Recycler.V<byte[]>> pages;
+    private final List<BytesReference> compressedContent = new ArrayList<>();
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
     private boolean hasReadHeader = false;
+    private TransportCompressionScheme scheme;
+    private boolean finished = false;
+    private long compressedBytes = 0;
+    private long decompressedBytes = 0;
 
     public TransportDecompressor(PageCacheRecycler recycler) {
         this.recycler = recycler;
@@ -70,8 +80,8 @@ public class TransportDecompressor implements Closeable {
     public int decompress(BytesReference bytesReference) throws IOException {
         int bytesConsumed = 0;
         if (hasReadHeader == false) {
-            final Compressor compressor = CompressorRegistry.defaultCompressor();
-            if (compressor.isCompressed(bytesReference) == false) {
+            scheme = TransportCompressionScheme.fromCompressedContent(bytesReference);
+            if (scheme == null) {
                 int maxToRead = Math.min(bytesReference.length(), 10);
                 StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [").append(maxToRead)
                     .append("] content bytes out of [")
@@ -87,9 +97,22 @@ public class TransportDecompressor implements Closeable {
                 throw new IllegalStateException(sb.toString());
             }
             hasReadHeader = true;
-            int headerLength = compressor.headerLength();
-            bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
-            bytesConsumed += headerLength;
+            if (scheme == TransportCompressionScheme.DEFLATE) {
+                int headerLength = scheme.compressor().headerLength();
+                bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
+                bytesConsumed += headerLength;
+            }
+        }
+
+        if (scheme != TransportCompressionScheme.DEFLATE) {
+            // the header is kept as the compressor validates it when decompressing the buffered content
+            if (bytesReference instanceof ReleasableBytesReference) {
+                compressedContent.add(((ReleasableBytesReference) bytesReference).retain());
+            } else {
+                compressedContent.add(bytesReference);
+            }
+            compressedBytes += bytesReference.length();
+            return bytesReference.length();
         }
 
         BytesRefIterator refIterator = bytesReference.iterator();
@@ -111,6 +134,7 @@ public class TransportDecompressor implements Closeable {
                 try {
                     int bytesInflated = inflater.inflate(output, pageOffset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
                     pageOffset += bytesInflated;
+                    decompressedBytes += bytesInflated;
                     if (isNewPage) {
                         if (bytesInflated == 0) {
                             page.close();
@@ -133,15 +157,70 @@ public class TransportDecompressor implements Closeable {
             }
         }
 
+        compressedBytes += bytesConsumed;
         return bytesConsumed;
     }
 
+    /**
+     * Signals that all the compressed content of the message has been passed to {@link #decompress(BytesReference)}. This
+     * decompresses the buffered content of block based schemes and is a no-op for DEFLATE, which is decompressed incrementally.
+     */
+    public void finish() throws IOException {
+        if (scheme == null || scheme == TransportCompressionScheme.DEFLATE || finished) {
+            return;
+        }
+        final BytesReference content = CompositeBytesReference.of(compressedContent.toArray(new BytesReference[0]));
+        try (InputStream in = scheme.compressor().threadLocalInputStream(content.streamInput())) {
+            while (true) {
+                final Recycler.V<byte[]> page = recycler.bytePage(false);
+                final int read = in.readNBytes(page.v(), 0, PageCacheRecycler.BYTE_PAGE_SIZE);
+                if (read == 0) {
+                    page.close();
+                    break;
+                }
+                pages.add(page);
+                pageOffset = read;
+                decompressedBytes += read;
+                if (read < PageCacheRecycler.BYTE_PAGE_SIZE) {
+                    break;
+                }
+            }
+        } finally {
+            releaseCompressedContent();
+        }
+        finished = true;
+    }
+
     public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorRegistry.defaultCompressor().headerLength();
+        return hasReadHeader || bytesAvailable >= TransportCompressionScheme.MAX_HEADER_LENGTH;
     }
 
     public boolean isEOS() {
-        return inflater.finished();
+        if (scheme == null || scheme == TransportCompressionScheme.DEFLATE) {
+            return inflater.finished();
+        }
+        return finished;
+    }
+
+    /**
+     * Returns the scheme detected from the header of the compressed content, or {@code null} if no content was read yet
+     */
+    public TransportCompressionScheme getScheme() {
+        return scheme;
+    }
+
+    /**
+     * Returns the number of compressed bytes that were consumed so far, including the header
+     */
+    public long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    /**
+     * Returns the number of bytes that the compressed content was decompressed to so far
+     */
+    public long getDecompressedBytes() {
+        return decompressedBytes;
     }
 
     public ReleasableBytesReference pollDecompressedPage() {
@@ -162,9 +241,19 @@ public class TransportDecompressor implements Closeable {
         }
     }
 
+    private void releaseCompressedContent() {
+        for (BytesReference reference : compressedContent) {
+            if (reference instanceof Releasable) {
+                Releasables.closeWhileHandlingException((Releasable) reference);
+            }
+        }
+        compressedContent.clear();
+    }
+
     @Override
     public void close() {
         inflater.end();
+        releaseCompressedContent();
         for (Recycler.V<byte[]> page : pages) {
             page.close();
         }
@@ -117,6 +117,20 @@ public final class TransportSettings {
         OLD_TRANSPORT_COMPRESS,
         Setting.Property.NodeScope
     );
+    // the scheme used to compress messages sent to nodes that support it, older nodes are always sent DEFLATE compressed messages
+    public static final Setting<TransportCompressionScheme> TRANSPORT_COMPRESSION_SCHEME = new Setting<>(
+        "transport.compression_scheme",
+        TransportCompressionScheme.DEFLATE.toString(),
+        TransportCompressionScheme::fromString,
+        Setting.Property.NodeScope
+    );
+    // wildcard patterns of the actions whose requests are compressed even if transport.compress is disabled
+    public static final Setting<List<String>> TRANSPORT_COMPRESSED_ACTIONS = listSetting(
+        "transport.compressed_actions",
+        emptyList(),
+        Function.identity(),
+        Setting.Property.NodeScope
+    );
     // the scheduled internal ping interval setting, defaults to disabled (-1)
     public static final Setting<TimeValue> PING_SCHEDULE = timeSetting(
         "transport.ping_schedule",
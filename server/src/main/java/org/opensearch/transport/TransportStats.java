@@ -33,6 +33,7 @@
 package org.opensearch.transport;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -55,14 +56,43 @@ public class TransportStats implements Writeable, ToXContentFragment {
     private final long rxSize;
     private final long txCount;
     private final long txSize;
+    private final long rxCompressedSize;
+    private final long rxUncompressedSize;
+    private final long txCompressedSize;
+    private final long txUncompressedSize;
 
     public TransportStats(long serverOpen, long totalOutboundConnections, long rxCount, long rxSize, long txCount, long txSize) {
+        this(serverOpen, totalOutboundConnections, rxCount, rxSize, txCount, txSize, 0L, 0L, 0L, 0L);
+    }
+
+    /**
+     * @param rxCompressedSize the size on the wire of the content of the compressed messages received
+     * @param rxUncompressedSize the size of the content of the compressed messages received once decompressed
+     * @param txCompressedSize the size on the wire of the content of the compressed messages sent
+     * @param txUncompressedSize the size of the content of the compressed messages sent before compression
+     */
+    public TransportStats(
+        long serverOpen,
+        long totalOutboundConnections,
+        long rxCount,
+        long rxSize,
+        long txCount,
+        long txSize,
+        long rxCompressedSize,
+        long rxUncompressedSize,
+        long txCompressedSize,
+        long txUncompressedSize
+    ) {
         this.serverOpen = serverOpen;
         this.totalOutboundConnections = totalOutboundConnections;
         this.rxCount = rxCount;
         this.rxSize = rxSize;
         this.txCount = txCount;
         this.txSize = txSize;
+        this.rxCompressedSize = rxCompressedSize;
+        this.rxUncompressedSize = rxUncompressedSize;
+        this.txCompressedSize = txCompressedSize;
+        this.txUncompressedSize = txUncompressedSize;
     }
 
     public TransportStats(StreamInput in) throws IOException {
@@ -76,6 +106,17 @@ public class TransportStats implements Writeable, ToXContentFragment {
         rxSize = in.readVLong();
         txCount = in.readVLong();
         txSize = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_2_11_1)) {
+            rxCompressedSize = in.readVLong();
+            rxUncompressedSize = in.readVLong();
+            txCompressedSize = in.readVLong();
+            txUncompressedSize = in.readVLong();
+        } else {
+            rxCompressedSize = 0L;
+            rxUncompressedSize = 0L;
+            txCompressedSize = 0L;
+            txUncompressedSize = 0L;
+        }
     }
 
     @Override
@@ -88,6 +129,12 @@ public class TransportStats implements Writeable, ToXContentFragment {
         out.writeVLong(rxSize);
         out.writeVLong(txCount);
         out.writeVLong(txSize);
+        if (out.getVersion().onOrAfter(Version.V_2_11_1)) {
+            out.writeVLong(rxCompressedSize);
+            out.writeVLong(rxUncompressedSize);
+            out.writeVLong(txCompressedSize);
+            out.writeVLong(txUncompressedSize);
+        }
     }
 
     public long serverOpen() {
@@ -130,6 +177,22 @@ public class TransportStats implements Writeable, ToXContentFragment {
         return txSize();
     }
 
+    public ByteSizeValue getRxCompressedSize() {
+        return new ByteSizeValue(rxCompressedSize);
+    }
+
+    public ByteSizeValue getRxUncompressedSize() {
+        return new ByteSizeValue(rxUncompressedSize);
+    }
+
+    public ByteSizeValue getTxCompressedSize() {
+        return new ByteSizeValue(txCompressedSize);
+    }
+
+    public ByteSizeValue getTxUncompressedSize() {
+        return new ByteSizeValue(txUncompressedSize);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.TRANSPORT);
@@ -139,6 +202,20 @@ public class TransportStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.RX_SIZE_IN_BYTES, Fields.RX_SIZE, new ByteSizeValue(rxSize));
         builder.field(Fields.TX_COUNT, txCount);
         builder.humanReadableField(Fields.TX_SIZE_IN_BYTES, Fields.TX_SIZE, new ByteSizeValue(txSize));
+        builder.startObject(Fields.COMPRESSION);
+        builder.humanReadableField(Fields.RX_COMPRESSED_SIZE_IN_BYTES, Fields.RX_COMPRESSED_SIZE, new ByteSizeValue(rxCompressedSize));
+        builder.humanReadableField(
+            Fields.RX_UNCOMPRESSED_SIZE_IN_BYTES,
+            Fields.RX_UNCOMPRESSED_SIZE,
+            new ByteSizeValue(rxUncompressedSize)
+        );
+        builder.humanReadableField(Fields.TX_COMPRESSED_SIZE_IN_BYTES, Fields.TX_COMPRESSED_SIZE, new ByteSizeValue(txCompressedSize));
+        builder.humanReadableField(
+            Fields.TX_UNCOMPRESSED_SIZE_IN_BYTES,
+            Fields.TX_UNCOMPRESSED_SIZE,
+            new ByteSizeValue(txUncompressedSize)
+        );
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -153,5 +230,14 @@ public class TransportStats implements Writeable, ToXContentFragment {
         static final String TX_COUNT = "tx_count";
         static final String TX_SIZE = "tx_size";
         static final String TX_SIZE_IN_BYTES = "tx_size_in_bytes";
+        static final String COMPRESSION = "compression";
+        static final String RX_COMPRESSED_SIZE = "rx_compressed_size";
+        static final String RX_COMPRESSED_SIZE_IN_BYTES = "rx_compressed_size_in_bytes";
+        static final String RX_UNCOMPRESSED_SIZE = "rx_uncompressed_size";
+        static final String RX_UNCOMPRESSED_SIZE_IN_BYTES = "rx_uncompressed_size_in_bytes";
+        static final String TX_COMPRESSED_SIZE = "tx_compressed_size";
+        static final String TX_COMPRESSED_SIZE_IN_BYTES = "tx_compressed_size_in_bytes";
+        static final String TX_UNCOMPRESSED_SIZE = "tx_uncompressed_size";
+        static final String TX_UNCOMPRESSED_SIZE_IN_BYTES = "tx_uncompressed_size_in_bytes";
     }
 }
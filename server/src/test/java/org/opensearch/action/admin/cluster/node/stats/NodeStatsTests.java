@@ -52,6 +52,7 @@ import org.opensearch.index.ReplicationStats;
 import org.opensearch.index.remote.RemoteSegmentStats;
 import org.opensearch.index.remote.RemoteTranslogTransferTracker;
 import org.opensearch.index.translog.RemoteTranslogStats;
+import org.opensearch.index.translog.TranslogGroupCommitStats;
 import org.opensearch.indices.NodeIndicesStats;
 import org.opensearch.ingest.IngestStats;
 import org.opensearch.monitor.fs.FsInfo;
@@ -446,6 +447,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
 
                 }
 
+                assertEquals(nodeStats.getTranslogGroupCommitStats(), deserializedNodeStats.getTranslogGroupCommitStats());
+
                 NodeIndicesStats nodeIndicesStats = nodeStats.getIndices();
                 NodeIndicesStats deserializedNodeIndicesStats = deserializedNodeStats.getIndices();
                 if (nodeIndicesStats == null) {
@@ -767,6 +770,17 @@ public class NodeStatsTests extends OpenSearchTestCase {
         weightedRoutingStats = WeightedRoutingStats.getInstance();
         weightedRoutingStats.updateFailOpenCount();
 
+        TranslogGroupCommitStats translogGroupCommitStats = frequently()
+            ? new TranslogGroupCommitStats(
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong()
+            )
+            : null;
+
         NodeIndicesStats indicesStats = getNodeIndicesStats(remoteStoreStats);
 
         // TODO: Only remote_store based aspects of NodeIndicesStats are being tested here.
@@ -795,7 +809,8 @@ public class NodeStatsTests extends OpenSearchTestCase {
             weightedRoutingStats,
             null,
             null,
-            null
+            null,
+            translogGroupCommitStats
         );
     }
 
@@ -212,4 +212,57 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
             ex.getMessage()
         );
     }
+
+    public void testIncrementalParser() throws IOException {
+        BytesArray data = new BytesArray(
+            "{ \"index\":{ \"_id\": \"1\" } }\n{ \"field\": \"value\" }\n"
+                + "{ \"delete\":{ \"_id\": \"2\" } }\n"
+                + "{ \"update\":{ \"_id\": \"3\" } }\n{ \"doc\": { \"field\": \"value\" } }\n"
+        );
+        for (int split = 0; split <= data.length(); split++) {
+            List<String> ids = new ArrayList<>();
+            BulkRequestParser.IncrementalParser parser = new BulkRequestParser().incrementalParser(
+                "foo",
+                null,
+                null,
+                null,
+                null,
+                false,
+                MediaTypeRegistry.JSON,
+                req -> ids.add(req.id()),
+                req -> ids.add(req.id()),
+                req -> ids.add(req.id())
+            );
+            // actions whose lines are not complete yet are left for the next chunk
+            int consumed = parser.parse(data.slice(0, split), false);
+            assertThat(consumed, Matchers.lessThanOrEqualTo(split));
+            assertEquals(data.length() - consumed, parser.parse(data.slice(consumed, data.length() - consumed), true));
+            assertEquals(List.of("1", "2", "3"), ids);
+        }
+    }
+
+    public void testIncrementalParserKeepsCountingLines() throws IOException {
+        BulkRequestParser.IncrementalParser parser = new BulkRequestParser().incrementalParser(
+            "foo",
+            null,
+            null,
+            null,
+            null,
+            false,
+            MediaTypeRegistry.JSON,
+            req -> {},
+            req -> fail(),
+            req -> fail()
+        );
+        assertEquals(0, parser.parse(new BytesArray("{ \"index\":{} }\n{"), false));
+        assertEquals(18, parser.parse(new BytesArray("{ \"index\":{} }\n{}\n{ \"baz\":{} }"), false));
+        IllegalArgumentException ex = expectThrows(
+            IllegalArgumentException.class,
+            () -> parser.parse(new BytesArray("{ \"baz\":{} }\n"), true)
+        );
+        assertEquals(
+            "Malformed action/metadata line [3], expected one of [create, delete, index, update] but found [baz]",
+            ex.getMessage()
+        );
+    }
 }
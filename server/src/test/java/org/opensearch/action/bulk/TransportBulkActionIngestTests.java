@@ -339,7 +339,8 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
             failureHandler.capture(),
             completionHandler.capture(),
             any(),
-            eq(Names.WRITE)
+            eq(Names.WRITE),
+            eq(1)
         );
         completionHandler.getValue().accept(null, exception);
         assertTrue(failureCalled.get());
@@ -376,7 +377,8 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
             failureHandler.capture(),
             completionHandler.capture(),
             any(),
-            eq(Names.WRITE)
+            eq(Names.WRITE),
+            eq(1)
         );
         completionHandler.getValue().accept(null, exception);
         assertTrue(failureCalled.get());
@@ -422,7 +424,8 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
             failureHandler.capture(),
             completionHandler.capture(),
             any(),
-            eq(Names.SYSTEM_WRITE)
+            eq(Names.SYSTEM_WRITE),
+            eq(1)
         );
         completionHandler.getValue().accept(null, exception);
         assertTrue(failureCalled.get());
@@ -453,7 +456,7 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
         action.execute(null, bulkRequest, listener);
 
         // should not have executed ingest locally
-        verify(ingestService, never()).executeBulkRequest(anyInt(), any(), any(), any(), any(), any());
+        verify(ingestService, never()).executeBulkRequest(anyInt(), any(), any(), any(), any(), any(), anyInt());
         // but instead should have sent to a remote node with the transport service
         ArgumentCaptor<DiscoveryNode> node = ArgumentCaptor.forClass(DiscoveryNode.class);
         verify(transportService).sendRequest(node.capture(), eq(BulkAction.NAME), any(), remoteResponseHandler.capture());
@@ -493,7 +496,7 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
         singleItemBulkWriteAction.execute(null, indexRequest, listener);
 
         // should not have executed ingest locally
-        verify(ingestService, never()).executeBulkRequest(anyInt(), any(), any(), any(), any(), any());
+        verify(ingestService, never()).executeBulkRequest(anyInt(), any(), any(), any(), any(), any(), anyInt());
         // but instead should have sent to a remote node with the transport service
         ArgumentCaptor<DiscoveryNode> node = ArgumentCaptor.forClass(DiscoveryNode.class);
         verify(transportService).sendRequest(node.capture(), eq(BulkAction.NAME), any(), remoteResponseHandler.capture());
@@ -579,7 +582,8 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
             failureHandler.capture(),
             completionHandler.capture(),
             any(),
-            eq(Names.WRITE)
+            eq(Names.WRITE),
+            eq(1)
         );
         assertEquals(indexRequest1.getPipeline(), "default_pipeline");
         assertEquals(indexRequest2.getPipeline(), "default_pipeline");
@@ -622,7 +626,8 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
             failureHandler.capture(),
             completionHandler.capture(),
             any(),
-            eq(Names.WRITE)
+            eq(Names.WRITE),
+            eq(1)
         );
         completionHandler.getValue().accept(null, exception);
         assertFalse(action.indexCreated); // still no index yet, the ingest node failed.
@@ -709,7 +714,8 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
             failureHandler.capture(),
             completionHandler.capture(),
             any(),
-            eq(Names.WRITE)
+            eq(Names.WRITE),
+            eq(1)
         );
     }
 
@@ -748,7 +754,8 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
             failureHandler.capture(),
             completionHandler.capture(),
             any(),
-            eq(Names.WRITE)
+            eq(Names.WRITE),
+            eq(1)
         );
     }
 
@@ -773,7 +780,8 @@ public class TransportBulkActionIngestTests extends OpenSearchTestCase {
             failureHandler.capture(),
             completionHandler.capture(),
             any(),
-            eq(Names.WRITE)
+            eq(Names.WRITE),
+            eq(1)
         );
         assertEquals(indexRequest.getPipeline(), "default_pipeline");
         completionHandler.getValue().accept(null, exception);
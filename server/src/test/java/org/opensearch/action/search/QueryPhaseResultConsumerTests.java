@@ -35,19 +35,27 @@ package org.opensearch.action.search;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
 import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregator;
+import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
@@ -57,12 +65,17 @@ import org.junit.Before;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.hamcrest.Matchers.greaterThan;
+
 public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
 
     private SearchPhaseController searchPhaseController;
@@ -159,6 +172,169 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertEquals(1, searchProgressListener.onFinalReduce.get());
     }
 
+    public void testPartialReduceWhenBufferedAggsExceedMaxBufferSize() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test").field("f")));
+        searchRequest.setBatchedReduceSize(512);
+        // any buffered aggregation exceeds the buffer size
+        SearchPhaseController controller = new SearchPhaseController(
+            writableRegistry(),
+            s -> searchPhaseController.getReduceContext(searchRequest),
+            () -> 1L
+        );
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            controller,
+            SearchProgressListener.NOOP,
+            writableRegistry(),
+            10,
+            onPartialMergeFailure::set
+        );
+
+        CountDownLatch partialReduceLatch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            SearchShardTarget searchShardTarget = new SearchShardTarget(
+                "node",
+                new ShardId("index", "uuid", i),
+                null,
+                OriginalIndices.NONE
+            );
+            QuerySearchResult querySearchResult = new QuerySearchResult();
+            TopDocs topDocs = new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+            querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, Float.NaN), new DocValueFormat[0]);
+            querySearchResult.aggregations(
+                InternalAggregations.from(Collections.singletonList(new InternalMax("test", i, DocValueFormat.RAW, Collections.emptyMap())))
+            );
+            querySearchResult.setSearchShardTarget(searchShardTarget);
+            querySearchResult.setShardIndex(i);
+            queryPhaseResultConsumer.consumeResult(querySearchResult, partialReduceLatch::countDown);
+        }
+
+        assertTrue(partialReduceLatch.await(10, TimeUnit.SECONDS));
+        assertNull(onPartialMergeFailure.get());
+        // every result but the first two is consumed after a partial reduce of the results buffered so far
+        assertEquals(8, queryPhaseResultConsumer.getNumReducePhases());
+
+        SearchPhaseController.ReducedQueryPhase reducedQueryPhase = queryPhaseResultConsumer.reduce();
+        assertEquals(9.0, ((InternalMax) reducedQueryPhase.aggregations.asList().get(0)).getValue(), 0.0);
+        queryPhaseResultConsumer.close();
+    }
+
+    public void testBoundedPartialReduceOfHighCardinalityTerms() throws Exception {
+        final int numShards = 500;
+        final int shardSize = 20;
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.terms("terms").field("f").size(5)));
+        searchRequest.setBatchedReduceSize(512);
+        SearchPhaseController controller = new SearchPhaseController(
+            writableRegistry(),
+            s -> searchPhaseController.getReduceContext(searchRequest),
+            () -> 4096L
+        );
+        // the partial result would hold the 10,000 distinct terms of all shards if it wasn't bounded
+        LimitedCircuitBreaker circuitBreaker = new LimitedCircuitBreaker(32 * 1024);
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            circuitBreaker,
+            controller,
+            SearchProgressListener.NOOP,
+            writableRegistry(),
+            numShards,
+            onPartialMergeFailure::set
+        );
+
+        CountDownLatch partialReduceLatch = new CountDownLatch(numShards);
+        for (int i = 0; i < numShards; i++) {
+            List<StringTerms.Bucket> buckets = new ArrayList<>();
+            buckets.add(new StringTerms.Bucket(new BytesRef("common"), 100, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+            for (int j = 1; j < shardSize; j++) {
+                BytesRef term = new BytesRef(String.format(Locale.ROOT, "t%04d-%02d", i, j));
+                long docCount = randomIntBetween(1, 50);
+                buckets.add(new StringTerms.Bucket(term, docCount, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+            }
+            // shards return their buckets sorted by key
+            buckets.sort(Comparator.comparing(StringTerms.Bucket::getKeyAsString));
+            StringTerms terms = new StringTerms(
+                "terms",
+                BucketOrder.key(true),
+                BucketOrder.count(false),
+                Collections.emptyMap(),
+                DocValueFormat.RAW,
+                shardSize,
+                false,
+                0,
+                buckets,
+                0,
+                new TermsAggregator.BucketCountThresholds(1, 0, 5, shardSize)
+            );
+            SearchShardTarget searchShardTarget = new SearchShardTarget(
+                "node",
+                new ShardId("index", "uuid", i),
+                null,
+                OriginalIndices.NONE
+            );
+            QuerySearchResult querySearchResult = new QuerySearchResult();
+            TopDocs topDocs = new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+            querySearchResult.topDocs(new TopDocsAndMaxScore(topDocs, Float.NaN), new DocValueFormat[0]);
+            querySearchResult.aggregations(InternalAggregations.from(Collections.singletonList(terms)));
+            querySearchResult.setSearchShardTarget(searchShardTarget);
+            querySearchResult.setShardIndex(i);
+            queryPhaseResultConsumer.consumeResult(querySearchResult, partialReduceLatch::countDown);
+        }
+
+        assertTrue(partialReduceLatch.await(10, TimeUnit.SECONDS));
+        assertNull(onPartialMergeFailure.get());
+        assertThat(queryPhaseResultConsumer.getNumReducePhases(), greaterThan(1));
+
+        SearchPhaseController.ReducedQueryPhase reducedQueryPhase = queryPhaseResultConsumer.reduce();
+        StringTerms reduced = (StringTerms) reducedQueryPhase.aggregations.asList().get(0);
+        assertEquals(5, reduced.getBuckets().size());
+        assertEquals("common", reduced.getBuckets().get(0).getKeyAsString());
+        assertEquals(100L * numShards, reduced.getBuckets().get(0).getDocCount());
+        // the pruned buckets are accounted in the error bound
+        assertThat(reduced.getDocCountError(), greaterThan(0L));
+        queryPhaseResultConsumer.close();
+        assertEquals(0, circuitBreaker.getUsed());
+    }
+
+    /**
+     * A circuit breaker that trips once the memory it accounts exceeds a limit.
+     */
+    private static class LimitedCircuitBreaker extends NoopCircuitBreaker {
+        private final long limit;
+        private final AtomicLong used = new AtomicLong();
+
+        LimitedCircuitBreaker(long limit) {
+            super(CircuitBreaker.REQUEST);
+            this.limit = limit;
+        }
+
+        @Override
+        public double addEstimateBytesAndMaybeBreak(long bytes, String label) throws CircuitBreakingException {
+            long newUsed = used.addAndGet(bytes);
+            if (newUsed > limit) {
+                used.addAndGet(-bytes);
+                throw new CircuitBreakingException("[" + label + "] would use [" + newUsed + "] bytes", bytes, limit, getDurability());
+            }
+            return newUsed;
+        }
+
+        @Override
+        public long addWithoutBreaking(long bytes) {
+            return used.addAndGet(bytes);
+        }
+
+        @Override
+        public long getUsed() {
+            return used.get();
+        }
+    }
+
     private static class ThrowingSearchProgressListener extends SearchProgressListener {
         private final AtomicInteger onQueryResult = new AtomicInteger(0);
         private final AtomicInteger onPartialReduce = new AtomicInteger(0);
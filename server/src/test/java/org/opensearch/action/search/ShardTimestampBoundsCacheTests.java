@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.MinAndMax;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ShardTimestampBoundsCacheTests extends OpenSearchTestCase {
+
+    public void testRequiredRange() {
+        SearchSourceBuilder source = new SearchSourceBuilder().query(
+            QueryBuilders.boolQuery()
+                .must(QueryBuilders.termQuery("foo", "bar"))
+                .filter(QueryBuilders.rangeQuery("@timestamp").gte("2020-01-01T00:00:00.000Z").lt("2020-01-02T00:00:00.000Z"))
+        );
+        ShardTimestampBoundsCache.TimestampRange range = ShardTimestampBoundsCache.requiredRange(source, 0L);
+        assertNotNull(range);
+        assertEquals(1577836800000L, range.from());
+        assertEquals(1577923199999L, range.to());
+
+        source = new SearchSourceBuilder().query(
+            QueryBuilders.constantScoreQuery(
+                QueryBuilders.boolQuery()
+                    .filter(QueryBuilders.rangeQuery("@timestamp").gt(1000L))
+                    .filter(QueryBuilders.rangeQuery("@timestamp").lte("now"))
+            )
+        );
+        range = ShardTimestampBoundsCache.requiredRange(source, 5000L);
+        assertNotNull(range);
+        assertEquals(1001L, range.from());
+        assertEquals(5000L, range.to());
+    }
+
+    public void testNoRequiredRange() {
+        assertNull(ShardTimestampBoundsCache.requiredRange(null, 0L));
+        assertNull(ShardTimestampBoundsCache.requiredRange(new SearchSourceBuilder(), 0L));
+        assertNull(ShardTimestampBoundsCache.requiredRange(new SearchSourceBuilder().query(QueryBuilders.matchAllQuery()), 0L));
+        assertNull(
+            ShardTimestampBoundsCache.requiredRange(new SearchSourceBuilder().query(QueryBuilders.rangeQuery("other").gte(10L)), 0L)
+        );
+        assertNull(
+            ShardTimestampBoundsCache.requiredRange(
+                new SearchSourceBuilder().query(QueryBuilders.boolQuery().should(QueryBuilders.rangeQuery("@timestamp").gte(10L))),
+                0L
+            )
+        );
+        assertNull(
+            ShardTimestampBoundsCache.requiredRange(
+                new SearchSourceBuilder().query(QueryBuilders.rangeQuery("@timestamp").gte(10L))
+                    .aggregation(new GlobalAggregationBuilder("global")),
+                0L
+            )
+        );
+        assertNull(
+            ShardTimestampBoundsCache.requiredRange(
+                new SearchSourceBuilder().query(QueryBuilders.rangeQuery("@timestamp").gte("not a date")),
+                0L
+            )
+        );
+    }
+
+    public void testCanMatch() {
+        AtomicLong now = new AtomicLong();
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        ShardTimestampBoundsCache cache = new ShardTimestampBoundsCache(Settings.EMPTY, clusterSettings, now::get);
+        ShardId shardId = new ShardId("index", "_na_", 0);
+        ShardTimestampBoundsCache.TimestampRange range = new ShardTimestampBoundsCache.TimestampRange(100L, 200L);
+
+        // disabled by default
+        assertFalse(cache.isEnabled());
+        cache.onCanMatchResponse(shardId, new MinAndMax<>(300L, 400L));
+        assertTrue(cache.canMatch(shardId, range));
+
+        clusterSettings.applySettings(Settings.builder().put(ShardTimestampBoundsCache.TTL_SETTING.getKey(), "10s").build());
+        assertTrue(cache.isEnabled());
+        assertTrue(cache.canMatch(shardId, range));
+        cache.onCanMatchResponse(shardId, new MinAndMax<>(300L, 400L));
+        assertFalse(cache.canMatch(shardId, range));
+        assertTrue(cache.canMatch(shardId, new ShardTimestampBoundsCache.TimestampRange(400L, 500L)));
+        assertTrue(cache.canMatch(new ShardId("index", "_na_", 1), range));
+
+        // stale bounds are not trusted
+        now.set(10_001L);
+        assertTrue(cache.canMatch(shardId, range));
+
+        cache.onCanMatchResponse(shardId, new MinAndMax<>(150L, 400L));
+        assertTrue(cache.canMatch(shardId, range));
+        cache.onCanMatchResponse(shardId, new MinAndMax<>(Long.MAX_VALUE, Long.MIN_VALUE));
+        assertFalse(cache.canMatch(shardId, range));
+        cache.onCanMatchResponse(shardId, null);
+        assertTrue(cache.canMatch(shardId, range));
+
+        cache.onCanMatchResponse(shardId, new MinAndMax<>(300L, 400L));
+        clusterSettings.applySettings(Settings.EMPTY);
+        assertFalse(cache.isEnabled());
+        assertTrue(cache.canMatch(shardId, range));
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TinyLfuCacheTests extends OpenSearchTestCase {
+
+    private static <K, V> CacheBuilder<K, V> builder() {
+        return CacheBuilder.<K, V>builder().setEvictionPolicy(EvictionPolicy.TINY_LFU);
+    }
+
+    public void testBuilderSelectsImplementation() {
+        assertThat(builder().build(), instanceOf(TinyLfuCache.class));
+        assertFalse(CacheBuilder.builder().build() instanceof TinyLfuCache);
+    }
+
+    public void testPutGetInvalidate() {
+        List<RemovalNotification<Integer, String>> notifications = new CopyOnWriteArrayList<>();
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder().removalListener(notifications::add).build();
+        int numberOfEntries = randomIntBetween(10, 1000);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        assertEquals(numberOfEntries, cache.count());
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertEquals(Integer.toString(i), cache.get(i));
+        }
+        assertNull(cache.get(numberOfEntries));
+        assertEquals(numberOfEntries, cache.stats().getHits());
+        assertEquals(1, cache.stats().getMisses());
+
+        cache.put(0, "replaced");
+        assertEquals("replaced", cache.get(0));
+        assertEquals(1, notifications.size());
+        assertEquals(RemovalReason.REPLACED, notifications.get(0).getRemovalReason());
+        assertEquals("0", notifications.get(0).getValue());
+
+        cache.invalidate(1, "not the value");
+        assertEquals("1", cache.get(1));
+        cache.invalidate(1, "1");
+        assertNull(cache.get(1));
+        cache.invalidate(2);
+        assertNull(cache.get(2));
+        assertEquals(numberOfEntries - 2, cache.count());
+        assertEquals(3, notifications.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weight());
+        assertEquals(numberOfEntries + 1, notifications.size());
+        for (RemovalNotification<Integer, String> notification : notifications.subList(1, notifications.size())) {
+            assertEquals(RemovalReason.INVALIDATED, notification.getRemovalReason());
+        }
+    }
+
+    public void testWeightIsBounded() {
+        final long maximumWeight = randomLongBetween(100, 1000);
+        AtomicLong evictions = new AtomicLong();
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder()
+            .setMaximumWeight(maximumWeight)
+            .weigher((k, v) -> v.length())
+            .removalListener(notification -> {
+                assertEquals(RemovalReason.EVICTED, notification.getRemovalReason());
+                evictions.incrementAndGet();
+            })
+            .build();
+        int numberOfEntries = randomIntBetween(1000, 5000);
+        long totalWeight = 0;
+        for (int i = 0; i < numberOfEntries; i++) {
+            String value = randomAlphaOfLengthBetween(1, 10);
+            totalWeight += value.length();
+            cache.put(i, value);
+            assertThat(cache.weight(), lessThanOrEqualTo(maximumWeight));
+        }
+        assertEquals(evictions.get(), cache.stats().getEvictions());
+        assertEquals(numberOfEntries, cache.count() + evictions.get());
+        long remainingWeight = 0;
+        for (String value : cache.values()) {
+            remainingWeight += value.length();
+        }
+        assertEquals(cache.weight(), remainingWeight);
+        assertThat(remainingWeight, lessThanOrEqualTo(totalWeight));
+    }
+
+    public void testFrequentlyAccessedEntriesSurviveScan() {
+        final int maximumWeight = 100;
+        Cache<Integer, Integer> cache = TinyLfuCacheTests.<Integer, Integer>builder().setMaximumWeight(maximumWeight).build();
+        final int hotKeys = 10;
+        for (int i = 0; i < hotKeys; i++) {
+            cache.put(i, i);
+        }
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < hotKeys; i++) {
+                assertEquals(Integer.valueOf(i), cache.get(i));
+            }
+            // make sure the recorded accesses are applied to the policy
+            cache.refresh();
+        }
+        // a scan over keys that are accessed exactly once would flush an LRU cache
+        for (int i = hotKeys; i < hotKeys + 10 * maximumWeight; i++) {
+            cache.put(i, i);
+        }
+        int survivors = 0;
+        for (int i = 0; i < hotKeys; i++) {
+            if (cache.get(i) != null) {
+                survivors++;
+            }
+        }
+        assertEquals(hotKeys, survivors);
+        assertEquals(maximumWeight, cache.count());
+    }
+
+    public void testComputeIfAbsentLoadsOnce() throws Exception {
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder().build();
+        AtomicInteger loads = new AtomicInteger();
+        int numberOfThreads = randomIntBetween(2, 16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        Set<String> values = Collections.synchronizedSet(new HashSet<>());
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    values.add(cache.computeIfAbsent(1, k -> {
+                        loads.incrementAndGet();
+                        return "loaded-" + k;
+                    }));
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(Set.of("loaded-1"), values);
+        assertEquals(1, cache.count());
+    }
+
+    public void testComputeIfAbsentFailure() {
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder().build();
+        ExecutionException e = expectThrows(ExecutionException.class, () -> cache.computeIfAbsent(1, k -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        expectThrows(ExecutionException.class, () -> cache.computeIfAbsent(1, k -> null));
+        assertEquals(0, cache.count());
+        assertNull(cache.get(1));
+    }
+
+    public void testExpiration() {
+        AtomicLong now = new AtomicLong();
+        List<RemovalNotification<Integer, String>> notifications = new ArrayList<>();
+        TinyLfuCache<Integer, String> cache = new TinyLfuCache<Integer, String>() {
+            @Override
+            protected long now() {
+                return now.get();
+            }
+        };
+        final boolean expireAfterAccess = randomBoolean();
+        if (expireAfterAccess) {
+            cache.setExpireAfterAccessNanos(10);
+        } else {
+            cache.setExpireAfterWriteNanos(10);
+        }
+        cache.setRemovalListener(notifications::add);
+        cache.put(1, "1");
+        cache.put(2, "2");
+        now.set(8);
+        assertEquals("1", cache.get(1));
+        now.set(15);
+        if (expireAfterAccess) {
+            // accessed at 8, not yet expired
+            assertEquals("1", cache.get(1));
+        } else {
+            assertNull(cache.get(1));
+        }
+        assertNull(cache.get(2));
+        now.set(30);
+        cache.refresh();
+        assertEquals(0, cache.count());
+        assertEquals(2, notifications.size());
+        for (RemovalNotification<Integer, String> notification : notifications) {
+            assertEquals(RemovalReason.EVICTED, notification.getRemovalReason());
+        }
+        assertEquals(2, cache.stats().getEvictions());
+    }
+
+    public void testIteratorRemove() {
+        List<RemovalNotification<Integer, String>> notifications = new ArrayList<>();
+        Cache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder().removalListener(notifications::add).build();
+        int numberOfEntries = randomIntBetween(10, 100);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        Set<Integer> seen = new HashSet<>();
+        for (Iterator<Integer> iterator = cache.keys().iterator(); iterator.hasNext();) {
+            Integer key = iterator.next();
+            assertTrue(seen.add(key));
+            if (key % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(numberOfEntries, seen.size());
+        assertEquals(numberOfEntries / 2, cache.count());
+        assertEquals(numberOfEntries - numberOfEntries / 2, notifications.size());
+        for (int i = 0; i < numberOfEntries; i++) {
+            assertEquals(i % 2 == 0 ? null : Integer.toString(i), cache.get(i));
+        }
+    }
+
+    public void testConcurrentReadsAndWrites() throws Exception {
+        final long maximumWeight = randomLongBetween(10, 100);
+        AtomicLong removals = new AtomicLong();
+        Cache<Integer, Integer> cache = TinyLfuCacheTests.<Integer, Integer>builder()
+            .setMaximumWeight(maximumWeight)
+            .removalListener(notification -> removals.incrementAndGet())
+            .build();
+        int numberOfThreads = randomIntBetween(2, 8);
+        int operations = randomIntBetween(1000, 5000);
+        AtomicLong puts = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < numberOfThreads; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < operations; i++) {
+                    int key = randomIntBetween(0, 200);
+                    if (randomBoolean()) {
+                        cache.put(key, key);
+                        puts.incrementAndGet();
+                    } else {
+                        Integer value = cache.get(key);
+                        assertTrue(value == null || value == key);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        cache.refresh();
+        assertThat(cache.weight(), lessThanOrEqualTo(maximumWeight));
+        assertEquals(cache.count(), cache.weight());
+        // every put either is still in the cache or was notified as replaced or evicted
+        assertEquals(puts.get(), cache.count() + removals.get());
+    }
+}
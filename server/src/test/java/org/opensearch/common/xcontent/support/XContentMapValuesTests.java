@@ -37,6 +37,7 @@ import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.ToXContentObject;
@@ -88,6 +89,26 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
             toMap(expected, xContentType, humanReadable),
             XContentMapValues.filter(toMap(actual, xContentType, humanReadable), sourceIncludes, sourceExcludes)
         );
+        assertEquals(
+            "Filtered content must be equal to the expected map",
+            toMap(expected, xContentType, humanReadable),
+            filterXContent(toBytes(actual, xContentType, humanReadable), xContentType, sourceIncludes, sourceExcludes)
+        );
+    }
+
+    private Map<String, Object> filterXContent(
+        BytesReference source,
+        XContentType xContentType,
+        String[] includes,
+        String[] excludes
+    ) throws IOException {
+        try (
+            XContentParser parser = createParser(xContentType.xContent(), source);
+            XContentBuilder builder = XContentBuilder.builder(xContentType.xContent())
+        ) {
+            XContentMapValues.filterXContent(includes, excludes).accept(parser, builder);
+            return convertToMap(BytesReference.bytes(builder), true, xContentType).v2();
+        }
     }
 
     @SuppressWarnings({ "unchecked" })
@@ -629,8 +650,98 @@ public class XContentMapValuesTests extends AbstractFilteringTestCase {
         assertEquals(expected, filtered);
     }
 
-    private static Map<String, Object> toMap(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
+    public void testFilterXContentMatchesFilter() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> source = randomSource(3);
+            List<String> paths = new ArrayList<>();
+            collectPaths("", source, paths);
+            String[] includes = randomPaths(paths);
+            String[] excludes = randomPaths(paths);
+            XContentType xContentType = randomFrom(XContentType.JSON, XContentType.SMILE, XContentType.CBOR);
+            BytesReference bytes = BytesReference.bytes(XContentBuilder.builder(xContentType.xContent()).map(source));
+            Map<String, Object> parsed = convertToMap(bytes, true, xContentType).v2();
+            assertEquals(
+                "includes " + Arrays.toString(includes) + " excludes " + Arrays.toString(excludes),
+                XContentMapValues.filter(parsed, includes, excludes),
+                filterXContent(bytes, xContentType, includes, excludes)
+            );
+        }
+    }
+
+    public void testFilterXContent() throws IOException {
+        BytesReference source = new BytesArray("{\"field\":\"value\",\"big\":{\"a\":[1,2,{\"b\":[[3]]}],\"c\":{}},\"other\":[{}]}");
+        assertEquals(Collections.singletonMap("field", "value"), filterXContent(source, XContentType.JSON, new String[] { "field" }, null));
+        List<Object> array = Arrays.asList(1, 2, Collections.singletonMap("b", List.of(List.of(3))));
+        assertEquals(
+            Collections.singletonMap("big", Collections.singletonMap("a", array)),
+            filterXContent(source, XContentType.JSON, new String[] { "big.a" }, null)
+        );
+        assertEquals(
+            Collections.singletonMap("big", Map.of("a", Arrays.asList(1, 2), "c", Collections.emptyMap())),
+            filterXContent(source, XContentType.JSON, new String[] { "big" }, new String[] { "big.a.b" })
+        );
+    }
+
+    private static Map<String, Object> randomSource(int depth) {
+        Map<String, Object> source = new HashMap<>();
+        int numFields = randomIntBetween(0, 4);
+        for (int i = 0; i < numFields; i++) {
+            source.put(randomFrom("a", "b", "ab", "a.b", "c"), randomValue(depth));
+        }
+        return source;
+    }
+
+    private static Object randomValue(int depth) {
+        switch (depth == 0 ? 0 : randomIntBetween(0, 3)) {
+            case 0:
+                return randomFrom(randomAlphaOfLength(3), randomInt(), randomBoolean(), null);
+            case 1:
+                return randomSource(depth - 1);
+            case 2:
+                List<Object> list = new ArrayList<>();
+                int size = randomIntBetween(0, 3);
+                for (int i = 0; i < size; i++) {
+                    list.add(randomValue(depth - 1));
+                }
+                return list;
+            default:
+                return Collections.emptyMap();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectPaths(String prefix, Object value, List<String> paths) {
+        if (value instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                String path = prefix + entry.getKey();
+                paths.add(path);
+                collectPaths(path + ".", entry.getValue(), paths);
+            }
+        } else if (value instanceof List) {
+            for (Object element : (List<Object>) value) {
+                collectPaths(prefix, element, paths);
+            }
+        }
+    }
+
+    private static String[] randomPaths(List<String> paths) {
+        if (paths.isEmpty() || randomBoolean()) {
+            return Strings.EMPTY_ARRAY;
+        }
+        String[] randomPaths = new String[randomIntBetween(1, 3)];
+        for (int i = 0; i < randomPaths.length; i++) {
+            String path = randomFrom(paths);
+            randomPaths[i] = randomBoolean() ? path : path.substring(0, randomIntBetween(0, path.length())) + "*";
+        }
+        return randomPaths;
+    }
+
+    private static BytesReference toBytes(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
         ToXContentObject toXContent = (builder, params) -> test.apply(builder);
-        return convertToMap(toXContent(toXContent, xContentType, humanReadable), true, xContentType).v2();
+        return toXContent(toXContent, xContentType, humanReadable);
+    }
+
+    private static Map<String, Object> toMap(Builder test, XContentType xContentType, boolean humanReadable) throws IOException {
+        return convertToMap(toBytes(test, xContentType, humanReadable), true, xContentType).v2();
     }
 }
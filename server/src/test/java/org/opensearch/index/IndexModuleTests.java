@@ -261,6 +261,8 @@ public class IndexModuleTests extends OpenSearchTestCase {
             translogFactorySupplier,
             () -> IndexSettings.DEFAULT_REFRESH_INTERVAL,
             () -> IndexSettings.DEFAULT_REMOTE_TRANSLOG_BUFFER_INTERVAL,
+            null,
+            null,
             DefaultRecoverySettings.INSTANCE
         );
     }
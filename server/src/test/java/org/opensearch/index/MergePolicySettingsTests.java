@@ -34,9 +34,12 @@ package org.opensearch.index;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
 import org.apache.lucene.index.NoMergePolicy;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
@@ -533,6 +536,63 @@ public class MergePolicySettingsTests extends OpenSearchTestCase {
         assertEquals(indexSettings.getMergePolicy(true).getNoCFSRatio(), 0.1, 0.0);
     }
 
+    public void testTimeSeriesMergePolicySettingsUpdate() throws IOException {
+        IndexSettings indexSettings = indexSettings(
+            Settings.builder()
+                .put(IndexSettings.INDEX_MERGE_POLICY.getKey(), IndexSettings.IndexMergePolicy.TIME_SERIES.getValue())
+                .build()
+        );
+        assertTrue(indexSettings.getMergePolicy(true) instanceof TimeSeriesMergePolicy);
+        assertTrue(indexSettings.getMergePolicy(false) instanceof TimeSeriesMergePolicy);
+        TimeSeriesMergePolicy mergePolicy = (TimeSeriesMergePolicy) indexSettings.getMergePolicy(true);
+        assertEquals(0, mergePolicy.getMaxMergeAgeMillis());
+        assertEquals("@timestamp", mergePolicy.getTimestampField());
+        // the timestamp isn't mapped yet
+        assertNull(mergePolicy.getTimestampResolution());
+
+        indexSettings.updateIndexMetadata(
+            newIndexMeta(
+                "index",
+                Settings.builder()
+                    .put(IndexSettings.INDEX_MERGE_POLICY.getKey(), "time_series")
+                    .put(TimeSeriesMergePolicyProvider.MAX_MERGE_AGE_SETTING.getKey(), "7d")
+                    .put(LogByteSizeMergePolicyProvider.INDEX_LBS_NO_CFS_RATIO_SETTING.getKey(), 0.5)
+                    .build()
+            )
+        );
+        assertEquals(TimeValue.timeValueDays(7).millis(), mergePolicy.getMaxMergeAgeMillis());
+        // the log byte size settings apply to the wrapped policy
+        assertEquals(mergePolicy.getNoCFSRatio(), 0.5, 0.0);
+
+        // the bounds are read with the resolution the timestamp field is mapped with
+        indexSettings = new IndexSettings(
+            newIndexMeta(
+                "index",
+                Settings.builder()
+                    .put(IndexSettings.INDEX_MERGE_POLICY.getKey(), "time_series")
+                    .put(TimeSeriesMergePolicyProvider.TIMESTAMP_FIELD_SETTING.getKey(), "event.created")
+                    .build()
+            ),
+            Settings.EMPTY
+        );
+        indexSettings.setTimeSeriesFieldTypeLookup(
+            field -> field.equals("event.created")
+                ? new DateFieldMapper.DateFieldType(field, DateFieldMapper.Resolution.NANOSECONDS)
+                : new KeywordFieldMapper.KeywordFieldType(field)
+        );
+        mergePolicy = (TimeSeriesMergePolicy) indexSettings.getMergePolicy(true);
+        assertEquals("event.created", mergePolicy.getTimestampField());
+        assertEquals(DateFieldMapper.Resolution.NANOSECONDS, mergePolicy.getTimestampResolution());
+
+        // node setting TIME_SERIES_INDEX_MERGE_POLICY is set as time_series
+        Settings nodeSettings = Settings.builder()
+            .put(IndexSettings.TIME_SERIES_INDEX_MERGE_POLICY.getKey(), IndexSettings.IndexMergePolicy.TIME_SERIES.getValue())
+            .build();
+        indexSettings = new IndexSettings(newIndexMeta("test", Settings.EMPTY), nodeSettings);
+        assertTrue(indexSettings.getMergePolicy(true) instanceof TimeSeriesMergePolicy);
+        assertTrue(indexSettings.getMergePolicy(false) instanceof OpenSearchTieredMergePolicy);
+    }
+
     public Settings build(String value) {
         return Settings.builder().put(TieredMergePolicyProvider.INDEX_COMPOUND_FORMAT_SETTING.getKey(), value).build();
     }
@@ -16,6 +16,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ShardIndexingPressureStoreTests extends OpenSearchTestCase {
 
@@ -160,6 +161,8 @@ public class ShardIndexingPressureStoreTests extends OpenSearchTestCase {
         assertEquals(0, store.getShardIndexingPressureHotStore().size());
         assertEquals(1, store.getShardIndexingPressureColdStore().size());
         assertEquals(tracker, store.getShardIndexingPressureColdStore().get(testShardId));
+        assertEquals(0, store.getHotStorePrimaryAndCoordinatingLimits());
+        assertEquals(0, store.getHotStoreReplicaLimits());
     }
 
     public void testTrackerConcurrentEvictionFromColdStore() throws Exception {
@@ -183,4 +186,63 @@ public class ShardIndexingPressureStoreTests extends OpenSearchTestCase {
         assertEquals(0, store.getShardIndexingPressureHotStore().size());
         assertTrue(store.getShardIndexingPressureColdStore().size() <= maxColdStoreSize + 1);
     }
+
+    public void testHotStoreLimitsFollowTrackers() {
+        long primaryAndCoordinatingBaseLimits = shardIndexingPressureSettings.getShardPrimaryAndCoordinatingBaseLimits();
+        long replicaBaseLimits = shardIndexingPressureSettings.getShardReplicaBaseLimits();
+        ShardIndexingPressureTracker tracker1 = store.getShardIndexingPressureTracker(testShardId);
+        ShardIndexingPressureTracker tracker2 = store.getShardIndexingPressureTracker(new ShardId("index", "uuid", 1));
+        assertEquals(2 * primaryAndCoordinatingBaseLimits, store.getHotStorePrimaryAndCoordinatingLimits());
+        assertEquals(2 * replicaBaseLimits, store.getHotStoreReplicaLimits());
+
+        assertTrue(tracker1.compareAndSetPrimaryAndCoordinatingLimits(primaryAndCoordinatingBaseLimits, 1024));
+        assertTrue(tracker2.compareAndSetReplicaLimits(replicaBaseLimits, 2048));
+        assertFalse(tracker2.compareAndSetReplicaLimits(replicaBaseLimits, 4096));
+        assertEquals(1024 + primaryAndCoordinatingBaseLimits, store.getHotStorePrimaryAndCoordinatingLimits());
+        assertEquals(2048 + replicaBaseLimits, store.getHotStoreReplicaLimits());
+
+        // limits that change while the tracker is out of the hot store are only accounted for once it is back
+        store.tryTrackerCleanupFromHotStore(tracker1, () -> true);
+        assertEquals(primaryAndCoordinatingBaseLimits, store.getHotStorePrimaryAndCoordinatingLimits());
+        assertEquals(2048, store.getHotStoreReplicaLimits());
+        assertTrue(tracker1.compareAndSetPrimaryAndCoordinatingLimits(1024, 512));
+        assertEquals(primaryAndCoordinatingBaseLimits, store.getHotStorePrimaryAndCoordinatingLimits());
+        assertEquals(tracker1, store.getShardIndexingPressureTracker(testShardId));
+        assertEquals(512 + primaryAndCoordinatingBaseLimits, store.getHotStorePrimaryAndCoordinatingLimits());
+        assertEquals(2048 + replicaBaseLimits, store.getHotStoreReplicaLimits());
+
+        store.tryTrackerCleanupFromHotStore(tracker1, () -> true);
+        store.tryTrackerCleanupFromHotStore(tracker2, () -> true);
+        assertEquals(0, store.getHotStorePrimaryAndCoordinatingLimits());
+        assertEquals(0, store.getHotStoreReplicaLimits());
+    }
+
+    public void testHotStoreLimitsWhenRemovalRacesInsertion() {
+        AtomicLong hotStorePrimaryAndCoordinatingLimits = new AtomicLong();
+        AtomicLong hotStoreReplicaLimits = new AtomicLong();
+        ShardIndexingPressureTracker tracker = new ShardIndexingPressureTracker(testShardId, 100, 150);
+
+        // re-inserted into the hot store before the tracker left it after its removal
+        tracker.enterHotStore(hotStorePrimaryAndCoordinatingLimits, hotStoreReplicaLimits);
+        tracker.enterHotStore(hotStorePrimaryAndCoordinatingLimits, hotStoreReplicaLimits);
+        assertTrue(tracker.compareAndSetPrimaryAndCoordinatingLimits(100, 200));
+        assertEquals(200, hotStorePrimaryAndCoordinatingLimits.get());
+        tracker.leaveHotStore();
+        assertTrue(tracker.isInHotStore());
+        assertEquals(200, hotStorePrimaryAndCoordinatingLimits.get());
+        assertEquals(150, hotStoreReplicaLimits.get());
+
+        // removed from the hot store before the tracker entered it after its insertion
+        tracker.leaveHotStore();
+        tracker.leaveHotStore();
+        assertFalse(tracker.isInHotStore());
+        assertTrue(tracker.compareAndSetReplicaLimits(150, 300));
+        assertEquals(300, tracker.getReplicaLimits());
+        assertEquals(0, hotStoreReplicaLimits.get());
+        tracker.enterHotStore(hotStorePrimaryAndCoordinatingLimits, hotStoreReplicaLimits);
+        assertFalse(tracker.isInHotStore());
+        assertEquals(0, hotStorePrimaryAndCoordinatingLimits.get());
+        assertEquals(0, hotStoreReplicaLimits.get());
+        assertEquals(200, tracker.getPrimaryAndCoordinatingLimits());
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+
+public class TimeSeriesMergePolicyTests extends OpenSearchTestCase {
+
+    public void testOrdersSegmentsByMinTimestamp() throws IOException {
+        try (Directory dir = newDirectory()) {
+            SegmentInfos infos = writeSegments(dir, 4);
+            setBounds(infos.info(0), 3000, 3999);
+            setBounds(infos.info(1), 1000, 1999);
+            setBounds(infos.info(3), 2000, 2999);
+            // the segment without bounds has been flushed and holds the most recent documents
+            TimeSeriesMergePolicy policy = new TimeSeriesMergePolicy(new LogByteSizeMergePolicy(), "@timestamp", 0, () -> 10_000);
+            assertThat(names(policy.mergeCandidates(infos)), contains("_1", "_3", "_0", "_2"));
+        }
+    }
+
+    public void testExcludesSegmentsPastMaxMergeAge() throws IOException {
+        try (Directory dir = newDirectory()) {
+            SegmentInfos infos = writeSegments(dir, 3);
+            setBounds(infos.info(0), 1000, 1999);
+            setBounds(infos.info(1), 2000, 8999);
+            TimeSeriesMergePolicy policy = new TimeSeriesMergePolicy(new LogByteSizeMergePolicy(), "@timestamp", 5000, () -> 10_000);
+            assertThat(names(policy.mergeCandidates(infos)), contains("_1", "_2"));
+
+            policy.setMaxMergeAgeMillis(0);
+            assertThat(names(policy.mergeCandidates(infos)), contains("_0", "_1", "_2"));
+        }
+    }
+
+    private static SegmentInfos writeSegments(Directory dir, int segments) throws IOException {
+        IndexWriterConfig iwc = new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+        try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+            for (int segment = 0; segment < segments; segment++) {
+                Document doc = new Document();
+                doc.add(new StringField("id", Integer.toString(segment), Field.Store.NO));
+                writer.addDocument(doc);
+                writer.flush();
+            }
+            writer.commit();
+        }
+        return SegmentInfos.readLatestCommit(dir);
+    }
+
+    private static void setBounds(SegmentCommitInfo info, long min, long max) {
+        info.info.putAttribute(TimeSeriesMergePolicy.MIN_TIMESTAMP_ATTRIBUTE, Long.toString(min));
+        info.info.putAttribute(TimeSeriesMergePolicy.MAX_TIMESTAMP_ATTRIBUTE, Long.toString(max));
+    }
+
+    private static List<String> names(SegmentInfos infos) {
+        List<String> names = new ArrayList<>();
+        for (SegmentCommitInfo info : infos) {
+            names.add(info.info.name);
+        }
+        return names;
+    }
+}
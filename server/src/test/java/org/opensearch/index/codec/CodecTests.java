@@ -48,6 +48,10 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.codec.customcodecs.Lucene95CustomCodec;
+import org.opensearch.index.codec.customcodecs.Lucene95CustomStoredFieldsFormat;
+import org.opensearch.index.codec.customcodecs.ZstdCodec;
+import org.opensearch.index.codec.customcodecs.ZstdNoDictCodec;
 import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.similarity.SimilarityService;
@@ -93,6 +97,34 @@ public class CodecTests extends OpenSearchTestCase {
         assert codec instanceof PerFieldMappingPostingFormatCodec;
     }
 
+    public void testZstd() throws Exception {
+        Codec codec = createCodecService(false).codec("zstd");
+        assertStoredFieldsCompressionEquals(Lucene95CustomCodec.Mode.ZSTD, codec);
+        assertThat(codec, instanceOf(ZstdCodec.class));
+    }
+
+    public void testZstdNoDict() throws Exception {
+        Codec codec = createCodecService(false).codec("zstd_no_dict");
+        assertStoredFieldsCompressionEquals(Lucene95CustomCodec.Mode.ZSTD_NO_DICT, codec);
+        assertThat(codec, instanceOf(ZstdNoDictCodec.class));
+    }
+
+    public void testZstdMapperServiceNull() throws Exception {
+        Codec codec = createCodecService(true).codec("zstd");
+        assertStoredFieldsCompressionEquals(Lucene95CustomCodec.Mode.ZSTD, codec);
+        codec = createCodecService(true).codec("zstd_no_dict");
+        assertStoredFieldsCompressionEquals(Lucene95CustomCodec.Mode.ZSTD_NO_DICT, codec);
+    }
+
+    public void testZstdWithCompressionLevel() {
+        final Settings settings = Settings.builder()
+            .put(INDEX_CODEC_COMPRESSION_LEVEL_SETTING.getKey(), randomIntBetween(1, 6))
+            .put(EngineConfig.INDEX_CODEC_SETTING.getKey(), randomFrom(CodecService.ZSTD_CODEC, CodecService.ZSTD_NO_DICT_CODEC))
+            .build();
+        final IndexScopedSettings indexScopedSettings = new IndexScopedSettings(settings, IndexScopedSettings.BUILT_IN_INDEX_SETTINGS);
+        indexScopedSettings.validate(settings, true);
+    }
+
     public void testBestCompressionWithCompressionLevel() {
         final Settings settings = Settings.builder()
             .put(INDEX_CODEC_COMPRESSION_LEVEL_SETTING.getKey(), randomIntBetween(1, 6))
@@ -173,6 +205,13 @@ public class CodecTests extends OpenSearchTestCase {
         assertEquals(expected, Lucene95Codec.Mode.valueOf(v));
     }
 
+    private void assertStoredFieldsCompressionEquals(Lucene95CustomCodec.Mode expected, Codec actual) throws Exception {
+        SegmentReader sr = getSegmentReader(actual);
+        String v = sr.getSegmentInfo().info.getAttribute(Lucene95CustomStoredFieldsFormat.MODE_KEY);
+        assertNotNull(v);
+        assertEquals(expected, Lucene95CustomCodec.Mode.valueOf(v));
+    }
+
     private CodecService createCodecService(boolean isMapperServiceNull) throws IOException {
         Settings nodeSettings = Settings.builder().put(Environment.PATH_HOME_SETTING.getKey(), createTempDir()).build();
         if (isMapperServiceNull) {
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.compressing.CompressionMode;
+import org.apache.lucene.codecs.compressing.Compressor;
+import org.apache.lucene.codecs.compressing.Decompressor;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.util.LuceneTestCase.SuppressCodecs;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@SuppressCodecs("*") // we test our own codecs, never get a random one here
+public class ZstdCompressionModeTests extends OpenSearchTestCase {
+
+    public void testRoundTrip() throws IOException {
+        final CompressionMode mode = randomBoolean()
+            ? new ZstdCompressionMode(randomIntBetween(1, 6))
+            : new ZstdNoDictCompressionMode(randomIntBetween(1, 6));
+        final byte[] original = randomCompressibleBytes(randomIntBetween(0, 1 << 18));
+
+        final ByteBuffersDataOutput compressed = new ByteBuffersDataOutput();
+        try (Compressor compressor = mode.newCompressor()) {
+            final ByteBuffersDataOutput input = new ByteBuffersDataOutput();
+            input.writeBytes(original, original.length);
+            compressor.compress(input.toDataInput(), compressed);
+        }
+        final byte[] compressedBytes = compressed.toArrayCopy();
+
+        final Decompressor decompressor = mode.newDecompressor();
+        final int offset = randomIntBetween(0, original.length);
+        final int length = randomIntBetween(0, original.length - offset);
+        final BytesRef bytes = new BytesRef();
+        decompressor.decompress(new ByteArrayDataInput(compressedBytes), original.length, offset, length, bytes);
+        assertEquals(new BytesRef(original, offset, length), bytes);
+
+        // a clone decompresses the whole content independently
+        final BytesRef all = new BytesRef();
+        decompressor.clone().decompress(new ByteArrayDataInput(compressedBytes), original.length, 0, original.length, all);
+        assertEquals(new BytesRef(original), all);
+    }
+
+    public void testStoredFieldsRoundTrip() throws IOException {
+        final Codec codec = randomBoolean() ? new ZstdCodec(randomIntBetween(1, 6)) : new ZstdNoDictCodec(randomIntBetween(1, 6));
+        final int numDocs = randomIntBetween(1, 500);
+        final String[] sources = new String[numDocs];
+        try (Directory dir = newDirectory()) {
+            IndexWriterConfig iwc = newIndexWriterConfig(null);
+            iwc.setCodec(codec);
+            try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+                for (int i = 0; i < numDocs; i++) {
+                    sources[i] = "{\"id\":" + i + ",\"message\":\"" + randomAlphaOfLengthBetween(0, 2000) + "\"}";
+                    Document doc = new Document();
+                    doc.add(new StoredField("id", i));
+                    doc.add(new StoredField("_source", new BytesRef(sources[i])));
+                    writer.addDocument(doc);
+                }
+                if (randomBoolean()) {
+                    writer.forceMerge(1);
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertEquals(numDocs, reader.numDocs());
+                final StoredFields storedFields = reader.storedFields();
+                for (int i = 0; i < 20; i++) {
+                    final Document doc = storedFields.document(randomIntBetween(0, numDocs - 1));
+                    final int id = doc.getField("id").numericValue().intValue();
+                    assertEquals(sources[id], doc.getBinaryValue("_source").utf8ToString());
+                }
+            }
+        }
+    }
+
+    private static byte[] randomCompressibleBytes(int length) {
+        final byte[] bytes = new byte[length];
+        final byte[] alphabet = randomAlphaOfLength(8).getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < length; i++) {
+            bytes[i] = alphabet[random().nextInt(alphabet.length)];
+        }
+        return bytes;
+    }
+}
@@ -55,6 +55,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.nullValue;
 
 public class LiveVersionMapTests extends OpenSearchTestCase {
@@ -118,6 +119,73 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         assertThat(map.getRefreshingBytes(), equalTo(0L));
     }
 
+    public void testCompactVersionMapUsesLessRam() throws IOException {
+        LiveVersionMap map = new LiveVersionMap(false);
+        LiveVersionMap compactMap = new LiveVersionMap(true);
+        for (int i = 0; i < 10000; ++i) {
+            BytesRef uid = uid(TestUtil.randomSimpleString(random(), 10, 20));
+            IndexVersionValue version = randomIndexVersionValue();
+            try (Releasable r = map.acquireLock(uid)) {
+                map.putIndexUnderLock(uid, version);
+            }
+            try (Releasable r = compactMap.acquireLock(uid)) {
+                compactMap.putIndexUnderLock(uid, version);
+                assertEquals(version, compactMap.getUnderLock(uid));
+            }
+        }
+        assertEquals(map.getAllCurrent(), compactMap.getAllCurrent());
+        assertThat(compactMap.ramBytesUsed(), lessThan(map.ramBytesUsed()));
+
+        compactMap.beforeRefresh();
+        assertThat(compactMap.getRefreshingBytes(), greaterThan(0L));
+        compactMap.afterRefresh(true);
+        assertThat(compactMap.getRefreshingBytes(), equalTo(0L));
+        assertThat(compactMap.getAllCurrent().entrySet(), empty());
+    }
+
+    public void testCompactVersionMapLookupsWhileGrowing() throws Exception {
+        LiveVersionMap map = new LiveVersionMap(true);
+        int numThreads = randomIntBetween(2, 5);
+        int idsPerThread = randomIntBetween(1000, 5000);
+        Thread[] threads = new Thread[numThreads];
+        CountDownLatch startGun = new CountDownLatch(numThreads);
+        AtomicBoolean failed = new AtomicBoolean();
+        for (int j = 0; j < threads.length; j++) {
+            final int thread = j;
+            threads[j] = new Thread(() -> {
+                startGun.countDown();
+                try {
+                    startGun.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                // the other threads keep adding ids, so the segments are copied into bigger arrays under the lookups
+                for (int i = 0; i < idsPerThread && failed.get() == false; i++) {
+                    BytesRef uid = uid(thread + "_" + i);
+                    IndexVersionValue version = randomIndexVersionValue();
+                    try (Releasable r = map.acquireLock(uid)) {
+                        map.putIndexUnderLock(uid, version);
+                        if (version.equals(map.getUnderLock(uid)) == false) {
+                            failed.set(true);
+                        }
+                    }
+                    BytesRef previous = uid(thread + "_" + randomIntBetween(0, i));
+                    try (Releasable r = map.acquireLock(previous)) {
+                        if (map.getUnderLock(previous) == null) {
+                            failed.set(true);
+                        }
+                    }
+                }
+            });
+            threads[j].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(failed.get());
+        assertEquals(numThreads * idsPerThread, map.getAllCurrent().size());
+    }
+
     private BytesRef uid(String string) {
         BytesRefBuilder builder = new BytesRefBuilder();
         builder.copyChars(string);
@@ -126,7 +194,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testBasics() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         try (Releasable r = map.acquireLock(uid("test"))) {
             Translog.Location tlogLoc = randomTranslogLocation();
             map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 1, 1, 1));
@@ -158,7 +226,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         List<BytesRef> keyList = new ArrayList<>(keySet);
         ConcurrentHashMap<BytesRef, VersionValue> values = new ConcurrentHashMap<>();
         ConcurrentHashMap<BytesRef, DeleteVersionValue> deletes = new ConcurrentHashMap<>();
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         int numThreads = randomIntBetween(2, 5);
 
         Thread[] threads = new Thread[numThreads];
@@ -296,7 +364,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testCarryOnSafeAccess() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         assertFalse(map.isUnsafe());
         assertFalse(map.isSafeAccessRequired());
         map.enforceSafeAccess();
@@ -328,7 +396,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRefreshTransition() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         try (Releasable r = map.acquireLock(uid("1"))) {
             map.maybePutIndexUnderLock(uid("1"), randomIndexVersionValue());
             assertTrue(map.isUnsafe());
@@ -356,7 +424,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testAddAndDeleteRefreshConcurrently() throws IOException, InterruptedException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         int numIters = randomIntBetween(1000, 5000);
         AtomicBoolean done = new AtomicBoolean(false);
         AtomicLong version = new AtomicLong();
@@ -413,7 +481,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testPruneTombstonesWhileLocked() throws InterruptedException, IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         BytesRef uid = uid("1");
 
         try (Releasable ignore = map.acquireLock(uid)) {
@@ -432,7 +500,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRandomlyIndexDeleteAndRefresh() throws Exception {
-        final LiveVersionMap versionMap = new LiveVersionMap();
+        final LiveVersionMap versionMap = new LiveVersionMap(randomBoolean());
         final BytesRef uid = uid("1");
         final long versions = between(10, 1000);
         VersionValue latestVersion = null;
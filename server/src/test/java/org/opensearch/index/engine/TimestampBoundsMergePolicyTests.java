@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.time.DateUtils;
+import org.opensearch.index.TimeSeriesMergePolicy;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TimestampBoundsMergePolicyTests extends OpenSearchTestCase {
+
+    public void testRecordsBoundsOfMergedSegments() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, writerConfig(() -> DateFieldMapper.Resolution.MILLISECONDS))) {
+                final long minTimestamp = randomLongBetween(0, 1_000_000);
+                long maxTimestamp = minTimestamp;
+                long timestamp = minTimestamp;
+                final int segments = randomIntBetween(2, 5);
+                for (int segment = 0; segment < segments; segment++) {
+                    for (int i = 0; i < 10; i++) {
+                        Document doc = new Document();
+                        doc.add(new LongPoint("@timestamp", timestamp));
+                        writer.addDocument(doc);
+                        maxTimestamp = timestamp;
+                        timestamp += randomIntBetween(1, 1000);
+                    }
+                    // a document without timestamp doesn't affect the bounds
+                    Document doc = new Document();
+                    doc.add(new StringField("id", Integer.toString(segment), Field.Store.NO));
+                    writer.addDocument(doc);
+                    writer.flush();
+                }
+                writer.commit();
+                for (SegmentCommitInfo info : SegmentInfos.readLatestCommit(dir)) {
+                    assertThat(info.info.getAttribute(TimeSeriesMergePolicy.MIN_TIMESTAMP_ATTRIBUTE), nullValue());
+                }
+
+                writer.forceMerge(1);
+                writer.commit();
+                SegmentInfos infos = SegmentInfos.readLatestCommit(dir);
+                assertThat(infos.size(), equalTo(1));
+                SegmentCommitInfo merged = infos.info(0);
+                assertThat(merged.info.getAttribute(TimeSeriesMergePolicy.MIN_TIMESTAMP_ATTRIBUTE), equalTo(Long.toString(minTimestamp)));
+                assertThat(merged.info.getAttribute(TimeSeriesMergePolicy.MAX_TIMESTAMP_ATTRIBUTE), equalTo(Long.toString(maxTimestamp)));
+            }
+        }
+    }
+
+    public void testNoBoundsWithoutTimestamps() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, writerConfig(() -> DateFieldMapper.Resolution.MILLISECONDS))) {
+                for (int segment = 0; segment < 3; segment++) {
+                    Document doc = new Document();
+                    doc.add(new StringField("id", Integer.toString(segment), Field.Store.NO));
+                    writer.addDocument(doc);
+                    writer.flush();
+                }
+                writer.forceMerge(1);
+                writer.commit();
+                SegmentInfos infos = SegmentInfos.readLatestCommit(dir);
+                assertThat(infos.size(), equalTo(1));
+                assertThat(infos.info(0).info.getAttribute(TimeSeriesMergePolicy.MIN_TIMESTAMP_ATTRIBUTE), nullValue());
+                assertThat(infos.info(0).info.getAttribute(TimeSeriesMergePolicy.MAX_TIMESTAMP_ATTRIBUTE), nullValue());
+            }
+        }
+    }
+
+    public void testRecordsBoundsOfNanosecondTimestampsInMillis() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, writerConfig(() -> DateFieldMapper.Resolution.NANOSECONDS))) {
+                final long minMillis = randomLongBetween(0, 1_000_000);
+                final long maxMillis = minMillis + randomIntBetween(1, 1000);
+                for (long millis : new long[] { minMillis, maxMillis }) {
+                    Document doc = new Document();
+                    doc.add(new LongPoint("@timestamp", DateUtils.toNanoSeconds(millis) + randomIntBetween(0, 999_999)));
+                    writer.addDocument(doc);
+                    writer.flush();
+                }
+                writer.forceMerge(1);
+                writer.commit();
+                SegmentInfos infos = SegmentInfos.readLatestCommit(dir);
+                assertThat(infos.size(), equalTo(1));
+                SegmentInfo merged = infos.info(0).info;
+                assertThat(merged.getAttribute(TimeSeriesMergePolicy.MIN_TIMESTAMP_ATTRIBUTE), equalTo(Long.toString(minMillis)));
+                assertThat(merged.getAttribute(TimeSeriesMergePolicy.MAX_TIMESTAMP_ATTRIBUTE), equalTo(Long.toString(maxMillis)));
+            }
+        }
+    }
+
+    public void testNoBoundsWithoutLongTimestamps() throws IOException {
+        final boolean dateField = randomBoolean();
+        final Supplier<DateFieldMapper.Resolution> resolution = () -> dateField ? DateFieldMapper.Resolution.MILLISECONDS : null;
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, writerConfig(resolution))) {
+                for (int segment = 0; segment < 3; segment++) {
+                    Document doc = new Document();
+                    // either the field isn't mapped as a date, or its points aren't one dimensional longs
+                    doc.add(dateField ? new IntPoint("@timestamp", segment) : new LongPoint("@timestamp", segment));
+                    writer.addDocument(doc);
+                    writer.flush();
+                }
+                writer.forceMerge(1);
+                writer.commit();
+                SegmentInfos infos = SegmentInfos.readLatestCommit(dir);
+                assertThat(infos.size(), equalTo(1));
+                assertThat(infos.info(0).info.getAttribute(TimeSeriesMergePolicy.MIN_TIMESTAMP_ATTRIBUTE), nullValue());
+                assertThat(infos.info(0).info.getAttribute(TimeSeriesMergePolicy.MAX_TIMESTAMP_ATTRIBUTE), nullValue());
+            }
+        }
+    }
+
+    private static IndexWriterConfig writerConfig(Supplier<DateFieldMapper.Resolution> resolution) {
+        MergePolicy mergePolicy = new TimestampBoundsMergePolicy("@timestamp", resolution, new LogByteSizeMergePolicy());
+        return new IndexWriterConfig().setMergePolicy(mergePolicy);
+    }
+}
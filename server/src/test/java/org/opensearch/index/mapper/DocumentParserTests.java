@@ -163,6 +163,51 @@ public class DocumentParserTests extends MapperServiceTestCase {
         assertEquals("789", fields[5].stringValue());
     }
 
+    public void testParsePlanResolvesMappedFields() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("foo");
+            {
+                b.startObject("properties");
+                {
+                    b.startObject("bar").field("type", "integer").endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("nested_foo").field("type", "nested");
+            {
+                b.startObject("properties");
+                {
+                    b.startObject("bar").field("type", "keyword").endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+        }));
+
+        DocumentParsePlan plan = mapper.parsePlan();
+        ObjectMapper foo = mapper.objectMappers().get("foo");
+        ObjectMapper nestedFoo = mapper.objectMappers().get("nested_foo");
+        assertSame(foo, plan.field(mapper.root(), "foo").mapper());
+        assertArrayEquals(new String[] { "foo" }, plan.field(mapper.root(), "foo").paths());
+        assertSame(mapper.mappers().getMapper("foo.bar"), plan.field(foo, "bar").mapper());
+        assertSame(mapper.mappers().getMapper("nested_foo.bar"), plan.field(nestedFoo, "bar").mapper());
+        // dotted names, unmapped fields and metadata fields are resolved by the parser
+        assertNull(plan.field(mapper.root(), "foo.bar"));
+        assertNull(plan.field(mapper.root(), "bar"));
+        assertNull(plan.field(mapper.root(), IdFieldMapper.NAME));
+
+        ParsedDocument doc = mapper.parse(source(b -> {
+            b.startObject("foo").field("bar", 1).endObject();
+            b.field("foo.bar", 2);
+            b.startObject("nested_foo").field("bar", "value").endObject();
+            b.field("new_field", "value");
+        }));
+        assertEquals(4, doc.rootDoc().getFields("foo.bar").length);
+        assertEquals("value", doc.docs().get(0).getField("nested_foo.bar").binaryValue().utf8ToString());
+        assertNotNull(doc.dynamicMappingsUpdate());
+    }
+
     public void testDotsWithExistingNestedMapper() throws Exception {
         DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> {
             b.field("type", "nested");
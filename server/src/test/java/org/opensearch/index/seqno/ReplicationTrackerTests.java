@@ -1890,6 +1890,7 @@ public class ReplicationTrackerTests extends ReplicationTrackerTestCase {
         for (SegmentReplicationShardStats shardStat : groupStats) {
             assertEquals(2, shardStat.getCheckpointsBehindCount());
             assertEquals(150L, shardStat.getBytesBehindCount());
+            assertEquals(1L, shardStat.getLastCompletedReplicationBytes());
         }
 
         for (String id : expectedIds) {
@@ -1904,6 +1905,7 @@ public class ReplicationTrackerTests extends ReplicationTrackerTestCase {
         for (SegmentReplicationShardStats shardStat : groupStats) {
             assertEquals(0, shardStat.getCheckpointsBehindCount());
             assertEquals(0L, shardStat.getBytesBehindCount());
+            assertEquals(150L, shardStat.getLastCompletedReplicationBytes());
         }
     }
 
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.indices.RefreshBudget;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class AdaptiveRefreshPolicyTests extends OpenSearchTestCase {
+
+    private static final long MIN_INTERVAL = 1000;
+    private static final long MAX_INTERVAL = 30_000;
+
+    public void testRarelySearchedShardRefreshesAtMaxInterval() {
+        AdaptiveRefreshPolicy policy = new AdaptiveRefreshPolicy(null, 0);
+        for (long now = MIN_INTERVAL; now < MAX_INTERVAL; now += MIN_INTERVAL) {
+            assertFalse(policy.refreshDue(now, MIN_INTERVAL, MAX_INTERVAL, 0));
+            assertThat(policy.getIntervalMillis(), equalTo(MAX_INTERVAL));
+        }
+        assertTrue(policy.refreshDue(MAX_INTERVAL, MIN_INTERVAL, MAX_INTERVAL, 0));
+        assertFalse(policy.refreshDue(MAX_INTERVAL + MIN_INTERVAL, MIN_INTERVAL, MAX_INTERVAL, 0));
+    }
+
+    public void testFrequentlySearchedShardRefreshesAtMinInterval() {
+        AdaptiveRefreshPolicy policy = new AdaptiveRefreshPolicy(null, 0);
+        long now = 0;
+        for (int i = 0; i < 10; i++) {
+            for (int search = 0; search < 10; search++) {
+                policy.onSearcherAccess();
+            }
+            now += MIN_INTERVAL;
+            policy.refreshDue(now, MIN_INTERVAL, MAX_INTERVAL, 0);
+        }
+        assertThat(policy.getIntervalMillis(), equalTo(MIN_INTERVAL));
+        now += MIN_INTERVAL;
+        assertTrue(policy.refreshDue(now, MIN_INTERVAL, MAX_INTERVAL, 0));
+    }
+
+    public void testIntervalGrowsOnceSearchesStop() {
+        AdaptiveRefreshPolicy policy = new AdaptiveRefreshPolicy(null, 0);
+        long now = 0;
+        for (int i = 0; i < 5; i++) {
+            policy.onSearcherAccess();
+            now += MIN_INTERVAL;
+            policy.refreshDue(now, MIN_INTERVAL, MAX_INTERVAL, 0);
+        }
+        final long searchedInterval = policy.getIntervalMillis();
+        assertThat(searchedInterval, lessThan(MAX_INTERVAL));
+        for (int i = 0; i < 30; i++) {
+            now += MIN_INTERVAL;
+            policy.refreshDue(now, MIN_INTERVAL, MAX_INTERVAL, 0);
+        }
+        assertThat(searchedInterval, lessThan(policy.getIntervalMillis()));
+    }
+
+    public void testExhaustedBudgetDefersRefreshUntilMaxInterval() {
+        Settings settings = Settings.builder().put(RefreshBudget.MAX_BYTES_PER_SEC_SETTING.getKey(), "1kb").build();
+        RefreshBudget budget = new RefreshBudget(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        AdaptiveRefreshPolicy policy = new AdaptiveRefreshPolicy(budget, 0);
+        long now = 0;
+        // keep the shard busy enough to pick the min interval
+        for (int i = 0; i < 10; i++) {
+            for (int search = 0; search < 10; search++) {
+                policy.onSearcherAccess();
+            }
+            now += MIN_INTERVAL;
+            policy.refreshDue(now, MIN_INTERVAL, MAX_INTERVAL, 0);
+        }
+        // a large refresh exhausts the budget for the following seconds
+        now += MIN_INTERVAL;
+        assertTrue(policy.refreshDue(now, MIN_INTERVAL, MAX_INTERVAL, 10 * 1024));
+        final long lastRefresh = now;
+        now += MIN_INTERVAL;
+        assertFalse(policy.refreshDue(now, MIN_INTERVAL, MAX_INTERVAL, 1024));
+        // the refresh runs once the max interval elapsed, regardless of the budget
+        now = lastRefresh + MAX_INTERVAL;
+        assertTrue(policy.refreshDue(now, MIN_INTERVAL, MAX_INTERVAL, 100 * 1024));
+        assertFalse(budget.tryAcquire(1024, now + MIN_INTERVAL));
+        // the budget recovers over time
+        assertTrue(budget.tryAcquire(1024, now + 200 * MIN_INTERVAL));
+    }
+}
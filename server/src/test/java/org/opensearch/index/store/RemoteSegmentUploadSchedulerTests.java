@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.store.lockmanager.RemoteStoreLockManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.mock;
+
+public class RemoteSegmentUploadSchedulerTests extends OpenSearchTestCase {
+
+    private final ShardId shardA = new ShardId(new Index("index", "_na_"), 0);
+    private final ShardId shardB = new ShardId(new Index("index", "_na_"), 1);
+
+    public void testTakesTurnsBetweenShards() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<String> uploaded = new ArrayList<>();
+        final RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(() -> tasks::add, () -> 1);
+        for (int i = 0; i < 3; i++) {
+            final String file = "a" + i;
+            scheduler.schedule(shardA, () -> uploaded.add(file), ActionListener.wrap(() -> {}));
+        }
+        for (int i = 0; i < 2; i++) {
+            final String file = "b" + i;
+            scheduler.schedule(shardB, () -> uploaded.add(file), ActionListener.wrap(() -> {}));
+        }
+        assertEquals(5, scheduler.pendingUploads());
+        while (tasks.isEmpty() == false) {
+            // a single upload at a time
+            assertEquals(1, tasks.size());
+            tasks.remove(0).run();
+        }
+        assertEquals(List.of("a0", "a1", "b0", "a2", "b1"), uploaded);
+        assertEquals(0, scheduler.pendingUploads());
+    }
+
+    public void testLimitsConcurrentUploads() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final int maxConcurrentUploads = randomIntBetween(1, 4);
+        final int uploads = randomIntBetween(maxConcurrentUploads, 16);
+        final RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(() -> tasks::add, () -> maxConcurrentUploads);
+        final PlainActionFuture<Collection<Void>> future = PlainActionFuture.newFuture();
+        final GroupedActionListener<Void> listener = new GroupedActionListener<>(future, uploads);
+        for (int i = 0; i < uploads; i++) {
+            scheduler.schedule(randomFrom(shardA, shardB), () -> {}, listener);
+        }
+        int completed = 0;
+        while (tasks.isEmpty() == false) {
+            assertEquals(Math.min(maxConcurrentUploads, uploads - completed), tasks.size());
+            tasks.remove(randomIntBetween(0, tasks.size() - 1)).run();
+            completed++;
+        }
+        assertEquals(uploads, completed);
+        assertEquals(uploads, future.actionGet().size());
+    }
+
+    public void testFailedUploadIsReported() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(() -> tasks::add, () -> 1);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        final PlainActionFuture<Void> next = PlainActionFuture.newFuture();
+        scheduler.schedule(shardA, () -> { throw new IOException("failed"); }, ActionListener.wrap(r -> fail(), failure::set));
+        scheduler.schedule(shardA, () -> {}, next);
+        tasks.remove(0).run();
+        assertEquals("failed", failure.get().getMessage());
+        tasks.remove(0).run();
+        assertTrue(next.isDone());
+        assertTrue(tasks.isEmpty());
+    }
+
+    public void testUploadToFsBlobStore() throws Exception {
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (
+            FsBlobStore blobStore = new FsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false);
+            Directory localDirectory = newFSDirectory(createTempDir())
+        ) {
+            final RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(threadPool);
+            final List<RemoteSegmentStoreDirectory> remoteDirectories = new ArrayList<>();
+            for (ShardId shardId : List.of(shardA, shardB)) {
+                remoteDirectories.add(
+                    new RemoteSegmentStoreDirectory(
+                        new RemoteDirectory(blobStore.blobContainer(new BlobPath().add(shardId.toString()).add("data"))),
+                        new RemoteDirectory(blobStore.blobContainer(new BlobPath().add(shardId.toString()).add("metadata"))),
+                        mock(RemoteStoreLockManager.class),
+                        threadPool,
+                        shardId,
+                        scheduler
+                    )
+                );
+            }
+
+            final int numberOfFiles = randomIntBetween(1, 20);
+            for (int i = 0; i < numberOfFiles; i++) {
+                try (IndexOutput output = localDirectory.createOutput("_" + i + ".si", IOContext.DEFAULT)) {
+                    CodecUtil.writeHeader(output, "test", 1);
+                    final byte[] bytes = randomByteArrayOfLength(randomIntBetween(0, 64 * 1024));
+                    output.writeBytes(bytes, bytes.length);
+                    CodecUtil.writeFooter(output);
+                }
+            }
+            final PlainActionFuture<Collection<Void>> future = PlainActionFuture.newFuture();
+            final GroupedActionListener<Void> listener = new GroupedActionListener<>(future, 2 * numberOfFiles);
+            for (RemoteSegmentStoreDirectory remoteDirectory : remoteDirectories) {
+                for (int i = 0; i < numberOfFiles; i++) {
+                    remoteDirectory.copyFrom(localDirectory, "_" + i + ".si", IOContext.DEFAULT, listener);
+                }
+            }
+            future.actionGet();
+            assertBusy(() -> assertEquals(0, scheduler.pendingUploads()));
+
+            for (RemoteSegmentStoreDirectory remoteDirectory : remoteDirectories) {
+                assertEquals(numberOfFiles, remoteDirectory.getSegmentsUploadedToRemoteStore().size());
+                for (int i = 0; i < numberOfFiles; i++) {
+                    final String file = "_" + i + ".si";
+                    try (IndexInput input = localDirectory.openInput(file, IOContext.DEFAULT)) {
+                        assertTrue(remoteDirectory.containsFile(file, Long.toString(CodecUtil.retrieveChecksum(input))));
+                        assertEquals(input.length(), remoteDirectory.fileLength(file));
+                    }
+                }
+            }
+        } finally {
+            terminate(threadPool);
+        }
+    }
+}
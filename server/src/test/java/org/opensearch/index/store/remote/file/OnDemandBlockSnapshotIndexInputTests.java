@@ -26,14 +26,21 @@ import org.opensearch.index.store.remote.utils.BlobFetchRequest;
 import org.opensearch.index.store.remote.utils.TransferManager;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
+import org.mockito.ArgumentCaptor;
 
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ThreadLeakFilters(filters = CleanerDaemonThreadLeakFilter.class)
 public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
@@ -74,6 +81,33 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         runAllTestsFor(22);
     }
 
+    public void testPrefetchOnSequentialReads() throws Exception {
+        final int blockSizeShift = 22;
+        final int blockSize = 1 << blockSizeShift;
+        final OnDemandBlockSnapshotIndexInput blockedSnapshotFile = createOnDemandBlockSnapshotIndexInput(blockSizeShift);
+        when(transferManager.prefetchBlocks()).thenReturn(2);
+
+        // random reads don't prefetch
+        blockedSnapshotFile.seek(0);
+        blockedSnapshotFile.seek(2L * blockSize);
+        blockedSnapshotFile.seek(blockSize);
+        verify(transferManager, never()).prefetchBlob(any());
+
+        // the second move to the next block prefetches the two blocks that follow
+        blockedSnapshotFile.seek(2L * blockSize);
+        blockedSnapshotFile.seek(3L * blockSize);
+        // blocks that were prefetched already are skipped, and no block past the end of the file is prefetched
+        blockedSnapshotFile.seek(4L * blockSize);
+        blockedSnapshotFile.seek(5L * blockSize);
+        blockedSnapshotFile.seek(6L * blockSize);
+
+        final ArgumentCaptor<BlobFetchRequest> requests = ArgumentCaptor.forClass(BlobFetchRequest.class);
+        verify(transferManager, times(3)).prefetchBlob(requests.capture());
+        final List<String> prefetched = requests.getAllValues().stream().map(BlobFetchRequest::getFileName).collect(Collectors.toList());
+        assertEquals(List.of(FILE_NAME + ".4", FILE_NAME + ".5", FILE_NAME + ".6"), prefetched);
+        blockedSnapshotFile.close();
+    }
+
     public void runAllTestsFor(int blockSizeShift) throws Exception {
         final OnDemandBlockSnapshotIndexInput blockedSnapshotFile = createOnDemandBlockSnapshotIndexInput(blockSizeShift);
         final int blockSize = 1 << blockSizeShift;
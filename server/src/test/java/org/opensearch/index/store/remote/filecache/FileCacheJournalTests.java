@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.filecache;
+
+import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.env.NodeEnvironment;
+import org.opensearch.index.store.remote.directory.RemoteSnapshotDirectoryFactory;
+import org.opensearch.test.OpenSearchTestCase;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FileCacheJournalTests extends OpenSearchTestCase {
+    private static final int MEGA_BYTES = 1024 * 1024;
+
+    private Path fileCachePath;
+    private Path shardPath;
+
+    @Before
+    public void init() throws Exception {
+        fileCachePath = createTempDir("FileCacheJournalTests").resolve(NodeEnvironment.CACHE_FOLDER);
+        shardPath = fileCachePath.resolve("test-index").resolve("0");
+        for (int i = 0; i < 4; i++) {
+            writeBlock("block_" + i, "test-data");
+        }
+    }
+
+    public void testWarmRestart() throws IOException {
+        final FileCache fileCache = createFileCache();
+        fileCache.restoreFromDirectory(List.of(shardPath));
+        access(fileCache, "block_2", 1);
+        access(fileCache, "block_0", 2);
+        final List<String> entries = entries(fileCache);
+        assertEquals(4, entries.size());
+        assertEquals("block_2:1", entries.get(2));
+        assertEquals("block_0:2", entries.get(3));
+        new FileCacheJournal(Settings.EMPTY, null, fileCache, fileCachePath).write();
+
+        final FileCache restarted = createFileCache();
+        restarted.restoreFromDirectory(List.of(shardPath), new FileCacheJournal(Settings.EMPTY, null, restarted, fileCachePath).read());
+        assertEquals(entries, entries(restarted));
+        assertEquals(fileCache.usage().usage(), restarted.usage().usage());
+        assertEquals(0, restarted.usage().activeUsage());
+        assertEquals(0, restarted.stats().hitCount());
+        assertEquals(0, restarted.stats().missCount());
+    }
+
+    public void testChangedBlockIsRestoredCold() throws IOException {
+        final FileCache fileCache = createFileCache();
+        fileCache.restoreFromDirectory(List.of(shardPath));
+        access(fileCache, "block_0", 3);
+        new FileCacheJournal(Settings.EMPTY, null, fileCache, fileCachePath).write();
+        writeBlock("block_0", "changed-test-data");
+
+        final FileCache restarted = createFileCache();
+        restarted.restoreFromDirectory(List.of(shardPath), new FileCacheJournal(Settings.EMPTY, null, restarted, fileCachePath).read());
+        final List<String> entries = entries(restarted);
+        assertEquals(4, entries.size());
+        assertEquals("block_0:0", entries.get(0));
+    }
+
+    public void testCorruptedJournalIsIgnored() throws IOException {
+        final FileCache fileCache = createFileCache();
+        fileCache.restoreFromDirectory(List.of(shardPath));
+        final FileCacheJournal journal = new FileCacheJournal(Settings.EMPTY, null, fileCache, fileCachePath);
+        assertTrue(journal.read().isEmpty());
+        journal.write();
+        assertEquals(4, journal.read().size());
+
+        final Path journalFile = fileCachePath.resolve(FileCacheJournal.JOURNAL_FILE_NAME);
+        final byte[] bytes = Files.readAllBytes(journalFile);
+        // the checksum of the footer
+        final int position = randomIntBetween(bytes.length - 8, bytes.length - 1);
+        bytes[position] = (byte) (bytes[position] ^ 0xFF);
+        Files.write(journalFile, bytes);
+        assertTrue(journal.read().isEmpty());
+    }
+
+    public void testJournalIsWrittenOnStop() {
+        final FileCache fileCache = createFileCache();
+        fileCache.restoreFromDirectory(List.of(shardPath));
+        final Settings settings = Settings.builder().put(FileCacheJournal.INTERVAL_SETTING.getKey(), "0s").build();
+        final FileCacheJournal journal = new FileCacheJournal(settings, null, fileCache, fileCachePath);
+        journal.start();
+        assertFalse(Files.exists(fileCachePath.resolve(FileCacheJournal.JOURNAL_FILE_NAME)));
+        journal.stop();
+        assertTrue(Files.exists(fileCachePath.resolve(FileCacheJournal.JOURNAL_FILE_NAME)));
+        assertEquals(4, journal.read().size());
+    }
+
+    private FileCache createFileCache() {
+        // a single segment, so that the eviction order of all entries is known
+        return FileCacheFactory.createConcurrentLRUFileCache(MEGA_BYTES, 1, new NoopCircuitBreaker(CircuitBreaker.REQUEST));
+    }
+
+    private Path blockPath(String name) {
+        return shardPath.resolve(RemoteSnapshotDirectoryFactory.LOCAL_STORE_LOCATION).resolve(name).toAbsolutePath();
+    }
+
+    @SuppressForbidden(reason = "creating a test file for cache")
+    private void writeBlock(String name, String content) throws IOException {
+        final Path block = blockPath(name);
+        Files.createDirectories(block.getParent());
+        Files.write(block, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void access(FileCache fileCache, String name, int times) {
+        for (int i = 0; i < times; i++) {
+            assertNotNull(fileCache.get(blockPath(name)));
+            fileCache.decRef(blockPath(name));
+        }
+    }
+
+    private static List<String> entries(FileCache fileCache) {
+        final List<String> entries = new ArrayList<>();
+        fileCache.forEachInEvictionOrder((key, hits) -> entries.add(key.getFileName() + ":" + hits));
+        return entries;
+    }
+}
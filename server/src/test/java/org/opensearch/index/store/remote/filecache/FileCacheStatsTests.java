@@ -11,6 +11,7 @@ package org.opensearch.index.store.remote.filecache;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.index.store.remote.utils.cache.CacheUsage;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
 import org.opensearch.index.store.remote.utils.cache.stats.CacheStats;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -46,7 +47,11 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
             usage.usage(),
             stats.evictionWeight(),
             stats.hitCount(),
-            stats.missCount()
+            stats.missCount(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomFrom(EvictionPolicy.values()).policyName()
         );
     }
 
@@ -64,6 +69,10 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         assertEquals(original.getEvicted(), deserialized.getEvicted());
         assertEquals(original.getCacheHits(), deserialized.getCacheHits());
         assertEquals(original.getCacheMisses(), deserialized.getCacheMisses());
+        assertEquals(original.getPrefetched(), deserialized.getPrefetched());
+        assertEquals(original.getPrefetchHits(), deserialized.getPrefetchHits());
+        assertEquals(original.getPrefetchWasted(), deserialized.getPrefetchWasted());
+        assertEquals(original.getEvictionPolicy(), deserialized.getEvictionPolicy());
     }
 
     public void testFileCacheStatsSerialization() throws IOException {
@@ -14,11 +14,13 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.SimpleFSLockFactory;
 import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.index.store.remote.file.CleanerDaemonThreadLeakFilter;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.filecache.FileCacheStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.MatcherAssert;
 import org.junit.After;
@@ -215,10 +217,70 @@ public class TransferManagerTests extends OpenSearchTestCase {
         assertFalse(blockingThread.isAlive());
     }
 
+    public void testPrefetch() throws Exception {
+        transferManager = new TransferManager(blobContainer, fileCache, Runnable::run);
+        assertEquals(fileCache.prefetchBlocks(), transferManager.prefetchBlocks());
+
+        transferManager.prefetchBlob(blobFetchRequestWithName("prefetched"));
+        MatcherAssert.assertThat(fileCache.usage().activeUsage(), equalTo(0L));
+        MatcherAssert.assertThat(fileCache.usage().usage(), equalTo((long) EIGHT_MB));
+        // already cached
+        transferManager.prefetchBlob(blobFetchRequestWithName("prefetched"));
+
+        try (IndexInput i = fetchBlobWithName("prefetched")) {
+            assertIndexInputIsFunctional(i);
+        }
+        try (IndexInput i = fetchBlobWithName("prefetched")) {
+            assertIndexInputIsFunctional(i);
+        }
+        FileCacheStats stats = fileCache.fileCacheStats();
+        assertEquals(1L, stats.getPrefetched());
+        assertEquals(1L, stats.getPrefetchHits());
+        assertEquals(0L, stats.getPrefetchWasted());
+
+        transferManager.prefetchBlob(blobFetchRequestWithName("wasted"));
+        fileCache.remove(directory.getDirectory().resolve("wasted"));
+        stats = fileCache.fileCacheStats();
+        assertEquals(2L, stats.getPrefetched());
+        assertEquals(1L, stats.getPrefetchHits());
+        assertEquals(1L, stats.getPrefetchWasted());
+    }
+
+    public void testPrefetchRespectsInFlightBudgetAndCapacity() throws Exception {
+        final List<Runnable> prefetches = new ArrayList<>();
+        transferManager = new TransferManager(blobContainer, fileCache, prefetches::add);
+        final int maxInFlight = FileCache.PREFETCH_MAX_IN_FLIGHT_SETTING.getDefault(Settings.EMPTY);
+        for (int i = 0; i <= maxInFlight; i++) {
+            transferManager.prefetchBlob(blobFetchRequestWithName("file-" + i));
+        }
+        assertEquals(maxInFlight, prefetches.size());
+        prefetches.remove(0).run();
+        transferManager.prefetchBlob(blobFetchRequestWithName("file-" + maxInFlight));
+        assertEquals(maxInFlight, prefetches.size());
+        prefetches.clear();
+
+        // the blocks that are in use fill the cache
+        try (IndexInput i1 = fetchBlobWithName("1"); IndexInput i2 = fetchBlobWithName("2")) {
+            final List<Runnable> skipped = new ArrayList<>();
+            transferManager = new TransferManager(blobContainer, fileCache, skipped::add);
+            transferManager.prefetchBlob(blobFetchRequestWithName("3"));
+            assertTrue(skipped.isEmpty());
+        }
+    }
+
+    public void testPrefetchDisabled() throws Exception {
+        assertEquals(0, transferManager.prefetchBlocks());
+        transferManager.prefetchBlob(blobFetchRequestWithName("file"));
+        MatcherAssert.assertThat(fileCache.usage().usage(), equalTo(0L));
+        assertEquals(0L, fileCache.fileCacheStats().getPrefetched());
+    }
+
     private IndexInput fetchBlobWithName(String blobname) throws IOException {
-        return transferManager.fetchBlob(
-            BlobFetchRequest.builder().blobName("blob").position(0).fileName(blobname).directory(directory).length(EIGHT_MB).build()
-        );
+        return transferManager.fetchBlob(blobFetchRequestWithName(blobname));
+    }
+
+    private BlobFetchRequest blobFetchRequestWithName(String blobname) {
+        return BlobFetchRequest.builder().blobName("blob").position(0).fileName(blobname).directory(directory).length(EIGHT_MB).build();
     }
 
     private static void assertIndexInputIsFunctional(IndexInput indexInput) throws IOException {
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EvictionPolicyTests extends OpenSearchTestCase {
+
+    public void testFromString() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            assertEquals(policy, EvictionPolicy.fromString(policy.policyName()));
+        }
+        assertEquals(EvictionPolicy.TINY_LFU, EvictionPolicy.fromString("TinyLFU"));
+        expectThrows(IllegalArgumentException.class, () -> EvictionPolicy.fromString("fifo"));
+    }
+
+    public void testScanEvictsHotEntriesWithLRU() {
+        final LRUCache<String, Long> cache = new LRUCache<>(100, n -> {}, value -> value, EvictionPolicy.LRU);
+        scanAfterHotEntries(cache);
+        for (int i = 0; i < 5; i++) {
+            assertNull(cache.get("hot-" + i));
+        }
+    }
+
+    public void testScanResistanceWithSegmentedLRU() {
+        final LRUCache<String, Long> cache = new LRUCache<>(100, n -> {}, value -> value, EvictionPolicy.SEGMENTED_LRU);
+        scanAfterHotEntries(cache);
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(cache.get("hot-" + i));
+        }
+    }
+
+    public void testScanResistanceWithTinyLFU() {
+        final LRUCache<String, Long> cache = new LRUCache<>(100, n -> {}, value -> value, EvictionPolicy.TINY_LFU);
+        scanAfterHotEntries(cache);
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(cache.get("hot-" + i));
+        }
+    }
+
+    public void testTinyLFUAdmitsFrequentKeys() {
+        final LRUCache<String, Long> cache = new LRUCache<>(100, n -> {}, value -> value, EvictionPolicy.TINY_LFU);
+        for (int i = 0; i < 10; i++) {
+            put(cache, "key-" + i);
+        }
+        // a key that was looked up often before it was cached replaces an entry that was only used once
+        for (int i = 0; i < 5; i++) {
+            assertNull(cache.get("frequent"));
+        }
+        put(cache, "frequent");
+        for (int i = 0; i < 5; i++) {
+            put(cache, "rare-" + i);
+        }
+        assertNotNull(cache.get("frequent"));
+        // the keys that were only used once are evicted from the admission window instead of the cached entries
+        for (int i = 0; i < 4; i++) {
+            assertNull(cache.get("rare-" + i));
+        }
+        for (int i = 1; i < 8; i++) {
+            assertNotNull(cache.get("key-" + i));
+        }
+    }
+
+    public void testTinyLFUKeepsRestoredFrequencies() {
+        // room for one more entry, so that the first scanned entry gets into the admission window without an eviction
+        final LRUCache<String, Long> cache = new LRUCache<>(41, n -> {}, value -> value, EvictionPolicy.TINY_LFU);
+        // restoring more entries than the initial frequency sketch holds must not drop the hits of the first ones
+        cache.ensureCapacity(40);
+        for (int i = 0; i < 40; i++) {
+            cache.restore("restored-" + i, 1L, 10);
+        }
+        for (int i = 0; i < 40; i++) {
+            cache.put("scanned-" + i, 1L);
+            cache.decRef("scanned-" + i);
+        }
+        for (int i = 0; i < 40; i++) {
+            assertNotNull(cache.get("restored-" + i));
+        }
+    }
+
+    private static void scanAfterHotEntries(LRUCache<String, Long> cache) {
+        // entries that are used again after they were added
+        for (int i = 0; i < 5; i++) {
+            put(cache, "hot-" + i);
+            assertNotNull(cache.get("hot-" + i));
+            cache.decRef("hot-" + i);
+        }
+        // followed by a scan over entries that are used once
+        for (int i = 0; i < 20; i++) {
+            put(cache, "cold-" + i);
+        }
+    }
+
+    private static void put(LRUCache<String, Long> cache, String key) {
+        cache.put(key, 10L);
+        cache.decRef(key);
+    }
+}
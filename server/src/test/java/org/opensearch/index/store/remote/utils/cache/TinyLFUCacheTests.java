@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+public class TinyLFUCacheTests extends RefCountedCacheTestCase {
+    public TinyLFUCacheTests() {
+        super(new LRUCache<>(CAPACITY, n -> {}, value -> value, EvictionPolicy.TINY_LFU));
+    }
+
+    @Override
+    public void testEviction() {
+        // new entries that were used as often as the cached ones are evicted from the admission window instead of the cached ones
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, EvictionPolicy.TINY_LFU);
+        for (int i = 1; i <= 5; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 25L);
+            cache.decRef(key);
+        }
+        assertNotNull(cache.get("1"));
+        assertNotNull(cache.get("2"));
+        assertNull(cache.get("3"));
+        assertNull(cache.get("4"));
+        assertNotNull(cache.get("5"));
+
+        assertEquals(75L, cache.usage().usage());
+        assertEquals(75L, cache.usage().activeUsage());
+    }
+}
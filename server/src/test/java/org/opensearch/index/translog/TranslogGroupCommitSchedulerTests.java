@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.cluster.coordination.DeterministicTaskQueue;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.opensearch.node.Node.NODE_NAME_SETTING;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class TranslogGroupCommitSchedulerTests extends OpenSearchTestCase {
+
+    private final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(
+        Settings.builder().put(NODE_NAME_SETTING.getKey(), "node").build(),
+        random()
+    );
+    private final ThreadPool threadPool = taskQueue.getThreadPool();
+
+    private TranslogGroupCommitScheduler scheduler(String window, String maxBytes) {
+        Settings settings = Settings.builder()
+            .put(TranslogGroupCommitScheduler.ENABLED_SETTING.getKey(), true)
+            .put(TranslogGroupCommitScheduler.WINDOW_SETTING.getKey(), window)
+            .put(TranslogGroupCommitScheduler.MAX_BYTES_SETTING.getKey(), maxBytes)
+            .build();
+        return new TranslogGroupCommitScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+    }
+
+    private AsyncIOProcessor<Translog.Location> processor(
+        TranslogGroupCommitScheduler scheduler,
+        ThreadContext threadContext,
+        List<List<Translog.Location>> syncs
+    ) {
+        return scheduler.newSyncProcessor(
+            logger,
+            threadContext,
+            candidates -> syncs.add(candidates.stream().map(Tuple::v1).collect(Collectors.toList()))
+        );
+    }
+
+    public void testSyncsOfAllShardsAreCommittedTogether() {
+        TranslogGroupCommitScheduler scheduler = scheduler("10ms", "1mb");
+        List<List<Translog.Location>> shard1 = new ArrayList<>();
+        List<List<Translog.Location>> shard2 = new ArrayList<>();
+        AsyncIOProcessor<Translog.Location> processor1 = processor(scheduler, threadPool.getThreadContext(), shard1);
+        AsyncIOProcessor<Translog.Location> processor2 = processor(scheduler, threadPool.getThreadContext(), shard2);
+        AtomicInteger completed = new AtomicInteger();
+        Consumer<Exception> listener = e -> {
+            assertNull(e);
+            completed.incrementAndGet();
+        };
+
+        Translog.Location location1 = new Translog.Location(1, 0, 10);
+        Translog.Location location2 = new Translog.Location(1, 10, 10);
+        Translog.Location location3 = new Translog.Location(2, 0, 10);
+        processor1.put(location1, listener);
+        processor2.put(location3, listener);
+        processor1.put(location2, listener);
+
+        // nothing is synced before the window elapsed
+        taskQueue.runAllRunnableTasks();
+        assertThat(shard1, empty());
+        assertThat(shard2, empty());
+        assertThat(completed.get(), equalTo(0));
+
+        taskQueue.advanceTime();
+        taskQueue.runAllRunnableTasks();
+        assertThat(taskQueue.getCurrentTimeMillis(), equalTo(10L));
+        assertThat(shard1, contains(List.of(location1, location2)));
+        assertThat(shard2, contains(List.of(location3)));
+        assertThat(completed.get(), equalTo(3));
+
+        TranslogGroupCommitStats stats = scheduler.stats();
+        assertThat(stats.getBatches(), equalTo(1L));
+        assertThat(stats.getSyncRequests(), equalTo(3L));
+        assertThat(stats.getMaxBatchSize(), equalTo(3L));
+        assertThat(stats.getSyncs(), equalTo(2L));
+    }
+
+    public void testMaxBytesForcesCommit() {
+        TranslogGroupCommitScheduler scheduler = scheduler("100ms", "25b");
+        List<List<Translog.Location>> syncs = new ArrayList<>();
+        AsyncIOProcessor<Translog.Location> processor = processor(scheduler, threadPool.getThreadContext(), syncs);
+        AtomicInteger completed = new AtomicInteger();
+        Consumer<Exception> listener = e -> completed.incrementAndGet();
+
+        processor.put(new Translog.Location(1, 0, 10), listener);
+        processor.put(new Translog.Location(1, 10, 10), listener);
+        taskQueue.runAllRunnableTasks();
+        assertThat(syncs, empty());
+
+        processor.put(new Translog.Location(1, 20, 10), listener);
+        taskQueue.runAllRunnableTasks();
+        assertThat(taskQueue.getCurrentTimeMillis(), equalTo(0L));
+        assertThat(syncs.size(), equalTo(1));
+        assertThat(completed.get(), equalTo(3));
+
+        // the flush that was scheduled for the window finds nothing left to sync
+        taskQueue.runAllTasks();
+        assertThat(syncs.size(), equalTo(1));
+        assertThat(scheduler.stats().getBatches(), equalTo(1L));
+    }
+
+    public void testFailureIsPassedToListenersOfShard() {
+        TranslogGroupCommitScheduler scheduler = scheduler("0ms", "1mb");
+        List<List<Translog.Location>> syncs = new ArrayList<>();
+        AsyncIOProcessor<Translog.Location> healthy = processor(scheduler, threadPool.getThreadContext(), syncs);
+        IOException failure = new IOException("disk failure");
+        AsyncIOProcessor<Translog.Location> failing = scheduler.newSyncProcessor(logger, threadPool.getThreadContext(), candidates -> {
+            throw failure;
+        });
+        AtomicReference<Exception> healthyResult = new AtomicReference<>();
+        AtomicReference<Exception> failingResult = new AtomicReference<>();
+
+        healthy.put(new Translog.Location(1, 0, 10), healthyResult::set);
+        failing.put(new Translog.Location(1, 0, 10), failingResult::set);
+        taskQueue.runAllTasks();
+        assertNull(healthyResult.get());
+        assertSame(failure, failingResult.get());
+        assertThat(syncs.size(), equalTo(1));
+    }
+
+    public void testListenersAreCompletedInTheirThreadContext() {
+        TranslogGroupCommitScheduler scheduler = scheduler("5ms", "1mb");
+        ThreadContext threadContext = threadPool.getThreadContext();
+        AsyncIOProcessor<Translog.Location> processor = processor(scheduler, threadContext, new ArrayList<>());
+        List<String> headers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            try (ThreadContext.StoredContext ignore = threadContext.stashContext()) {
+                threadContext.putHeader("request", "request-" + i);
+                processor.put(new Translog.Location(1, i * 10, 10), e -> headers.add(threadContext.getHeader("request")));
+            }
+        }
+        taskQueue.runAllTasks();
+        assertThat(headers, contains("request-0", "request-1", "request-2"));
+    }
+}
@@ -39,6 +39,7 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TermQuery;
@@ -49,6 +50,7 @@ import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.bytes.AbstractBytesReference;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -61,7 +63,9 @@ import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class IndicesRequestCacheTests extends OpenSearchTestCase {
@@ -121,6 +125,51 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
         assertEquals(0, cache.numRegisteredCloseListeners());
     }
 
+    public void testSegmentLevelCacheSurvivesRefresh() throws Exception {
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, MediaTypeRegistry.JSON, false);
+        TestEntity entity = new TestEntity(requestCacheStats, indexShard);
+        Loader loader = new Loader(reader, 0);
+        BytesReference value = cache.getOrCompute(entity, loader, reader.leaves().get(0).reader(), termBytes);
+        assertEquals("foo", value.streamInput().readString());
+        assertFalse(loader.loadedFromCache);
+        assertEquals(1, cache.count());
+
+        // a refresh adds a segment, the entry of the unchanged segment is still used
+        writer.addDocument(newDoc(1, "bar"));
+        DirectoryReader secondReader = DirectoryReader.openIfChanged(reader);
+        assertEquals(2, secondReader.leaves().size());
+        reader.close();
+        cache.cleanCache();
+        loader = new Loader(secondReader, 0);
+        value = cache.getOrCompute(entity, loader, secondReader.leaves().get(0).reader(), termBytes);
+        assertEquals("foo", value.streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        loader = new Loader(secondReader, 1);
+        value = cache.getOrCompute(entity, loader, secondReader.leaves().get(1).reader(), termBytes);
+        assertEquals("bar", value.streamInput().readString());
+        assertFalse(loader.loadedFromCache);
+        assertEquals(1, requestCacheStats.stats().getHitCount());
+        assertEquals(2, requestCacheStats.stats().getMissCount());
+        assertEquals(2, cache.count());
+        assertEquals(2, cache.numRegisteredCloseListeners());
+
+        // the entries are cleaned up once the segment readers are closed
+        IOUtils.close(secondReader, writer);
+        cache.cleanCache();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.numRegisteredCloseListeners());
+        IOUtils.close(dir, cache);
+    }
+
     public void testCacheDifferentReaders() throws Exception {
         IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
         AtomicBoolean indexShard = new AtomicBoolean(true);
@@ -280,6 +329,138 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
         IOUtils.close(reader, secondReader, thirdReader, writer, dir, cache);
     }
 
+    public void testEvictionSpillsToDiskTier() throws Exception {
+        final ByteSizeValue size;
+        {
+            IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+            AtomicBoolean indexShard = new AtomicBoolean(true);
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+            writer.addDocument(newDoc(0, "foo"));
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+            TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+            BytesReference termBytes = XContentHelper.toXContent(termQuery, MediaTypeRegistry.JSON, false);
+            writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+            DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+
+            cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0), reader, termBytes);
+            cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(secondReader, 0), secondReader, termBytes);
+            size = requestCacheStats.stats().getMemorySize();
+            IOUtils.close(reader, secondReader, writer, dir, cache);
+        }
+        IndicesRequestCache cache = new IndicesRequestCache(
+            Settings.builder()
+                .put(IndicesRequestCache.INDICES_CACHE_QUERY_SIZE.getKey(), size.getBytes() + 1 + "b")
+                .put(IndicesRequestCache.INDICES_CACHE_DISK_SIZE.getKey(), "1mb")
+                .build(),
+            createTempDir(),
+            OpenSearchExecutors.newDirectExecutorService()
+        );
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, MediaTypeRegistry.JSON, false);
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+        DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "baz"));
+        DirectoryReader thirdReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+
+        cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0), reader, termBytes);
+        cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(secondReader, 0), secondReader, termBytes);
+        cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(thirdReader, 0), thirdReader, termBytes);
+        assertEquals(2, cache.count());
+        assertEquals(1, cache.diskCount());
+        assertEquals(1, requestCacheStats.stats().getEvictions());
+        assertEquals(3, requestCacheStats.stats().getDiskMissCount());
+        assertTrue(requestCacheStats.stats().getDiskSizeInBytes() > 0);
+
+        // the evicted entry is promoted back to the heap, which in turn spills the least recently used heap entry
+        Loader loader = new Loader(reader, 0);
+        BytesReference value = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), loader, reader, termBytes);
+        assertEquals("foo", value.streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        assertEquals(1, requestCacheStats.stats().getDiskHitCount());
+        assertEquals(3, requestCacheStats.stats().getMissCount());
+        assertEquals(2, cache.count());
+        assertEquals(1, cache.diskCount());
+        assertEquals(0, requestCacheStats.stats().getDiskEvictions());
+
+        // closing the reader of the spilled entry cleans it from the disk tier
+        IOUtils.close(secondReader);
+        cache.cleanCache();
+        assertEquals(2, cache.count());
+        assertEquals(0, cache.diskCount());
+        assertEquals(0, requestCacheStats.stats().getDiskSizeInBytes());
+        IOUtils.close(reader, thirdReader, writer, dir, cache);
+    }
+
+    public void testSpillsAreWrittenInTheBackgroundAndBounded() throws Exception {
+        final ByteSizeValue size;
+        {
+            IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+            AtomicBoolean indexShard = new AtomicBoolean(true);
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+            writer.addDocument(newDoc(0, "foo"));
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+            TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+            BytesReference termBytes = XContentHelper.toXContent(termQuery, MediaTypeRegistry.JSON, false);
+            writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+            DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+
+            cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0), reader, termBytes);
+            cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(secondReader, 0), secondReader, termBytes);
+            size = requestCacheStats.stats().getMemorySize();
+            IOUtils.close(reader, secondReader, writer, dir, cache);
+        }
+        for (boolean bounded : new boolean[] { false, true }) {
+            List<Runnable> spillTasks = new ArrayList<>();
+            IndicesRequestCache cache = new IndicesRequestCache(
+                Settings.builder()
+                    .put(IndicesRequestCache.INDICES_CACHE_QUERY_SIZE.getKey(), size.getBytes() + 1 + "b")
+                    .put(IndicesRequestCache.INDICES_CACHE_DISK_SIZE.getKey(), "1mb")
+                    .put(IndicesRequestCache.INDICES_CACHE_DISK_MAX_PENDING_SIZE.getKey(), bounded ? "1b" : "1mb")
+                    .build(),
+                createTempDir(),
+                spillTasks::add
+            );
+            AtomicBoolean indexShard = new AtomicBoolean(true);
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+            writer.addDocument(newDoc(0, "foo"));
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+            TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+            BytesReference termBytes = XContentHelper.toXContent(termQuery, MediaTypeRegistry.JSON, false);
+            writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+            DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+            writer.updateDocument(new Term("id", "0"), newDoc(0, "baz"));
+            DirectoryReader thirdReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+
+            cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0), reader, termBytes);
+            cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(secondReader, 0), secondReader, termBytes);
+            cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(thirdReader, 0), thirdReader, termBytes);
+            assertEquals(1, requestCacheStats.stats().getEvictions());
+            // the search thread does not write the evicted entry, an entry beyond the pending size is not even queued
+            assertEquals(0, cache.diskCount());
+            assertEquals(bounded ? 0 : 1, spillTasks.size());
+
+            spillTasks.forEach(Runnable::run);
+            assertEquals(bounded ? 0 : 1, cache.diskCount());
+            IOUtils.close(reader, secondReader, thirdReader, writer, dir, cache);
+        }
+    }
+
     public void testClearAllEntityIdentity() throws Exception {
         IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
         AtomicBoolean indexShard = new AtomicBoolean(true);
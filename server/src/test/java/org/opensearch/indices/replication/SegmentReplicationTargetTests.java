@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.replication;
 
+import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.StringField;
@@ -21,11 +22,15 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.store.ByteBuffersDataOutput;
 import org.apache.lucene.store.ByteBuffersIndexOutput;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.tests.analysis.MockAnalyzer;
 import org.apache.lucene.tests.util.TestUtil;
 import org.apache.lucene.util.Version;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchCorruptionException;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
@@ -436,6 +441,66 @@ public class SegmentReplicationTargetTests extends IndexShardTestCase {
         });
     }
 
+    public void testCopiesLocalFileWithDifferentName() throws IOException {
+        final Directory directory = spyIndexShard.store().directory();
+        try (IndexOutput output = directory.createOutput("_local.si", IOContext.DEFAULT)) {
+            CodecUtil.writeHeader(output, "test", 1);
+            final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1024));
+            output.writeBytes(bytes, bytes.length);
+            CodecUtil.writeFooter(output);
+        }
+        final StoreFileMetadata localFile;
+        try (IndexInput input = directory.openInput("_local.si", IOContext.DEFAULT)) {
+            localFile = new StoreFileMetadata(
+                "_local.si",
+                input.length(),
+                Store.digestToString(CodecUtil.retrieveChecksum(input)),
+                Version.LATEST
+            );
+        }
+        final StoreFileMetadata remoteFile = new StoreFileMetadata("_remote.si", localFile.length(), localFile.checksum(), Version.LATEST);
+
+        SegmentReplicationSource segrepSource = new TestReplicationSource() {
+            @Override
+            public void getCheckpointMetadata(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                ActionListener<CheckpointInfoResponse> listener
+            ) {
+                listener.onResponse(new CheckpointInfoResponse(checkpoint, Map.of(remoteFile.name(), remoteFile), buffer.toArrayCopy()));
+            }
+
+            @Override
+            public void getSegmentFiles(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                List<StoreFileMetadata> filesToFetch,
+                IndexShard indexShard,
+                ActionListener<GetSegmentFilesResponse> listener
+            ) {
+                assertTrue(filesToFetch.isEmpty());
+                listener.onResponse(new GetSegmentFilesResponse(filesToFetch));
+            }
+        };
+        SegmentReplicationTargetService.SegmentReplicationListener segRepListener = mock(
+            SegmentReplicationTargetService.SegmentReplicationListener.class
+        );
+
+        segrepTarget = new SegmentReplicationTarget(spyIndexShard, repCheckpoint, segrepSource, segRepListener);
+        when(spyIndexShard.getSegmentMetadataMap()).thenReturn(Map.of(localFile.name(), localFile));
+        final PlainActionFuture<Void> future = PlainActionFuture.newFuture();
+        segrepTarget.startReplication(future);
+        future.actionGet();
+
+        try (IndexInput input = directory.openInput(remoteFile.name(), IOContext.DEFAULT)) {
+            assertEquals(remoteFile.length(), input.length());
+            assertEquals(remoteFile.checksum(), Store.digestToString(CodecUtil.checksumEntireFile(input)));
+        }
+        assertEquals(remoteFile.length(), segrepTarget.state().getIndex().reusedBytes());
+        assertEquals(0, segrepTarget.state().getIndex().totalRecoverBytes());
+        segrepTarget.markAsDone();
+    }
+
     /**
      * Generates a list of Store.MetadataSnapshot with two elements where second snapshot has extra files due to delete
      * operation. A list of snapshots is returned so that identical files have same checksum.
@@ -37,18 +37,22 @@ import org.opensearch.common.metrics.OperationStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -429,6 +433,113 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(ingestProcessorException.getHeader("pipeline_origin"), equalTo(Arrays.asList("2", "1")));
     }
 
+    public void testBatchExecute() {
+        TestProcessor processor1 = new TestProcessor(ingestDocument -> {
+            if (ingestDocument.hasField("fail")) {
+                throw new RuntimeException("error");
+            }
+        });
+        TestProcessor processor2 = new TestProcessor("tag", "type", null, (Function<IngestDocument, IngestDocument>) ingestDocument -> {
+            if (ingestDocument.hasField("drop")) {
+                return null;
+            }
+            ingestDocument.setFieldValue("processed", true);
+            return ingestDocument;
+        });
+        boolean withOnFailure = randomBoolean();
+        TestProcessor onFailureProcessor = new TestProcessor(ingestDocument -> {
+            assertThat(ingestDocument.getIngestMetadata().get(CompoundProcessor.ON_FAILURE_MESSAGE_FIELD), equalTo("error"));
+            ingestDocument.setFieldValue("on_failure", true);
+        });
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(
+            false,
+            Arrays.asList(processor1, processor2),
+            withOnFailure ? singletonList(onFailureProcessor) : Collections.emptyList(),
+            relativeTimeProvider
+        );
+
+        int numDocs = randomIntBetween(1, 32);
+        int numFailures = 0;
+        int numDropped = 0;
+        List<IngestDocumentWrapper> batch = new ArrayList<>(numDocs);
+        Map<Integer, String> outcomes = new HashMap<>();
+        for (int i = 0; i < numDocs; i++) {
+            String outcome = randomFrom("processed", "fail", "drop");
+            Map<String, Object> source = new HashMap<>();
+            if (outcome.equals("fail")) {
+                source.put("fail", true);
+                numFailures++;
+            } else if (outcome.equals("drop")) {
+                source.put("drop", true);
+                numDropped++;
+            }
+            outcomes.put(i * 2, outcome);
+            batch.add(new IngestDocumentWrapper(i * 2, new IngestDocument(source, new HashMap<>()), null));
+        }
+
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        compoundProcessor.batchExecute(batch, results::addAll);
+
+        assertThat(results, hasSize(numDocs));
+        for (IngestDocumentWrapper result : results) {
+            String outcome = outcomes.remove(result.getSlot());
+            assertThat(outcome, notNullValue());
+            if (outcome.equals("fail")) {
+                if (withOnFailure) {
+                    assertThat(result.getException(), nullValue());
+                    assertThat(result.getIngestDocument().getFieldValue("on_failure", Boolean.class), is(true));
+                    assertThat(result.getIngestDocument().hasField("processed"), is(false));
+                } else {
+                    assertThat(result.getIngestDocument(), nullValue());
+                    assertThat(result.getException(), instanceOf(IngestProcessorException.class));
+                }
+            } else if (outcome.equals("drop")) {
+                assertThat(result.getIngestDocument(), nullValue());
+                assertThat(result.getException(), nullValue());
+            } else {
+                assertThat(result.getException(), nullValue());
+                assertThat(result.getIngestDocument().getFieldValue("processed", Boolean.class), is(true));
+            }
+        }
+        assertThat(processor1.getInvokedCounter(), equalTo(numDocs));
+        assertThat(processor2.getInvokedCounter(), equalTo(numDocs - numFailures));
+        assertThat(onFailureProcessor.getInvokedCounter(), equalTo(withOnFailure ? numFailures : 0));
+        assertStats(0, compoundProcessor, 0L, numDocs, numFailures, 0);
+        assertStats(1, compoundProcessor, 0L, numDocs - numFailures, 0, 0);
+    }
+
+    public void testBatchExecuteIgnoreFailure() {
+        TestProcessor processor1 = new TestProcessor(new RuntimeException("error"));
+        TestProcessor processor2 = new TestProcessor(ingestDocument -> ingestDocument.setFieldValue("processed", true));
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(
+            true,
+            Arrays.asList(processor1, processor2),
+            Collections.emptyList(),
+            relativeTimeProvider
+        );
+
+        int numDocs = randomIntBetween(1, 32);
+        List<IngestDocumentWrapper> batch = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            batch.add(new IngestDocumentWrapper(i, new IngestDocument(new HashMap<>(), new HashMap<>()), null));
+        }
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        compoundProcessor.batchExecute(batch, results::addAll);
+
+        assertThat(results, hasSize(numDocs));
+        for (IngestDocumentWrapper result : results) {
+            assertThat(result.getException(), nullValue());
+            assertThat(result.getIngestDocument(), sameInstance(batch.get(result.getSlot()).getIngestDocument()));
+            assertThat(result.getIngestDocument().getFieldValue("processed", Boolean.class), is(true));
+        }
+        assertStats(0, compoundProcessor, 0L, numDocs, numDocs, 0);
+        assertStats(1, compoundProcessor, 0L, numDocs, 0, 0);
+    }
+
     private void assertStats(CompoundProcessor compoundProcessor, long count, long failed, long time) {
         assertStats(0, compoundProcessor, 0L, count, failed, time);
     }
@@ -87,6 +87,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -1212,6 +1213,111 @@ public class IngestServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBulkRequestExecutionInBatches() throws Exception {
+        BulkRequest bulkRequest = new BulkRequest();
+        int batchSize = randomIntBetween(2, 8);
+        int numRequest = scaledRandomIntBetween(8, 64);
+        int numIndexRequests = 0;
+        int numFailures = 0;
+        int numDropped = 0;
+        for (int i = 0; i < numRequest; i++) {
+            if (rarely()) {
+                bulkRequest.add(new DeleteRequest("_index", "_id"));
+                continue;
+            }
+            IndexRequest indexRequest = new IndexRequest("_index").id("_id" + i).setPipeline("_id").setFinalPipeline("_none");
+            String value = randomFrom("value", "value", "fail", "drop");
+            indexRequest.source(Requests.INDEX_CONTENT_TYPE, "field1", value);
+            bulkRequest.add(indexRequest);
+            numIndexRequests++;
+            if (value.equals("fail")) {
+                numFailures++;
+            } else if (value.equals("drop")) {
+                numDropped++;
+            }
+        }
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final Processor processor = new Processor() {
+            @Override
+            public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+                batchSizes.add(ingestDocumentWrappers.size());
+                Processor.super.batchExecute(ingestDocumentWrappers, handler);
+            }
+
+            @Override
+            public IngestDocument execute(IngestDocument ingestDocument) {
+                String value = ingestDocument.getFieldValue("field1", String.class);
+                if (value.equals("fail")) {
+                    throw new IllegalArgumentException("failed");
+                } else if (value.equals("drop")) {
+                    return null;
+                }
+                ingestDocument.setFieldValue("processed", true);
+                return ingestDocument;
+            }
+
+            @Override
+            public String getType() {
+                return "batch";
+            }
+
+            @Override
+            public String getTag() {
+                return null;
+            }
+
+            @Override
+            public String getDescription() {
+                return null;
+            }
+        };
+        IngestService ingestService = createWithProcessors(
+            Collections.singletonMap("batch", (factories, tag, description, config) -> processor)
+        );
+        PutPipelineRequest putRequest = new PutPipelineRequest(
+            "_id",
+            new BytesArray("{\"processors\": [{\"batch\" : {}}]}"),
+            MediaTypeRegistry.JSON
+        );
+        ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build(); // Start empty
+        ClusterState previousClusterState = clusterState;
+        clusterState = IngestService.innerPut(putRequest, clusterState);
+        ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+        @SuppressWarnings("unchecked")
+        BiConsumer<Integer, Exception> requestItemErrorHandler = mock(BiConsumer.class);
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Thread, Exception> completionHandler = mock(BiConsumer.class);
+        final IntConsumer dropHandler = mock(IntConsumer.class);
+        ingestService.executeBulkRequest(
+            numRequest,
+            bulkRequest.requests(),
+            requestItemErrorHandler,
+            completionHandler,
+            dropHandler,
+            Names.WRITE,
+            batchSize
+        );
+
+        verify(requestItemErrorHandler, times(numFailures)).accept(anyInt(), any(IngestProcessorException.class));
+        verify(dropHandler, times(numDropped)).accept(anyInt());
+        verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum(), equalTo(numIndexRequests));
+        assertThat(batchSizes.size(), equalTo((numIndexRequests + batchSize - 1) / batchSize));
+        for (DocWriteRequest<?> docWriteRequest : bulkRequest.requests()) {
+            IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(docWriteRequest);
+            if (indexRequest != null && indexRequest.sourceAsMap().get("field1").equals("value")) {
+                assertThat(indexRequest.sourceAsMap().get("processed"), equalTo(true));
+            }
+        }
+
+        final IngestStats stats = ingestService.stats();
+        assertStats(stats.getTotalStats(), numIndexRequests, numFailures, 0);
+        assertPipelineStats(stats.getPipelineStats(), "_id", numIndexRequests, numFailures, 0);
+        assertProcessorStats(0, stats, "_id", numIndexRequests, numFailures, 0);
+    }
+
     public void testStats() throws Exception {
         final Processor processor = mock(Processor.class);
         final Processor processorFailure = mock(Processor.class);
@@ -85,7 +85,8 @@ public class RestCatSegmentReplicationActionTests extends OpenSearchTestCase {
                 0L,
                 0L,
                 0L,
-                0L
+                0L,
+                randomNonNegativeLong()
             );
             segmentReplicationShardStats.setCurrentReplicationState(state);
             final SegmentReplicationPerGroupStats perGroupStats = new SegmentReplicationPerGroupStats(
@@ -121,6 +122,7 @@ public class RestCatSegmentReplicationActionTests extends OpenSearchTestCase {
             "bytes_behind",
             "current_lag",
             "last_completed_lag",
+            "last_completed_bytes",
             "rejected_requests"
         );
 
@@ -144,6 +146,7 @@ public class RestCatSegmentReplicationActionTests extends OpenSearchTestCase {
                 new ByteSizeValue(shardStats.getBytesBehindCount()),
                 new TimeValue(shardStats.getCurrentReplicationLagMillis()),
                 new TimeValue(shardStats.getLastCompletedReplicationTimeMillis()),
+                new ByteSizeValue(shardStats.getLastCompletedReplicationBytes()),
                 rejectedRequestCount
             );
 
@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkRequestParser;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.http.HttpContentStream;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class StreamingBulkConsumerTests extends OpenSearchTestCase {
+
+    private final List<Tuple<BulkRequest, ActionListener<BulkResponse>>> dispatched = new ArrayList<>();
+    private boolean paused;
+    private BulkResponse response;
+    private Exception failure;
+    private StreamingBulkConsumer current;
+
+    private StreamingBulkConsumer consumer(long flushSize, long maxInFlight) {
+        HttpContentStream stream = new HttpContentStream() {
+            @Override
+            public void subscribe(Listener listener) {
+                fail("the consumer does not subscribe itself");
+            }
+
+            @Override
+            public void pause() {
+                assertFalse(paused);
+                paused = true;
+            }
+
+            @Override
+            public void resume() {
+                assertTrue(paused);
+                paused = false;
+            }
+        };
+        current = new StreamingBulkConsumer(
+            stream,
+            consumer -> new BulkRequestParser().incrementalParser(
+                "index",
+                null,
+                null,
+                null,
+                null,
+                true,
+                MediaTypeRegistry.JSON,
+                consumer::add,
+                consumer::add,
+                consumer::add
+            ),
+            BulkRequest::new,
+            (request, listener) -> {
+                // requests are sent off and responses are sent without holding the monitor of the consumer
+                assertFalse(Thread.holdsLock(current));
+                dispatched.add(new Tuple<>(request, listener));
+            },
+            flushSize,
+            maxInFlight,
+            ActionListener.wrap(r -> {
+                assertFalse(Thread.holdsLock(current));
+                response = r;
+            }, e -> {
+                assertFalse(Thread.holdsLock(current));
+                failure = e;
+            })
+        );
+        return current;
+    }
+
+    private static BytesArray indexActions(int count) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            content.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n{\"field\":\"value\"}\n");
+        }
+        return new BytesArray(content.toString());
+    }
+
+    private static void stream(StreamingBulkConsumer consumer, BytesArray content) {
+        int from = 0;
+        while (from < content.length()) {
+            int length = Math.min(randomIntBetween(1, 64), content.length() - from);
+            consumer.onChunk(content.slice(from, length), false);
+            from += length;
+        }
+        consumer.onChunk(BytesArray.EMPTY, true);
+    }
+
+    private static BulkResponse respond(BulkRequest request) {
+        BulkItemResponse[] items = new BulkItemResponse[request.numberOfActions()];
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<?> action = request.requests().get(i);
+            IndexResponse indexResponse = new IndexResponse(new ShardId(action.index(), "_na_", 0), action.id(), 1, 1, 1, true);
+            items[i] = new BulkItemResponse(i, action.opType(), indexResponse);
+        }
+        return new BulkResponse(items, 1);
+    }
+
+    public void testActionsAreSentOffWhileStreaming() {
+        int numActions = randomIntBetween(1, 20);
+        StreamingBulkConsumer consumer = consumer(1, Long.MAX_VALUE);
+        BytesArray content = indexActions(numActions);
+        consumer.onChunk(content.slice(0, content.length() - 1), false);
+        // all but the last action were sent off before the content was complete
+        assertThat(dispatched, hasSize(numActions - 1));
+
+        consumer.onChunk(content.slice(content.length() - 1, 1), true);
+        assertThat(dispatched, hasSize(numActions));
+        for (int i = dispatched.size() - 1; i >= 0; i--) {
+            assertNull(response);
+            dispatched.get(i).v2().onResponse(respond(dispatched.get(i).v1()));
+        }
+        assertNull(failure);
+        assertThat(response.getItems().length, equalTo(numActions));
+        for (int i = 0; i < numActions; i++) {
+            assertThat(response.getItems()[i].getItemId(), equalTo(i));
+            assertThat(response.getItems()[i].getId(), equalTo(Integer.toString(i)));
+        }
+    }
+
+    public void testReadingIsPausedWhileTooMuchIsInFlight() {
+        StreamingBulkConsumer consumer = consumer(1, 1);
+        consumer.onChunk(indexActions(1), false);
+        assertThat(dispatched, hasSize(1));
+        assertTrue(paused);
+
+        dispatched.get(0).v2().onResponse(respond(dispatched.get(0).v1()));
+        assertFalse(paused);
+        assertNull(response);
+
+        consumer.onChunk(BytesArray.EMPTY, true);
+        assertNotNull(response);
+        assertThat(response.getItems().length, equalTo(1));
+    }
+
+    public void testFailedRequestIsReportedForEachAction() {
+        StreamingBulkConsumer consumer = consumer(1, Long.MAX_VALUE);
+        stream(consumer, indexActions(3));
+        assertThat(dispatched, hasSize(3));
+        dispatched.get(0).v2().onResponse(respond(dispatched.get(0).v1()));
+        dispatched.get(1).v2().onFailure(new IllegalStateException("rejected"));
+        dispatched.get(2).v2().onResponse(respond(dispatched.get(2).v1()));
+
+        assertNull(failure);
+        BulkItemResponse[] items = response.getItems();
+        assertThat(items.length, equalTo(3));
+        assertFalse(items[0].isFailed());
+        assertTrue(items[1].isFailed());
+        assertThat(items[1].getItemId(), equalTo(1));
+        assertThat(items[1].getFailure().getCause(), instanceOf(IllegalStateException.class));
+        assertFalse(items[2].isFailed());
+    }
+
+    public void testMalformedContentIsReportedAfterRequestsInFlight() {
+        StreamingBulkConsumer consumer = consumer(1, Long.MAX_VALUE);
+        consumer.onChunk(indexActions(1), false);
+        consumer.onChunk(new BytesArray("{\"baz\":{}}\n"), false);
+        assertThat(dispatched, hasSize(1));
+        assertNull(response);
+
+        dispatched.get(0).v2().onResponse(respond(dispatched.get(0).v1()));
+        assertNull(failure);
+        // the action that was sent off was executed, so its result is reported along with the failure of the malformed content
+        BulkItemResponse[] items = response.getItems();
+        assertThat(items.length, equalTo(2));
+        assertFalse(items[0].isFailed());
+        assertThat(items[0].getId(), equalTo("0"));
+        assertTrue(items[1].isFailed());
+        assertThat(items[1].getItemId(), equalTo(1));
+        assertNull(items[1].getFailure().getIndex());
+        assertThat(items[1].getFailure().getCause(), instanceOf(IllegalArgumentException.class));
+    }
+
+    public void testMalformedContentFailsRequestIfNothingWasSentOff() {
+        StreamingBulkConsumer consumer = consumer(Long.MAX_VALUE, Long.MAX_VALUE);
+        consumer.onChunk(indexActions(randomIntBetween(1, 5)), false);
+        consumer.onChunk(new BytesArray("{\"baz\":{}}\n"), false);
+        // the actions that were parsed are not sent off anymore
+        assertThat(dispatched, hasSize(0));
+        assertNull(response);
+        assertThat(failure, instanceOf(IllegalArgumentException.class));
+    }
+
+    public void testEmptyContentFailsLikeAggregatedRequest() {
+        StreamingBulkConsumer consumer = consumer(randomLongBetween(1, 1024), Long.MAX_VALUE);
+        consumer.onChunk(BytesArray.EMPTY, true);
+        assertThat(dispatched, hasSize(1));
+        assertThat(dispatched.get(0).v1().numberOfActions(), equalTo(0));
+
+        IllegalArgumentException e = new IllegalArgumentException("no requests added");
+        dispatched.get(0).v2().onFailure(e);
+        assertNull(response);
+        assertSame(e, failure);
+    }
+}
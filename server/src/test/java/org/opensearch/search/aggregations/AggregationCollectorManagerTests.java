@@ -82,6 +82,29 @@ public class AggregationCollectorManagerTests extends AggregationSetupTests {
         assertEquals(CollectorResult.REASON_AGGREGATION_GLOBAL, testGlobalAggCollectorManager.getCollectorReason());
     }
 
+    public void testBuildSliceAggregations() throws Exception {
+        final AggregatorFactories aggregatorFactories = getAggregationFactories(multipleNonGlobalAggs);
+        final SearchContextAggregations contextAggregations = new SearchContextAggregations(
+            aggregatorFactories,
+            mock(MultiBucketConsumerService.MultiBucketConsumer.class)
+        );
+        context.aggregations(contextAggregations);
+        context.setBucketCollectorProcessor(new BucketCollectorProcessor());
+        final NonGlobalAggCollectorManager collectorManager = new NonGlobalAggCollectorManager(context);
+        final List<Collector> collectors = new ArrayList<>();
+        for (int i = 0; i < randomIntBetween(2, 5); ++i) {
+            collectors.add(collectorManager.newCollector());
+        }
+        // the slice that completed first is built right away, the others when reducing
+        assertTrue(collectorManager.buildSliceAggregations(collectors.get(0)));
+        assertFalse(collectorManager.buildSliceAggregations(collectors.get(0)));
+        assertFalse(collectorManager.buildSliceAggregations(mock(Collector.class)));
+
+        collectorManager.reduce(collectors).reduce(context.queryResult());
+        assertTrue(context.queryResult().hasAggs());
+        assertEquals(2, context.queryResult().aggregations().expand().aggregations.size());
+    }
+
     public void testAssertionWhenCollectorManagerCreatesNoOPCollector() throws Exception {
         AggregatorFactories aggregatorFactories = getAggregationFactories(globalAgg);
         SearchContextAggregations contextAggregations = new SearchContextAggregations(
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PointTreeBucketCounterTests extends OpenSearchTestCase {
+
+    private static final String FIELD = "@timestamp";
+
+    public void testMatchAll() {
+        assertBounds(new MatchAllDocsQuery(), Long.MIN_VALUE, Long.MAX_VALUE);
+        assertBounds(null, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public void testRangeQuery() {
+        final long from = randomLong();
+        final long to = randomLongBetween(from, Long.MAX_VALUE);
+        Query query = LongPoint.newRangeQuery(FIELD, from, to);
+        assertBounds(query, from, to);
+        query = new IndexOrDocValuesQuery(query, SortedNumericDocValuesField.newSlowRangeQuery(FIELD, from, to));
+        assertBounds(query, from, to);
+        assertBounds(new ConstantScoreQuery(query), from, to);
+        assertBounds(new BoostQuery(query, 2f), from, to);
+    }
+
+    public void testConjunction() {
+        BooleanQuery query = new BooleanQuery.Builder().add(LongPoint.newRangeQuery(FIELD, 10, 100), BooleanClause.Occur.FILTER)
+            .add(LongPoint.newRangeQuery(FIELD, 50, 200), BooleanClause.Occur.MUST)
+            .add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+            .build();
+        assertBounds(query, 50, 100);
+    }
+
+    public void testUnsupportedQueries() {
+        assertNull(PointTreeBucketCounter.queryBounds(LongPoint.newRangeQuery("other", 0, 10), FIELD));
+        assertNull(PointTreeBucketCounter.queryBounds(new TermQuery(new Term(FIELD, "foo")), FIELD));
+        assertNull(PointTreeBucketCounter.queryBounds(new BooleanQuery.Builder().build(), FIELD));
+        BooleanQuery disjunction = new BooleanQuery.Builder().add(LongPoint.newRangeQuery(FIELD, 0, 10), BooleanClause.Occur.SHOULD)
+            .add(LongPoint.newRangeQuery(FIELD, 20, 30), BooleanClause.Occur.SHOULD)
+            .build();
+        assertNull(PointTreeBucketCounter.queryBounds(disjunction, FIELD));
+        BooleanQuery exclusion = new BooleanQuery.Builder().add(LongPoint.newRangeQuery(FIELD, 0, 10), BooleanClause.Occur.FILTER)
+            .add(new TermQuery(new Term("tag", "foo")), BooleanClause.Occur.MUST_NOT)
+            .build();
+        assertNull(PointTreeBucketCounter.queryBounds(exclusion, FIELD));
+    }
+
+    private static void assertBounds(Query query, long min, long max) {
+        long[] bounds = PointTreeBucketCounter.queryBounds(query, FIELD);
+        assertNotNull(bounds);
+        assertEquals(min, bounds[0]);
+        assertEquals(max, bounds[1]);
+    }
+}
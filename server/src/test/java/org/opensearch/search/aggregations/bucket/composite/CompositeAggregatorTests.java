@@ -62,6 +62,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -1253,6 +1255,40 @@ public class CompositeAggregatorTests extends BaseCompositeAggregatorTestCase {
         );
     }
 
+    public void testWithDateHistogramCountedFromPoints() throws IOException {
+        final long day = TimeUnit.DAYS.toMillis(1);
+        final long start = asLong("2017-10-01T00:00:00");
+        final long end = start + 30 * day - 1;
+        final List<Map<String, List<Object>>> dataset = new ArrayList<>();
+        final SortedMap<Long, Long> expected = new TreeMap<>();
+        final int numDocs = randomIntBetween(100, 1000);
+        for (int i = 0; i < numDocs; i++) {
+            final long date = randomLongBetween(start, end);
+            dataset.add(createDocument("date", date));
+            expected.merge(Math.floorDiv(date, day) * day, 1L, Long::sum);
+        }
+        final int size = randomIntBetween(1, 10);
+        final Long after = randomBoolean() ? null : randomFrom(expected.keySet());
+        final List<Map.Entry<Long, Long>> expectedBuckets = new ArrayList<>(
+            (after == null ? expected : expected.tailMap(after + 1)).entrySet()
+        );
+        testSearchCase(Arrays.asList(new MatchAllDocsQuery(), LongPoint.newRangeQuery("date", start, end)), dataset, () -> {
+            DateHistogramValuesSourceBuilder histo = new DateHistogramValuesSourceBuilder("date").field("date")
+                .fixedInterval(DateHistogramInterval.days(1));
+            CompositeAggregationBuilder builder = new CompositeAggregationBuilder("name", Collections.singletonList(histo)).size(size);
+            if (after != null) {
+                builder.aggregateAfter(createAfterKey("date", after));
+            }
+            return builder;
+        }, (result) -> {
+            assertEquals(Math.min(size, expectedBuckets.size()), result.getBuckets().size());
+            for (int i = 0; i < result.getBuckets().size(); i++) {
+                assertEquals(expectedBuckets.get(i).getKey(), result.getBuckets().get(i).getKey().get("date"));
+                assertEquals((long) expectedBuckets.get(i).getValue(), result.getBuckets().get(i).getDocCount());
+            }
+        });
+    }
+
     public void testWithDateHistogram() throws IOException {
         final List<Map<String, List<Object>>> dataset = new ArrayList<>();
         dataset.addAll(
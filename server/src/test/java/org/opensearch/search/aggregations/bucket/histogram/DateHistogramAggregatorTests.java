@@ -1193,6 +1193,53 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         assertWarnings("[interval] on [date_histogram] is deprecated, use [fixed_interval] or [calendar_interval] in the future.");
     }
 
+    public void testCountFromPointsMatchesDocValues() throws IOException {
+        final long start = asLong("2015-01-01T00:00:00");
+        final long end = asLong("2016-01-01T00:00:00");
+        final int numDocs = randomIntBetween(1000, 5000);
+        final long from = randomLongBetween(start, end);
+        final long to = randomLongBetween(from, end);
+        final Query query = randomBoolean() ? new MatchAllDocsQuery() : LongPoint.newRangeQuery(AGGREGABLE_DATE, from, to);
+        try (Directory directory = newDirectory()) {
+            long expectedCount = 0;
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < numDocs; i++) {
+                    final long instant = randomLongBetween(start, end);
+                    indexWriter.addDocument(
+                        Arrays.asList(new SortedNumericDocValuesField(AGGREGABLE_DATE, instant), new LongPoint(AGGREGABLE_DATE, instant))
+                    );
+                    if (query instanceof MatchAllDocsQuery || (instant >= from && instant <= to)) {
+                        expectedCount++;
+                    }
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name").field(AGGREGABLE_DATE)
+                    .calendarInterval(randomFrom(DateHistogramInterval.DAY, DateHistogramInterval.WEEK, DateHistogramInterval.MONTH));
+                // the points of the field are only used when the field type is searchable
+                InternalDateHistogram fromPoints = searchAndReduce(
+                    indexSearcher,
+                    query,
+                    aggregationBuilder,
+                    aggregableDateFieldType(false, true)
+                );
+                InternalDateHistogram fromDocValues = searchAndReduce(
+                    indexSearcher,
+                    query,
+                    aggregationBuilder,
+                    aggregableDateFieldType(false, false)
+                );
+                assertEquals(
+                    fromDocValues.getBuckets().stream().map(b -> b.getKeyAsString() + "=" + b.getDocCount()).collect(toList()),
+                    fromPoints.getBuckets().stream().map(b -> b.getKeyAsString() + "=" + b.getDocCount()).collect(toList())
+                );
+                assertEquals(expectedCount, fromPoints.getBuckets().stream().mapToLong(InternalDateHistogram.Bucket::getDocCount).sum());
+            }
+        }
+    }
+
     private void testSearchCase(
         Query query,
         List<String> dataset,
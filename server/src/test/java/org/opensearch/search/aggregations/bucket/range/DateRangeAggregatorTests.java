@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
@@ -253,6 +254,70 @@ public class DateRangeAggregatorTests extends AggregatorTestCase {
         }, range -> fail("Should have thrown exception"), fieldType));
     }
 
+    public void testCountFromPointsMatchesDocValues() throws IOException {
+        final long start = milli1;
+        final long end = milli2;
+        final DateRangeAggregationBuilder aggregationBuilder = new DateRangeAggregationBuilder("test_range_agg").field(DATE_FIELD_NAME);
+        final int numRanges = randomIntBetween(1, 10);
+        for (int i = 0; i < numRanges; i++) {
+            final long from = randomLongBetween(start, end);
+            aggregationBuilder.addRange(from, randomLongBetween(from, end));
+        }
+        aggregationBuilder.addUnboundedTo(randomLongBetween(start, end));
+        aggregationBuilder.addUnboundedFrom(randomLongBetween(start, end));
+        final long queryFrom = randomLongBetween(start, end);
+        final Query query = randomBoolean()
+            ? new MatchAllDocsQuery()
+            : LongPoint.newRangeQuery(DATE_FIELD_NAME, queryFrom, randomLongBetween(queryFrom, end));
+
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final int numDocs = randomIntBetween(1000, 5000);
+                for (int i = 0; i < numDocs; i++) {
+                    final long instant = randomLongBetween(start, end);
+                    indexWriter.addDocument(
+                        List.of(new SortedNumericDocValuesField(DATE_FIELD_NAME, instant), new LongPoint(DATE_FIELD_NAME, instant))
+                    );
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                // the points of the field are only used when the field type is searchable
+                InternalRange<? extends InternalRange.Bucket, ? extends InternalRange> fromPoints = searchAndReduce(
+                    indexSearcher,
+                    query,
+                    aggregationBuilder,
+                    dateFieldType(true)
+                );
+                InternalRange<? extends InternalRange.Bucket, ? extends InternalRange> fromDocValues = searchAndReduce(
+                    indexSearcher,
+                    query,
+                    aggregationBuilder,
+                    dateFieldType(false)
+                );
+                assertEquals(fromDocValues.getBuckets().size(), fromPoints.getBuckets().size());
+                for (int i = 0; i < fromPoints.getBuckets().size(); i++) {
+                    assertEquals(fromDocValues.getBuckets().get(i).getKey(), fromPoints.getBuckets().get(i).getKey());
+                    assertEquals(fromDocValues.getBuckets().get(i).getDocCount(), fromPoints.getBuckets().get(i).getDocCount());
+                }
+            }
+        }
+    }
+
+    private DateFieldMapper.DateFieldType dateFieldType(boolean isSearchable) {
+        return new DateFieldMapper.DateFieldType(
+            DATE_FIELD_NAME,
+            isSearchable,
+            false,
+            true,
+            DateFieldMapper.DEFAULT_DATE_TIME_FORMATTER,
+            DateFieldMapper.Resolution.MILLISECONDS,
+            null,
+            Collections.emptyMap()
+        );
+    }
+
     private void testBothResolutions(
         Query query,
         CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
@@ -37,6 +37,7 @@ import org.apache.lucene.codecs.StoredFieldsReader;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.FilterDirectoryReader;
@@ -48,6 +49,8 @@ import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.ConstantScoreQuery;
@@ -306,6 +309,54 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         IOUtils.close(reader, w, dir);
     }
 
+    public void testSkipsLeavesOutsideOfRequiredPointRanges() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE));
+        for (int segment = 0; segment < 3; segment++) {
+            for (int i = 0; i < 10; i++) {
+                Document doc = new Document();
+                doc.add(new LongPoint("timestamp", segment * 10 + i));
+                doc.add(new StringField("foo", "bar", Field.Store.NO));
+                w.addDocument(doc);
+            }
+            w.commit();
+        }
+        DirectoryReader reader = DirectoryReader.open(w);
+        assertEquals(3, reader.leaves().size());
+
+        SearchContext searchContext = mock(SearchContext.class);
+        when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+        ContextIndexSearcher searcher = new ContextIndexSearcher(
+            reader,
+            IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(),
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            false,
+            null,
+            searchContext
+        );
+
+        // the range only overlaps the points of the second segment
+        Query query = new BooleanQuery.Builder().add(new TermQuery(new Term("foo", "bar")), BooleanClause.Occur.MUST)
+            .add(LongPoint.newRangeQuery("timestamp", 12, 15), BooleanClause.Occur.FILTER)
+            .build();
+        assertEquals(4, searcher.search(query, 10).totalHits.value);
+        assertEquals(2, searcher.getSkippedLeafCount());
+
+        // an optional range doesn't allow to skip leaves
+        query = new BooleanQuery.Builder().add(new TermQuery(new Term("foo", "bar")), BooleanClause.Occur.MUST)
+            .add(LongPoint.newRangeQuery("timestamp", 12, 15), BooleanClause.Occur.SHOULD)
+            .build();
+        assertEquals(30, searcher.search(query, 10).totalHits.value);
+        assertEquals(2, searcher.getSkippedLeafCount());
+
+        // no leaf has points of a missing field
+        assertEquals(0, searcher.search(LongPoint.newRangeQuery("missing", 0, 100), 10).totalHits.value);
+        assertEquals(5, searcher.getSkippedLeafCount());
+
+        IOUtils.close(reader, w, dir);
+    }
+
     public void testSlicesInternal() throws Exception {
         final List<LeafReaderContext> leaves = getLeaves(10);
 
@@ -48,4 +48,28 @@ public class IndexReaderUtils {
         directory.close();
         return leaves;
     }
+
+    /**
+     * Utility to create a {@link LeafReaderContext} per given document count, holding that many documents
+     * @param docCounts document count of each leaf to create
+     * @return created leaves
+     */
+    public static List<LeafReaderContext> getLeavesWithDocCounts(int... docCounts) throws Exception {
+        final Directory directory = newDirectory();
+        IndexWriter iw = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE));
+        for (int docCount : docCounts) {
+            for (int i = 0; i < docCount; ++i) {
+                Document document = new Document();
+                document.add(new StringField("field1", "value" + i, Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.commit();
+        }
+        iw.close();
+        DirectoryReader directoryReader = DirectoryReader.open(directory);
+        List<LeafReaderContext> leaves = directoryReader.leaves();
+        directoryReader.close();
+        directory.close();
+        return leaves;
+    }
 }
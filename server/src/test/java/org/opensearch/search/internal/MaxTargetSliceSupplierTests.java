@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
+import static org.opensearch.search.internal.IndexReaderUtils.getLeavesWithDocCounts;
 
 public class MaxTargetSliceSupplierTests extends OpenSearchTestCase {
 
@@ -70,6 +71,28 @@ public class MaxTargetSliceSupplierTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSkewedLeaves() throws Exception {
+        // a large leaf next to small ones, as after a force merge
+        List<LeafReaderContext> leaves = getLeavesWithDocCounts(10, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1);
+        IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getSlices(leaves, 2);
+        assertEquals(2, slices.length);
+        // the small leaves aren't added to the slice of the large leaf
+        assertEquals(1, slices[0].leaves.length);
+        assertEquals(10, slices[0].leaves[0].reader().numDocs());
+        assertEquals(10, slices[1].leaves.length);
+
+        leaves = getLeavesWithDocCounts(6, 5, 4, 3, 2, 2);
+        slices = MaxTargetSliceSupplier.getSlices(leaves, 2);
+        assertEquals(2, slices.length);
+        for (IndexSearcher.LeafSlice slice : slices) {
+            int docCount = 0;
+            for (LeafReaderContext leaf : slice.leaves) {
+                docCount += leaf.reader().numDocs();
+            }
+            assertEquals(11, docCount);
+        }
+    }
+
     public void testEmptyLeaves() {
         IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getSlices(new ArrayList<>(), 2);
         assertEquals(0, slices.length);
@@ -61,7 +61,8 @@ public class QueryProfileShardResultTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             rewriteTime = rewriteTime % 1000; // make sure to often test this with small values too
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector);
+        long skippedSegments = randomBoolean() ? 0 : randomIntBetween(1, 1000);
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector, skippedSegments);
     }
 
     public void testFromXContent() throws IOException {
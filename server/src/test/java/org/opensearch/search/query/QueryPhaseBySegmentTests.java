@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.when;
+
+public class QueryPhaseBySegmentTests extends AggregatorTestCase {
+
+    public void testTermsAggregationBySegmentMatchesShardResult() throws IOException {
+        final int numberOfSegments = randomIntBetween(2, 5);
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < numberOfSegments; segment++) {
+                    // the common term is the most frequent one of the shard, but never among the two most frequent terms of a segment
+                    addDocuments(writer, "common", 5);
+                    addDocuments(writer, "t" + segment, 10);
+                    addDocuments(writer, "u" + segment, 8);
+                    writer.commit();
+                }
+            }
+            try (IndexReader reader = DirectoryReader.open(directory)) {
+                assertEquals(numberOfSegments, reader.leaves().size());
+                final IndexSearcher searcher = newSearcher(reader, false, false);
+                final Query query = new MatchAllDocsQuery();
+                final MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("k");
+                final TermsAggregationBuilder builder = new TermsAggregationBuilder("terms").field("k").size(2).shardSize(2);
+
+                final SearchContext shardContext = createSearchContext(searcher, createIndexSettings(), query, bucketConsumer(), fieldType);
+                final Aggregator aggregator = createAggregator(builder, shardContext);
+                aggregator.preCollection();
+                searcher.search(query, aggregator);
+                aggregator.postCollection();
+                final StringTerms expected = (StringTerms) aggregator.buildTopLevel();
+                assertEquals(5L * numberOfSegments, expected.getBucketByKey("common").getDocCount());
+
+                final StringTerms bySegment = executeBySegment(searcher, query, builder, fieldType);
+                assertEquals(bucketCounts(expected), bucketCounts(bySegment));
+            }
+        }
+    }
+
+    private StringTerms executeBySegment(IndexSearcher searcher, Query query, TermsAggregationBuilder builder, MappedFieldType fieldType)
+        throws IOException {
+        final MultiBucketConsumer bucketConsumer = bucketConsumer();
+        final SearchContext context = createSearchContext(searcher, createIndexSettings(), query, bucketConsumer, fieldType);
+        final AggregatorFactories factories = AggregatorFactories.builder()
+            .addAggregator(builder)
+            .build(context.getQueryShardContext(), null);
+        when(context.aggregations()).thenReturn(new SearchContextAggregations(factories, bucketConsumer));
+        when(context.queryResult()).thenReturn(new QuerySearchResult());
+        when(context.partialOnShard()).thenAnswer(
+            invocation -> InternalAggregation.ReduceContext.forPartialReduction(
+                context.bigArrays(),
+                getMockScriptService(),
+                () -> PipelineAggregator.PipelineTree.EMPTY
+            )
+        );
+        doCallRealMethod().when(context).setExecutedBySegment(anyBoolean());
+        when(context.isExecutedBySegment()).thenCallRealMethod();
+
+        final NamedWriteableRegistry registry = new NamedWriteableRegistry(
+            new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables()
+        );
+        final List<StreamInput> segmentResults = new ArrayList<>();
+        for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+            final BytesStreamOutput out = new BytesStreamOutput();
+            QueryPhase.executeOnSegment(context, leaf, out);
+            segmentResults.add(new NamedWriteableAwareStreamInput(out.bytes().streamInput(), registry));
+        }
+        assertTrue(context.isExecutedBySegment());
+        QueryPhase.reduceSegmentResults(context, segmentResults);
+        assertEquals(searcher.getIndexReader().numDocs(), context.queryResult().topDocs().topDocs.totalHits.value);
+        return (StringTerms) context.queryResult().aggregations().expand().get("terms");
+    }
+
+    private static void addDocuments(IndexWriter writer, String term, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            final Document document = new Document();
+            document.add(new SortedSetDocValuesField("k", new BytesRef(term)));
+            writer.addDocument(document);
+        }
+    }
+
+    private static MultiBucketConsumer bucketConsumer() {
+        return new MultiBucketConsumer(DEFAULT_MAX_BUCKETS, new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST));
+    }
+
+    private static Map<String, Long> bucketCounts(Terms terms) {
+        final Map<String, Long> counts = new HashMap<>();
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        return counts;
+    }
+}
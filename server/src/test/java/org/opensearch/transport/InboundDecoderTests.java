@@ -301,6 +301,60 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         assertEquals(InboundDecoder.END_CONTENT, endMarker);
     }
 
+    public void testCompressedDecodeWithScheme() throws IOException {
+        final TransportCompressionScheme scheme = randomFrom(TransportCompressionScheme.values());
+        long requestId = randomNonNegativeLong();
+        TransportMessage transportMessage = new TestRequest(randomAlphaOfLength(100));
+        OutboundMessage message = new OutboundMessage.Request(
+            threadContext,
+            new String[0],
+            transportMessage,
+            Version.CURRENT,
+            "test-request",
+            requestId,
+            false,
+            true,
+            scheme
+        );
+
+        final BytesReference totalBytes = message.serialize(new BytesStreamOutput());
+        final BytesStreamOutput out = new BytesStreamOutput();
+        transportMessage.writeTo(out);
+        final BytesReference uncompressedBytes = out.bytes();
+        int totalHeaderSize = TcpHeader.headerSize(Version.CURRENT) + totalBytes.getInt(TcpHeader.VARIABLE_HEADER_SIZE_POSITION);
+        assertEquals(uncompressedBytes.length(), message.getUncompressedContentSize());
+        assertEquals(totalBytes.length() - totalHeaderSize, message.getCompressedContentSize());
+
+        final StatsTracker statsTracker = new StatsTracker();
+        InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE, statsTracker);
+        final ArrayList<Object> fragments = new ArrayList<>();
+        int bytesConsumed = decoder.decode(ReleasableBytesReference.wrap(totalBytes), fragments::add);
+        assertEquals(totalHeaderSize, bytesConsumed);
+        final Header header = (Header) fragments.get(0);
+        assertTrue(header.isCompressed());
+        assertNull(header.getCompressionScheme());
+        fragments.clear();
+
+        final ReleasableBytesReference releasable2 = ReleasableBytesReference.wrap(
+            totalBytes.slice(bytesConsumed, totalBytes.length() - bytesConsumed)
+        );
+        int bytesConsumed2 = decoder.decode(releasable2, fragments::add);
+        assertEquals(totalBytes.length() - totalHeaderSize, bytesConsumed2);
+        assertEquals(scheme, header.getCompressionScheme());
+        assertEquals(uncompressedBytes, fragments.get(0));
+        assertEquals(InboundDecoder.END_CONTENT, fragments.get(1));
+        // buffered compressed content is released once decompressed
+        assertEquals(1, releasable2.refCount());
+        assertEquals(bytesConsumed2, statsTracker.getCompressedBytesRead());
+        assertEquals(uncompressedBytes.length(), statsTracker.getUncompressedBytesRead());
+    }
+
+    public void testCompressionSchemeFallsBackToDeflateForOlderVersions() {
+        final TransportCompressionScheme scheme = randomFrom(TransportCompressionScheme.values());
+        assertEquals(scheme, scheme.forVersion(Version.CURRENT));
+        assertEquals(TransportCompressionScheme.DEFLATE, scheme.forVersion(Version.V_2_11_0));
+    }
+
     public void testCompressedDecodeHandshakeCompatibility() throws IOException {
         String action = "test-request";
         long requestId = randomNonNegativeLong();
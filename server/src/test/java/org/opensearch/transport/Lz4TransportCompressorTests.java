@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public class Lz4TransportCompressorTests extends OpenSearchTestCase {
+
+    private static BytesReference randomContent() {
+        final byte[] bytes = new byte[randomIntBetween(0, 3 * Lz4TransportCompressor.BLOCK_SIZE)];
+        if (randomBoolean()) {
+            random().nextBytes(bytes);
+        } else {
+            // compressible content
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) (i % 7);
+            }
+        }
+        return new BytesArray(bytes);
+    }
+
+    public void testCompressAndUncompress() throws IOException {
+        final Lz4TransportCompressor compressor = Lz4TransportCompressor.INSTANCE;
+        // the buffers of the thread are reused from one round trip to the next
+        for (int i = 0; i < 3; i++) {
+            final BytesReference content = randomContent();
+            final BytesReference compressed = compressor.compress(content);
+            assertTrue(compressor.isCompressed(compressed));
+            assertEquals(content, compressor.uncompress(compressed));
+        }
+    }
+
+    public void testNestedStreams() throws IOException {
+        final Lz4TransportCompressor compressor = Lz4TransportCompressor.INSTANCE;
+        final BytesReference first = randomContent();
+        final BytesReference second = randomContent();
+        final BytesStreamOutput firstOutput = new BytesStreamOutput();
+        final BytesStreamOutput secondOutput = new BytesStreamOutput();
+        // the nested stream doesn't get the buffers of the thread, which are in use by the outer one
+        try (OutputStream outer = compressor.threadLocalOutputStream(firstOutput)) {
+            first.writeTo(outer);
+            try (OutputStream inner = compressor.threadLocalOutputStream(secondOutput)) {
+                second.writeTo(inner);
+            }
+        }
+
+        final BytesStreamOutput firstUncompressed = new BytesStreamOutput();
+        final BytesStreamOutput secondUncompressed = new BytesStreamOutput();
+        try (InputStream outer = compressor.threadLocalInputStream(firstOutput.bytes().streamInput())) {
+            try (InputStream inner = compressor.threadLocalInputStream(secondOutput.bytes().streamInput())) {
+                inner.transferTo(secondUncompressed);
+            }
+            outer.transferTo(firstUncompressed);
+        }
+        assertEquals(first, firstUncompressed.bytes());
+        assertEquals(second, secondUncompressed.bytes());
+    }
+}
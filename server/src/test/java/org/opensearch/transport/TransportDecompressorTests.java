@@ -46,7 +46,10 @@ import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 public class TransportDecompressorTests extends OpenSearchTestCase {
 
@@ -151,4 +154,73 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIncrementalBlockCompression() throws IOException {
+        final TransportCompressionScheme scheme = randomFrom(TransportCompressionScheme.LZ4, TransportCompressionScheme.ZSTD);
+        final int numInts = randomIntBetween(1, 100000);
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                StreamOutput compressedStream = new OutputStreamStreamOutput(
+                    scheme.compressor().threadLocalOutputStream(Streams.flushOnCloseStream(output))
+                )
+            ) {
+                for (int i = 0; i < numInts; ++i) {
+                    compressedStream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            int split = randomIntBetween(TransportCompressionScheme.MAX_HEADER_LENGTH, bytes.length());
+            assertEquals(split, decompressor.decompress(bytes.slice(0, split)));
+            assertEquals(scheme, decompressor.getScheme());
+            assertFalse(decompressor.isEOS());
+            assertEquals(bytes.length() - split, decompressor.decompress(bytes.slice(split, bytes.length() - split)));
+            assertNull(decompressor.pollDecompressedPage());
+            decompressor.finish();
+            assertTrue(decompressor.isEOS());
+            assertEquals(bytes.length(), decompressor.getCompressedBytes());
+            assertEquals(4L * numInts, decompressor.getDecompressedBytes());
+
+            List<ReleasableBytesReference> references = new ArrayList<>();
+            ReleasableBytesReference reference;
+            while ((reference = decompressor.pollDecompressedPage()) != null) {
+                references.add(reference);
+            }
+            BytesReference composite = CompositeBytesReference.of(references.toArray(new BytesReference[0]));
+            assertEquals(4 * numInts, composite.length());
+            StreamInput streamInput = composite.streamInput();
+            for (int i = 0; i < numInts; ++i) {
+                assertEquals(i, streamInput.readInt());
+            }
+            Releasables.close(references);
+            decompressor.close();
+        }
+    }
+
+    public void testLz4RoundTrip() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(0, 3 * Lz4TransportCompressor.BLOCK_SIZE));
+        if (randomBoolean()) {
+            // make the content compressible
+            for (int i = 1; i < bytes.length; i += 2) {
+                bytes[i] = bytes[i - 1];
+            }
+        }
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                OutputStream compressedStream = Lz4TransportCompressor.INSTANCE.threadLocalOutputStream(Streams.flushOnCloseStream(output))
+            ) {
+                int offset = 0;
+                while (offset < bytes.length) {
+                    int length = randomIntBetween(1, bytes.length - offset);
+                    compressedStream.write(bytes, offset, length);
+                    offset += length;
+                }
+            }
+            assertTrue(Lz4TransportCompressor.INSTANCE.isCompressed(output.bytes()));
+            try (InputStream in = Lz4TransportCompressor.INSTANCE.threadLocalInputStream(output.bytes().streamInput())) {
+                assertArrayEquals(bytes, in.readAllBytes());
+            }
+        }
+    }
 }
@@ -120,7 +120,8 @@ public class MockInternalClusterInfoService extends InternalClusterInfoService {
                 nodeStats.getWeightedRoutingStats(),
                 nodeStats.getFileCacheStats(),
                 nodeStats.getTaskCancellationStats(),
-                nodeStats.getSearchPipelineStats()
+                nodeStats.getSearchPipelineStats(),
+                nodeStats.getTranslogGroupCommitStats()
             );
         }).collect(Collectors.toList());
     }
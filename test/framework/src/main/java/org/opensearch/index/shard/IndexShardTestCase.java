@@ -701,6 +701,8 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
                 remoteStore,
                 remoteStoreStatsTrackerFactory,
                 () -> IndexSettings.DEFAULT_REMOTE_TRANSLOG_BUFFER_INTERVAL,
+                null,
+                null,
                 "dummy-node",
                 DefaultRecoverySettings.INSTANCE
             );